@@ -1,6 +1,11 @@
+import asyncio
+import hashlib
 import json
 import logging
+import marshal
 import os
+import threading
+from collections import OrderedDict
 from concurrent import futures
 
 import grpc
@@ -13,19 +18,153 @@ os.environ.pop("PYTHON_SERVER_TOKEN", None)
 HOST = os.getenv("PYTHON_SERVER_HOST")
 PORT = os.getenv("PYTHON_SERVER_PORT")
 MAX_WORKERS = int(os.getenv("PYTHON_SERVER_THREAD_POOL_MAX_WORKERS"))
+PROCESS_POOL_MAX_WORKERS = int(os.getenv("PYTHON_SERVER_PROCESS_POOL_MAX_WORKERS", "0"))
+PROCESS_POOL_MAX_TASKS_PER_CHILD = int(os.getenv("PYTHON_SERVER_PROCESS_POOL_MAX_TASKS_PER_CHILD", "0"))
+SCRIPT_CACHE_SIZE = int(os.getenv("PYTHON_SERVER_SCRIPT_CACHE_SIZE", "1024"))
+STREAM_MAX_WORKERS = int(os.getenv("PYTHON_SERVER_STREAM_THREAD_POOL_MAX_WORKERS", MAX_WORKERS))
+STREAM_MAX_IN_FLIGHT = int(os.getenv("PYTHON_SERVER_STREAM_MAX_IN_FLIGHT", "100"))
+STREAM_ORDERED_KEY = "x-stream-ordered"
+STREAM_END = object()
 APPEARANCE = os.getenv("PYTHON_RESULT_APPEARANCE")
 LOGGING_ENABLED = bool(os.getenv("PYTHON_LOGGING_ENABLED"))
+BINDINGS_VARIABLE = "spelython_bindings"
 if LOGGING_ENABLED:
     logging.basicConfig(
         level=logging.INFO,
         format="%(asctime)s [%(levelname)s] %(message)s",
     )
 
+class UnknownScriptError(Exception):
+    pass
+
+class ScriptExecutionError(Exception):
+    pass
+
+class ScriptCache:
+    def __init__(self, max_size):
+        self.max_size = max_size
+        self.codes = OrderedDict()
+        self.lock = threading.Lock()
+
+    def get(self, script_hash):
+        with self.lock:
+            code = self.codes.get(script_hash)
+            if code is not None:
+                self.codes.move_to_end(script_hash)
+            return code
+
+    def put(self, script_hash, code):
+        with self.lock:
+            self.codes[script_hash] = code
+            self.codes.move_to_end(script_hash)
+            while len(self.codes) > self.max_size:
+                self.codes.popitem(last=False)
+
+script_cache = ScriptCache(SCRIPT_CACHE_SIZE)
+
+def compile_script(script, script_hash=""):
+    if not script and script_hash:
+        code = script_cache.get(script_hash)
+        if code is None:
+            raise UnknownScriptError(f"Unknown script hash: {script_hash}")
+        return code
+    actual_hash = hashlib.sha256(script.encode("utf-8")).hexdigest()
+    if script_hash and script_hash != actual_hash:
+        raise ValueError(f"Script hash does not match the script: {script_hash}")
+    code = script_cache.get(actual_hash)
+    if code is None:
+        code = compile(script, "<script>", "exec")
+        script_cache.put(actual_hash, code)
+    return code
+
+def execute(code, bindings=""):
+    java_execution_context = {}
+    if bindings:
+        java_execution_context[BINDINGS_VARIABLE] = bindings
+    exec(code, java_execution_context, java_execution_context)
+    return json.dumps(java_execution_context.get(APPEARANCE))
+
+def execute_isolated(marshalled_code, bindings):
+    try:
+        return execute(marshal.loads(marshalled_code), bindings), None
+    except Exception as e:
+        return None, str(e) or type(e).__name__
+
+process_pool = None
+process_pool_lock = threading.Lock()
+
+def create_process_pool():
+    return futures.ProcessPoolExecutor(
+        max_workers=PROCESS_POOL_MAX_WORKERS,
+        max_tasks_per_child=PROCESS_POOL_MAX_TASKS_PER_CHILD or None,
+    )
+
+def submit_to_process_pool(code, bindings):
+    global process_pool
+    pool = process_pool
+    marshalled_code = marshal.dumps(code)
+    try:
+        return pool.submit(execute_isolated, marshalled_code, bindings)
+    except futures.process.BrokenProcessPool:
+        with process_pool_lock:
+            if process_pool is pool:
+                logging.info("Process pool is broken, starting a new one")
+                process_pool = create_process_pool()
+            return process_pool.submit(execute_isolated, marshalled_code, bindings)
+
+def run_script(script, script_hash, bindings):
+    return execute(compile_script(script, script_hash), bindings)
+
+async def run_script_async(script, script_hash="", bindings="", executor=None):
+    if process_pool is None:
+        return await asyncio.get_running_loop().run_in_executor(executor, run_script, script, script_hash, bindings)
+    code = compile_script(script, script_hash)
+    result, error = await asyncio.wrap_future(submit_to_process_pool(code, bindings))
+    if error is not None:
+        raise ScriptExecutionError(error)
+    return result
+
+async def execute_stream_request(request):
+    try:
+        result = await run_script_async(request.script, bindings=request.bindings, executor=stream_executor)
+        if LOGGING_ENABLED:
+            logging.info(f"Client executed the streamed script: {request.id}")
+        return python_pb2.PythonStreamResponse(id=request.id, result=result)
+    except Exception as e:
+        if LOGGING_ENABLED:
+            logging.info(f"Client failed to execute the streamed script: {request.id}, {str(e)}")
+        return python_pb2.PythonStreamResponse(id=request.id, error=str(e) or type(e).__name__)
+
+async def execute_ordered(request_iterator):
+    executions = asyncio.Queue(maxsize=STREAM_MAX_IN_FLIGHT)
+
+    async def consume():
+        try:
+            async for request in request_iterator:
+                await executions.put(asyncio.create_task(execute_stream_request(request)))
+        except Exception as e:
+            if LOGGING_ENABLED:
+                logging.info(f"Execution stream was interrupted: {str(e)}")
+        finally:
+            await executions.put(STREAM_END)
+
+    consumer = asyncio.create_task(consume())
+    try:
+        while True:
+            execution = await executions.get()
+            if execution is STREAM_END:
+                return
+            yield await execution
+    finally:
+        consumer.cancel()
+
+script_executor = futures.ThreadPoolExecutor(max_workers=MAX_WORKERS)
+stream_executor = futures.ThreadPoolExecutor(max_workers=STREAM_MAX_WORKERS)
+
 class PythonService(python_pb2_grpc.PythonServiceServicer):
-    def SendCode(self, request, context):
+    async def SendCode(self, request, context):
         if LOGGING_ENABLED:
             logging.info(f"Client wants to execute script: {request}")
-        script = request.script
         meta = dict(context.invocation_metadata())
         if meta.get("x-token") != TOKEN:
             if LOGGING_ENABLED:
@@ -34,11 +173,16 @@ class PythonService(python_pb2_grpc.PythonServiceServicer):
             context.set_details("Invalid credentials")
             return python_pb2.PythonResponse(result="")
         try:
-            java_execution_context = {}
-            exec(script, java_execution_context, java_execution_context)
+            result = await run_script_async(request.script, request.hash, request.bindings, script_executor)
             if LOGGING_ENABLED:
                 logging.info(f"Client executed the script: {request}")
-            return python_pb2.PythonResponse(result=json.dumps(java_execution_context.get(APPEARANCE)))
+            return python_pb2.PythonResponse(result=result)
+        except UnknownScriptError as e:
+            if LOGGING_ENABLED:
+                logging.info(f"Client requested an unknown script: {request.hash}")
+            context.set_details(str(e))
+            context.set_code(grpc.StatusCode.NOT_FOUND)
+            return python_pb2.PythonResponse(result="")
         except Exception as e:
             if LOGGING_ENABLED:
                 logging.info(f"Client failed to execute the script: {request}, {str(e)}")
@@ -46,13 +190,62 @@ class PythonService(python_pb2_grpc.PythonServiceServicer):
             context.set_code(grpc.StatusCode.INTERNAL)
             return python_pb2.PythonResponse(result="")
 
-def serve():
-    server = grpc.server(futures.ThreadPoolExecutor(max_workers=MAX_WORKERS))
+    async def ExecuteStream(self, request_iterator, context):
+        meta = dict(context.invocation_metadata())
+        if meta.get("x-token") != TOKEN:
+            if LOGGING_ENABLED:
+                logging.info("Client failed to open an execution stream")
+            await context.abort(grpc.StatusCode.PERMISSION_DENIED, "Invalid credentials")
+        if meta.get(STREAM_ORDERED_KEY) == "true":
+            async for response in execute_ordered(request_iterator):
+                yield response
+            return
+        responses = asyncio.Queue()
+        in_flight = asyncio.Semaphore(STREAM_MAX_IN_FLIGHT)
+
+        async def execute_request(request):
+            try:
+                await responses.put(await execute_stream_request(request))
+            finally:
+                in_flight.release()
+
+        async def consume():
+            tasks = set()
+            try:
+                async for request in request_iterator:
+                    await in_flight.acquire()
+                    task = asyncio.create_task(execute_request(request))
+                    tasks.add(task)
+                    task.add_done_callback(tasks.discard)
+            except Exception as e:
+                if LOGGING_ENABLED:
+                    logging.info(f"Execution stream was interrupted: {str(e)}")
+            finally:
+                if tasks:
+                    await asyncio.gather(*tasks, return_exceptions=True)
+                await responses.put(STREAM_END)
+
+        consumer = asyncio.create_task(consume())
+        try:
+            while True:
+                response = await responses.get()
+                if response is STREAM_END:
+                    return
+                yield response
+        finally:
+            consumer.cancel()
+
+async def serve():
+    global process_pool
+    if PROCESS_POOL_MAX_WORKERS > 0:
+        process_pool = create_process_pool()
+        logging.info(f"Scripts are executed by a pool of {PROCESS_POOL_MAX_WORKERS} worker processes")
+    server = grpc.aio.server()
     python_pb2_grpc.add_PythonServiceServicer_to_server(PythonService(), server)
     server.add_insecure_port(HOST + ':' + str(PORT))
-    server.start()
+    await server.start()
     logging.info(f"gRPC server running at {HOST}:{PORT}")
-    server.wait_for_termination()
+    await server.wait_for_termination()
 
 if __name__ == '__main__':
-    serve()
\ No newline at end of file
+    asyncio.run(serve())
@@ -2,7 +2,9 @@
 
 : "${PYTHON_SERVER_HOST:=0.0.0.0}"
 : "${PYTHON_SERVER_PORT:=8000}"
+: "${PYTHON_SERVER_WORKERS:=1}"
+export PYTHON_SERVER_WORKERS
 
 python install.py
 pip install --no-cache-dir -r requirements.txt
-uvicorn main:app --host "$PYTHON_SERVER_HOST" --port "$PYTHON_SERVER_PORT"
\ No newline at end of file
+uvicorn main:app --host "$PYTHON_SERVER_HOST" --port "$PYTHON_SERVER_PORT" --workers "$PYTHON_SERVER_WORKERS"
\ No newline at end of file
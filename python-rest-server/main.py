@@ -1,25 +1,135 @@
+import asyncio
+import hashlib
+import json
 import logging
+import marshal
 import os
+import threading
+from collections import OrderedDict
+from concurrent import futures
+from contextlib import asynccontextmanager
+from typing import Optional
 
-from fastapi import FastAPI, HTTPException, Security
+from fastapi import FastAPI, HTTPException, Response, Security
+from fastapi.responses import JSONResponse
 from fastapi.security import APIKeyHeader
 from pydantic import BaseModel
 
 TOKEN = os.getenv("PYTHON_SERVER_TOKEN")
 os.environ.pop("PYTHON_SERVER_TOKEN", None)
 APPEARANCE = os.getenv("PYTHON_RESULT_APPEARANCE")
+EXECUTOR_TYPE = os.getenv("PYTHON_SERVER_EXECUTOR", "thread").lower()
+EXECUTOR_MAX_WORKERS = int(os.getenv("PYTHON_SERVER_EXECUTOR_MAX_WORKERS", "10"))
+SCRIPT_CACHE_SIZE = int(os.getenv("PYTHON_SERVER_SCRIPT_CACHE_SIZE", "1024"))
+SERVER_WORKERS = int(os.getenv("PYTHON_SERVER_WORKERS", "1"))
 LOGGING_ENABLED = bool(os.getenv("PYTHON_LOGGING_ENABLED"))
+BINDINGS_VARIABLE = "spelython_bindings"
+UNKNOWN_SCRIPT_HASH_ERROR = "unknown_script_hash"
 if LOGGING_ENABLED:
     logging.basicConfig(
         level=logging.INFO,
         format="%(asctime)s [%(levelname)s] %(message)s",
     )
 
-app = FastAPI()
+class UnknownScriptError(Exception):
+    pass
+
+class ScriptCache:
+    def __init__(self, max_size):
+        self.max_size = max_size
+        self.codes = OrderedDict()
+        self.lock = threading.Lock()
+
+    def get(self, script_hash):
+        with self.lock:
+            code = self.codes.get(script_hash)
+            if code is not None:
+                self.codes.move_to_end(script_hash)
+            return code
+
+    def put(self, script_hash, code):
+        with self.lock:
+            self.codes[script_hash] = code
+            self.codes.move_to_end(script_hash)
+            while len(self.codes) > self.max_size:
+                self.codes.popitem(last=False)
+
+script_cache = ScriptCache(SCRIPT_CACHE_SIZE)
+
+def compile_script(script, script_hash=None):
+    if not script and script_hash:
+        code = script_cache.get(script_hash)
+        if code is None:
+            raise UnknownScriptError(f"Unknown script hash: {script_hash}")
+        return code
+    script = script or ""
+    actual_hash = hashlib.sha256(script.encode("utf-8")).hexdigest()
+    if script_hash and script_hash != actual_hash:
+        raise ValueError(f"Script hash does not match the script: {script_hash}")
+    code = script_cache.get(actual_hash)
+    if code is None:
+        code = compile(script, "<script>", "exec")
+        script_cache.put(actual_hash, code)
+    return code
+
+def execute(code, bindings=None):
+    java_execution_context = {}
+    if bindings:
+        java_execution_context[BINDINGS_VARIABLE] = bindings
+    exec(code, java_execution_context, java_execution_context)
+    return json.dumps(java_execution_context.get(APPEARANCE))
+
+def execute_marshalled(marshalled_code, bindings):
+    return execute(marshal.loads(marshalled_code), bindings)
+
+def compile_and_execute(script, script_hash, bindings):
+    return execute(compile_script(script, script_hash), bindings)
+
+script_executor = None
+script_executor_lock = threading.Lock()
+
+def create_script_executor():
+    if EXECUTOR_TYPE == "process":
+        return futures.ProcessPoolExecutor(max_workers=EXECUTOR_MAX_WORKERS)
+    return futures.ThreadPoolExecutor(max_workers=EXECUTOR_MAX_WORKERS)
+
+def submit(function, *args):
+    global script_executor
+    executor = script_executor
+    try:
+        return asyncio.wrap_future(executor.submit(function, *args))
+    except futures.process.BrokenProcessPool:
+        with script_executor_lock:
+            if script_executor is executor:
+                logging.info("Process pool is broken, starting a new one")
+                script_executor = create_script_executor()
+            return asyncio.wrap_future(script_executor.submit(function, *args))
+
+async def submit_script(script, script_hash, bindings):
+    if EXECUTOR_TYPE == "process":
+        code = await asyncio.to_thread(compile_script, script, script_hash)
+        return await submit(execute_marshalled, marshal.dumps(code), bindings)
+    return await submit(compile_and_execute, script, script_hash, bindings)
+
+@asynccontextmanager
+async def lifespan(_):
+    global script_executor
+    script_executor = create_script_executor()
+    logging.info(f"Scripts are executed by a {EXECUTOR_TYPE} pool of {EXECUTOR_MAX_WORKERS} workers")
+    if SERVER_WORKERS > 1:
+        logging.warning(f"Every one of the {SERVER_WORKERS} uvicorn workers keeps its own script cache, "
+                        "hash-only calls reaching a worker that has not seen the script are answered with 404, "
+                        "use a single worker for script registration")
+    yield
+    script_executor.shutdown(cancel_futures=True)
+
+app = FastAPI(lifespan=lifespan)
 token_header = APIKeyHeader(name="X-Token", auto_error=False)
 
 class ScriptRequest(BaseModel):
-    script: str
+    script: Optional[str] = None
+    hash: Optional[str] = None
+    bindings: Optional[str] = None
 
 @app.post("/script")
 async def execute_script(request: ScriptRequest,
@@ -29,12 +139,15 @@ async def execute_script(request: ScriptRequest,
             logging.info(f"Client failed to connect to the server: {request}")
         raise HTTPException(401, detail="Incorrect token")
     try:
-        java_execution_context = {}
-        exec(request.script, java_execution_context, java_execution_context)
+        result = await submit_script(request.script, request.hash, request.bindings)
         if LOGGING_ENABLED:
             logging.info(f"Client executed the script: {request}")
-        return java_execution_context.get(APPEARANCE)
+        return Response(content=result, media_type="application/json")
+    except UnknownScriptError as e:
+        if LOGGING_ENABLED:
+            logging.info(f"Client requested an unknown script: {request.hash}")
+        return JSONResponse(status_code=404, content={"error": UNKNOWN_SCRIPT_HASH_ERROR, "detail": str(e)})
     except Exception as e:
         if LOGGING_ENABLED:
             logging.info(f"Client failed to execute the script: {request}, {str(e)}")
-        raise HTTPException(400, detail=str(e))
\ No newline at end of file
+        raise HTTPException(400, detail=str(e))
@@ -34,6 +34,8 @@ import java.time.Duration;
  */
 public class PythonGrpcServerContainer extends PythonServerContainer<PythonGrpcServerContainer> {
     public static final String PYTHON_SERVER_THREAD_POOL_MAX_WORKERS_ENV = "PYTHON_SERVER_THREAD_POOL_MAX_WORKERS";
+    public static final String PYTHON_SERVER_PROCESS_POOL_MAX_WORKERS_ENV = "PYTHON_SERVER_PROCESS_POOL_MAX_WORKERS";
+    public static final String PYTHON_SERVER_PROCESS_POOL_MAX_TASKS_PER_CHILD_ENV = "PYTHON_SERVER_PROCESS_POOL_MAX_TASKS_PER_CHILD";
     private static final DockerImageName DOCKER_IMAGE_NAME = DockerImageName.parse("w4t3rcs/spring-boot-python-executor-python-grpc-server");
     private static final int SERVER_DEFAULT_PORT = 50051;
     private static final String GRPC_SERVER_RUNNING_MESSAGE = ".*gRPC server running.+";
@@ -88,6 +90,37 @@ public class PythonGrpcServerContainer extends PythonServerContainer<PythonGrpcS
         return this.self();
     }
 
+    /**
+     * Sets the number of worker processes which execute scripts in the Python gRPC server.
+     * <p>
+     * This value is passed as an environment variable
+     * {@value #PYTHON_SERVER_PROCESS_POOL_MAX_WORKERS_ENV} to the container.
+     * A positive value moves script execution off the gRPC threads to a pool of processes,
+     * so CPU-bound scripts are not serialized by the interpreter lock.
+     *
+     * @param maxWorkers non-negative integer specifying the worker processes count, zero keeps the execution on the gRPC threads
+     * @return this container instance for fluent chaining, never {@code null}
+     */
+    public PythonGrpcServerContainer withProcessPoolMaxWorkers(int maxWorkers) {
+        this.withEnv(PYTHON_SERVER_PROCESS_POOL_MAX_WORKERS_ENV, String.valueOf(maxWorkers));
+        return this.self();
+    }
+
+    /**
+     * Sets the number of scripts a worker process executes before it is replaced with a fresh one.
+     * <p>
+     * This value is passed as an environment variable
+     * {@value #PYTHON_SERVER_PROCESS_POOL_MAX_TASKS_PER_CHILD_ENV} to the container.
+     * It has effect only together with {@link #withProcessPoolMaxWorkers(int)}.
+     *
+     * @param maxTasksPerChild non-negative integer specifying the executions per worker process, zero keeps the workers forever
+     * @return this container instance for fluent chaining, never {@code null}
+     */
+    public PythonGrpcServerContainer withProcessPoolMaxTasksPerChild(int maxTasksPerChild) {
+        this.withEnv(PYTHON_SERVER_PROCESS_POOL_MAX_TASKS_PER_CHILD_ENV, String.valueOf(maxTasksPerChild));
+        return this.self();
+    }
+
     /**
      * Returns the server URL in the form {@code host:port} where {@code host}
      * is the container host and {@code port} is the mapped port {@value #SERVER_DEFAULT_PORT}.
@@ -33,6 +33,11 @@ import java.time.Duration;
  * @since 1.0.0
  */
 public class PythonRestServerContainer extends PythonServerContainer<PythonRestServerContainer> {
+    public static final String PYTHON_SERVER_WORKERS_ENV = "PYTHON_SERVER_WORKERS";
+    public static final String PYTHON_SERVER_EXECUTOR_ENV = "PYTHON_SERVER_EXECUTOR";
+    public static final String PYTHON_SERVER_EXECUTOR_MAX_WORKERS_ENV = "PYTHON_SERVER_EXECUTOR_MAX_WORKERS";
+    public static final String THREAD_EXECUTOR = "thread";
+    public static final String PROCESS_EXECUTOR = "process";
     private static final DockerImageName DOCKER_IMAGE_NAME = DockerImageName.parse("w4t3rcs/spring-boot-python-executor-python-rest-server");
     private static final int SERVER_DEFAULT_PORT = 8000;
 
@@ -63,6 +68,47 @@ public class PythonRestServerContainer extends PythonServerContainer<PythonRestS
                         .withStrategy(Wait.forListeningPort()));
     }
 
+    /**
+     * Sets the number of uvicorn worker processes serving the Python REST server.
+     *
+     * <p>This value is passed as an environment variable {@value #PYTHON_SERVER_WORKERS_ENV} to the container.</p>
+     *
+     * @param workers positive integer specifying the uvicorn worker processes count
+     * @return this container instance for fluent chaining, never {@code null}
+     */
+    public PythonRestServerContainer withWorkers(int workers) {
+        this.withEnv(PYTHON_SERVER_WORKERS_ENV, String.valueOf(workers));
+        return this.self();
+    }
+
+    /**
+     * Sets the kind of pool which executes scripts off the event loop of every uvicorn worker.
+     *
+     * <p>This value is passed as an environment variable {@value #PYTHON_SERVER_EXECUTOR_ENV} to the container.
+     * {@value #THREAD_EXECUTOR} suits I/O-bound scripts, while {@value #PROCESS_EXECUTOR} lets CPU-bound scripts
+     * run in parallel at the cost of pickling their results.</p>
+     *
+     * @param executor non-null executor kind, either {@value #THREAD_EXECUTOR} or {@value #PROCESS_EXECUTOR}
+     * @return this container instance for fluent chaining, never {@code null}
+     */
+    public PythonRestServerContainer withExecutor(String executor) {
+        this.withEnv(PYTHON_SERVER_EXECUTOR_ENV, executor);
+        return this.self();
+    }
+
+    /**
+     * Sets the maximum number of workers of the script execution pool in every uvicorn worker.
+     *
+     * <p>This value is passed as an environment variable {@value #PYTHON_SERVER_EXECUTOR_MAX_WORKERS_ENV} to the container.</p>
+     *
+     * @param maxWorkers positive integer specifying the maximum pool workers
+     * @return this container instance for fluent chaining, never {@code null}
+     */
+    public PythonRestServerContainer withExecutorMaxWorkers(int maxWorkers) {
+        this.withEnv(PYTHON_SERVER_EXECUTOR_MAX_WORKERS_ENV, String.valueOf(maxWorkers));
+        return this.self();
+    }
+
     /**
      * Returns the base URL of the Python REST server endpoint.
      *
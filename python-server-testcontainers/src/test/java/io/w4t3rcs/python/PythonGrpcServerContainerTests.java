@@ -16,4 +16,18 @@ public class PythonGrpcServerContainerTests {
         Assertions.assertThat(pythonGrpcServer.isRunning()).isTrue();
         pythonGrpcServer.stop();
     }
-}
+
+    @Test
+    public void testProcessPoolContainer() {
+        try (PythonGrpcServerContainer processPoolGrpcServer = new PythonGrpcServerContainer("w4t3rcs/spring-boot-python-executor-python-grpc-server")
+                .withProcessPoolMaxWorkers(2)
+                .withProcessPoolMaxTasksPerChild(10)) {
+            processPoolGrpcServer.start();
+            Assertions.assertThat(processPoolGrpcServer.isCreated()).isTrue();
+            Assertions.assertThat(processPoolGrpcServer.isRunning()).isTrue();
+            Assertions.assertThat(processPoolGrpcServer.getEnvMap())
+                    .containsEntry(PythonGrpcServerContainer.PYTHON_SERVER_PROCESS_POOL_MAX_WORKERS_ENV, "2")
+                    .containsEntry(PythonGrpcServerContainer.PYTHON_SERVER_PROCESS_POOL_MAX_TASKS_PER_CHILD_ENV, "10");
+        }
+    }
+}
\ No newline at end of file
@@ -16,4 +16,20 @@ public class PythonRestServerContainerTests {
         Assertions.assertThat(pythonRestServer.isRunning()).isTrue();
         pythonRestServer.stop();
     }
-}
+
+    @Test
+    public void testProcessExecutorContainer() {
+        try (PythonRestServerContainer processExecutorRestServer = new PythonRestServerContainer("w4t3rcs/spring-boot-python-executor-python-rest-server")
+                .withWorkers(2)
+                .withExecutor(PythonRestServerContainer.PROCESS_EXECUTOR)
+                .withExecutorMaxWorkers(4)) {
+            processExecutorRestServer.start();
+            Assertions.assertThat(processExecutorRestServer.isCreated()).isTrue();
+            Assertions.assertThat(processExecutorRestServer.isRunning()).isTrue();
+            Assertions.assertThat(processExecutorRestServer.getEnvMap())
+                    .containsEntry(PythonRestServerContainer.PYTHON_SERVER_WORKERS_ENV, "2")
+                    .containsEntry(PythonRestServerContainer.PYTHON_SERVER_EXECUTOR_ENV, PythonRestServerContainer.PROCESS_EXECUTOR)
+                    .containsEntry(PythonRestServerContainer.PYTHON_SERVER_EXECUTOR_MAX_WORKERS_ENV, "4");
+        }
+    }
+}
\ No newline at end of file
@@ -32,6 +32,7 @@ import java.util.Objects;
  * @see RestrictedPythonResolverCondition
  * @see ResultResolverCondition
  * @see PrintedResultResolverCondition
+ * @see FramedResultResolverCondition
  * @author w4t3rcs
  * @since 1.0.0
  */
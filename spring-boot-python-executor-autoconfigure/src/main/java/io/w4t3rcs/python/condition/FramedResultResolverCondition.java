@@ -0,0 +1,26 @@
+package io.w4t3rcs.python.condition;
+
+import io.w4t3rcs.python.config.PythonResolverConfiguration;
+import io.w4t3rcs.python.properties.PythonResolverProperties;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * {@link AbstractResolverCondition} implementation that checks whether the
+ * {@link PythonResolverProperties.DeclaredResolver#FRAMED_RESULT} resolver
+ * is declared in the Spring environment property {@code spring.python.resolver.declared}.
+ * <p>
+ * This condition is used to enable components related to framed body processing
+ * only when the {@code FRAMED_RESULT} resolver is explicitly declared.
+ * </p>
+ *
+ * @see AbstractResolverCondition
+ * @see PythonResolverProperties.DeclaredResolver#FRAMED_RESULT
+ * @see PythonResolverConfiguration
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Getter(AccessLevel.PROTECTED)
+public class FramedResultResolverCondition extends AbstractResolverCondition {
+    private final PythonResolverProperties.DeclaredResolver declaredResolver = PythonResolverProperties.DeclaredResolver.FRAMED_RESULT;
+}
@@ -4,7 +4,9 @@ import io.grpc.ManagedChannel;
 import io.grpc.Metadata;
 import io.grpc.stub.MetadataUtils;
 import io.w4t3rcs.python.connection.PythonServerConnectionDetails;
+import io.w4t3rcs.python.executor.AsyncGrpcPythonExecutor;
 import io.w4t3rcs.python.executor.GrpcPythonExecutor;
+import io.w4t3rcs.python.executor.StreamingGrpcPythonExecutor;
 import io.w4t3rcs.python.properties.PythonExecutorProperties;
 import io.w4t3rcs.python.proto.PythonServiceGrpc;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -17,7 +19,7 @@ import org.springframework.grpc.client.GrpcChannelFactory;
  * Provides Spring Boot autoconfiguration for gRPC-based {@link PythonServiceGrpc} integration.
  * <p>
  * This configuration declares a {@link PythonServiceGrpc.PythonServiceBlockingStub} bean
- * for synchronous RPC communication between Java and Python services over gRPC.
+ * for synchronous and a {@link PythonServiceGrpc.PythonServiceFutureStub} bean for asynchronous RPC communication between Java and Python services over gRPC.
  * It is activated only when the property
  * {@code spring.python.executor.type=grpc} is present in the application environment.
  * </p>
@@ -29,6 +31,8 @@ import org.springframework.grpc.client.GrpcChannelFactory;
  * </ul>
  *
  * @see GrpcPythonExecutor
+ * @see AsyncGrpcPythonExecutor
+ * @see StreamingGrpcPythonExecutor
  * @see PythonExecutorProperties.GrpcProperties
  * @see PythonServiceGrpc
  * @see GrpcChannelFactory
@@ -73,4 +77,47 @@ public class GrpcConfiguration {
         return PythonServiceGrpc.newBlockingStub(channel)
                 .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a {@link PythonServiceGrpc.PythonServiceFutureStub} bean for non-blocking communication.
+     *
+     * <p>The future stub shares the intercepted channel of the blocking stub,
+     * so both stubs are multiplexed over a single connection to the Python gRPC server.</p>
+     *
+     * <p>The bean is only created if:</p>
+     * <ul>
+     *   <li>{@code spring.python.executor.type=grpc}</li>
+     *   <li>No other {@link PythonServiceGrpc.PythonServiceFutureStub} bean exists in the context</li>
+     * </ul>
+     *
+     * @param stub non-null blocking stub whose channel should be reused
+     * @return non-null gRPC future stub ready for asynchronous communication with the Python service
+     */
+    @Bean
+    @ConditionalOnMissingBean(PythonServiceGrpc.PythonServiceFutureStub.class)
+    public PythonServiceGrpc.PythonServiceFutureStub futureStub(PythonServiceGrpc.PythonServiceBlockingStub stub) {
+        return PythonServiceGrpc.newFutureStub(stub.getChannel());
+    }
+
+    /**
+     * Creates a {@link PythonServiceGrpc.PythonServiceStub} bean for bidirectional streaming communication.
+     *
+     * <p>The asynchronous stub shares the intercepted channel of the blocking stub.</p>
+     *
+     * <p>The bean is only created if:</p>
+     * <ul>
+     *   <li>{@code spring.python.executor.type=grpc}</li>
+     *   <li>{@code spring.python.executor.grpc.stream.enabled=true}</li>
+     *   <li>No other {@link PythonServiceGrpc.PythonServiceStub} bean exists in the context</li>
+     * </ul>
+     *
+     * @param stub non-null blocking stub whose channel should be reused
+     * @return non-null gRPC asynchronous stub ready for streaming communication with the Python service
+     */
+    @Bean
+    @ConditionalOnMissingBean(PythonServiceGrpc.PythonServiceStub.class)
+    @ConditionalOnProperty(name = "spring.python.executor.grpc.stream.enabled", havingValue = "true")
+    public PythonServiceGrpc.PythonServiceStub asyncStub(PythonServiceGrpc.PythonServiceBlockingStub stub) {
+        return PythonServiceGrpc.newStub(stub.getChannel());
+    }
+}
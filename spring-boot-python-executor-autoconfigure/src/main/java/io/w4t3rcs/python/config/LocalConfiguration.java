@@ -10,6 +10,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Arrays;
+
 /**
  * Spring Boot autoconfiguration for local Python process execution.
  * <p>
@@ -25,6 +27,7 @@ import org.springframework.context.annotation.Configuration;
  * @see LocalPythonExecutor
  * @see PythonExecutorProperties.LocalProperties
  * @see ProcessStarter
+ * @see PythonWorkerPool
  * @see ProcessHandler
  * @see ProcessFinisher
  * @author w4t3rcs
@@ -33,6 +36,45 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @ConditionalOnProperty(name = "spring.python.executor.type", havingValue = "local")
 public class LocalConfiguration {
+    /**
+     * Creates the {@link PythonWorkerPool} bean that keeps warm Python interpreters.
+     *
+     * <p>
+     * Registered only when {@code spring.python.executor.local.pool.enabled} is {@code true}.
+     * The pool is pre-warmed on context startup and all interpreters are terminated on shutdown.
+     * </p>
+     *
+     * @param executorProperties non-null execution settings for Python processes
+     * @param resolverProperties non-null configuration for Python resolvers
+     * @return a non-null {@link PythonWorkerPool} instance
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnMissingBean(PythonWorkerPool.class)
+    @ConditionalOnProperty(name = "spring.python.executor.local.pool.enabled", havingValue = "true")
+    public PythonWorkerPool pythonWorkerPool(PythonExecutorProperties executorProperties, PythonResolverProperties resolverProperties) {
+        return new PythonWorkerPool(executorProperties, resolverProperties);
+    }
+
+    /**
+     * Creates the {@link ProcessStarter} bean for executing scripts on pooled
+     * warm Python interpreters.
+     *
+     * <p>
+     * The returned instance is based on {@link PooledPythonProcessStarter} and takes precedence
+     * over {@link BasicPythonProcessStarter} when the {@link PythonWorkerPool} is enabled.
+     * </p>
+     *
+     * @param pythonWorkerPool non-null pool of warm Python interpreters
+     * @param pythonFileHandler non-null handler for managing Python files and scripts
+     * @return a non-null {@link ProcessStarter} implementation
+     */
+    @Bean
+    @ConditionalOnMissingBean(ProcessStarter.class)
+    @ConditionalOnProperty(name = "spring.python.executor.local.pool.enabled", havingValue = "true")
+    public ProcessStarter pooledProcessStarter(PythonWorkerPool pythonWorkerPool, PythonFileHandler pythonFileHandler) {
+        return new PooledPythonProcessStarter(pythonWorkerPool, pythonFileHandler);
+    }
+
     /**
      * Creates the {@link ProcessStarter} bean for initializing and starting
      * local Python processes.
@@ -58,8 +100,9 @@ public class LocalConfiguration {
      * standard input (stdin) communication with the Python process.
      *
      * <p>
-     * The returned instance is based on {@link BasicPythonInputProcessHandler} and supports
-     * passing string-based input to the running Python process.
+     * The returned instance is based on {@link FramedPythonInputProcessHandler} if the
+     * {@code framed_result} resolver is declared in {@code spring.python.resolver.declared},
+     * otherwise on {@link BasicPythonInputProcessHandler} which scans output lines for the body marker.
      * </p>
      *
      * @param executorProperties non-null execution settings for Python processes
@@ -69,7 +112,9 @@ public class LocalConfiguration {
     @Bean
     @ConditionalOnMissingBean(BasicPythonInputProcessHandler.class)
     public ProcessHandler<String> inputProcessHandler(PythonExecutorProperties executorProperties, PythonResolverProperties resolverProperties) {
-        return new BasicPythonInputProcessHandler(executorProperties, resolverProperties);
+        return resolverProperties.declared() != null && Arrays.asList(resolverProperties.declared()).contains(PythonResolverProperties.DeclaredResolver.FRAMED_RESULT)
+                ? new FramedPythonInputProcessHandler(executorProperties, resolverProperties)
+                : new BasicPythonInputProcessHandler(executorProperties, resolverProperties);
     }
 
     /**
@@ -78,15 +123,17 @@ public class LocalConfiguration {
      *
      * <p>
      * The returned instance is based on {@link BasicPythonErrorProcessHandler} and ignores input,
-     * using {@link Void} as the generic type.
+     * using {@link Void} as the generic type. The captured error output is bounded by
+     * {@link PythonExecutorProperties.LocalProperties#captureLimit()}.
      * </p>
      *
+     * @param executorProperties non-null execution settings for Python processes
      * @return a non-null {@link ProcessHandler} implementation for error handling
      */
     @Bean
     @ConditionalOnMissingBean(BasicPythonErrorProcessHandler.class)
-    public ProcessHandler<Void> errorProcessHandler() {
-        return new BasicPythonErrorProcessHandler();
+    public ProcessHandler<Void> errorProcessHandler(PythonExecutorProperties executorProperties) {
+        return new BasicPythonErrorProcessHandler(executorProperties);
     }
 
     /**
@@ -1,5 +1,6 @@
 package io.w4t3rcs.python.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.w4t3rcs.python.annotation.PythonAfter;
 import io.w4t3rcs.python.annotation.PythonAfters;
 import io.w4t3rcs.python.annotation.PythonBefore;
@@ -7,6 +8,8 @@ import io.w4t3rcs.python.annotation.PythonBefores;
 import io.w4t3rcs.python.aspect.*;
 import io.w4t3rcs.python.processor.PythonProcessor;
 import io.w4t3rcs.python.properties.PythonAspectProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -15,6 +18,8 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -32,6 +37,7 @@ import java.util.concurrent.ThreadPoolExecutor;
  *   <li>{@link ProfileChecker} — to validate active Spring profiles before Python script execution.</li>
  *   <li>{@link PythonMethodExtractor} and {@link PythonArgumentsExtractor} — to extract method.</li>
  *   <li>{@link PythonAnnotationValueExtractor} and {@link PythonAnnotationValueCompounder} — to parse and combine annotation values.</li>
+ *   <li>{@link PythonMethodMetadataProvider} — to resolve the scripts, profile checks and parameter names of a method once.</li>
  *   <li>{@link PythonAnnotationEvaluator} — to execute Python scripts synchronously or asynchronously.</li>
  *   <li>{@link PythonBeforeAspect} and {@link PythonAfterAspect} — to handle execution before and after method invocation.</li>
  * </ul>
@@ -49,13 +55,17 @@ import java.util.concurrent.ThreadPoolExecutor;
  * @see PythonArgumentsExtractor
  * @see PythonAnnotationValueExtractor
  * @see PythonAnnotationValueCompounder
+ * @see PythonMethodMetadataProvider
  * @see PythonAnnotationEvaluator
  * @author w4t3rcs
  * @since 1.0.0
  */
+@Slf4j
 @Configuration
 @EnableConfigurationProperties(PythonAspectProperties.class)
 public class PythonAspectConfiguration {
+    private static final int VIRTUAL_THREADS_JAVA_VERSION = 21;
+
     /**
      * Creates a default {@link ProfileChecker} implementation.
      *
@@ -136,21 +146,61 @@ public class PythonAspectConfiguration {
     }
 
     /**
-     * Creates the synchronous {@link PythonAnnotationEvaluator}.
+     * Creates a default {@link PythonMethodMetadataProvider} implementation.
      *
+     * <p>Resolves the scripts, the profile checks and the parameter names of an intercepted method on its first invocation
+     * and caches them per method.
+     *
+     * @param methodExtractor non-null {@link PythonMethodExtractor} to resolve methods and parameter names
+     * @param annotationValueCompounder non-null {@link PythonAnnotationValueCompounder} to combine annotation values
      * @param profileChecker non-null {@link ProfileChecker} to validate profile constraints
-     * @param annotationValueExtractorChain non-null {@link PythonAnnotationValueCompounder} to combine annotation values
-     * @param argumentsExtractor non-null {@link PythonArgumentsExtractor} to extract method arguments
+     * @return non-null {@link BasicPythonMethodMetadataProvider} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(PythonMethodMetadataProvider.class)
+    public PythonMethodMetadataProvider pythonMethodMetadataProvider(PythonMethodExtractor methodExtractor,
+                                                                     PythonAnnotationValueCompounder annotationValueCompounder,
+                                                                     ProfileChecker profileChecker) {
+        return new BasicPythonMethodMetadataProvider(methodExtractor, annotationValueCompounder, profileChecker);
+    }
+
+    /**
+     * Creates the synchronous {@link PythonAnnotationEvaluator}.
+     *
+     * <p>If parallel execution is enabled, the scripts of the same order are executed concurrently on the parallel executor.
+     *
+     * @param methodMetadataProvider non-null {@link PythonMethodMetadataProvider} to look up the metadata of methods
      * @param pythonProcessor non-null {@link PythonProcessor} to execute Python code
+     * @param parallelTaskExecutor non-null provider of the optional parallel {@link AsyncTaskExecutor}
      * @return non-null {@link BasicPythonAnnotationEvaluator} instance
      */
     @Bean
     @ConditionalOnMissingBean(PythonAnnotationEvaluator.class)
-    public PythonAnnotationEvaluator basicPythonAnnotationEvaluator(ProfileChecker profileChecker,
-                                                                    PythonAnnotationValueCompounder annotationValueExtractorChain,
-                                                                    PythonArgumentsExtractor argumentsExtractor,
-                                                                    PythonProcessor pythonProcessor) {
-        return new BasicPythonAnnotationEvaluator(profileChecker, annotationValueExtractorChain, argumentsExtractor, pythonProcessor);
+    public PythonAnnotationEvaluator basicPythonAnnotationEvaluator(PythonMethodMetadataProvider methodMetadataProvider,
+                                                                    PythonProcessor pythonProcessor,
+                                                                    @Qualifier("pythonAspectParallelTaskExecutor") ObjectProvider<AsyncTaskExecutor> parallelTaskExecutor) {
+        return new BasicPythonAnnotationEvaluator(methodMetadataProvider, pythonProcessor, parallelTaskExecutor.getIfAvailable());
+    }
+
+    /**
+     * Creates the {@link AsyncTaskExecutor} for the concurrent execution of the scripts of one annotation.
+     *
+     * <p>The pool is separate from the async pool, so a script evaluated asynchronously never waits for a task
+     * queued behind itself.
+     *
+     * @param aspectProperties non-null configuration properties
+     * @return non-null {@link AsyncTaskExecutor} instance
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.python.aspect.parallel.enabled", havingValue = "true")
+    public AsyncTaskExecutor pythonAspectParallelTaskExecutor(PythonAspectProperties aspectProperties) {
+        var parallelProperties = aspectProperties.parallel();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelProperties.poolSize());
+        executor.setMaxPoolSize(parallelProperties.poolSize());
+        executor.setThreadNamePrefix(parallelProperties.threadNamePrefix());
+        executor.initialize();
+        return executor;
     }
 
     /**
@@ -169,6 +219,10 @@ public class PythonAspectConfiguration {
     /**
      * Creates the {@link TaskExecutor} for handling async executions.
      *
+     * <p>In {@link PythonAspectProperties.AsyncProperties.ThreadMode#VIRTUAL} mode on Java 21 or later, every execution runs
+     * in its own virtual thread and a {@link ConcurrencyLimitedTaskExecutor} caps the number of running executions instead of a queue.
+     * Otherwise, a bounded platform thread pool is used.
+     *
      * @param aspectProperties non-null configuration properties
      * @return non-null {@link TaskExecutor} instance
      */
@@ -176,6 +230,14 @@ public class PythonAspectConfiguration {
     @ConditionalOnProperty(name = "spring.python.aspect.async.scopes")
     public TaskExecutor pythonAspectTaskExecutor(PythonAspectProperties aspectProperties) {
         var asyncProperties = aspectProperties.async();
+        if (asyncProperties.threadMode() == PythonAspectProperties.AsyncProperties.ThreadMode.VIRTUAL) {
+            if (Runtime.version().feature() >= VIRTUAL_THREADS_JAVA_VERSION) {
+                SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(asyncProperties.threadNamePrefix());
+                executor.setVirtualThreads(true);
+                return new ConcurrencyLimitedTaskExecutor(executor, asyncProperties.maxConcurrency());
+            }
+            log.warn("Virtual threads require Java {} or later, falling back to a platform thread pool", VIRTUAL_THREADS_JAVA_VERSION);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(asyncProperties.corePoolSize());
         executor.setMaxPoolSize(asyncProperties.maxPoolSize());
@@ -207,19 +269,50 @@ public class PythonAspectConfiguration {
         return new PythonBeforeAspect(this.isAsync(aspectProperties, PythonAspectProperties.AsyncProperties.Scope.BEFORE) ? asyncPythonAnnotationEvaluator : basicPythonAnnotationEvaluator);
     }
 
+    /**
+     * Creates a coalescing wrapper for the asynchronous {@link PythonAnnotationEvaluator}.
+     *
+     * <p>The bean is injected by its qualifier only, so it does not compete with the evaluators it wraps.
+     * The scheduler delaying the coalesced executions is owned by the evaluator and shut down when the context is closed,
+     * so it does not replace the application task scheduler.
+     *
+     * @param asyncPythonAnnotationEvaluator non-null asynchronous evaluator
+     * @param methodExtractor non-null {@link PythonMethodExtractor} to resolve methods
+     * @param methodMetadataProvider non-null {@link PythonMethodMetadataProvider} to map the arguments of methods
+     * @param objectMapper non-null {@link ObjectMapper} to serialize the arguments into the coalescing keys
+     * @param aspectProperties non-null configuration properties
+     * @return non-null {@link CoalescingPythonAnnotationEvaluator} instance
+     */
+    @Bean(defaultCandidate = false)
+    @ConditionalOnProperty(name = "spring.python.aspect.coalescing.enabled", havingValue = "true")
+    public CoalescingPythonAnnotationEvaluator coalescingPythonAnnotationEvaluator(@Qualifier("asyncPythonAnnotationEvaluator") PythonAnnotationEvaluator asyncPythonAnnotationEvaluator,
+                                                                                   PythonMethodExtractor methodExtractor,
+                                                                                   PythonMethodMetadataProvider methodMetadataProvider,
+                                                                                   ObjectMapper objectMapper,
+                                                                                   PythonAspectProperties aspectProperties) {
+        return new CoalescingPythonAnnotationEvaluator(asyncPythonAnnotationEvaluator, methodExtractor, methodMetadataProvider, objectMapper,
+                aspectProperties.coalescing().threadNamePrefix());
+    }
+
     /**
      * Creates the {@link PythonAfterAspect} for handling {@code AFTER} scope executions.
      *
+     * <p>Asynchronous executions are coalesced if a {@link CoalescingPythonAnnotationEvaluator} is available.
+     *
      * @param aspectProperties non-null configuration properties
      * @param basicPythonAnnotationEvaluator non-null synchronous evaluator
      * @param asyncPythonAnnotationEvaluator non-null asynchronous evaluator
+     * @param coalescingPythonAnnotationEvaluator non-null provider of the optional coalescing evaluator
      * @return non-null {@link PythonAfterAspect} instance
      */
     @Bean
     public PythonAfterAspect pythonAfterAspect(PythonAspectProperties aspectProperties,
                                                @Qualifier("basicPythonAnnotationEvaluator") PythonAnnotationEvaluator basicPythonAnnotationEvaluator,
-                                               @Qualifier("asyncPythonAnnotationEvaluator") PythonAnnotationEvaluator asyncPythonAnnotationEvaluator) {
-        return new PythonAfterAspect(this.isAsync(aspectProperties, PythonAspectProperties.AsyncProperties.Scope.AFTER) ? asyncPythonAnnotationEvaluator : basicPythonAnnotationEvaluator);
+                                               @Qualifier("asyncPythonAnnotationEvaluator") PythonAnnotationEvaluator asyncPythonAnnotationEvaluator,
+                                               @Qualifier("coalescingPythonAnnotationEvaluator") ObjectProvider<PythonAnnotationEvaluator> coalescingPythonAnnotationEvaluator) {
+        if (!this.isAsync(aspectProperties, PythonAspectProperties.AsyncProperties.Scope.AFTER)) return new PythonAfterAspect(basicPythonAnnotationEvaluator);
+        PythonAnnotationEvaluator coalescingEvaluator = coalescingPythonAnnotationEvaluator.getIfAvailable();
+        return new PythonAfterAspect(coalescingEvaluator != null ? coalescingEvaluator : asyncPythonAnnotationEvaluator);
     }
 
     /**
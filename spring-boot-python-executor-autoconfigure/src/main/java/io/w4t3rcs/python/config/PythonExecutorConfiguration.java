@@ -2,15 +2,14 @@ package io.w4t3rcs.python.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.w4t3rcs.python.connection.PythonServerConnectionDetails;
-import io.w4t3rcs.python.executor.GrpcPythonExecutor;
-import io.w4t3rcs.python.executor.LocalPythonExecutor;
-import io.w4t3rcs.python.executor.PythonExecutor;
-import io.w4t3rcs.python.executor.RestPythonExecutor;
+import io.w4t3rcs.python.executor.*;
 import io.w4t3rcs.python.local.ProcessFinisher;
 import io.w4t3rcs.python.local.ProcessHandler;
 import io.w4t3rcs.python.local.ProcessStarter;
 import io.w4t3rcs.python.properties.PythonExecutorProperties;
 import io.w4t3rcs.python.proto.PythonServiceGrpc;
+import io.w4t3rcs.python.registration.ScriptRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -28,8 +27,12 @@ import java.net.http.HttpClient;
  * <ul>
  *   <li>Local process execution via {@link LocalPythonExecutor}</li>
  *   <li>Remote execution via REST API using {@link RestPythonExecutor}</li>
- *   <li>Remote execution via gRPC using {@link GrpcPythonExecutor}</li>
+ *   <li>Remote execution via gRPC using {@link GrpcPythonExecutor}, or {@link StreamingGrpcPythonExecutor}
+ *   if {@code spring.python.executor.grpc.stream.enabled=true}</li>
  * </ul>
+ * Each of them is accompanied by its non-blocking {@link AsyncPythonExecutor} counterpart.
+ * The REST and unary gRPC executors invoke registered scripts by hash through a {@link ScriptRegistry}
+ * if {@code spring.python.executor.registration.enabled=true}.
  *
  * <p>Execution type is selected via the property:
  * <pre>{@code spring.python.executor.type=local|rest|grpc}</pre>
@@ -39,6 +42,9 @@ import java.net.http.HttpClient;
  * @see LocalPythonExecutor
  * @see RestPythonExecutor
  * @see GrpcPythonExecutor
+ * @see StreamingGrpcPythonExecutor
+ * @see AsyncPythonExecutor
+ * @see ScriptRegistry
  * @see PythonExecutorProperties
  * @author w4t3rcs
  * @since 1.0.0
@@ -60,6 +66,7 @@ public class PythonExecutorConfiguration {
      * @param errorProcessHandler non-null {@link ProcessHandler} for handling process error output
      * @param objectMapper non-null {@link ObjectMapper} for JSON serialization/deserialization
      * @param processFinisher non-null {@link ProcessFinisher} for finalizing process execution
+     * @param executorProperties non-null {@link PythonExecutorProperties} providing the maximum number of stream draining threads
      * @return never {@code null}, fully initialized {@link LocalPythonExecutor} instance
      */
     @Bean
@@ -69,8 +76,40 @@ public class PythonExecutorConfiguration {
                                               ProcessHandler<String> inputProcessHandler,
                                               ProcessHandler<Void> errorProcessHandler,
                                               ObjectMapper objectMapper,
-                                              ProcessFinisher processFinisher) {
-        return new LocalPythonExecutor(processStarter, inputProcessHandler, errorProcessHandler, objectMapper, processFinisher);
+                                              ProcessFinisher processFinisher,
+                                              PythonExecutorProperties executorProperties) {
+        return new LocalPythonExecutor(processStarter, inputProcessHandler, errorProcessHandler, objectMapper, processFinisher,
+                executorProperties.local().streamDrainerThreads());
+    }
+
+    /**
+     * Creates an {@link AsyncLocalPythonExecutor} bean for executing Python scripts locally without blocking the caller.
+     *
+     * <p>Activated when:
+     * <ul>
+     *   <li>{@code spring.python.executor.type=local}</li>
+     *   <li>No other {@link AsyncPythonExecutor} bean is present in the context</li>
+     * </ul>
+     *
+     * @param processStarter non-null {@link ProcessStarter} for launching Python processes
+     * @param inputProcessHandler non-null {@link ProcessHandler} for handling process input
+     * @param errorProcessHandler non-null {@link ProcessHandler} for handling process error output
+     * @param objectMapper non-null {@link ObjectMapper} for JSON serialization/deserialization
+     * @param processFinisher non-null {@link ProcessFinisher} for finalizing process execution
+     * @param executorProperties non-null {@link PythonExecutorProperties} providing the maximum numbers of running and queued processes
+     * @return never {@code null}, fully initialized {@link AsyncLocalPythonExecutor} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(AsyncPythonExecutor.class)
+    @ConditionalOnProperty(name = "spring.python.executor.type", havingValue = "local", matchIfMissing = true)
+    public AsyncPythonExecutor asyncLocalPythonExecutor(ProcessStarter processStarter,
+                                                        ProcessHandler<String> inputProcessHandler,
+                                                        ProcessHandler<Void> errorProcessHandler,
+                                                        ObjectMapper objectMapper,
+                                                        ProcessFinisher processFinisher,
+                                                        PythonExecutorProperties executorProperties) {
+        return new AsyncLocalPythonExecutor(processStarter, inputProcessHandler, errorProcessHandler, objectMapper, processFinisher,
+                executorProperties.local().asyncConcurrency(), executorProperties.local().asyncQueueCapacity());
     }
 
     /**
@@ -85,6 +124,7 @@ public class PythonExecutorConfiguration {
      * @param connectionDetails non-null {@link PythonServerConnectionDetails} for REST server connection
      * @param objectMapper non-null {@link ObjectMapper} for JSON serialization/deserialization
      * @param restPythonServerHttpClient non-null {@link HttpClient} for HTTP communication with the Python server
+     * @param scriptRegistry provider of the optional {@link ScriptRegistry} enabling invocation by script hash
      * @return never {@code null}, fully initialized {@link RestPythonExecutor} instance
      */
     @Bean
@@ -92,8 +132,34 @@ public class PythonExecutorConfiguration {
     @ConditionalOnProperty(name = "spring.python.executor.type", havingValue = "rest")
     public PythonExecutor restPythonExecutor(PythonServerConnectionDetails connectionDetails,
                                              ObjectMapper objectMapper,
-                                             @Qualifier("restPythonServerHttpClient") HttpClient restPythonServerHttpClient) {
-        return new RestPythonExecutor(connectionDetails, objectMapper, restPythonServerHttpClient);
+                                             @Qualifier("restPythonServerHttpClient") HttpClient restPythonServerHttpClient,
+                                             ObjectProvider<ScriptRegistry> scriptRegistry) {
+        return new RestPythonExecutor(connectionDetails, objectMapper, restPythonServerHttpClient, scriptRegistry.getIfAvailable());
+    }
+
+    /**
+     * Creates an {@link AsyncRestPythonExecutor} bean for executing Python scripts via REST API without blocking the caller.
+     *
+     * <p>Activated when:
+     * <ul>
+     *   <li>{@code spring.python.executor.type=rest}</li>
+     *   <li>No other {@link AsyncPythonExecutor} bean is present in the context</li>
+     * </ul>
+     *
+     * @param connectionDetails non-null {@link PythonServerConnectionDetails} for REST server connection
+     * @param objectMapper non-null {@link ObjectMapper} for JSON serialization/deserialization
+     * @param restPythonServerHttpClient non-null {@link HttpClient} for HTTP communication with the Python server
+     * @param scriptRegistry provider of the optional {@link ScriptRegistry} enabling invocation by script hash
+     * @return never {@code null}, fully initialized {@link AsyncRestPythonExecutor} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(AsyncPythonExecutor.class)
+    @ConditionalOnProperty(name = "spring.python.executor.type", havingValue = "rest")
+    public AsyncPythonExecutor asyncRestPythonExecutor(PythonServerConnectionDetails connectionDetails,
+                                                       ObjectMapper objectMapper,
+                                                       @Qualifier("restPythonServerHttpClient") HttpClient restPythonServerHttpClient,
+                                                       ObjectProvider<ScriptRegistry> scriptRegistry) {
+        return new AsyncRestPythonExecutor(connectionDetails, objectMapper, restPythonServerHttpClient, scriptRegistry.getIfAvailable());
     }
 
     /**
@@ -133,6 +199,32 @@ public class PythonExecutorConfiguration {
         return PythonServerConnectionDetails.of(restProperties.token(), restProperties.uri());
     }
 
+    /**
+     * Creates a {@link StreamingGrpcPythonExecutor} bean for executing Python scripts over multiplexed bidirectional gRPC streams.
+     * The bean serves as both {@link PythonExecutor} and {@link AsyncPythonExecutor}.
+     *
+     * <p>Activated when:
+     * <ul>
+     *   <li>{@code spring.python.executor.type=grpc}</li>
+     *   <li>{@code spring.python.executor.grpc.stream.enabled=true}</li>
+     *   <li>No other {@link PythonExecutor} bean is present in the context</li>
+     * </ul>
+     *
+     * @param asyncStub non-null {@link PythonServiceGrpc.PythonServiceStub} for gRPC streaming communication
+     * @param objectMapper non-null {@link ObjectMapper} for JSON serialization/deserialization
+     * @param properties non-null {@link PythonExecutorProperties} containing gRPC stream configuration
+     * @return never {@code null}, fully initialized {@link StreamingGrpcPythonExecutor} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(PythonExecutor.class)
+    @ConditionalOnProperty(name = "spring.python.executor.type", havingValue = "grpc")
+    @ConditionalOnProperty(name = "spring.python.executor.grpc.stream.enabled", havingValue = "true")
+    public StreamingGrpcPythonExecutor streamingGrpcPythonExecutor(PythonServiceGrpc.PythonServiceStub asyncStub,
+                                                                   ObjectMapper objectMapper,
+                                                                   PythonExecutorProperties properties) {
+        return new StreamingGrpcPythonExecutor(asyncStub, objectMapper, properties);
+    }
+
     /**
      * Creates a {@link GrpcPythonExecutor} bean for executing Python scripts via gRPC.
      *
@@ -144,13 +236,39 @@ public class PythonExecutorConfiguration {
      *
      * @param stub non-null {@link PythonServiceGrpc.PythonServiceBlockingStub} for gRPC communication
      * @param objectMapper non-null {@link ObjectMapper} for JSON serialization/deserialization
+     * @param scriptRegistry provider of the optional {@link ScriptRegistry} enabling invocation by script hash
      * @return never {@code null}, fully initialized {@link GrpcPythonExecutor} instance
      */
     @Bean
     @ConditionalOnMissingBean(PythonExecutor.class)
     @ConditionalOnProperty(name = "spring.python.executor.type", havingValue = "grpc")
-    public PythonExecutor grpcPythonExecutor(PythonServiceGrpc.PythonServiceBlockingStub stub, ObjectMapper objectMapper) {
-        return new GrpcPythonExecutor(stub, objectMapper);
+    public PythonExecutor grpcPythonExecutor(PythonServiceGrpc.PythonServiceBlockingStub stub,
+                                             ObjectMapper objectMapper,
+                                             ObjectProvider<ScriptRegistry> scriptRegistry) {
+        return new GrpcPythonExecutor(stub, objectMapper, scriptRegistry.getIfAvailable());
+    }
+
+    /**
+     * Creates an {@link AsyncGrpcPythonExecutor} bean for executing Python scripts via gRPC without blocking the caller.
+     *
+     * <p>Activated when:
+     * <ul>
+     *   <li>{@code spring.python.executor.type=grpc}</li>
+     *   <li>No other {@link AsyncPythonExecutor} bean is present in the context</li>
+     * </ul>
+     *
+     * @param futureStub non-null {@link PythonServiceGrpc.PythonServiceFutureStub} for gRPC communication
+     * @param objectMapper non-null {@link ObjectMapper} for JSON serialization/deserialization
+     * @param scriptRegistry provider of the optional {@link ScriptRegistry} enabling invocation by script hash
+     * @return never {@code null}, fully initialized {@link AsyncGrpcPythonExecutor} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(AsyncPythonExecutor.class)
+    @ConditionalOnProperty(name = "spring.python.executor.type", havingValue = "grpc")
+    public AsyncPythonExecutor asyncGrpcPythonExecutor(PythonServiceGrpc.PythonServiceFutureStub futureStub,
+                                                       ObjectMapper objectMapper,
+                                                       ObjectProvider<ScriptRegistry> scriptRegistry) {
+        return new AsyncGrpcPythonExecutor(futureStub, objectMapper, scriptRegistry.getIfAvailable());
     }
 
     /**
@@ -173,4 +291,23 @@ public class PythonExecutorConfiguration {
         PythonExecutorProperties.GrpcProperties grpcProperties = properties.grpc();
         return PythonServerConnectionDetails.of(grpcProperties.token(), grpcProperties.uri());
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a {@link ScriptRegistry} bean remembering the scripts registered on the remote Python server.
+     *
+     * <p>Activated when:
+     * <ul>
+     *   <li>{@code spring.python.executor.registration.enabled=true}</li>
+     *   <li>No other {@link ScriptRegistry} bean is present in the context</li>
+     * </ul>
+     *
+     * @param properties non-null {@link PythonExecutorProperties} containing registration configuration
+     * @return never {@code null}, empty {@link ScriptRegistry} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(ScriptRegistry.class)
+    @ConditionalOnProperty(name = "spring.python.executor.registration.enabled", havingValue = "true")
+    public ScriptRegistry scriptRegistry(PythonExecutorProperties properties) {
+        return new ScriptRegistry(properties);
+    }
+}
@@ -1,7 +1,10 @@
 package io.w4t3rcs.python.config;
 
+import io.w4t3rcs.python.executor.AsyncPythonExecutor;
 import io.w4t3rcs.python.executor.PythonExecutor;
 import io.w4t3rcs.python.file.PythonFileHandler;
+import io.w4t3rcs.python.processor.AsyncPythonProcessor;
+import io.w4t3rcs.python.processor.BasicAsyncPythonProcessor;
 import io.w4t3rcs.python.processor.BasicPythonProcessor;
 import io.w4t3rcs.python.processor.PythonProcessor;
 import io.w4t3rcs.python.resolver.PythonResolver;
@@ -15,10 +18,13 @@ import org.springframework.context.annotation.Configuration;
  * <p>This configuration defines the core infrastructure by declaring a {@link PythonProcessor} bean.</p>
  *
  * <p>If no other {@link PythonProcessor} bean is present in the Spring context,
- * it creates a {@link BasicPythonProcessor} instance wired with the required dependencies.</p>
+ * it creates a {@link BasicPythonProcessor} instance wired with the required dependencies.
+ * The same applies to its non-blocking counterpart {@link AsyncPythonProcessor}.</p>
  *
  * @see PythonProcessor
  * @see BasicPythonProcessor
+ * @see AsyncPythonProcessor
+ * @see BasicAsyncPythonProcessor
  * @see PythonFileHandler
  * @see PythonExecutor
  * @see PythonResolver
@@ -41,4 +47,18 @@ public class PythonProcessorConfiguration {
     public PythonProcessor basicPythonProcessor(PythonFileHandler pythonFileHandler, PythonExecutor pythonExecutor, PythonResolverHolder pythonResolverHolder) {
         return new BasicPythonProcessor(pythonFileHandler, pythonExecutor, pythonResolverHolder);
     }
+
+    /**
+     * Creates a default {@link BasicAsyncPythonProcessor} bean.
+     *
+     * @param pythonFileHandler non-null {@link PythonFileHandler} instance to handle Python file operations.
+     * @param asyncPythonExecutor non-null {@link AsyncPythonExecutor} instance to execute Python code without blocking.
+     * @param pythonResolverHolder non-null {@link PythonResolverHolder} instance to resolve Python-related parameters.
+     * @return a non-null {@link AsyncPythonProcessor} implementation.
+     */
+    @Bean
+    @ConditionalOnMissingBean(AsyncPythonProcessor.class)
+    public AsyncPythonProcessor basicAsyncPythonProcessor(PythonFileHandler pythonFileHandler, AsyncPythonExecutor asyncPythonExecutor, PythonResolverHolder pythonResolverHolder) {
+        return new BasicAsyncPythonProcessor(pythonFileHandler, asyncPythonExecutor, pythonResolverHolder);
+    }
 }
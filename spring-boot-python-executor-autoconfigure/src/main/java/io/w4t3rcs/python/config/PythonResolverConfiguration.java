@@ -54,13 +54,16 @@ import java.util.List;
  * @see RestrictedPythonResolver
  * @see ResultResolver
  * @see PrintedResultResolver
+ * @see FramedResultResolver
  * @see PythonResolverHolder
  * @see BasicPythonResolverHolder
+ * @see CompiledPythonResolverHolder
  * @see SpelythonResolverCondition
  * @see Py4JResolverCondition
  * @see RestrictedPythonResolverCondition
  * @see ResultResolverCondition
  * @see PrintedResultResolverCondition
+ * @see FramedResultResolverCondition
  * @author w4t3rcs
  * @since 1.0.0
  */
@@ -87,6 +90,10 @@ public class PythonResolverConfiguration {
      * Order value for {@link PrintedResultResolver} bean.
      */
     public static final int PRINTED_RESULT_RESOLVER_ORDER = 200;
+    /**
+     * Order value for {@link FramedResultResolver} bean.
+     */
+    public static final int FRAMED_RESULT_RESOLVER_ORDER = 250;
 
     /**
      * Creates a {@link SpelythonResolver} bean.
@@ -176,6 +183,23 @@ public class PythonResolverConfiguration {
         return new PrintedResultResolver(resolverProperties);
     }
 
+    /**
+     * Creates a {@link FramedResultResolver} bean.
+     * <p>
+     * This bean is created only if {@link FramedResultResolverCondition} matches,
+     * which requires {@code spring.python.resolver.declared} to contain "framed_result".
+     * </p>
+     *
+     * @param resolverProperties {@link PythonResolverProperties} bean, must not be null
+     * @return configured {@link FramedResultResolver} instance, never null
+     */
+    @Bean
+    @Order(FRAMED_RESULT_RESOLVER_ORDER)
+    @Conditional(FramedResultResolverCondition.class)
+    public PythonResolver framedResultResolver(PythonResolverProperties resolverProperties) {
+        return new FramedResultResolver(resolverProperties);
+    }
+
     /**
      * Creates the default {@link PythonResolverHolder} bean if none is defined.
      * <p>
@@ -187,7 +211,27 @@ public class PythonResolverConfiguration {
      */
     @Bean
     @ConditionalOnMissingBean(PythonResolverHolder.class)
+    @ConditionalOnProperty(name = "spring.python.resolver.template.enabled", havingValue = "false", matchIfMissing = true)
     public PythonResolverHolder basicPythonResolverHolder(List<PythonResolver> pythonResolvers) {
         return new BasicPythonResolverHolder(pythonResolvers);
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a {@link CompiledPythonResolverHolder} bean if none is defined
+     * and {@code spring.python.resolver.template.enabled} is {@code true}.
+     * <p>
+     * This holder aggregates all available {@link PythonResolver} beans in the context
+     * and caches every resolved script as a {@link CompiledPythonScript} template.
+     * </p>
+     *
+     * @param pythonResolvers list of all registered {@link PythonResolver} beans, never null but can be empty
+     * @param resolverProperties {@link PythonResolverProperties} bean, must not be null
+     * @return a {@link CompiledPythonResolverHolder} instance containing the given resolvers, never null
+     */
+    @Bean
+    @ConditionalOnMissingBean(PythonResolverHolder.class)
+    @ConditionalOnProperty(name = "spring.python.resolver.template.enabled", havingValue = "true")
+    public PythonResolverHolder compiledPythonResolverHolder(List<PythonResolver> pythonResolvers, PythonResolverProperties resolverProperties) {
+        return new CompiledPythonResolverHolder(pythonResolvers, resolverProperties);
+    }
+}
@@ -0,0 +1,45 @@
+package io.w4t3rcs.python;
+
+import io.w4t3rcs.python.aspect.BasicPythonAnnotationEvaluator;
+import io.w4t3rcs.python.aspect.CoalescingPythonAnnotationEvaluator;
+import io.w4t3rcs.python.aspect.PythonAfterAspect;
+import io.w4t3rcs.python.aspect.PythonAnnotationEvaluator;
+import io.w4t3rcs.python.config.PythonAutoConfiguration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ContextConfiguration;
+
+@SpringBootTest(properties = {"spring.python.aspect.coalescing.enabled=true", "spring.python.aspect.parallel.enabled=true"})
+@AutoConfigureJson
+@ContextConfiguration(classes = {PythonAutoConfiguration.class})
+class PythonAspectCoalescingConfigurationTests {
+    @Autowired
+    @Qualifier("basicPythonAnnotationEvaluator")
+    private PythonAnnotationEvaluator basicPythonAnnotationEvaluator;
+    @Autowired
+    @Qualifier("coalescingPythonAnnotationEvaluator")
+    private PythonAnnotationEvaluator coalescingPythonAnnotationEvaluator;
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    @Qualifier("pythonAspectParallelTaskExecutor")
+    private AsyncTaskExecutor pythonAspectParallelTaskExecutor;
+    @Autowired
+    private PythonAfterAspect pythonAfterAspect;
+
+    @Test
+    void testOptionalBeansLoad() {
+        Assertions.assertInstanceOf(BasicPythonAnnotationEvaluator.class, basicPythonAnnotationEvaluator);
+        Assertions.assertInstanceOf(CoalescingPythonAnnotationEvaluator.class, coalescingPythonAnnotationEvaluator);
+        Assertions.assertEquals(0, applicationContext.getBeanNamesForType(TaskScheduler.class).length);
+        Assertions.assertNotNull(pythonAspectParallelTaskExecutor);
+        Assertions.assertNotNull(pythonAfterAspect);
+    }
+}
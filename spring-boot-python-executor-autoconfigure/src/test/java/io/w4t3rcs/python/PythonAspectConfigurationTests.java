@@ -29,6 +29,8 @@ class PythonAspectConfigurationTests {
     @Autowired
     private PythonAnnotationValueCompounder pythonAnnotationValueCompounder;
     @Autowired
+    private PythonMethodMetadataProvider pythonMethodMetadataProvider;
+    @Autowired
     @Qualifier("basicPythonAnnotationEvaluator")
     private PythonAnnotationEvaluator basicPythonAnnotationEvaluator;
     @Autowired
@@ -47,6 +49,7 @@ class PythonAspectConfigurationTests {
         Assertions.assertInstanceOf(SinglePythonScriptExtractor.class, singlePythonAnnotationValueExtractor);
         Assertions.assertInstanceOf(MultiPythonScriptExtractor.class, multiPythonAnnotationValueExtractor);
         Assertions.assertInstanceOf(BasicPythonAnnotationValueCompounder.class, pythonAnnotationValueCompounder);
+        Assertions.assertInstanceOf(BasicPythonMethodMetadataProvider.class, pythonMethodMetadataProvider);
         Assertions.assertInstanceOf(BasicPythonAnnotationEvaluator.class, basicPythonAnnotationEvaluator);
         Assertions.assertInstanceOf(AsyncPythonAnnotationEvaluator.class, asyncPythonAnnotationEvaluator);
         Assertions.assertNotNull(pythonBeforeAspect);
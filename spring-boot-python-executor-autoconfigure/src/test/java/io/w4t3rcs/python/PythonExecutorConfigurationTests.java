@@ -1,12 +1,10 @@
 package io.w4t3rcs.python;
 
 import io.w4t3rcs.python.config.PythonAutoConfiguration;
-import io.w4t3rcs.python.executor.GrpcPythonExecutor;
-import io.w4t3rcs.python.executor.LocalPythonExecutor;
-import io.w4t3rcs.python.executor.PythonExecutor;
-import io.w4t3rcs.python.executor.RestPythonExecutor;
+import io.w4t3rcs.python.executor.*;
 import io.w4t3rcs.python.local.*;
 import io.w4t3rcs.python.proto.PythonServiceGrpc;
+import io.w4t3rcs.python.registration.ScriptRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -24,6 +22,10 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 class PythonExecutorConfigurationTests {
     @MockitoBean
     private PythonServiceGrpc.PythonServiceBlockingStub stub;
+    @MockitoBean
+    private PythonServiceGrpc.PythonServiceFutureStub futureStub;
+    @MockitoBean
+    private PythonServiceGrpc.PythonServiceStub asyncStub;
 
     @Nested
     @TestPropertySource(properties = "spring.python.executor.type=local")
@@ -36,6 +38,7 @@ class PythonExecutorConfigurationTests {
         @Test
         void testMandatoryBeansLoad() {
             Assertions.assertInstanceOf(LocalPythonExecutor.class, pythonExecutor);
+            Assertions.assertInstanceOf(AsyncLocalPythonExecutor.class, applicationContext.getBean(AsyncPythonExecutor.class));
             Assertions.assertFalse(applicationContext.containsBean("restPythonExecutor"));
             Assertions.assertFalse(applicationContext.containsBean("grpcPythonExecutor"));
             Assertions.assertInstanceOf(BasicPythonProcessStarter.class, applicationContext.getBean(ProcessStarter.class));
@@ -45,6 +48,22 @@ class PythonExecutorConfigurationTests {
         }
     }
 
+    @Nested
+    @TestPropertySource(properties = {"spring.python.executor.type=local", "spring.python.executor.local.pool.enabled=true"})
+    class PooledLocalTests {
+        @Autowired
+        private PythonExecutor pythonExecutor;
+        @Autowired
+        private ApplicationContext applicationContext;
+
+        @Test
+        void testMandatoryBeansLoad() {
+            Assertions.assertInstanceOf(LocalPythonExecutor.class, pythonExecutor);
+            Assertions.assertInstanceOf(PooledPythonProcessStarter.class, applicationContext.getBean(ProcessStarter.class));
+            Assertions.assertNotNull(applicationContext.getBean(PythonWorkerPool.class));
+        }
+    }
+
     @Nested
     @TestPropertySource(properties = "spring.python.executor.type=rest")
     class RestTests {
@@ -56,8 +75,26 @@ class PythonExecutorConfigurationTests {
         @Test
         void testMandatoryBeansLoad() {
             Assertions.assertInstanceOf(RestPythonExecutor.class, pythonExecutor);
+            Assertions.assertInstanceOf(AsyncRestPythonExecutor.class, applicationContext.getBean(AsyncPythonExecutor.class));
             Assertions.assertFalse(applicationContext.containsBean("localPythonExecutor"));
             Assertions.assertFalse(applicationContext.containsBean("grpcPythonExecutor"));
+            Assertions.assertFalse(applicationContext.containsBean("scriptRegistry"));
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = {"spring.python.executor.type=rest", "spring.python.executor.registration.enabled=true"})
+    class RegisteredRestTests {
+        @Autowired
+        private PythonExecutor pythonExecutor;
+        @Autowired
+        private ApplicationContext applicationContext;
+
+        @Test
+        void testMandatoryBeansLoad() {
+            Assertions.assertInstanceOf(RestPythonExecutor.class, pythonExecutor);
+            Assertions.assertInstanceOf(AsyncRestPythonExecutor.class, applicationContext.getBean(AsyncPythonExecutor.class));
+            Assertions.assertNotNull(applicationContext.getBean(ScriptRegistry.class));
         }
     }
 
@@ -72,8 +109,28 @@ class PythonExecutorConfigurationTests {
         @Test
         void testMandatoryBeansLoad() {
             Assertions.assertInstanceOf(GrpcPythonExecutor.class, pythonExecutor);
+            Assertions.assertInstanceOf(AsyncGrpcPythonExecutor.class, applicationContext.getBean(AsyncPythonExecutor.class));
             Assertions.assertFalse(applicationContext.containsBean("restPythonExecutor"));
             Assertions.assertFalse(applicationContext.containsBean("localPythonExecutor"));
         }
     }
+
+    @Nested
+    @TestPropertySource(properties = {"spring.python.executor.type=grpc", "spring.python.executor.grpc.stream.enabled=true"})
+    class StreamingGrpcTests {
+        @Autowired
+        private PythonExecutor pythonExecutor;
+        @Autowired
+        private AsyncPythonExecutor asyncPythonExecutor;
+        @Autowired
+        private ApplicationContext applicationContext;
+
+        @Test
+        void testMandatoryBeansLoad() {
+            Assertions.assertInstanceOf(StreamingGrpcPythonExecutor.class, pythonExecutor);
+            Assertions.assertSame(pythonExecutor, asyncPythonExecutor);
+            Assertions.assertFalse(applicationContext.containsBean("grpcPythonExecutor"));
+            Assertions.assertFalse(applicationContext.containsBean("asyncGrpcPythonExecutor"));
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package io.w4t3rcs.python;
 
 import io.w4t3rcs.python.config.PythonAutoConfiguration;
+import io.w4t3rcs.python.processor.AsyncPythonProcessor;
+import io.w4t3rcs.python.processor.BasicAsyncPythonProcessor;
 import io.w4t3rcs.python.processor.BasicPythonProcessor;
 import io.w4t3rcs.python.processor.PythonProcessor;
 import org.junit.jupiter.api.Assertions;
@@ -16,9 +18,12 @@ import org.springframework.test.context.ContextConfiguration;
 class PythonProcessorConfigurationTests {
     @Autowired
     private PythonProcessor pythonProcessor;
+    @Autowired
+    private AsyncPythonProcessor asyncPythonProcessor;
 
     @Test
     void testMandatoryBeansLoad() {
         Assertions.assertInstanceOf(BasicPythonProcessor.class, pythonProcessor);
+        Assertions.assertInstanceOf(BasicAsyncPythonProcessor.class, asyncPythonProcessor);
     }
 }
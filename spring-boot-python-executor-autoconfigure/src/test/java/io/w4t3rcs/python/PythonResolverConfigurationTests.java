@@ -1,6 +1,8 @@
 package io.w4t3rcs.python;
 
 import io.w4t3rcs.python.config.PythonAutoConfiguration;
+import io.w4t3rcs.python.local.FramedPythonInputProcessHandler;
+import io.w4t3rcs.python.local.ProcessHandler;
 import io.w4t3rcs.python.resolver.*;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
@@ -65,4 +67,36 @@ class PythonResolverConfigurationTests {
             Assertions.assertEquals(pythonResolverHolder.getResolvers(), pythonResolvers);
         }
     }
+
+    @Nested
+    @TestPropertySource(properties = "spring.python.resolver.declared=spelython, result, framed_result")
+    class FramedTests {
+        @Autowired
+        private List<PythonResolver> pythonResolvers;
+        @Autowired
+        private ProcessHandler<String> inputProcessHandler;
+
+        @Test
+        void testMandatoryBeansLoad() {
+            Assertions.assertInstanceOf(SpelythonResolver.class, pythonResolvers.get(0));
+            Assertions.assertInstanceOf(ResultResolver.class, pythonResolvers.get(1));
+            Assertions.assertInstanceOf(FramedResultResolver.class, pythonResolvers.get(2));
+            Assertions.assertInstanceOf(FramedPythonInputProcessHandler.class, inputProcessHandler);
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = {"spring.python.resolver.declared=spelython, result", "spring.python.resolver.template.enabled=true"})
+    class TemplateTests {
+        @Autowired
+        private PythonResolverHolder pythonResolverHolder;
+        @Autowired
+        private List<PythonResolver> pythonResolvers;
+
+        @Test
+        void testMandatoryBeansLoad() {
+            Assertions.assertInstanceOf(CompiledPythonResolverHolder.class, pythonResolverHolder);
+            Assertions.assertEquals(pythonResolverHolder.getResolvers(), pythonResolvers);
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package io.w4t3rcs.python.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Weigher;
+import io.w4t3rcs.python.cache.storage.EncodedPythonResponse;
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.properties.PythonCacheProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * {@link Weigher} implementation that weighs Python cache entries by their approximate size in bytes.
+ *
+ * <p>Script bodies, resolved scripts, keys and paths are weighed by their length in characters, which equals
+ * their size in bytes for the Latin-1 encoded strings Java stores compactly. Byte arrays are weighed by their length
+ * and encoded results by the bytes they keep on the heap. Execution results are estimated without serialization by walking
+ * their body: strings by length, numbers by 8 bytes, and maps, collections and arrays by the sum of their elements.
+ * Only values of other types are weighed by the length of their JSON serialization, and if a value cannot be serialized,
+ * by the length of its {@link Object#toString()}.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * Caffeine.newBuilder()
+ *         .maximumWeight(32 * 1024 * 1024)
+ *         .weigher(new PythonCacheWeigher(objectMapper));
+ * }</pre>
+ *
+ * @see Weigher
+ * @see PythonCacheProperties.LevelPolicyProperties
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PythonCacheWeigher implements Weigher<Object, Object> {
+    private static final int SCALAR_WEIGHT = 8;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Returns the weight of the cache entry.
+     *
+     * @param key non-null cache key
+     * @param value non-null cache value
+     * @return the total size of the key and value in bytes, capped at {@link Integer#MAX_VALUE}
+     */
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(this.weigh(key) + this.weigh(value), Integer.MAX_VALUE);
+    }
+
+    private long weigh(Object object) {
+        if (object == null) return 0;
+        if (object instanceof CharSequence charSequence) return charSequence.length();
+        if (object instanceof byte[] bytes) return bytes.length;
+        if (object instanceof EncodedPythonResponse encodedResponse) return encodedResponse.getHeapSize();
+        if (object instanceof PythonExecutionResponse<?> response) return this.weigh(response.body());
+        if (object instanceof Path path) return path.toString().length();
+        if (object instanceof Number || object instanceof Boolean || object instanceof Character || object instanceof Enum<?>) return SCALAR_WEIGHT;
+        if (object instanceof Map<?, ?> map) {
+            long weight = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                weight += this.weigh(entry.getKey()) + this.weigh(entry.getValue());
+            }
+            return weight;
+        }
+        if (object instanceof Collection<?> collection) {
+            long weight = 0;
+            for (Object element : collection) {
+                weight += this.weigh(element);
+            }
+            return weight;
+        }
+        if (object instanceof Object[] array) {
+            long weight = 0;
+            for (Object element : array) {
+                weight += this.weigh(element);
+            }
+            return weight;
+        }
+        try {
+            return objectMapper.writeValueAsBytes(object).length;
+        } catch (Exception e) {
+            log.debug("Cache value of type {} cannot be serialized, weighing its string form", object.getClass().getName());
+            return String.valueOf(object).length();
+        }
+    }
+}
@@ -3,19 +3,29 @@ package io.w4t3rcs.python.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.w4t3rcs.python.cache.CacheKeyGenerator;
 import io.w4t3rcs.python.cache.impl.HashCacheKeyGenerator;
+import io.w4t3rcs.python.cache.disk.PythonCachePersistence;
+import io.w4t3rcs.python.cache.impl.StreamingCacheKeyGenerator;
+import io.w4t3rcs.python.cache.storage.PythonCacheStorage;
 import io.w4t3rcs.python.condition.ExecutorCacheLevelCondition;
 import io.w4t3rcs.python.condition.FileCacheLevelCondition;
 import io.w4t3rcs.python.condition.ProcessorCacheLevelCondition;
 import io.w4t3rcs.python.condition.ResolverCacheLevelCondition;
+import io.w4t3rcs.python.executor.AsyncCachingPythonExecutor;
+import io.w4t3rcs.python.executor.AsyncPythonExecutor;
 import io.w4t3rcs.python.executor.CachingPythonExecutor;
 import io.w4t3rcs.python.executor.PythonExecutor;
 import io.w4t3rcs.python.file.CachingPythonFileHandler;
 import io.w4t3rcs.python.file.PythonFileHandler;
+import io.w4t3rcs.python.processor.AsyncCachingPythonProcessor;
+import io.w4t3rcs.python.processor.AsyncPythonProcessor;
 import io.w4t3rcs.python.processor.CachingPythonProcessor;
 import io.w4t3rcs.python.processor.PythonProcessor;
 import io.w4t3rcs.python.properties.PythonCacheProperties;
 import io.w4t3rcs.python.resolver.CachingPythonResolverHolder;
 import io.w4t3rcs.python.resolver.PythonResolverHolder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -36,8 +46,8 @@ import org.springframework.context.annotation.*;
  * </p>
  * <p>
  * Provides default {@link CacheKeyGenerator} and caching wrappers for
- * {@link PythonFileHandler}, {@link PythonResolverHolder}, {@link PythonExecutor}, and {@link PythonProcessor}
- * beans if present in the context.
+ * {@link PythonFileHandler}, {@link PythonResolverHolder}, {@link PythonExecutor}, {@link PythonProcessor},
+ * {@link AsyncPythonExecutor}, and {@link AsyncPythonProcessor} beans if present in the context.
  * </p>
  * <p>
  * Beans defined here are marked as {@code @Primary} to override default implementations
@@ -45,21 +55,30 @@ import org.springframework.context.annotation.*;
  * </p>
  * <p>
  * The configuration reads default properties from {@code python-cache-default.properties}
- * located in the classpath.
+ * located in the classpath. Unless the application provides its own {@link CacheManager},
+ * {@link PythonCaffeineCacheConfiguration} registers a bounded Caffeine-based one.
+ * If {@code spring.python.cache.persistence.enabled} is set, the caches of the persistent levels
+ * are additionally kept on disk by {@link PythonCachePersistence}, and if {@code spring.python.cache.storage.enabled}
+ * is set, the results of the encoded levels are kept as bytes by {@link PythonCacheStorage}.
  * </p>
  *
  * @see PythonCacheProperties
+ * @see PythonCaffeineCacheConfiguration
  * @see CacheKeyGenerator
  * @see CachingPythonFileHandler
  * @see CachingPythonResolverHolder
  * @see CachingPythonExecutor
  * @see CachingPythonProcessor
+ * @see AsyncCachingPythonExecutor
+ * @see AsyncCachingPythonProcessor
  * @author w4t3rcs
  * @since 1.0.0
  */
 @Configuration
 @EnableConfigurationProperties(PythonCacheProperties.class)
 @ConditionalOnProperty(name = "spring.python.cache.enabled", havingValue = "true")
+@AutoConfigureBefore(CacheAutoConfiguration.class)
+@Import(PythonCaffeineCacheConfiguration.class)
 @PropertySource("classpath:python-cache-default.properties")
 public class PythonCacheAutoConfiguration {
     /**
@@ -71,10 +90,53 @@ public class PythonCacheAutoConfiguration {
      */
     @Bean
     @ConditionalOnMissingBean(CacheKeyGenerator.class)
+    @ConditionalOnProperty(name = "spring.python.cache.key.type", havingValue = "hash", matchIfMissing = true)
     public CacheKeyGenerator cacheKeyGenerator(PythonCacheProperties cacheProperties) {
         return new HashCacheKeyGenerator(cacheProperties);
     }
 
+    /**
+     * Creates the streaming {@link CacheKeyGenerator} bean if none is present.
+     * Uses {@link StreamingCacheKeyGenerator} configured by {@link PythonCacheProperties}.
+     *
+     * @param cacheProperties non-null configuration properties for Python cache
+     * @return a new instance of {@link CacheKeyGenerator}
+     */
+    @Bean
+    @ConditionalOnMissingBean(CacheKeyGenerator.class)
+    @ConditionalOnProperty(name = "spring.python.cache.key.type", havingValue = "streaming")
+    public CacheKeyGenerator streamingCacheKeyGenerator(PythonCacheProperties cacheProperties) {
+        return new StreamingCacheKeyGenerator(cacheProperties);
+    }
+
+    /**
+     * Creates the {@link PythonCachePersistence} making the caches of the configured levels persistent on disk.
+     * Its stores are closed when the application context is closed.
+     *
+     * @param cacheProperties non-null configuration properties for Python cache
+     * @return a new instance of {@link PythonCachePersistence}
+     */
+    @Bean
+    @ConditionalOnMissingBean(PythonCachePersistence.class)
+    @ConditionalOnProperty(name = "spring.python.cache.persistence.enabled", havingValue = "true")
+    public PythonCachePersistence pythonCachePersistence(PythonCacheProperties cacheProperties) {
+        return new PythonCachePersistence(cacheProperties);
+    }
+
+    /**
+     * Creates the {@link PythonCacheStorage} keeping the results of the configured levels as encoded bytes.
+     *
+     * @param cacheProperties non-null configuration properties for Python cache
+     * @param objectMapper non-null JSON object mapper for encoding the results
+     * @return a new instance of {@link PythonCacheStorage}
+     */
+    @Bean
+    @ConditionalOnMissingBean(PythonCacheStorage.class)
+    @ConditionalOnProperty(name = "spring.python.cache.storage.enabled", havingValue = "true")
+    public PythonCacheStorage pythonCacheStorage(PythonCacheProperties cacheProperties, ObjectMapper objectMapper) {
+        return new PythonCacheStorage(cacheProperties, objectMapper);
+    }
+
     /**
      * Wraps the existing {@link PythonFileHandler} with caching capabilities
      * when file cache level is enabled.
@@ -101,6 +163,7 @@ public class PythonCacheAutoConfiguration {
      * @param cacheProperties non-null Python cache configuration properties
      * @param pythonResolverHolder non-null delegate {@link PythonResolverHolder} bean
      * @param cacheManager non-null Spring cache manager
+     * @param cachePersistence provider of the optional {@link PythonCachePersistence}
      * @param keyGenerator non-null cache key generator
      * @param objectMapper non-null JSON object mapper for serializing arguments
      * @return a caching-enabled {@link PythonResolverHolder} bean marked as primary
@@ -112,9 +175,10 @@ public class PythonCacheAutoConfiguration {
     public PythonResolverHolder cachingPythonResolverHolder(PythonCacheProperties cacheProperties,
                                                             PythonResolverHolder pythonResolverHolder,
                                                             CacheManager cacheManager,
+                                                            ObjectProvider<PythonCachePersistence> cachePersistence,
                                                             CacheKeyGenerator keyGenerator,
                                                             ObjectMapper objectMapper) {
-        return new CachingPythonResolverHolder(cacheProperties, pythonResolverHolder, cacheManager, keyGenerator, objectMapper);
+        return new CachingPythonResolverHolder(cacheProperties, pythonResolverHolder, decorate(cacheManager, cachePersistence), keyGenerator, objectMapper);
     }
 
     /**
@@ -124,6 +188,8 @@ public class PythonCacheAutoConfiguration {
      * @param cacheProperties non-null Python cache configuration properties
      * @param pythonExecutor non-null delegate {@link PythonExecutor} bean
      * @param cacheManager non-null Spring cache manager
+     * @param cachePersistence provider of the optional {@link PythonCachePersistence}
+     * @param cacheStorage provider of the optional {@link PythonCacheStorage}
      * @param keyGenerator non-null cache key generator
      * @return a caching-enabled {@link PythonExecutor} bean marked as primary
      */
@@ -134,8 +200,10 @@ public class PythonCacheAutoConfiguration {
     public PythonExecutor cachingPythonExecutor(PythonCacheProperties cacheProperties,
                                                 PythonExecutor pythonExecutor,
                                                 CacheManager cacheManager,
+                                                ObjectProvider<PythonCachePersistence> cachePersistence,
+                                                ObjectProvider<PythonCacheStorage> cacheStorage,
                                                 CacheKeyGenerator keyGenerator) {
-        return new CachingPythonExecutor(cacheProperties, pythonExecutor, cacheManager, keyGenerator);
+        return new CachingPythonExecutor(cacheProperties, pythonExecutor, decorate(cacheManager, cachePersistence, cacheStorage), keyGenerator);
     }
 
     /**
@@ -145,6 +213,8 @@ public class PythonCacheAutoConfiguration {
      * @param cacheProperties non-null Python cache configuration properties
      * @param pythonProcessor non-null delegate {@link PythonProcessor} bean
      * @param cacheManager non-null Spring cache manager
+     * @param cachePersistence provider of the optional {@link PythonCachePersistence}
+     * @param cacheStorage provider of the optional {@link PythonCacheStorage}
      * @param keyGenerator non-null cache key generator
      * @param objectMapper non-null JSON object mapper for serializing arguments
      * @return a caching-enabled {@link PythonProcessor} bean marked as primary
@@ -156,8 +226,73 @@ public class PythonCacheAutoConfiguration {
     public PythonProcessor cachingPythonProcessor(PythonCacheProperties cacheProperties,
                                                   PythonProcessor pythonProcessor,
                                                   CacheManager cacheManager,
+                                                  ObjectProvider<PythonCachePersistence> cachePersistence,
+                                                  ObjectProvider<PythonCacheStorage> cacheStorage,
                                                   CacheKeyGenerator keyGenerator,
                                                   ObjectMapper objectMapper) {
-        return new CachingPythonProcessor(cacheProperties, pythonProcessor, cacheManager, keyGenerator, objectMapper);
+        return new CachingPythonProcessor(cacheProperties, pythonProcessor, decorate(cacheManager, cachePersistence, cacheStorage), keyGenerator, objectMapper);
+    }
+
+    /**
+     * Wraps the existing {@link AsyncPythonExecutor} with caching capabilities
+     * when executor cache level is enabled.
+     *
+     * @param cacheProperties non-null Python cache configuration properties
+     * @param asyncPythonExecutor non-null delegate {@link AsyncPythonExecutor} bean
+     * @param cacheManager non-null Spring cache manager
+     * @param cachePersistence provider of the optional {@link PythonCachePersistence}
+     * @param cacheStorage provider of the optional {@link PythonCacheStorage}
+     * @param keyGenerator non-null cache key generator
+     * @return a caching-enabled {@link AsyncPythonExecutor} bean marked as primary
+     */
+    @Bean
+    @Primary
+    @ConditionalOnBean(AsyncPythonExecutor.class)
+    @Conditional(ExecutorCacheLevelCondition.class)
+    public AsyncPythonExecutor asyncCachingPythonExecutor(PythonCacheProperties cacheProperties,
+                                                          AsyncPythonExecutor asyncPythonExecutor,
+                                                          CacheManager cacheManager,
+                                                          ObjectProvider<PythonCachePersistence> cachePersistence,
+                                                          ObjectProvider<PythonCacheStorage> cacheStorage,
+                                                          CacheKeyGenerator keyGenerator) {
+        return new AsyncCachingPythonExecutor(cacheProperties, asyncPythonExecutor, decorate(cacheManager, cachePersistence, cacheStorage), keyGenerator);
+    }
+
+    /**
+     * Wraps the existing {@link AsyncPythonProcessor} with caching capabilities
+     * when processor cache level is enabled.
+     *
+     * @param cacheProperties non-null Python cache configuration properties
+     * @param asyncPythonProcessor non-null delegate {@link AsyncPythonProcessor} bean
+     * @param cacheManager non-null Spring cache manager
+     * @param cachePersistence provider of the optional {@link PythonCachePersistence}
+     * @param cacheStorage provider of the optional {@link PythonCacheStorage}
+     * @param keyGenerator non-null cache key generator
+     * @param objectMapper non-null JSON object mapper for serializing arguments
+     * @return a caching-enabled {@link AsyncPythonProcessor} bean marked as primary
+     */
+    @Bean
+    @Primary
+    @ConditionalOnBean(AsyncPythonProcessor.class)
+    @Conditional(ProcessorCacheLevelCondition.class)
+    public AsyncPythonProcessor asyncCachingPythonProcessor(PythonCacheProperties cacheProperties,
+                                                            AsyncPythonProcessor asyncPythonProcessor,
+                                                            CacheManager cacheManager,
+                                                            ObjectProvider<PythonCachePersistence> cachePersistence,
+                                                            ObjectProvider<PythonCacheStorage> cacheStorage,
+                                                            CacheKeyGenerator keyGenerator,
+                                                            ObjectMapper objectMapper) {
+        return new AsyncCachingPythonProcessor(cacheProperties, asyncPythonProcessor, decorate(cacheManager, cachePersistence, cacheStorage), keyGenerator, objectMapper);
+    }
+
+    private static CacheManager decorate(CacheManager cacheManager, ObjectProvider<PythonCachePersistence> cachePersistence) {
+        PythonCachePersistence persistence = cachePersistence.getIfAvailable();
+        return persistence == null ? cacheManager : persistence.decorate(cacheManager);
+    }
+
+    private static CacheManager decorate(CacheManager cacheManager, ObjectProvider<PythonCachePersistence> cachePersistence,
+                                         ObjectProvider<PythonCacheStorage> cacheStorage) {
+        PythonCacheStorage storage = cacheStorage.getIfAvailable();
+        return decorate(storage == null ? cacheManager : storage.decorate(cacheManager), cachePersistence);
     }
-}
\ No newline at end of file
+}
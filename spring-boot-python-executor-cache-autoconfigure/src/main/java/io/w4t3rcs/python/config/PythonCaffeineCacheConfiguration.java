@@ -0,0 +1,95 @@
+package io.w4t3rcs.python.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.w4t3rcs.python.cache.PythonCacheWeigher;
+import io.w4t3rcs.python.cache.storage.EncodedPythonResponse;
+import io.w4t3rcs.python.properties.PythonCacheProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Autoconfiguration of the default Caffeine-based {@link CacheManager} for Python caching.
+ * <p>
+ * If the application declares no {@link CacheManager} and {@code spring.cache.type} is either missing or {@code caffeine},
+ * a {@link CaffeineCacheManager} is registered with one bounded cache per name from {@link PythonCacheProperties.NameProperties}.
+ * Every cache gets the {@link PythonCacheProperties.LevelPolicyProperties} of its {@link PythonCacheProperties.PythonCacheLevel}:
+ * a maximum number of entries or a maximum weight in bytes computed by {@link PythonCacheWeigher},
+ * expire-after-write and expire-after-access. Every cache returns the off-heap bytes of the {@link EncodedPythonResponse}
+ * values it drops to their budget.
+ * </p>
+ * <p>
+ * If {@link PythonCacheProperties.PolicyProperties#recordStats()} is enabled, hit, miss and eviction statistics are recorded
+ * and available from the native Caffeine cache, or as cache metrics if Spring Boot Actuator is present.
+ * Caches with other names are created on demand without bounds, as {@link CaffeineCacheManager} does by default.
+ * </p>
+ *
+ * @see PythonCacheAutoConfiguration
+ * @see PythonCacheProperties.PolicyProperties
+ * @see PythonCacheWeigher
+ * @see CaffeineCacheManager
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnClass({Caffeine.class, CaffeineCacheManager.class})
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "caffeine", matchIfMissing = true)
+public class PythonCaffeineCacheConfiguration {
+    /**
+     * Creates the {@link CaffeineCacheManager} with bounded Python caches if no {@link CacheManager} is present.
+     *
+     * @param cacheProperties non-null Python cache configuration properties
+     * @param objectMapper provider of the {@link ObjectMapper} used to weigh execution results
+     * @return a new instance of {@link CaffeineCacheManager}
+     */
+    @Bean
+    @ConditionalOnMissingBean(CacheManager.class)
+    public CacheManager pythonCaffeineCacheManager(PythonCacheProperties cacheProperties, ObjectProvider<ObjectMapper> objectMapper) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        var nameProperties = cacheProperties.name();
+        var policyProperties = cacheProperties.policy();
+        PythonCacheWeigher weigher = new PythonCacheWeigher(objectMapper.getIfAvailable(ObjectMapper::new));
+        cacheManager.registerCustomCache(nameProperties.filePaths(), this.buildCache(policyProperties, PythonCacheProperties.PythonCacheLevel.FILE, weigher));
+        cacheManager.registerCustomCache(nameProperties.fileBodies(), this.buildCache(policyProperties, PythonCacheProperties.PythonCacheLevel.FILE, weigher));
+        cacheManager.registerCustomCache(nameProperties.resolver(), this.buildCache(policyProperties, PythonCacheProperties.PythonCacheLevel.RESOLVER, weigher));
+        cacheManager.registerCustomCache(nameProperties.executor(), this.buildCache(policyProperties, PythonCacheProperties.PythonCacheLevel.EXECUTOR, weigher));
+        cacheManager.registerCustomCache(nameProperties.processor(), this.buildCache(policyProperties, PythonCacheProperties.PythonCacheLevel.PROCESSOR, weigher));
+        return cacheManager;
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> buildCache(PythonCacheProperties.PolicyProperties policyProperties,
+                                                                                PythonCacheProperties.PythonCacheLevel cacheLevel,
+                                                                                PythonCacheWeigher weigher) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().removalListener(PythonCaffeineCacheConfiguration::release);
+        if (policyProperties == null) return builder.build();
+        if (policyProperties.recordStats()) builder.recordStats();
+        var levelPolicyProperties = policyProperties.of(cacheLevel);
+        if (levelPolicyProperties == null) return builder.build();
+        var maximumWeight = levelPolicyProperties.maximumWeight();
+        if (maximumWeight != null && maximumWeight.toBytes() > 0) {
+            builder.maximumWeight(maximumWeight.toBytes()).weigher(weigher);
+        } else if (levelPolicyProperties.maximumSize() > 0) {
+            builder.maximumSize(levelPolicyProperties.maximumSize());
+        }
+        if (isPositive(levelPolicyProperties.expireAfterWrite())) builder.expireAfterWrite(levelPolicyProperties.expireAfterWrite());
+        if (isPositive(levelPolicyProperties.expireAfterAccess())) builder.expireAfterAccess(levelPolicyProperties.expireAfterAccess());
+        return builder.build();
+    }
+
+    private static void release(Object key, Object value, RemovalCause cause) {
+        if (value instanceof EncodedPythonResponse encodedResponse) encodedResponse.release();
+    }
+
+    private static boolean isPositive(Duration duration) {
+        return duration != null && !duration.isZero() && !duration.isNegative();
+    }
+}
@@ -1,12 +1,15 @@
 package io.w4t3rcs.python;
 
+import io.w4t3rcs.python.cache.CacheKeyGenerator;
+import io.w4t3rcs.python.cache.disk.PythonCachePersistence;
+import io.w4t3rcs.python.cache.impl.HashCacheKeyGenerator;
+import io.w4t3rcs.python.cache.impl.StreamingCacheKeyGenerator;
+import io.w4t3rcs.python.cache.storage.PythonCacheStorage;
 import io.w4t3rcs.python.config.PythonCacheAutoConfiguration;
-import io.w4t3rcs.python.executor.CachingPythonExecutor;
-import io.w4t3rcs.python.executor.PythonExecutor;
+import io.w4t3rcs.python.executor.*;
 import io.w4t3rcs.python.file.CachingPythonFileHandler;
 import io.w4t3rcs.python.file.PythonFileHandler;
-import io.w4t3rcs.python.processor.CachingPythonProcessor;
-import io.w4t3rcs.python.processor.PythonProcessor;
+import io.w4t3rcs.python.processor.*;
 import io.w4t3rcs.python.resolver.CachingPythonResolverHolder;
 import io.w4t3rcs.python.resolver.PythonResolverHolder;
 import org.junit.jupiter.api.Assertions;
@@ -70,11 +73,14 @@ class CachingPythonLevelConfigurationTests {
         private PythonExecutor pythonExecutor;
         @Autowired
         private List<PythonExecutor> pythonExecutors;
+        @Autowired
+        private AsyncPythonExecutor asyncPythonExecutor;
 
         @Test
         void testMandatoryBeansLoad() {
             Assertions.assertInstanceOf(CachingPythonExecutor.class, pythonExecutor);
             Assertions.assertEquals(2, pythonExecutors.size());
+            Assertions.assertInstanceOf(AsyncCachingPythonExecutor.class, asyncPythonExecutor);
         }
     }
 
@@ -85,11 +91,14 @@ class CachingPythonLevelConfigurationTests {
         private PythonProcessor pythonProcessor;
         @Autowired
         private List<PythonProcessor> pythonProcessors;
+        @Autowired
+        private AsyncPythonProcessor asyncPythonProcessor;
 
         @Test
         void testMandatoryBeansLoad() {
             Assertions.assertInstanceOf(CachingPythonProcessor.class, pythonProcessor);
             Assertions.assertEquals(2, pythonProcessors.size());
+            Assertions.assertInstanceOf(AsyncCachingPythonProcessor.class, asyncPythonProcessor);
         }
     }
 
@@ -114,6 +123,67 @@ class CachingPythonLevelConfigurationTests {
         }
     }
 
+    @Nested
+    class DefaultKeyTypeTests {
+        @Autowired
+        private CacheKeyGenerator cacheKeyGenerator;
+
+        @Test
+        void testMandatoryBeansLoad() {
+            Assertions.assertInstanceOf(HashCacheKeyGenerator.class, cacheKeyGenerator);
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "spring.python.cache.key.type=streaming")
+    class StreamingKeyTypeTests {
+        @Autowired
+        private CacheKeyGenerator cacheKeyGenerator;
+
+        @Test
+        void testMandatoryBeansLoad() {
+            Assertions.assertInstanceOf(StreamingCacheKeyGenerator.class, cacheKeyGenerator);
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = {"spring.python.cache.levels=executor, processor", "spring.python.cache.persistence.enabled=true"})
+    class PersistenceTests {
+        @Autowired
+        private PythonCachePersistence pythonCachePersistence;
+        @Autowired
+        private PythonExecutor pythonExecutor;
+        @Autowired
+        private PythonProcessor pythonProcessor;
+
+        @Test
+        void testMandatoryBeansLoad() {
+            Assertions.assertArrayEquals(new String[]{"pythonExecutorCache", "pythonProcessorCache"}, pythonCachePersistence.getCacheNames());
+            Assertions.assertInstanceOf(CachingPythonExecutor.class, pythonExecutor);
+            Assertions.assertInstanceOf(CachingPythonProcessor.class, pythonProcessor);
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = {"spring.python.cache.levels=executor, processor", "spring.python.cache.storage.enabled=true",
+            "spring.python.cache.storage.off-heap=true"})
+    class StorageTests {
+        @Autowired
+        private PythonCacheStorage pythonCacheStorage;
+        @Autowired
+        private PythonExecutor pythonExecutor;
+        @Autowired
+        private PythonProcessor pythonProcessor;
+
+        @Test
+        void testMandatoryBeansLoad() {
+            Assertions.assertArrayEquals(new String[]{"pythonExecutorCache", "pythonProcessorCache"}, pythonCacheStorage.getCacheNames());
+            Assertions.assertEquals(256 * 1024 * 1024, pythonCacheStorage.getBudget().getLimit());
+            Assertions.assertInstanceOf(CachingPythonExecutor.class, pythonExecutor);
+            Assertions.assertInstanceOf(CachingPythonProcessor.class, pythonProcessor);
+        }
+    }
+
     @TestConfiguration
     static class TestBeansConfiguration {
         @Bean
@@ -135,5 +205,15 @@ class CachingPythonLevelConfigurationTests {
         public PythonProcessor pythonProcessor() {
             return Mockito.mock(PythonProcessor.class);
         }
+
+        @Bean
+        public AsyncPythonExecutor asyncPythonExecutor() {
+            return Mockito.mock(AsyncPythonExecutor.class);
+        }
+
+        @Bean
+        public AsyncPythonProcessor asyncPythonProcessor() {
+            return Mockito.mock(AsyncPythonProcessor.class);
+        }
     }
 }
@@ -0,0 +1,120 @@
+package io.w4t3rcs.python;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import io.w4t3rcs.python.cache.storage.DirectMemoryBudget;
+import io.w4t3rcs.python.cache.storage.EncodedPythonResponse;
+import io.w4t3rcs.python.config.PythonCacheAutoConfiguration;
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+
+@SpringBootTest
+@AutoConfigureJson
+@ContextConfiguration(classes = PythonCacheAutoConfiguration.class)
+@TestPropertySource(properties = {"spring.python.cache.enabled=true", "spring.python.cache.levels=executor"})
+class PythonCaffeineCacheConfigurationTests {
+    @Nested
+    class DefaultPolicyTests {
+        @Autowired
+        private CacheManager cacheManager;
+
+        @Test
+        void testCachesAreBounded() {
+            Policy<Object, Object> filePolicy = this.getNativeCache("fileBodiesCache").policy();
+            Assertions.assertEquals(1000, filePolicy.eviction().orElseThrow().getMaximum());
+            Assertions.assertEquals(Duration.ofHours(1), filePolicy.expireAfterAccess().orElseThrow().getExpiresAfter());
+            Assertions.assertTrue(filePolicy.isRecordingStats());
+
+            Policy<Object, Object> resolverPolicy = this.getNativeCache("pythonResolverCache").policy();
+            Assertions.assertTrue(resolverPolicy.eviction().orElseThrow().isWeighted());
+            Assertions.assertEquals(32 * 1024 * 1024, resolverPolicy.eviction().orElseThrow().getMaximum());
+
+            Policy<Object, Object> executorPolicy = this.getNativeCache("pythonExecutorCache").policy();
+            Assertions.assertEquals(10000, executorPolicy.eviction().orElseThrow().getMaximum());
+            Assertions.assertEquals(Duration.ofMinutes(10), executorPolicy.expireAfterWrite().orElseThrow().getExpiresAfter());
+            Assertions.assertTrue(executorPolicy.expireAfterAccess().isEmpty());
+        }
+
+        @Test
+        void testStatsAreRecorded() {
+            var cache = cacheManager.getCache("pythonProcessorCache");
+            Assertions.assertNotNull(cache);
+            cache.get("missing");
+            cache.put("key", new PythonExecutionResponse<>("value"));
+            cache.get("key");
+            var stats = this.getNativeCache("pythonProcessorCache").stats();
+            Assertions.assertEquals(1, stats.hitCount());
+            Assertions.assertEquals(1, stats.missCount());
+        }
+
+        @Test
+        void testRemovedEntriesReleaseBudget() throws InterruptedException {
+            var nativeCache = this.getNativeCache("pythonExecutorCache");
+            DirectMemoryBudget budget = new DirectMemoryBudget(1024);
+            nativeCache.put("key", EncodedPythonResponse.offHeap(String.class, false, new byte[64], budget));
+            nativeCache.put("key", EncodedPythonResponse.offHeap(String.class, false, new byte[32], budget));
+            nativeCache.invalidate("key");
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (budget.getUsed() > 0 && System.nanoTime() < deadline) Thread.sleep(10);
+            Assertions.assertEquals(0, budget.getUsed());
+        }
+
+        private com.github.benmanes.caffeine.cache.Cache<Object, Object> getNativeCache(String name) {
+            return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = {
+            "spring.python.cache.policy.resolver.maximum-weight=100B",
+            "spring.python.cache.policy.resolver.expire-after-access=0"
+    })
+    class WeightPolicyTests {
+        @Autowired
+        private CacheManager cacheManager;
+
+        @Test
+        void testEntriesAreWeighed() {
+            var nativeCache = ((CaffeineCache) cacheManager.getCache("pythonResolverCache")).getNativeCache();
+            nativeCache.put("key", "x".repeat(60));
+            nativeCache.put("other", Map.of("x", "y".repeat(60)));
+            nativeCache.cleanUp();
+            Assertions.assertEquals(1, nativeCache.estimatedSize());
+            Assertions.assertTrue(nativeCache.policy().expireAfterAccess().isEmpty());
+        }
+    }
+
+    @Nested
+    @ContextConfiguration(classes = CustomCacheManagerTests.CustomCacheManagerConfiguration.class)
+    class CustomCacheManagerTests {
+        @Autowired
+        private CacheManager cacheManager;
+
+        @Test
+        void testCustomCacheManagerIsKept() {
+            Assertions.assertInstanceOf(ConcurrentMapCacheManager.class, cacheManager);
+        }
+
+        @TestConfiguration
+        static class CustomCacheManagerConfiguration {
+            @Bean
+            public CacheManager cacheManager() {
+                return new ConcurrentMapCacheManager();
+            }
+        }
+    }
+}
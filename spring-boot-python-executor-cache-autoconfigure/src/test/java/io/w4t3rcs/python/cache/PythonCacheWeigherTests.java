@@ -0,0 +1,39 @@
+package io.w4t3rcs.python.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class PythonCacheWeigherTests {
+    @SneakyThrows
+    @Test
+    void testWeighExecutionResponseWithoutSerialization() {
+        ObjectMapper objectMapper = new ObjectMapper() {
+            @Override
+            public byte[] writeValueAsBytes(Object value) {
+                throw new AssertionError("Execution responses must not be serialized to be weighed");
+            }
+        };
+        PythonCacheWeigher weigher = new PythonCacheWeigher(objectMapper);
+        PythonExecutionResponse<?> response = new PythonExecutionResponse<>(Map.of("key", List.of("value", 1, true)));
+
+        Assertions.assertEquals(3 + 3 + 5 + 8 + 8, weigher.weigh("key", response));
+        Assertions.assertEquals(3, weigher.weigh("key", new PythonExecutionResponse<>(null)));
+    }
+
+    @Test
+    void testWeighUnknownTypeAsJson() {
+        PythonCacheWeigher weigher = new PythonCacheWeigher(new ObjectMapper());
+        PythonExecutionResponse<?> response = new PythonExecutionResponse<>(new Body("value"));
+
+        Assertions.assertEquals(3 + "{\"name\":\"value\"}".length(), weigher.weigh("key", response));
+    }
+
+    private record Body(String name) {
+    }
+}
@@ -0,0 +1,40 @@
+package io.w4t3rcs.python.cache;
+
+import io.w4t3rcs.python.cache.impl.StreamingCacheKeyGenerator;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Compact cache key holding a 128-bit hash.
+ * <p>
+ * Keys are compared by both halves of the hash only, so they are cheap to store, hash and compare
+ * regardless of the size of the script and arguments they were generated from.
+ * </p>
+ *
+ * @param high upper 64 bits of the hash
+ * @param low lower 64 bits of the hash
+ * @see StreamingCacheKeyGenerator
+ * @see CacheKeyGenerator
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public record CacheKey(long high, long low) implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Returns the hash as 32 lowercase hexadecimal digits.
+     *
+     * @return non-null hexadecimal representation of the key
+     */
+    @Override
+    public String toString() {
+        return toHex(high) + toHex(low);
+    }
+
+    private static String toHex(long value) {
+        String hex = Long.toHexString(value);
+        return "0".repeat(16 - hex.length()) + hex;
+    }
+}
@@ -1,6 +1,13 @@
 package io.w4t3rcs.python.cache;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.dto.ResolvedScript;
 import io.w4t3rcs.python.cache.impl.HashCacheKeyGenerator;
+import io.w4t3rcs.python.cache.impl.StreamingCacheKeyGenerator;
+import io.w4t3rcs.python.exception.CacheKeyGenerationException;
+
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Interface for generating cache keys with optional prefix and suffix.
@@ -16,6 +23,11 @@ import io.w4t3rcs.python.cache.impl.HashCacheKeyGenerator;
  * The {@code body} parameter is typically the main part of the cache key and is
  * required for all key generation methods.
  * </p>
+ * <p>
+ * Keys of a script together with its arguments are generated by {@link #generateKey(String, Map, Object, ObjectMapper)},
+ * which implementations may override to avoid building the intermediate body string. Keys of a script with its bindings
+ * are generated by {@link #generateKey(ResolvedScript, Object)}, which hashes the bindings instead of using them as a prefix.
+ * </p>
  *
  * <h3>Usage example:</h3>
  * <pre>{@code
@@ -25,6 +37,7 @@ import io.w4t3rcs.python.cache.impl.HashCacheKeyGenerator;
  * }</pre>
  *
  * @see HashCacheKeyGenerator
+ * @see StreamingCacheKeyGenerator
  * @author w4t3rcs
  * @since 1.0.0
  */
@@ -74,4 +87,44 @@ public interface CacheKeyGenerator {
      * @return a non-null generated cache key string.
      */
     String generateKey(Object prefix, String body, Object suffix);
-}
\ No newline at end of file
+
+    /**
+     * Generates a cache key of a resolved script together with its bindings and an optional {@code suffix}.
+     * <p>
+     * The default implementation passes the script and the bindings, separated by a null character that valid Python source
+     * cannot contain, as the body to {@link #generateKey(String, Object)}, so the key has the same size for any argument values.
+     * </p>
+     *
+     * @param resolvedScript non-null resolved script the key is generated for
+     * @param suffix an optional suffix object to append to the key; may be null.
+     * @return a non-null generated cache key string, equal for equal scripts, bindings and suffixes
+     */
+    default String generateKey(ResolvedScript resolvedScript, Object suffix) {
+        if (!resolvedScript.hasBindings()) return this.generateKey(resolvedScript.script(), suffix);
+        return this.generateKey(resolvedScript.script() + '\0' + resolvedScript.bindings(), suffix);
+    }
+
+    /**
+     * Generates a cache key of a script together with its arguments and an optional {@code suffix}.
+     * <p>
+     * The default implementation concatenates the script with the JSON serialization of the arguments
+     * sorted by name and passes it as the body to {@link #generateKey(String, Object)}, so logically equivalent
+     * argument maps produce the same key.
+     * </p>
+     *
+     * @param script non-null script the key is generated for
+     * @param arguments non-null map of arguments of the script
+     * @param suffix an optional suffix object to append to the key; may be null.
+     * @param objectMapper non-null {@link ObjectMapper} for the serialization of the arguments
+     * @return a non-null generated cache key, equal for equal scripts, arguments and suffixes
+     * @throws CacheKeyGenerationException if the arguments cannot be serialized
+     */
+    default Object generateKey(String script, Map<String, Object> arguments, Object suffix, ObjectMapper objectMapper) {
+        try {
+            String argumentsJson = objectMapper.writeValueAsString(new TreeMap<>(arguments));
+            return this.generateKey(script + argumentsJson, suffix);
+        } catch (Exception e) {
+            throw new CacheKeyGenerationException(e);
+        }
+    }
+}
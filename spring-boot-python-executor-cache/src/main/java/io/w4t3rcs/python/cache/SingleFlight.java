@@ -0,0 +1,155 @@
+package io.w4t3rcs.python.cache;
+
+import io.w4t3rcs.python.executor.CachingPythonExecutor;
+import io.w4t3rcs.python.processor.CachingPythonProcessor;
+import io.w4t3rcs.python.properties.PythonCacheProperties;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent cache loads of the same key into a single load.
+ * <p>
+ * On a cache miss, the first caller becomes the leader of the key and runs the loader, while every caller arriving
+ * before the load is finished waits for it and shares its outcome, including the exception it has thrown.
+ * Before loading, the leader looks the key up once more, so a caller that missed the cache just before a previous load
+ * was stored does not start another one.
+ * </p>
+ * <p>
+ * If coalescing is disabled for the cache level, the lookup and the load are run directly by every caller.
+ * </p>
+ *
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * SingleFlight singleFlight = SingleFlight.of(cacheProperties, PythonCacheProperties.PythonCacheLevel.EXECUTOR);
+ * String result = singleFlight.getOrLoad(key, () -> cache.get(key, String.class), () -> load(key));
+ * }</pre>
+ *
+ * @see PythonCacheProperties.CoalescingProperties
+ * @see CachingPythonExecutor
+ * @see CachingPythonProcessor
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public class SingleFlight {
+    private final boolean enabled;
+    private final ConcurrentMap<Object, CompletableFuture<?>> inFlightLoads = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param enabled whether concurrent loads of the same key are coalesced
+     */
+    public SingleFlight(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Creates a new instance coalescing loads if the cache level is declared in {@link PythonCacheProperties.CoalescingProperties#levels()}.
+     *
+     * @param cacheProperties non-null cache properties, its {@code coalescing} section may be {@code null}
+     * @param cacheLevel non-null cache level of the caller
+     * @return non-null {@link SingleFlight}
+     */
+    public static SingleFlight of(PythonCacheProperties cacheProperties, PythonCacheProperties.PythonCacheLevel cacheLevel) {
+        var coalescingProperties = cacheProperties.coalescing();
+        return new SingleFlight(coalescingProperties != null && coalescingProperties.levels() != null
+                && Arrays.asList(coalescingProperties.levels()).contains(cacheLevel));
+    }
+
+    /**
+     * Returns the cached value or loads it, sharing the load with concurrent callers of the same key.
+     *
+     * @param <V> the type of the value
+     * @param key non-null key of the load
+     * @param lookup non-null cache lookup returning {@code null} on a miss
+     * @param loader non-null loader computing and storing the value
+     * @return the cached or loaded value
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V getOrLoad(Object key, Supplier<V> lookup, Supplier<V> loader) {
+        V cachedValue = lookup.get();
+        if (cachedValue != null) return cachedValue;
+        if (!enabled) return loader.get();
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<?> inFlightLoad = inFlightLoads.putIfAbsent(key, load);
+        if (inFlightLoad != null) return (V) join(inFlightLoad);
+        try {
+            cachedValue = lookup.get();
+            V value = cachedValue != null ? cachedValue : loader.get();
+            load.complete(value);
+            return value;
+        } catch (Throwable e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, load);
+        }
+    }
+
+    /**
+     * Returns the cached value or starts loading it, sharing the load with concurrent callers of the same key.
+     * <p>
+     * The calling thread never blocks on a load of another caller.
+     * </p>
+     *
+     * @param <V> the type of the value
+     * @param key non-null key of the load
+     * @param lookup non-null cache lookup returning {@code null} on a miss
+     * @param loader non-null loader starting the computation and storing the value on completion
+     * @return non-null future of the cached or loaded value, every caller gets its own copy
+     */
+    @SuppressWarnings("unchecked")
+    public <V> CompletableFuture<V> getOrLoadAsync(Object key, Supplier<V> lookup, Supplier<CompletableFuture<V>> loader) {
+        V cachedValue = lookup.get();
+        if (cachedValue != null) return CompletableFuture.completedFuture(cachedValue);
+        if (!enabled) return loader.get();
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<?> inFlightLoad = inFlightLoads.putIfAbsent(key, load);
+        if (inFlightLoad != null) return (CompletableFuture<V>) inFlightLoad.copy();
+        try {
+            cachedValue = lookup.get();
+            CompletableFuture<V> value = cachedValue != null ? CompletableFuture.completedFuture(cachedValue) : loader.get();
+            value.whenComplete((result, throwable) -> {
+                inFlightLoads.remove(key, load);
+                if (throwable != null) {
+                    load.completeExceptionally(unwrap(throwable));
+                } else {
+                    load.complete(result);
+                }
+            });
+        } catch (Throwable e) {
+            inFlightLoads.remove(key, load);
+            load.completeExceptionally(e);
+        }
+        return load.copy();
+    }
+
+    /**
+     * Returns the number of loads in progress.
+     *
+     * @return number of keys being loaded, {@code >= 0}
+     */
+    public int getInFlightCount() {
+        return inFlightLoads.size();
+    }
+
+    private static Object join(CompletableFuture<?> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+}
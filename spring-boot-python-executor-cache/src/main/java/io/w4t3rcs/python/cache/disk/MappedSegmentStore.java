@@ -0,0 +1,533 @@
+package io.w4t3rcs.python.cache.disk;
+
+import io.w4t3rcs.python.exception.PythonCacheException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only key-value store kept in memory-mapped segment files.
+ * <p>
+ * Every segment is a file of fixed size, preallocated and mapped into memory as a whole. Records are appended to
+ * the last segment, and once it is full, a new segment is started. A record consists of its length, a CRC32 checksum,
+ * its expiration time, the key and the value. The length is written last, so a record that was not written completely
+ * is discarded together with everything after it when the store is opened again. Removals are appended as records
+ * without a value.
+ * </p>
+ * <p>
+ * Only the positions of the values are kept on the heap. Opening a store scans the keys of all its segments,
+ * while the values are read from the mapped segments on demand, at the speed of memory access once the pages
+ * are in the page cache.
+ * </p>
+ * <p>
+ * When a new segment is started, segments holding less than half of live bytes are compacted by appending their live
+ * records to the last segment. If the segments still exceed the maximum size, the oldest segments are dropped
+ * with all their records. Removals are kept by compaction as long as an older segment exists. Records older than
+ * the time to live are neither returned nor compacted.
+ * </p>
+ * <p>
+ * Reads are lock-free, while writes are serialized. The store is not meant to be shared between processes:
+ * an exclusive lock on a lock file in the directory is held while the store is open, so opening a second store
+ * on the same directory fails. The directory is created accessible by its owner only, and a directory owned
+ * by another user is refused.
+ * </p>
+ *
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * try (MappedSegmentStore store = new MappedSegmentStore(directory, 64 << 20, 1L << 30, Duration.ofDays(7))) {
+ *     store.put(key, value);
+ *     byte[] stored = store.get(key);
+ * }
+ * }</pre>
+ *
+ * @see PersistentPythonCache
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Slf4j
+public class MappedSegmentStore implements Closeable {
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final String LOCK_FILE_NAME = "store.lock";
+    private static final String OWNER_PROBE_PREFIX = ".owner-";
+    private static final String OWNER_ONLY_PERMISSIONS = "rwx------";
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int FIXED_BODY_SIZE = Long.BYTES + Integer.BYTES * 2;
+    private static final int TOMBSTONE = -1;
+    private static final double COMPACTION_THRESHOLD = 0.5;
+    private final Path directory;
+    private final int segmentSize;
+    private final long maximumSize;
+    private final long timeToLive;
+    private final Clock clock;
+    private final Map<ByteBuffer, Location> index = new ConcurrentHashMap<>();
+    private final List<Segment> segments = new ArrayList<>();
+    private final FileChannel lockChannel;
+    private Segment activeSegment;
+    private boolean maintaining;
+
+    /**
+     * Opens the store in the given directory, recovering the records of existing segments.
+     *
+     * @param directory non-null directory of the segment files, created accessible by its owner only if missing
+     * @param segmentSize size of every segment file in bytes, between 1 KB and 2 GB
+     * @param maximumSize maximum total size of the segment files in bytes, at least {@code segmentSize}
+     * @param timeToLive time after which a record expires once it was written, {@code null} or non-positive for no expiration
+     * @throws PythonCacheException if the store cannot be opened, the directory is owned by another user
+     * or another store has the directory open
+     */
+    public MappedSegmentStore(Path directory, long segmentSize, long maximumSize, Duration timeToLive) {
+        this(directory, segmentSize, maximumSize, timeToLive, Clock.systemUTC());
+    }
+
+    MappedSegmentStore(Path directory, long segmentSize, long maximumSize, Duration timeToLive, Clock clock) {
+        if (segmentSize < 1024 || segmentSize > Integer.MAX_VALUE) throw new IllegalArgumentException("Segment size must be between 1 KB and 2 GB");
+        if (maximumSize < segmentSize) throw new IllegalArgumentException("Maximum size cannot be less than segment size");
+        this.directory = directory;
+        this.segmentSize = (int) segmentSize;
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive == null || timeToLive.isNegative() || timeToLive.isZero() ? 0 : timeToLive.toMillis();
+        this.clock = clock;
+        createPrivateDirectory(directory);
+        this.lockChannel = lock(directory);
+        try {
+            this.recover();
+        } catch (IOException | RuntimeException e) {
+            this.closeSegments();
+            this.unlock();
+            throw e instanceof PythonCacheException cacheException ? cacheException : new PythonCacheException(e);
+        }
+    }
+
+    /**
+     * Creates the directory and its missing parents accessible by their owner only on POSIX file systems,
+     * and checks that the directory is owned by the current user.
+     *
+     * @param directory non-null directory to create
+     * @throws PythonCacheException if the directory cannot be created or is owned by another user
+     */
+    static void createPrivateDirectory(Path directory) {
+        try {
+            if (Files.getFileAttributeView(directory.getFileSystem().getPath("/"), PosixFileAttributeView.class) != null) {
+                Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(OWNER_ONLY_PERMISSIONS)));
+            } else {
+                Files.createDirectories(directory);
+            }
+            Path probe = Files.createTempFile(directory, OWNER_PROBE_PREFIX, null);
+            UserPrincipal currentUser;
+            try {
+                currentUser = Files.getOwner(probe);
+            } finally {
+                Files.delete(probe);
+            }
+            UserPrincipal directoryOwner = Files.getOwner(directory);
+            if (!directoryOwner.equals(currentUser)) {
+                throw new PythonCacheException("Directory " + directory + " is owned by " + directoryOwner.getName() + " instead of " + currentUser.getName());
+            }
+        } catch (IOException e) {
+            throw new PythonCacheException(e);
+        }
+    }
+
+    /**
+     * Returns the value stored for the key.
+     *
+     * @param key non-null key
+     * @return a copy of the stored value, or {@code null} if the key is absent or expired
+     */
+    public byte[] get(byte[] key) {
+        ByteBuffer indexKey = ByteBuffer.wrap(key);
+        Location location = index.get(indexKey);
+        if (location == null) return null;
+        if (this.isExpired(location.expiresAt())) {
+            if (index.remove(indexKey, location)) location.segment().release(location.length());
+            return null;
+        }
+        byte[] value = new byte[location.valueLength()];
+        location.segment().buffer().get(location.valueOffset(), value);
+        return value;
+    }
+
+    /**
+     * Appends the value for the key, replacing the previous one.
+     * <p>
+     * Records larger than a segment are not stored, and the previous value of the key is removed instead.
+     * </p>
+     *
+     * @param key non-null key
+     * @param value non-null value
+     * @throws PythonCacheException if the record cannot be written
+     */
+    public synchronized void put(byte[] key, byte[] value) {
+        if (HEADER_SIZE + FIXED_BODY_SIZE + key.length + value.length > segmentSize) {
+            log.debug("Record of {} bytes does not fit into a segment of {} bytes", key.length + value.length, segmentSize);
+            this.remove(key);
+            return;
+        }
+        long expiresAt = timeToLive == 0 ? Long.MAX_VALUE : clock.millis() + timeToLive;
+        this.append(key, value, expiresAt);
+    }
+
+    /**
+     * Removes the value stored for the key.
+     *
+     * @param key non-null key
+     * @throws PythonCacheException if the removal cannot be written
+     */
+    public synchronized void remove(byte[] key) {
+        Location location = index.remove(ByteBuffer.wrap(key));
+        if (location == null) return;
+        location.segment().release(location.length());
+        this.append(key, null, Long.MAX_VALUE);
+    }
+
+    /**
+     * Removes all values and deletes every segment file.
+     *
+     * @throws PythonCacheException if the segments cannot be deleted
+     */
+    public synchronized void clear() {
+        index.clear();
+        for (Segment segment : List.copyOf(segments)) {
+            this.delete(segment);
+        }
+        activeSegment = this.createSegment(activeSegment == null ? 0 : activeSegment.id() + 1);
+    }
+
+    /**
+     * Compacts segments holding less than half of live bytes and drops the oldest segments exceeding the maximum size.
+     *
+     * @throws PythonCacheException if the segments cannot be written or deleted
+     */
+    public synchronized void compact() {
+        if (maintaining) return;
+        maintaining = true;
+        try {
+            for (Segment segment : List.copyOf(segments)) {
+                if (segment != activeSegment && segment.liveBytes() < segment.writePosition() * COMPACTION_THRESHOLD) {
+                    this.copyLiveRecords(segment);
+                    this.drop(segment);
+                }
+            }
+            while ((long) segments.size() * segmentSize > maximumSize && segments.get(0) != activeSegment) {
+                this.drop(segments.get(0));
+            }
+        } finally {
+            maintaining = false;
+        }
+    }
+
+    /**
+     * Returns the number of stored keys, including expired keys that were not read yet.
+     *
+     * @return number of keys, {@code >= 0}
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns the total size of the segment files.
+     *
+     * @return size of the segment files in bytes, {@code >= 0}
+     */
+    public synchronized long getDiskSize() {
+        return (long) segments.size() * segmentSize;
+    }
+
+    /**
+     * Flushes the segments and closes their files.
+     * <p>
+     * Values already read stay valid, but the store must not be used anymore.
+     * </p>
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            for (Segment segment : segments) {
+                segment.buffer().force();
+            }
+            this.closeSegments();
+        } finally {
+            this.unlock();
+        }
+    }
+
+    private static FileChannel lock(Path directory) {
+        try {
+            FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                lock = null;
+            }
+            if (lock == null) {
+                channel.close();
+                throw new PythonCacheException("Directory " + directory + " is already used by another store");
+            }
+            return channel;
+        } catch (IOException e) {
+            throw new PythonCacheException(e);
+        }
+    }
+
+    private void unlock() {
+        try {
+            lockChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void closeSegments() {
+        for (Segment segment : segments) {
+            this.closeChannel(segment);
+        }
+    }
+
+    private void append(byte[] key, byte[] value, long expiresAt) {
+        int valueLength = value == null ? 0 : value.length;
+        int bodyLength = FIXED_BODY_SIZE + key.length + valueLength;
+        while (activeSegment.writePosition() + HEADER_SIZE + bodyLength > segmentSize) {
+            activeSegment = this.createSegment(activeSegment.id() + 1);
+            this.compact();
+        }
+        Segment segment = activeSegment;
+        MappedByteBuffer buffer = segment.buffer();
+        int offset = segment.writePosition();
+        int bodyOffset = offset + HEADER_SIZE;
+        buffer.putLong(bodyOffset, expiresAt);
+        buffer.putInt(bodyOffset + Long.BYTES, key.length);
+        buffer.put(bodyOffset + Long.BYTES + Integer.BYTES, key);
+        int valueLengthOffset = bodyOffset + Long.BYTES + Integer.BYTES + key.length;
+        buffer.putInt(valueLengthOffset, value == null ? TOMBSTONE : valueLength);
+        if (value != null) buffer.put(valueLengthOffset + Integer.BYTES, value);
+        buffer.putInt(offset + Integer.BYTES, checksum(buffer, bodyOffset, bodyLength));
+        buffer.putInt(offset, bodyLength);
+        segment.advance(HEADER_SIZE + bodyLength);
+        if (value != null) {
+            Location location = new Location(segment, valueLengthOffset + Integer.BYTES, valueLength, HEADER_SIZE + bodyLength, expiresAt);
+            segment.retain(location.length());
+            Location previousLocation = index.put(ByteBuffer.wrap(key.clone()), location);
+            if (previousLocation != null) previousLocation.segment().release(previousLocation.length());
+        }
+    }
+
+    private void copyLiveRecords(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer();
+        boolean olderSegmentExists = segments.get(0) != segment;
+        int offset = 0;
+        while (offset < segment.writePosition()) {
+            int bodyLength = buffer.getInt(offset);
+            int bodyOffset = offset + HEADER_SIZE;
+            byte[] key = readKey(buffer, bodyOffset);
+            int valueOffset = bodyOffset + Long.BYTES + Integer.BYTES * 2 + key.length;
+            Location location = index.get(ByteBuffer.wrap(key));
+            if (location != null && location.segment() == segment && location.valueOffset() == valueOffset) {
+                if (!this.isExpired(location.expiresAt())) {
+                    byte[] value = new byte[location.valueLength()];
+                    buffer.get(valueOffset, value);
+                    this.append(key, value, location.expiresAt());
+                }
+            } else if (location == null && olderSegmentExists && buffer.getInt(valueOffset - Integer.BYTES) == TOMBSTONE) {
+                this.append(key, null, Long.MAX_VALUE);
+            }
+            offset += HEADER_SIZE + bodyLength;
+        }
+    }
+
+    private void drop(Segment segment) {
+        index.values().removeIf(location -> location.segment() == segment);
+        this.delete(segment);
+    }
+
+    private void recover() throws IOException {
+        List<Path> segmentPaths;
+        try (Stream<Path> files = Files.list(directory)) {
+            segmentPaths = files.filter(MappedSegmentStore::isSegment).sorted().toList();
+        }
+        for (Path segmentPath : segmentPaths) {
+            String fileName = segmentPath.getFileName().toString();
+            long id = Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+            if (Files.size(segmentPath) != segmentSize) {
+                log.warn("Ignoring segment {} of unexpected size", segmentPath);
+                Files.delete(segmentPath);
+                continue;
+            }
+            Segment segment = this.openSegment(id, segmentPath);
+            this.recover(segment);
+        }
+        activeSegment = segments.isEmpty() ? this.createSegment(0) : segments.get(segments.size() - 1);
+        this.compact();
+    }
+
+    private void recover(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer();
+        int offset = 0;
+        while (offset + HEADER_SIZE + FIXED_BODY_SIZE <= segmentSize) {
+            int bodyLength = buffer.getInt(offset);
+            int bodyOffset = offset + HEADER_SIZE;
+            if (bodyLength < FIXED_BODY_SIZE || bodyOffset + bodyLength > segmentSize
+                    || checksum(buffer, bodyOffset, bodyLength) != buffer.getInt(offset + Integer.BYTES)) {
+                break;
+            }
+            long expiresAt = buffer.getLong(bodyOffset);
+            byte[] key = readKey(buffer, bodyOffset);
+            int valueLengthOffset = bodyOffset + Long.BYTES + Integer.BYTES + key.length;
+            int valueLength = buffer.getInt(valueLengthOffset);
+            ByteBuffer indexKey = ByteBuffer.wrap(key);
+            Location previousLocation;
+            if (valueLength == TOMBSTONE || this.isExpired(expiresAt)) {
+                previousLocation = index.remove(indexKey);
+            } else {
+                Location location = new Location(segment, valueLengthOffset + Integer.BYTES, valueLength, HEADER_SIZE + bodyLength, expiresAt);
+                segment.retain(location.length());
+                previousLocation = index.put(indexKey, location);
+            }
+            if (previousLocation != null) previousLocation.segment().release(previousLocation.length());
+            offset += HEADER_SIZE + bodyLength;
+        }
+        segment.advance(offset);
+    }
+
+    private Segment createSegment(long id) {
+        Path segmentPath = directory.resolve(SEGMENT_PREFIX + String.format("%016d", id) + SEGMENT_SUFFIX);
+        try {
+            Files.deleteIfExists(segmentPath);
+            return this.openSegment(id, segmentPath);
+        } catch (IOException e) {
+            throw new PythonCacheException(e);
+        }
+    }
+
+    private Segment openSegment(long id, Path segmentPath) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            Segment segment = new Segment(id, segmentPath, channel, buffer);
+            segments.add(segment);
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void delete(Segment segment) {
+        segments.remove(segment);
+        this.closeChannel(segment);
+        try {
+            Files.deleteIfExists(segment.path());
+        } catch (IOException e) {
+            throw new PythonCacheException(e);
+        }
+    }
+
+    private void closeChannel(Segment segment) {
+        try {
+            segment.channel().close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isExpired(long expiresAt) {
+        return expiresAt != Long.MAX_VALUE && expiresAt <= clock.millis();
+    }
+
+    private static boolean isSegment(Path path) {
+        String fileName = path.getFileName().toString();
+        return fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX)
+                && fileName.length() == SEGMENT_PREFIX.length() + 16 + SEGMENT_SUFFIX.length();
+    }
+
+    private static byte[] readKey(ByteBuffer buffer, int bodyOffset) {
+        byte[] key = new byte[buffer.getInt(bodyOffset + Long.BYTES)];
+        buffer.get(bodyOffset + Long.BYTES + Integer.BYTES, key);
+        return key;
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    private record Location(Segment segment, int valueOffset, int valueLength, int length, long expiresAt) {
+    }
+
+    private static final class Segment {
+        private final long id;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final AtomicLong liveBytes = new AtomicLong();
+        private int writePosition;
+
+        private Segment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private long id() {
+            return id;
+        }
+
+        private Path path() {
+            return path;
+        }
+
+        private FileChannel channel() {
+            return channel;
+        }
+
+        private MappedByteBuffer buffer() {
+            return buffer;
+        }
+
+        private int writePosition() {
+            return writePosition;
+        }
+
+        private long liveBytes() {
+            return liveBytes.get();
+        }
+
+        private void advance(int length) {
+            writePosition += length;
+        }
+
+        private void retain(int length) {
+            liveBytes.addAndGet(length);
+        }
+
+        private void release(int length) {
+            liveBytes.addAndGet(-length);
+        }
+    }
+}
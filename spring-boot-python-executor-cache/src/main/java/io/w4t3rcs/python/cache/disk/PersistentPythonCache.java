@@ -0,0 +1,227 @@
+package io.w4t3rcs.python.cache.disk;
+
+import io.w4t3rcs.python.cache.CacheKey;
+import io.w4t3rcs.python.exception.PythonCacheException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.core.ConfigurableObjectInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * {@link Cache} implementation keeping the entries of an in-memory cache in a {@link MappedSegmentStore} as well,
+ * so they survive restarts of the application.
+ * <p>
+ * Lookups are served by the in-memory cache first. On a miss, the value is read from the store, deserialized
+ * and put into the in-memory cache, so every value is loaded lazily and at most once per in-memory entry.
+ * Every put is written to both caches, while values that are not {@link Serializable} stay in memory only.
+ * Stored values that cannot be deserialized anymore, for example after a class has changed, are discarded.
+ * </p>
+ * <p>
+ * {@link String} and {@link CacheKey} keys are stored in a compact binary form, other keys and all values
+ * are stored using Java serialization. Stored values are deserialized through an {@link ObjectInputFilter}
+ * allowing only the classes of {@code java.lang}, {@code java.util}, {@code java.time}, {@code java.math}, this library
+ * and the configured additional patterns. Values of other classes are discarded like values that cannot be deserialized.
+ * </p>
+ *
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * Cache cache = new PersistentPythonCache(cacheManager.getCache("pythonExecutorCache"), store);
+ * cache.put(key, response);
+ * }</pre>
+ *
+ * @see MappedSegmentStore
+ * @see PythonCachePersistence
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Slf4j
+public class PersistentPythonCache extends AbstractValueAdaptingCache {
+    private static final byte STRING_KEY = 0;
+    private static final byte CACHE_KEY = 1;
+    private static final byte SERIALIZED_KEY = 2;
+    private static final String ALLOWED_CLASSES = "java.lang.*;java.util.**;java.time.*;java.math.*;io.w4t3rcs.python.**";
+    private static final String REJECTED_CLASSES = "!*";
+    private final Cache cache;
+    private final MappedSegmentStore store;
+    private final ObjectInputFilter inputFilter;
+
+    /**
+     * Creates a new instance deserializing only the classes allowed by default.
+     *
+     * @param cache non-null in-memory cache in front of the store
+     * @param store non-null store of the serialized entries
+     */
+    public PersistentPythonCache(Cache cache, MappedSegmentStore store) {
+        this(cache, store, List.of());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param cache non-null in-memory cache in front of the store
+     * @param store non-null store of the serialized entries
+     * @param allowedClasses non-null additional class name patterns in the {@link ObjectInputFilter.Config#createFilter(String)} syntax,
+     * e.g. {@code com.example.dto.*}, that stored values may be deserialized to
+     */
+    public PersistentPythonCache(Cache cache, MappedSegmentStore store, List<String> allowedClasses) {
+        super(false);
+        this.cache = cache;
+        this.store = store;
+        StringBuilder filterPattern = new StringBuilder(ALLOWED_CLASSES);
+        allowedClasses.forEach(allowedClass -> filterPattern.append(';').append(allowedClass));
+        this.inputFilter = ObjectInputFilter.Config.createFilter(filterPattern.append(';').append(REJECTED_CLASSES).toString());
+    }
+
+    /**
+     * Returns the name of the in-memory cache.
+     *
+     * @return non-null cache name
+     */
+    @Override
+    public String getName() {
+        return cache.getName();
+    }
+
+    /**
+     * Returns the underlying store.
+     *
+     * @return non-null {@link MappedSegmentStore}
+     */
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    /**
+     * Returns the cached value or loads it with {@code valueLoader} and stores it in both caches.
+     *
+     * @param <T> the type of the value
+     * @param key non-null cache key
+     * @param valueLoader non-null loader of the value
+     * @return the cached or loaded value
+     * @throws ValueRetrievalException if {@code valueLoader} throws an exception
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = this.lookup(key);
+        if (value != null) return (T) value;
+        try {
+            T loadedValue = valueLoader.call();
+            this.put(key, loadedValue);
+            return loadedValue;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /**
+     * Puts the value into the in-memory cache and appends it to the store if it is {@link Serializable}.
+     *
+     * @param key non-null cache key
+     * @param value value to cache
+     */
+    @Override
+    public void put(Object key, Object value) {
+        cache.put(key, value);
+        byte[] serializedKey = serializeKey(key);
+        byte[] serializedValue = value instanceof Serializable ? serializeValue(value) : null;
+        if (serializedValue != null) {
+            store.put(serializedKey, serializedValue);
+        } else {
+            log.debug("Value of type {} is not serializable and is kept in memory only", value == null ? null : value.getClass().getName());
+            store.remove(serializedKey);
+        }
+    }
+
+    /**
+     * Removes the key from both caches.
+     *
+     * @param key non-null cache key
+     */
+    @Override
+    public void evict(Object key) {
+        cache.evict(key);
+        store.remove(serializeKey(key));
+    }
+
+    /**
+     * Removes all entries from both caches.
+     */
+    @Override
+    public void clear() {
+        cache.clear();
+        store.clear();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        ValueWrapper valueWrapper = cache.get(key);
+        if (valueWrapper != null) return valueWrapper.get();
+        byte[] serializedKey = serializeKey(key);
+        byte[] bytes = store.get(serializedKey);
+        if (bytes == null) return null;
+        Object value = this.deserialize(bytes);
+        if (value == null) {
+            store.remove(serializedKey);
+            return null;
+        }
+        cache.put(key, value);
+        return value;
+    }
+
+    private static byte[] serializeKey(Object key) {
+        if (key instanceof String stringKey) {
+            byte[] bytes = stringKey.getBytes(StandardCharsets.UTF_8);
+            return ByteBuffer.allocate(1 + bytes.length).put(STRING_KEY).put(bytes).array();
+        } else if (key instanceof CacheKey cacheKey) {
+            return ByteBuffer.allocate(1 + Long.BYTES * 2).put(CACHE_KEY).putLong(cacheKey.high()).putLong(cacheKey.low()).array();
+        } else {
+            byte[] bytes = serialize(key);
+            return ByteBuffer.allocate(1 + bytes.length).put(SERIALIZED_KEY).put(bytes).array();
+        }
+    }
+
+    private static byte[] serialize(Object value) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(value);
+        } catch (IOException e) {
+            throw new PythonCacheException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] serializeValue(Object value) {
+        try {
+            return serialize(value);
+        } catch (PythonCacheException e) {
+            if (!(e.getCause() instanceof NotSerializableException)) throw e;
+            return null;
+        }
+    }
+
+    private Object deserialize(byte[] bytes) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try (ObjectInputStream objectInputStream = new ConfigurableObjectInputStream(new ByteArrayInputStream(bytes), classLoader)) {
+            objectInputStream.setObjectInputFilter(inputFilter);
+            return objectInputStream.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            log.warn("Discarding stored value that cannot be deserialized: {}", e.toString());
+            return null;
+        }
+    }
+}
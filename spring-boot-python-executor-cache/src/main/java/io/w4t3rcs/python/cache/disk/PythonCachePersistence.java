@@ -0,0 +1,138 @@
+package io.w4t3rcs.python.cache.disk;
+
+import io.w4t3rcs.python.executor.CachingPythonExecutor;
+import io.w4t3rcs.python.processor.CachingPythonProcessor;
+import io.w4t3rcs.python.properties.PythonCacheProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Makes the caches of the configured {@link PythonCacheProperties.PythonCacheLevel} persistent.
+ * <p>
+ * Every cache of a persistent level is wrapped into a {@link PersistentPythonCache} backed by its own
+ * {@link MappedSegmentStore} in a subdirectory of {@link PythonCacheProperties.PersistenceProperties#directory()}
+ * named after the cache. Caches of the same name share one store, so the blocking and the asynchronous caching
+ * decorators of a level work on the same entries. Unless {@link PythonCacheProperties.PersistenceProperties#timeToLive()}
+ * is set, stored entries expire after the {@code expireAfterWrite} of their level policy, like the in-memory entries.
+ * </p>
+ * <p>
+ * File caches cannot be persistent, because they are keyed by paths and rereading a file is cheap anyway.
+ * Stores are opened lazily on the first request of their cache and closed by {@link #close()}.
+ * </p>
+ *
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * PythonCachePersistence cachePersistence = new PythonCachePersistence(cacheProperties);
+ * PythonExecutor executor = new CachingPythonExecutor(cacheProperties, pythonExecutor, cachePersistence.decorate(cacheManager), keyGenerator);
+ * }</pre>
+ *
+ * @see PersistentPythonCache
+ * @see MappedSegmentStore
+ * @see PythonCacheProperties.PersistenceProperties
+ * @see CachingPythonExecutor
+ * @see CachingPythonProcessor
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public class PythonCachePersistence implements Closeable {
+    private final PythonCacheProperties.PersistenceProperties persistenceProperties;
+    private final PythonCacheProperties.PolicyProperties policyProperties;
+    private final List<String> allowedClasses;
+    private final Map<String, PythonCacheProperties.PythonCacheLevel> cacheLevels = new ConcurrentHashMap<>();
+    private final Map<String, MappedSegmentStore> stores = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param cacheProperties non-null cache properties with configured {@code name} and {@code persistence} sections
+     * @throws IllegalArgumentException if {@link PythonCacheProperties.PythonCacheLevel#FILE} is declared persistent
+     */
+    public PythonCachePersistence(PythonCacheProperties cacheProperties) {
+        this.persistenceProperties = cacheProperties.persistence();
+        this.policyProperties = cacheProperties.policy();
+        this.allowedClasses = persistenceProperties.allowedClasses() == null ? List.of() : List.of(persistenceProperties.allowedClasses());
+        var nameProperties = cacheProperties.name();
+        for (PythonCacheProperties.PythonCacheLevel cacheLevel : persistenceProperties.levels()) {
+            switch (cacheLevel) {
+                case FILE -> throw new IllegalArgumentException("File caches cannot be persistent");
+                case RESOLVER -> cacheLevels.put(nameProperties.resolver(), cacheLevel);
+                case EXECUTOR -> cacheLevels.put(nameProperties.executor(), cacheLevel);
+                case PROCESSOR -> cacheLevels.put(nameProperties.processor(), cacheLevel);
+            }
+        }
+    }
+
+    /**
+     * Returns a {@link CacheManager} wrapping the caches of persistent levels of the given manager into {@link PersistentPythonCache}.
+     *
+     * @param cacheManager non-null manager of the in-memory caches
+     * @return non-null decorated {@link CacheManager}
+     */
+    public CacheManager decorate(CacheManager cacheManager) {
+        return new CacheManager() {
+            @Override
+            public Cache getCache(String name) {
+                return PythonCachePersistence.this.decorate(name, cacheManager.getCache(name));
+            }
+
+            @Override
+            public Collection<String> getCacheNames() {
+                return cacheManager.getCacheNames();
+            }
+        };
+    }
+
+    /**
+     * Wraps the cache into a {@link PersistentPythonCache} if its name belongs to a persistent level.
+     *
+     * @param name non-null cache name
+     * @param cache in-memory cache, may be {@code null}
+     * @return the persistent cache, or {@code cache} itself if it is {@code null} or not persistent
+     */
+    public Cache decorate(String name, Cache cache) {
+        if (cache == null || !cacheLevels.containsKey(name)) return cache;
+        return new PersistentPythonCache(cache, stores.computeIfAbsent(name, this::openStore), allowedClasses);
+    }
+
+    /**
+     * Returns the names of the caches that are made persistent.
+     *
+     * @return non-null array of cache names
+     */
+    public String[] getCacheNames() {
+        String[] cacheNames = cacheLevels.keySet().toArray(String[]::new);
+        Arrays.sort(cacheNames);
+        return cacheNames;
+    }
+
+    /**
+     * Closes every opened store.
+     */
+    @Override
+    public void close() {
+        stores.values().forEach(MappedSegmentStore::close);
+        stores.clear();
+    }
+
+    private MappedSegmentStore openStore(String name) {
+        MappedSegmentStore.createPrivateDirectory(persistenceProperties.directory());
+        Path directory = persistenceProperties.directory().resolve(name);
+        return new MappedSegmentStore(directory, persistenceProperties.segmentSize().toBytes(), persistenceProperties.maximumSize().toBytes(),
+                this.getTimeToLive(cacheLevels.get(name)));
+    }
+
+    private Duration getTimeToLive(PythonCacheProperties.PythonCacheLevel cacheLevel) {
+        if (persistenceProperties.timeToLive() != null || policyProperties == null) return persistenceProperties.timeToLive();
+        var levelPolicyProperties = policyProperties.of(cacheLevel);
+        return levelPolicyProperties == null ? null : levelPolicyProperties.expireAfterWrite();
+    }
+}
@@ -0,0 +1,166 @@
+package io.w4t3rcs.python.cache.impl;
+
+import io.w4t3rcs.python.cache.CacheKey;
+
+/**
+ * Streaming implementation of the 128-bit x64 variant of MurmurHash3.
+ * <p>
+ * Values are fed in little-endian byte order into a 16-byte block kept in two {@code long} fields,
+ * so hashing allocates nothing besides the resulting {@link CacheKey}. Characters are fed as their two UTF-16 bytes
+ * without being encoded first. The hash is non-cryptographic and must not be used where collisions
+ * can be forced on purpose.
+ * </p>
+ * <p>
+ * Instances are not thread-safe and must be used for one hash only.
+ * </p>
+ *
+ * @see StreamingCacheKeyGenerator
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+class Murmur3Hasher {
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+    private long h1;
+    private long h2;
+    private long k1;
+    private long k2;
+    private int position;
+    private long length;
+
+    /**
+     * Creates a new hasher.
+     *
+     * @param seed seed of the hash
+     */
+    Murmur3Hasher(long seed) {
+        this.h1 = seed;
+        this.h2 = seed;
+    }
+
+    /**
+     * Feeds a single byte.
+     *
+     * @param value byte to hash
+     * @return this hasher
+     */
+    Murmur3Hasher putByte(int value) {
+        long unsigned = value & 0xffL;
+        if (position < 8) {
+            k1 |= unsigned << (position << 3);
+        } else {
+            k2 |= unsigned << ((position - 8) << 3);
+        }
+        length++;
+        if (++position == 16) {
+            this.mixBlock();
+        }
+        return this;
+    }
+
+    /**
+     * Feeds the two bytes of a character.
+     *
+     * @param value character to hash
+     * @return this hasher
+     */
+    Murmur3Hasher putChar(char value) {
+        return this.putByte(value).putByte(value >>> 8);
+    }
+
+    /**
+     * Feeds the four bytes of an {@code int}.
+     *
+     * @param value integer to hash
+     * @return this hasher
+     */
+    Murmur3Hasher putInt(int value) {
+        return this.putByte(value).putByte(value >>> 8).putByte(value >>> 16).putByte(value >>> 24);
+    }
+
+    /**
+     * Feeds the eight bytes of a {@code long}.
+     *
+     * @param value long to hash
+     * @return this hasher
+     */
+    Murmur3Hasher putLong(long value) {
+        return this.putInt((int) value).putInt((int) (value >>> 32));
+    }
+
+    /**
+     * Feeds the length and the characters of a character sequence.
+     * <p>
+     * The length makes adjacent sequences unambiguous, so {@code "ab", "c"} and {@code "a", "bc"} hash differently.
+     * </p>
+     *
+     * @param value non-null characters to hash
+     * @return this hasher
+     */
+    Murmur3Hasher putString(CharSequence value) {
+        int valueLength = value.length();
+        this.putInt(valueLength);
+        for (int i = 0; i < valueLength; i++) {
+            this.putChar(value.charAt(i));
+        }
+        return this;
+    }
+
+    /**
+     * Finishes the hash.
+     *
+     * @return non-null key holding the 128-bit hash
+     */
+    CacheKey hash() {
+        if (position > 8) {
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= C1;
+            h2 ^= k2;
+        }
+        if (position > 0) {
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= C2;
+            h1 ^= k1;
+        }
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new CacheKey(h1, h2);
+    }
+
+    private void mixBlock() {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        h1 ^= k1;
+        h1 = Long.rotateLeft(h1, 27);
+        h1 += h2;
+        h1 = h1 * 5 + 0x52dce729;
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        h2 ^= k2;
+        h2 = Long.rotateLeft(h2, 31);
+        h2 += h1;
+        h2 = h2 * 5 + 0x38495ab5;
+        k1 = 0;
+        k2 = 0;
+        position = 0;
+    }
+
+    private static long fmix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,186 @@
+package io.w4t3rcs.python.cache.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.cache.CacheKey;
+import io.w4t3rcs.python.cache.CacheKeyGenerator;
+import io.w4t3rcs.python.dto.ResolvedScript;
+import io.w4t3rcs.python.exception.CacheKeyGenerationException;
+import io.w4t3rcs.python.executor.CachingPythonExecutor;
+import io.w4t3rcs.python.processor.CachingPythonProcessor;
+import io.w4t3rcs.python.properties.PythonCacheProperties;
+import io.w4t3rcs.python.resolver.CachingPythonResolverHolder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * {@link CacheKeyGenerator} implementation that streams the script and the structure of its arguments
+ * into a 128-bit non-cryptographic MurmurHash3 hash.
+ * <p>
+ * Unlike {@link HashCacheKeyGenerator}, it neither creates a {@link java.security.MessageDigest} per key
+ * nor encodes the script into a byte array, and script keys with arguments are generated without concatenating
+ * the script with the JSON serialization of the arguments. Strings, numbers, booleans, characters, enums, maps,
+ * collections and object arrays are walked directly, with map entries ordered by their {@link String} keys,
+ * so logically equivalent argument maps produce the same key. Other argument values are hashed
+ * by their JSON serialization.
+ * </p>
+ * <p>
+ * {@link #generateKey(String, Map, Object, ObjectMapper)} returns a compact {@link CacheKey}, while
+ * {@link #generateKey(Object, String, Object)} returns the hexadecimal hash of the {@code prefix} and {@code body}
+ * followed by the configured delimiter and the {@code suffix}.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * CacheKeyGenerator generator = new StreamingCacheKeyGenerator(cacheProperties);
+ * Object key = generator.generateKey("print(spel{#a})", Map.of("a", 1), String.class, objectMapper);
+ * }</pre>
+ *
+ * @see CacheKeyGenerator
+ * @see CacheKey
+ * @see Murmur3Hasher
+ * @see PythonCacheProperties.KeyProperties
+ * @see CachingPythonResolverHolder
+ * @see CachingPythonExecutor
+ * @see CachingPythonProcessor
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class StreamingCacheKeyGenerator implements CacheKeyGenerator {
+    private static final long SEED = 0x9e3779b97f4a7c15L;
+    private static final int NULL_TAG = 0;
+    private static final int STRING_TAG = 1;
+    private static final int INTEGER_TAG = 2;
+    private static final int DECIMAL_TAG = 3;
+    private static final int BOOLEAN_TAG = 4;
+    private static final int CHARACTER_TAG = 5;
+    private static final int ENUM_TAG = 6;
+    private static final int MAP_TAG = 7;
+    private static final int COLLECTION_TAG = 8;
+    private static final int ARRAY_TAG = 9;
+    private static final int CLASS_TAG = 10;
+    private static final int JSON_TAG = 11;
+    private static final int BINDINGS_TAG = 12;
+    private final PythonCacheProperties cacheProperties;
+
+    /**
+     * Generates a cache key by hashing the {@code prefix} and {@code body} strings.
+     *
+     * @param prefix optional prefix for the key, hashed together with the body, may be null.
+     * @param body non-null main string to hash.
+     * @param suffix optional suffix for the key, may be null.
+     * @return non-null generated cache key string.
+     */
+    @Override
+    public String generateKey(Object prefix, String body, Object suffix) {
+        Murmur3Hasher hasher = new Murmur3Hasher(SEED);
+        this.putValue(hasher, prefix == null ? null : prefix.toString(), null);
+        hasher.putString(body);
+        return this.toKey(hasher, suffix);
+    }
+
+    /**
+     * Generates a cache key by hashing the script and its bindings without concatenating them.
+     *
+     * @param resolvedScript non-null resolved script the key is generated for
+     * @param suffix optional suffix for the key, may be null.
+     * @return non-null generated cache key string.
+     */
+    @Override
+    public String generateKey(ResolvedScript resolvedScript, Object suffix) {
+        if (!resolvedScript.hasBindings()) return this.generateKey(resolvedScript.script(), suffix);
+        Murmur3Hasher hasher = new Murmur3Hasher(SEED);
+        hasher.putByte(BINDINGS_TAG).putString(resolvedScript.bindings()).putString(resolvedScript.script());
+        return this.toKey(hasher, suffix);
+    }
+
+    /**
+     * Generates a compact cache key by streaming the script, the arguments and the {@code suffix} into one hash.
+     *
+     * @param script non-null script the key is generated for
+     * @param arguments non-null map of arguments of the script
+     * @param suffix an optional suffix object hashed together with the script; may be null.
+     * @param objectMapper non-null {@link ObjectMapper} for argument values of unknown types
+     * @return a non-null {@link CacheKey}
+     * @throws CacheKeyGenerationException if an argument value of unknown type cannot be serialized
+     */
+    @Override
+    public Object generateKey(String script, Map<String, Object> arguments, Object suffix, ObjectMapper objectMapper) {
+        Murmur3Hasher hasher = new Murmur3Hasher(SEED);
+        hasher.putString(script);
+        this.putValue(hasher, arguments, objectMapper);
+        this.putValue(hasher, suffix, objectMapper);
+        return hasher.hash();
+    }
+
+    private String toKey(Murmur3Hasher hasher, Object suffix) {
+        String key = hasher.hash().toString();
+        return suffix == null ? key : key + cacheProperties.key().delimiter() + suffix;
+    }
+
+    private void putValue(Murmur3Hasher hasher, Object value, ObjectMapper objectMapper) {
+        if (value == null) {
+            hasher.putByte(NULL_TAG);
+        } else if (value instanceof CharSequence charSequence) {
+            hasher.putByte(STRING_TAG).putString(charSequence);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            hasher.putByte(INTEGER_TAG).putLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            hasher.putByte(DECIMAL_TAG).putLong(Double.doubleToLongBits(((Number) value).doubleValue()));
+        } else if (value instanceof Boolean booleanValue) {
+            hasher.putByte(BOOLEAN_TAG).putByte(booleanValue ? 1 : 0);
+        } else if (value instanceof Character character) {
+            hasher.putByte(CHARACTER_TAG).putChar(character);
+        } else if (value instanceof Enum<?> enumValue) {
+            hasher.putByte(ENUM_TAG).putString(enumValue.getDeclaringClass().getName()).putString(enumValue.name());
+        } else if (value instanceof Map<?, ?> map) {
+            this.putMap(hasher, map, objectMapper);
+        } else if (value instanceof Collection<?> collection) {
+            hasher.putByte(COLLECTION_TAG).putInt(collection.size());
+            for (Object element : collection) {
+                this.putValue(hasher, element, objectMapper);
+            }
+        } else if (value instanceof Object[] array) {
+            hasher.putByte(ARRAY_TAG).putInt(array.length);
+            for (Object element : array) {
+                this.putValue(hasher, element, objectMapper);
+            }
+        } else if (value instanceof Class<?> type) {
+            hasher.putByte(CLASS_TAG).putString(type.getName());
+        } else {
+            try {
+                hasher.putByte(JSON_TAG).putString(value.getClass().getName()).putString(objectMapper.writeValueAsString(value));
+            } catch (Exception e) {
+                throw new CacheKeyGenerationException(e);
+            }
+        }
+    }
+
+    private void putMap(Murmur3Hasher hasher, Map<?, ?> map, ObjectMapper objectMapper) {
+        hasher.putByte(MAP_TAG).putInt(map.size());
+        String[] keys = new String[map.size()];
+        int index = 0;
+        for (Object key : map.keySet()) {
+            if (!(key instanceof String stringKey) || index == keys.length) {
+                keys = null;
+                break;
+            }
+            keys[index++] = stringKey;
+        }
+        if (keys != null && index == keys.length) {
+            Arrays.sort(keys);
+            for (String key : keys) {
+                hasher.putString(key);
+                this.putValue(hasher, map.get(key), objectMapper);
+            }
+        } else {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                this.putValue(hasher, entry.getKey(), objectMapper);
+                this.putValue(hasher, entry.getValue(), objectMapper);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.w4t3rcs.python.cache.storage;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Byte budget of the direct memory holding off-heap cache values.
+ * <p>
+ * A direct buffer is allocated only if its size fits into the remaining budget. The reserved bytes are returned
+ * by {@link Allocation#release()} as soon as the cache drops the value, or at the latest once the buffer has been
+ * garbage collected, which is also when the JVM frees its memory. Either way the bytes are returned only once.
+ * </p>
+ *
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * DirectMemoryBudget budget = new DirectMemoryBudget(256 * 1024 * 1024);
+ * DirectMemoryBudget.Allocation allocation = budget.allocate(bytes);
+ * ByteBuffer buffer = allocation.getBuffer();
+ * allocation.release();
+ * }</pre>
+ *
+ * @see EncodedPythonResponse
+ * @see EncodedPythonCache
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public class DirectMemoryBudget {
+    private static final Cleaner CLEANER = Cleaner.create();
+    private final long limit;
+    private final AtomicLong used = new AtomicLong();
+
+    /**
+     * Creates a new budget.
+     *
+     * @param limit maximum number of bytes of the direct buffers, {@code >= 0}
+     */
+    public DirectMemoryBudget(long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Copies the bytes into a new direct buffer if they fit into the remaining budget.
+     *
+     * @param bytes non-null bytes to copy
+     * @return {@link Allocation} of a read-only direct buffer with the bytes, or {@code null} if the budget is exhausted
+     */
+    public Allocation allocate(byte[] bytes) {
+        int size = bytes.length;
+        long current;
+        do {
+            current = used.get();
+            if (current + size > limit) return null;
+        } while (!used.compareAndSet(current, current + size));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size).put(bytes).flip().asReadOnlyBuffer();
+        return new Allocation(buffer, CLEANER.register(buffer, () -> used.addAndGet(-size)));
+    }
+
+    /**
+     * Returns the number of reserved bytes.
+     *
+     * @return reserved bytes, {@code >= 0}
+     */
+    public long getUsed() {
+        return used.get();
+    }
+
+    /**
+     * Returns the maximum number of bytes.
+     *
+     * @return the limit of the budget, {@code >= 0}
+     */
+    public long getLimit() {
+        return limit;
+    }
+
+    /**
+     * Direct buffer charged to a {@link DirectMemoryBudget}.
+     */
+    public static final class Allocation {
+        private final ByteBuffer buffer;
+        private final Cleaner.Cleanable cleanable;
+
+        private Allocation(ByteBuffer buffer, Cleaner.Cleanable cleanable) {
+            this.buffer = buffer;
+            this.cleanable = cleanable;
+        }
+
+        /**
+         * Returns the allocated buffer.
+         *
+         * @return non-null read-only direct {@link ByteBuffer}
+         */
+        public ByteBuffer getBuffer() {
+            return buffer;
+        }
+
+        /**
+         * Returns the bytes of the buffer to the budget. Repeated calls have no effect.
+         * The buffer stays readable until it is garbage collected.
+         */
+        public void release() {
+            cleanable.clean();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.w4t3rcs.python.cache.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * {@link Cache} implementation keeping the {@link PythonExecutionResponse} values of a delegate cache
+ * as {@link EncodedPythonResponse} bytes instead of object graphs.
+ * <p>
+ * The body of every response is encoded to JSON once on put. Bodies of at least the compression threshold
+ * are deflated, and with a {@link DirectMemoryBudget} the bytes are kept off-heap while the budget lasts.
+ * Evicted values return their bytes to the budget at once, while values dropped by the delegate itself, e.g. on expiry,
+ * replacement or {@link #clear()}, return them through a removal listener of the delegate, such as the one registered
+ * on the default Caffeine caches, or otherwise once they are garbage collected.
+ * Every hit decodes the bytes into a fresh response, so callers never share or mutate a cached object.
+ * </p>
+ * <p>
+ * Values other than responses, and responses whose body cannot be encoded, are kept as they are.
+ * Collection and map bodies are decoded to their own class, so they are encoded only if Jackson can construct
+ * that class, i.e. it is public with a public no-argument constructor and, if sorted, has no comparator.
+ * Other collections, e.g. immutable ones, are kept as objects as well. If a body type cannot be decoded from its JSON, the entry is evicted and later bodies of that type are kept
+ * as objects as well.
+ * </p>
+ *
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * Cache cache = new EncodedPythonCache(cacheManager.getCache("pythonExecutorCache"), objectMapper, 4096, budget);
+ * cache.put(key, response);
+ * }</pre>
+ *
+ * @see EncodedPythonResponse
+ * @see DirectMemoryBudget
+ * @see PythonCacheStorage
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Slf4j
+public class EncodedPythonCache extends AbstractValueAdaptingCache {
+    private final Cache cache;
+    private final ObjectMapper objectMapper;
+    private final long compressionThreshold;
+    private final DirectMemoryBudget budget;
+    private static final ClassValue<Boolean> CONSTRUCTIBLE_TYPES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (!Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers())) return false;
+            try {
+                type.getConstructor();
+                return true;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+    private final Set<Class<?>> undecodableTypes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param cache non-null cache holding the encoded values
+     * @param objectMapper non-null {@link ObjectMapper} encoding and decoding the bodies
+     * @param compressionThreshold minimal size of an encoded body to be compressed, {@code <= 0} disables compression
+     * @param budget budget of the direct memory, {@code null} keeps the bytes on the heap
+     */
+    public EncodedPythonCache(Cache cache, ObjectMapper objectMapper, long compressionThreshold, DirectMemoryBudget budget) {
+        super(false);
+        this.cache = cache;
+        this.objectMapper = objectMapper;
+        this.compressionThreshold = compressionThreshold;
+        this.budget = budget;
+    }
+
+    /**
+     * Returns the name of the delegate cache.
+     *
+     * @return non-null cache name
+     */
+    @Override
+    public String getName() {
+        return cache.getName();
+    }
+
+    /**
+     * Returns the delegate cache.
+     *
+     * @return non-null delegate {@link Cache}
+     */
+    @Override
+    public Object getNativeCache() {
+        return cache;
+    }
+
+    /**
+     * Returns the cached value or loads it with {@code valueLoader} and stores it encoded.
+     *
+     * @param <T> the type of the value
+     * @param key non-null cache key
+     * @param valueLoader non-null loader of the value
+     * @return the decoded or loaded value
+     * @throws ValueRetrievalException if {@code valueLoader} throws an exception
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = this.lookup(key);
+        if (value != null) return (T) value;
+        try {
+            T loadedValue = valueLoader.call();
+            this.put(key, loadedValue);
+            return loadedValue;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /**
+     * Puts the value into the delegate cache, encoding it if it is a {@link PythonExecutionResponse}.
+     *
+     * @param key non-null cache key
+     * @param value value to cache
+     */
+    @Override
+    public void put(Object key, Object value) {
+        cache.put(key, this.encode(value));
+    }
+
+    /**
+     * Removes the key from the delegate cache and returns the off-heap bytes of its value to the budget.
+     *
+     * @param key non-null cache key
+     */
+    @Override
+    public void evict(Object key) {
+        ValueWrapper valueWrapper = budget != null ? cache.get(key) : null;
+        cache.evict(key);
+        if (valueWrapper != null && valueWrapper.get() instanceof EncodedPythonResponse encodedResponse) encodedResponse.release();
+    }
+
+    /**
+     * Removes all entries from the delegate cache.
+     */
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        ValueWrapper valueWrapper = cache.get(key);
+        if (valueWrapper == null) return null;
+        Object value = valueWrapper.get();
+        if (!(value instanceof EncodedPythonResponse encodedResponse)) return value;
+        Class<?> bodyType = encodedResponse.getBodyType();
+        if (bodyType == null) return new PythonExecutionResponse<>(null);
+        try (InputStream inputStream = encodedResponse.openStream()) {
+            return new PythonExecutionResponse<>(objectMapper.readValue(inputStream, bodyType));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Evicting cached body of type {} that cannot be decoded: {}", bodyType.getName(), e.toString());
+            undecodableTypes.add(bodyType);
+            cache.evict(key);
+            encodedResponse.release();
+            return null;
+        }
+    }
+
+    private Object encode(Object value) {
+        if (!(value instanceof PythonExecutionResponse<?> response)) return value;
+        Object body = response.body();
+        if (body == null) return EncodedPythonResponse.onHeap(null, false, new byte[0]);
+        Class<?> bodyType = body.getClass();
+        if (!isDecodable(body) || undecodableTypes.contains(bodyType)) return value;
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            boolean compressed = compressionThreshold > 0 && bytes.length >= compressionThreshold;
+            if (compressed) bytes = deflate(bytes);
+            return budget == null
+                    ? EncodedPythonResponse.onHeap(bodyType, compressed, bytes)
+                    : EncodedPythonResponse.offHeap(bodyType, compressed, bytes, budget);
+        } catch (IOException e) {
+            log.debug("Body of type {} cannot be encoded and is cached as an object: {}", bodyType.getName(), e.toString());
+            return value;
+        }
+    }
+
+    private static boolean isDecodable(Object body) {
+        if (body instanceof SortedSet<?> sortedSet && sortedSet.comparator() != null) return false;
+        if (body instanceof SortedMap<?, ?> sortedMap && sortedMap.comparator() != null) return false;
+        if (body instanceof Collection<?> || body instanceof Map<?, ?>) return CONSTRUCTIBLE_TYPES.get(body.getClass());
+        return true;
+    }
+
+    private static byte[] deflate(byte[] bytes) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 2);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream, deflater)) {
+            deflaterOutputStream.write(bytes);
+        } finally {
+            deflater.end();
+        }
+        return outputStream.toByteArray();
+    }
+}
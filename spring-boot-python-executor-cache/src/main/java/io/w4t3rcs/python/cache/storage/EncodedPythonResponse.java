@@ -0,0 +1,141 @@
+package io.w4t3rcs.python.cache.storage;
+
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Cache value holding the JSON encoded body of a {@link PythonExecutionResponse}.
+ * <p>
+ * The bytes are kept either in a heap byte array or in a read-only direct {@link ByteBuffer} outside the heap,
+ * optionally deflated. Instances are immutable and every {@link #openStream()} reads the bytes from the start,
+ * so concurrent hits decode the same entry independently. Once the cache drops an off-heap value, {@link #release()}
+ * returns its bytes to the {@link DirectMemoryBudget}.
+ * </p>
+ *
+ * @see EncodedPythonCache
+ * @see DirectMemoryBudget
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public final class EncodedPythonResponse {
+    private final Class<?> bodyType;
+    private final boolean compressed;
+    private final byte[] bytes;
+    private final ByteBuffer buffer;
+    private final DirectMemoryBudget.Allocation allocation;
+
+    private EncodedPythonResponse(Class<?> bodyType, boolean compressed, byte[] bytes, DirectMemoryBudget.Allocation allocation) {
+        this.bodyType = bodyType;
+        this.compressed = compressed;
+        this.bytes = bytes;
+        this.buffer = allocation != null ? allocation.getBuffer() : null;
+        this.allocation = allocation;
+    }
+
+    /**
+     * Creates a new instance keeping the bytes on the heap.
+     *
+     * @param bodyType type the body is decoded to, {@code null} for a {@code null} body
+     * @param compressed whether the bytes are deflated
+     * @param bytes non-null encoded body
+     * @return non-null {@link EncodedPythonResponse}
+     */
+    public static EncodedPythonResponse onHeap(Class<?> bodyType, boolean compressed, byte[] bytes) {
+        return new EncodedPythonResponse(bodyType, compressed, bytes, null);
+    }
+
+    /**
+     * Creates a new instance keeping the bytes in direct memory charged to the budget,
+     * or on the heap if the budget is exhausted.
+     *
+     * @param bodyType type the body is decoded to, {@code null} for a {@code null} body
+     * @param compressed whether the bytes are deflated
+     * @param bytes non-null encoded body
+     * @param budget non-null budget of the direct memory
+     * @return non-null {@link EncodedPythonResponse}
+     */
+    public static EncodedPythonResponse offHeap(Class<?> bodyType, boolean compressed, byte[] bytes, DirectMemoryBudget budget) {
+        DirectMemoryBudget.Allocation allocation = budget.allocate(bytes);
+        return allocation == null ? onHeap(bodyType, compressed, bytes) : new EncodedPythonResponse(bodyType, compressed, null, allocation);
+    }
+
+    /**
+     * Returns the off-heap bytes to their {@link DirectMemoryBudget}, to be called once the cache has dropped this value.
+     * Repeated calls and calls on on-heap values have no effect, and the bytes stay readable until garbage collected.
+     */
+    public void release() {
+        if (allocation != null) allocation.release();
+    }
+
+    /**
+     * Returns the type the body is decoded to.
+     *
+     * @return the body type, {@code null} for a {@code null} body
+     */
+    public Class<?> getBodyType() {
+        return bodyType;
+    }
+
+    /**
+     * Returns whether the bytes are deflated.
+     *
+     * @return {@code true} if the bytes are compressed
+     */
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    /**
+     * Returns whether the bytes are kept in direct memory.
+     *
+     * @return {@code true} if the bytes are off-heap
+     */
+    public boolean isOffHeap() {
+        return buffer != null;
+    }
+
+    /**
+     * Returns the number of stored bytes.
+     *
+     * @return the size of the encoded, possibly compressed body
+     */
+    public int getSize() {
+        return buffer != null ? buffer.capacity() : bytes.length;
+    }
+
+    /**
+     * Returns the number of stored bytes kept on the heap.
+     *
+     * @return {@code 0} for off-heap bytes, {@link #getSize()} otherwise
+     */
+    public int getHeapSize() {
+        return buffer != null ? 0 : bytes.length;
+    }
+
+    /**
+     * Opens a new stream of the encoded body, inflating compressed bytes.
+     * The caller has to close the stream to release the inflater.
+     *
+     * @return non-null {@link InputStream} of the JSON encoded body
+     */
+    public InputStream openStream() {
+        InputStream inputStream = buffer != null ? new ByteBufferBackedInputStream(buffer.duplicate()) : new ByteArrayInputStream(bytes);
+        return compressed ? new InflaterInputStream(inputStream, new Inflater()) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inf.end();
+                }
+            }
+        } : inputStream;
+    }
+}
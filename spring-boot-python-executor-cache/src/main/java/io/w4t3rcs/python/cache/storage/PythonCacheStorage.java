@@ -0,0 +1,126 @@
+package io.w4t3rcs.python.cache.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.executor.CachingPythonExecutor;
+import io.w4t3rcs.python.processor.CachingPythonProcessor;
+import io.w4t3rcs.python.properties.PythonCacheProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the results cached by the configured {@link PythonCacheProperties.PythonCacheLevel} as encoded bytes.
+ * <p>
+ * Every cache of an encoded level is wrapped into an {@link EncodedPythonCache}. If off-heap storage is enabled,
+ * all encoded caches share one {@link DirectMemoryBudget} of {@link PythonCacheProperties.StorageProperties#offHeapLimit()}
+ * bytes, and values exceeding the remaining budget are kept on the heap.
+ * </p>
+ * <p>
+ * Only {@link PythonCacheProperties.PythonCacheLevel#EXECUTOR} and {@link PythonCacheProperties.PythonCacheLevel#PROCESSOR}
+ * caches can be encoded, because they are the only ones holding {@link io.w4t3rcs.python.dto.PythonExecutionResponse} values.
+ * </p>
+ *
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * PythonCacheStorage cacheStorage = new PythonCacheStorage(cacheProperties, objectMapper);
+ * PythonExecutor executor = new CachingPythonExecutor(cacheProperties, pythonExecutor, cacheStorage.decorate(cacheManager), keyGenerator);
+ * }</pre>
+ *
+ * @see EncodedPythonCache
+ * @see DirectMemoryBudget
+ * @see PythonCacheProperties.StorageProperties
+ * @see CachingPythonExecutor
+ * @see CachingPythonProcessor
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public class PythonCacheStorage {
+    private final ObjectMapper objectMapper;
+    private final long compressionThreshold;
+    private final DirectMemoryBudget budget;
+    private final Set<String> cacheNames = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param cacheProperties non-null cache properties with configured {@code name} and {@code storage} sections
+     * @param objectMapper non-null {@link ObjectMapper} encoding and decoding the bodies
+     * @throws IllegalArgumentException if {@link PythonCacheProperties.PythonCacheLevel#FILE}
+     * or {@link PythonCacheProperties.PythonCacheLevel#RESOLVER} is declared encoded
+     */
+    public PythonCacheStorage(PythonCacheProperties cacheProperties, ObjectMapper objectMapper) {
+        var storageProperties = cacheProperties.storage();
+        var nameProperties = cacheProperties.name();
+        this.objectMapper = objectMapper;
+        this.compressionThreshold = toBytes(storageProperties.compressionThreshold());
+        this.budget = storageProperties.offHeap() ? new DirectMemoryBudget(toBytes(storageProperties.offHeapLimit())) : null;
+        for (PythonCacheProperties.PythonCacheLevel cacheLevel : storageProperties.levels()) {
+            switch (cacheLevel) {
+                case FILE, RESOLVER -> throw new IllegalArgumentException("Only executor and processor caches can be encoded");
+                case EXECUTOR -> cacheNames.add(nameProperties.executor());
+                case PROCESSOR -> cacheNames.add(nameProperties.processor());
+            }
+        }
+    }
+
+    /**
+     * Returns a {@link CacheManager} wrapping the caches of encoded levels of the given manager into {@link EncodedPythonCache}.
+     *
+     * @param cacheManager non-null manager of the caches
+     * @return non-null decorated {@link CacheManager}
+     */
+    public CacheManager decorate(CacheManager cacheManager) {
+        return new CacheManager() {
+            @Override
+            public Cache getCache(String name) {
+                return PythonCacheStorage.this.decorate(name, cacheManager.getCache(name));
+            }
+
+            @Override
+            public Collection<String> getCacheNames() {
+                return cacheManager.getCacheNames();
+            }
+        };
+    }
+
+    /**
+     * Wraps the cache into an {@link EncodedPythonCache} if its name belongs to an encoded level.
+     *
+     * @param name non-null cache name
+     * @param cache cache to wrap, may be {@code null}
+     * @return the encoded cache, or {@code cache} itself if it is {@code null} or not encoded
+     */
+    public Cache decorate(String name, Cache cache) {
+        if (cache == null || !cacheNames.contains(name)) return cache;
+        return new EncodedPythonCache(cache, objectMapper, compressionThreshold, budget);
+    }
+
+    /**
+     * Returns the names of the caches that are encoded.
+     *
+     * @return non-null array of cache names
+     */
+    public String[] getCacheNames() {
+        String[] names = cacheNames.toArray(String[]::new);
+        Arrays.sort(names);
+        return names;
+    }
+
+    /**
+     * Returns the shared budget of the off-heap values.
+     *
+     * @return the {@link DirectMemoryBudget}, or {@code null} if values are kept on the heap
+     */
+    public DirectMemoryBudget getBudget() {
+        return budget;
+    }
+
+    private static long toBytes(DataSize dataSize) {
+        return dataSize == null ? 0 : dataSize.toBytes();
+    }
+}
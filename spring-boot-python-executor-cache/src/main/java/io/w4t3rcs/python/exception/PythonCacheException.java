@@ -20,6 +20,15 @@ import io.w4t3rcs.python.resolver.CachingPythonResolverHolder;
  * @since 1.0.0
  */
 public class PythonCacheException extends RuntimeException {
+    /**
+     * Constructs a new {@code PythonCacheException} with the specified message.
+     *
+     * @param message the message (non-null)
+     */
+    public PythonCacheException(String message) {
+        super(message);
+    }
+
     /**
      * Constructs a new {@code PythonCacheException} with the specified cause.
      *
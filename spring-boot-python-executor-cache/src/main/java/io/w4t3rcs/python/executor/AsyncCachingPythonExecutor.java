@@ -0,0 +1,114 @@
+package io.w4t3rcs.python.executor;
+
+import io.w4t3rcs.python.cache.CacheKeyGenerator;
+import io.w4t3rcs.python.cache.SingleFlight;
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.dto.ResolvedScript;
+import io.w4t3rcs.python.exception.PythonCacheException;
+import io.w4t3rcs.python.properties.PythonCacheProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncPythonExecutor} implementation that adds caching capabilities.
+ * <p>
+ * This is the non-blocking counterpart of {@link CachingPythonExecutor} and shares its cache and key scheme,
+ * so a body cached by one of them is served by the other one as well. A cache hit completes immediately,
+ * a cache miss is delegated to the wrapped {@link AsyncPythonExecutor} and its body is cached on successful completion.
+ * </p>
+ *
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * AsyncPythonExecutor baseExecutor = ...;
+ * AsyncPythonExecutor cachingExecutor = new AsyncCachingPythonExecutor(cacheProps, baseExecutor, cacheManager, keyGen);
+ *
+ * cachingExecutor.executeAsync("print('hello')", null);
+ * }</pre>
+ *
+ * @see AsyncPythonExecutor
+ * @see CachingPythonExecutor
+ * @see PythonCacheProperties.NameProperties
+ * @see CacheKeyGenerator
+ * @see SingleFlight
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public class AsyncCachingPythonExecutor implements AsyncPythonExecutor {
+    private final AsyncPythonExecutor asyncPythonExecutor;
+    private final Cache cache;
+    private final CacheKeyGenerator keyGenerator;
+    private final SingleFlight singleFlight;
+
+    /**
+     * Constructs a new {@code AsyncCachingPythonExecutor}.
+     *
+     * @param cacheProperties non-null properties to configure caching, must provide a valid cache name
+     * @param asyncPythonExecutor non-null delegate {@link AsyncPythonExecutor} for actual script execution
+     * @param cacheManager non-null {@link CacheManager} used to obtain the {@link Cache} instance
+     * @param keyGenerator non-null {@link CacheKeyGenerator} for generating cache keys
+     */
+    public AsyncCachingPythonExecutor(PythonCacheProperties cacheProperties, AsyncPythonExecutor asyncPythonExecutor, CacheManager cacheManager, CacheKeyGenerator keyGenerator) {
+        this.asyncPythonExecutor = asyncPythonExecutor;
+        this.cache = cacheManager.getCache(cacheProperties.name().executor());
+        this.keyGenerator = keyGenerator;
+        this.singleFlight = SingleFlight.of(cacheProperties, PythonCacheProperties.PythonCacheLevel.EXECUTOR);
+    }
+
+    /**
+     * Returns the cached body if present, otherwise starts the execution and caches its body on completion.
+     * <p>
+     * If coalescing is enabled for {@link PythonCacheProperties.PythonCacheLevel#EXECUTOR}, concurrent misses
+     * of the same key share one execution through {@link SingleFlight} without blocking.
+     * </p>
+     *
+     * @param <R> the expected body type
+     * @param script non-null Python script to execute
+     * @param resultClass non-null {@link Class} representing the expected body type
+     * @return future of the execution body, completed exceptionally with {@link PythonCacheException} if any caching error occurs
+     */
+    @Override
+    public <R> CompletableFuture<PythonExecutionResponse<R>> executeAsync(String script, Class<? extends R> resultClass) {
+        try {
+            return this.executeAsync(keyGenerator.generateKey(script, resultClass), () -> asyncPythonExecutor.executeAsync(script, resultClass));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new PythonCacheException(e));
+        }
+    }
+
+    /**
+     * Returns the cached body of the resolved script if present, otherwise starts the execution and caches its body on completion.
+     * <p>
+     * A script without bindings is handled by {@link #executeAsync(String, Class)}. Otherwise, the bindings are hashed
+     * together with the script, so the same script with different argument values is cached separately under a fixed-size key.
+     * </p>
+     *
+     * @param <R> the expected body type
+     * @param resolvedScript non-null resolved Python script with its bindings
+     * @param resultClass non-null {@link Class} representing the expected body type
+     * @return future of the execution body, completed exceptionally with {@link PythonCacheException} if any caching error occurs
+     */
+    @Override
+    public <R> CompletableFuture<PythonExecutionResponse<R>> executeAsync(ResolvedScript resolvedScript, Class<? extends R> resultClass) {
+        if (!resolvedScript.hasBindings()) return this.executeAsync(resolvedScript.script(), resultClass);
+        try {
+            String key = keyGenerator.generateKey(resolvedScript, resultClass);
+            return this.executeAsync(key, () -> asyncPythonExecutor.executeAsync(resolvedScript, resultClass));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new PythonCacheException(e));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> CompletableFuture<PythonExecutionResponse<R>> executeAsync(String key, Supplier<CompletableFuture<PythonExecutionResponse<R>>> execution) {
+        return singleFlight.getOrLoadAsync(key,
+                () -> (PythonExecutionResponse<R>) cache.get(key, PythonExecutionResponse.class),
+                () -> execution.get()
+                        .thenApply(result -> {
+                            cache.put(key, result);
+                            return result;
+                        }));
+    }
+}
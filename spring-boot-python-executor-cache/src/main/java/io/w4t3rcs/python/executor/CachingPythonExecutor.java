@@ -1,12 +1,16 @@
 package io.w4t3rcs.python.executor;
 
 import io.w4t3rcs.python.cache.CacheKeyGenerator;
+import io.w4t3rcs.python.cache.SingleFlight;
 import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.dto.ResolvedScript;
 import io.w4t3rcs.python.exception.PythonCacheException;
 import io.w4t3rcs.python.properties.PythonCacheProperties;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
+import java.util.function.Supplier;
+
 /**
  * {@link PythonExecutor} implementation that adds caching capabilities.
  * <p>
@@ -30,6 +34,7 @@ import org.springframework.cache.CacheManager;
  * @see PythonExecutor
  * @see PythonCacheProperties.NameProperties
  * @see CacheKeyGenerator
+ * @see SingleFlight
  * @author w4t3rcs
  * @since 1.0.0
  */
@@ -37,6 +42,7 @@ public class CachingPythonExecutor implements PythonExecutor {
     private final PythonExecutor pythonExecutor;
     private final Cache cache;
     private final CacheKeyGenerator keyGenerator;
+    private final SingleFlight singleFlight;
 
     /**
      * Constructs a new {@code CachingPythonExecutor}.
@@ -50,6 +56,7 @@ public class CachingPythonExecutor implements PythonExecutor {
         this.pythonExecutor = pythonExecutor;
         this.cache = cacheManager.getCache(cacheProperties.name().executor());
         this.keyGenerator = keyGenerator;
+        this.singleFlight = SingleFlight.of(cacheProperties, PythonCacheProperties.PythonCacheLevel.EXECUTOR);
     }
 
     /**
@@ -61,6 +68,8 @@ public class CachingPythonExecutor implements PythonExecutor {
      * </p>
      * <p>
      * Cache keys are generated using the configured {@link CacheKeyGenerator} with the script and body class.
+     * If coalescing is enabled for {@link PythonCacheProperties.PythonCacheLevel#EXECUTOR}, concurrent misses
+     * of the same key share one execution through {@link SingleFlight}.
      * </p>
      *
      * @param <R> the expected body type
@@ -70,20 +79,46 @@ public class CachingPythonExecutor implements PythonExecutor {
      * @throws PythonCacheException if any caching or execution error occurs
      */
     @Override
-    @SuppressWarnings("unchecked")
     public <R> PythonExecutionResponse<R> execute(String script, Class<? extends R> resultClass) {
         try {
-            String key = keyGenerator.generateKey(script, resultClass);
-            PythonExecutionResponse<R> cachedResult = (PythonExecutionResponse<R>) cache.get(key, PythonExecutionResponse.class);
-            if (cachedResult != null) {
-                return cachedResult;
-            } else {
-                PythonExecutionResponse<R> result = pythonExecutor.execute(script, resultClass);
-                cache.put(key, result);
-                return result;
-            }
+            return this.execute(keyGenerator.generateKey(script, resultClass), () -> pythonExecutor.execute(script, resultClass));
         } catch (Exception e) {
             throw new PythonCacheException(e);
         }
     }
+
+    /**
+     * Executes the given resolved Python script and returns the body of the specified type.
+     * <p>
+     * A script without bindings is handled by {@link #execute(String, Class)}. Otherwise, the bindings are hashed
+     * together with the script, so the same script with different argument values is cached separately under a fixed-size key.
+     * </p>
+     *
+     * @param <R> the expected body type
+     * @param resolvedScript non-null resolved Python script with its bindings
+     * @param resultClass non-null {@link Class} representing the expected body type
+     * @return the execution body, guaranteed non-null if the delegate returns non-null
+     * @throws PythonCacheException if any caching or execution error occurs
+     */
+    @Override
+    public <R> PythonExecutionResponse<R> execute(ResolvedScript resolvedScript, Class<? extends R> resultClass) {
+        if (!resolvedScript.hasBindings()) return this.execute(resolvedScript.script(), resultClass);
+        try {
+            String key = keyGenerator.generateKey(resolvedScript, resultClass);
+            return this.execute(key, () -> pythonExecutor.execute(resolvedScript, resultClass));
+        } catch (Exception e) {
+            throw new PythonCacheException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> PythonExecutionResponse<R> execute(String key, Supplier<PythonExecutionResponse<R>> execution) {
+        return singleFlight.getOrLoad(key,
+                () -> (PythonExecutionResponse<R>) cache.get(key, PythonExecutionResponse.class),
+                () -> {
+                    PythonExecutionResponse<R> result = execution.get();
+                    cache.put(key, result);
+                    return result;
+                });
+    }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package io.w4t3rcs.python.processor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.cache.CacheKeyGenerator;
+import io.w4t3rcs.python.cache.SingleFlight;
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.exception.PythonCacheException;
+import io.w4t3rcs.python.properties.PythonCacheProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link AsyncPythonProcessor} implementation that adds caching capabilities
+ * for processed Python scripts with arguments.
+ * <p>
+ * This is the non-blocking counterpart of {@link CachingPythonProcessor} and shares its cache and key scheme.
+ * A cache hit completes immediately, a cache miss is delegated to the wrapped {@link AsyncPythonProcessor}
+ * and its body is cached on successful completion.
+ * </p>
+ *
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * AsyncPythonProcessor baseProcessor = ...;
+ * AsyncPythonProcessor cachingProcessor = new AsyncCachingPythonProcessor(cacheProperties, baseProcessor, cacheManager, keyGenerator, objectMapper);
+ *
+ * cachingProcessor.processAsync("print('Hello World')");
+ * }</pre>
+ *
+ * @see AsyncPythonProcessor
+ * @see CachingPythonProcessor
+ * @see PythonCacheProperties.NameProperties
+ * @see CacheKeyGenerator
+ * @see SingleFlight
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public class AsyncCachingPythonProcessor implements AsyncPythonProcessor {
+    private final AsyncPythonProcessor asyncPythonProcessor;
+    private final Cache cache;
+    private final CacheKeyGenerator keyGenerator;
+    private final ObjectMapper objectMapper;
+    private final SingleFlight singleFlight;
+
+    /**
+     * Constructs a new {@code AsyncCachingPythonProcessor}.
+     *
+     * @param cacheProperties non-null cache properties with processor cache name
+     * @param asyncPythonProcessor non-null delegate {@link AsyncPythonProcessor} instance
+     * @param cacheManager non-null {@link CacheManager} to obtain cache instance
+     * @param keyGenerator non-null key generator to generate cache keys
+     * @param objectMapper non-null {@link ObjectMapper} for JSON serialization
+     */
+    public AsyncCachingPythonProcessor(PythonCacheProperties cacheProperties, AsyncPythonProcessor asyncPythonProcessor, CacheManager cacheManager, CacheKeyGenerator keyGenerator, ObjectMapper objectMapper) {
+        this.asyncPythonProcessor = asyncPythonProcessor;
+        this.cache = cacheManager.getCache(cacheProperties.name().processor());
+        this.keyGenerator = keyGenerator;
+        this.objectMapper = objectMapper;
+        this.singleFlight = SingleFlight.of(cacheProperties, PythonCacheProperties.PythonCacheLevel.PROCESSOR);
+    }
+
+    /**
+     * Returns the cached body if present, otherwise starts the processing and caches its body on completion.
+     * <p>
+     * If coalescing is enabled for {@link PythonCacheProperties.PythonCacheLevel#PROCESSOR}, concurrent misses
+     * of the same key share one processing through {@link SingleFlight} without blocking.
+     * </p>
+     *
+     * @param <R> the type of the body
+     * @param script non-null Python script to process
+     * @param resultClass non-null expected body type
+     * @param arguments non-null map of arguments to the script
+     * @return future of the processing body, completed exceptionally with {@link PythonCacheException} if any caching error occurs
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> CompletableFuture<PythonExecutionResponse<R>> processAsync(String script, Class<? extends R> resultClass, Map<String, Object> arguments) {
+        try {
+            Object key = keyGenerator.generateKey(script, arguments, resultClass, objectMapper);
+            return singleFlight.getOrLoadAsync(key,
+                    () -> (PythonExecutionResponse<R>) cache.get(key, PythonExecutionResponse.class),
+                    () -> asyncPythonProcessor.<R>processAsync(script, resultClass, arguments)
+                            .thenApply(result -> {
+                                cache.put(key, result);
+                                return result;
+                            }));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new PythonCacheException(e));
+        }
+    }
+}
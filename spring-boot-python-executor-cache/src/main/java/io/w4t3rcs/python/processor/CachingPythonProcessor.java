@@ -2,6 +2,7 @@ package io.w4t3rcs.python.processor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.w4t3rcs.python.cache.CacheKeyGenerator;
+import io.w4t3rcs.python.cache.SingleFlight;
 import io.w4t3rcs.python.dto.PythonExecutionResponse;
 import io.w4t3rcs.python.exception.PythonCacheException;
 import io.w4t3rcs.python.properties.PythonCacheProperties;
@@ -9,7 +10,6 @@ import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
 import java.util.Map;
-import java.util.TreeMap;
 
 /**
  * {@link PythonProcessor} implementation that adds caching capabilities
@@ -19,8 +19,8 @@ import java.util.TreeMap;
  * caching results based on a cache key generated from the script and sorted arguments.
  * </p>
  * <p>
- * Sorting arguments by key and serializing them as JSON ensures consistent cache keys
- * for logically equivalent argument maps.
+ * Keys are generated by {@link CacheKeyGenerator#generateKey(String, Map, Object, ObjectMapper)}, which ensures
+ * consistent cache keys for logically equivalent argument maps.
  * </p>
  *
  * <p>Usage example:</p>
@@ -40,6 +40,7 @@ import java.util.TreeMap;
  * @see PythonProcessor
  * @see PythonCacheProperties.NameProperties
  * @see CacheKeyGenerator
+ * @see SingleFlight
  * @author w4t3rcs
  * @since 1.0.0
  */
@@ -48,6 +49,7 @@ public class CachingPythonProcessor implements PythonProcessor {
     private final Cache cache;
     private final CacheKeyGenerator keyGenerator;
     private final ObjectMapper objectMapper;
+    private final SingleFlight singleFlight;
 
     /**
      * Constructs a new {@code CachingPythonProcessor}.
@@ -63,14 +65,16 @@ public class CachingPythonProcessor implements PythonProcessor {
         this.cache = cacheManager.getCache(cacheProperties.name().processor());
         this.keyGenerator = keyGenerator;
         this.objectMapper = objectMapper;
+        this.singleFlight = SingleFlight.of(cacheProperties, PythonCacheProperties.PythonCacheLevel.PROCESSOR);
     }
 
     /**
      * Processes the given Python script with provided arguments and caches the body.
      * <p>
-     * The cache key is generated by concatenating the script and JSON serialization
-     * of the sorted arguments map. This guarantees stable key generation for
-     * logically equivalent argument maps.
+     * The cache key is generated from the script, the arguments map and the body type
+     * by {@link CacheKeyGenerator#generateKey(String, Map, Object, ObjectMapper)}. This guarantees stable key generation for
+     * logically equivalent argument maps. If coalescing is enabled for {@link PythonCacheProperties.PythonCacheLevel#PROCESSOR},
+     * concurrent misses of the same key share one processing through {@link SingleFlight}.
      * </p>
      *
      * @param <R> the type of the body
@@ -84,18 +88,14 @@ public class CachingPythonProcessor implements PythonProcessor {
     @SuppressWarnings("unchecked")
     public <R> PythonExecutionResponse<R> process(String script, Class<? extends R> resultClass, Map<String, Object> arguments) {
         try {
-            Map<String, Object> sortedMap = new TreeMap<>(arguments);
-            String argumentsJson = objectMapper.writeValueAsString(sortedMap);
-            String body = script + argumentsJson;
-            String key = keyGenerator.generateKey(body, resultClass);
-            PythonExecutionResponse<R> cachedResult = (PythonExecutionResponse<R>) cache.get(key, PythonExecutionResponse.class);
-            if (cachedResult != null) {
-                return cachedResult;
-            } else {
-                PythonExecutionResponse<R> result = pythonProcessor.process(script, resultClass, arguments);
-                cache.put(key, result);
-                return result;
-            }
+            Object key = keyGenerator.generateKey(script, arguments, resultClass, objectMapper);
+            return singleFlight.getOrLoad(key,
+                    () -> (PythonExecutionResponse<R>) cache.get(key, PythonExecutionResponse.class),
+                    () -> {
+                        PythonExecutionResponse<R> result = pythonProcessor.process(script, resultClass, arguments);
+                        cache.put(key, result);
+                        return result;
+                    });
         } catch (Exception e) {
             throw new PythonCacheException(e);
         }
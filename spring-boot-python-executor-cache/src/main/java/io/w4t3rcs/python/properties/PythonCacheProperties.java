@@ -1,18 +1,28 @@
 package io.w4t3rcs.python.properties;
 
+import io.w4t3rcs.python.cache.SingleFlight;
+import io.w4t3rcs.python.cache.disk.PythonCachePersistence;
 import io.w4t3rcs.python.cache.impl.HashCacheKeyGenerator;
+import io.w4t3rcs.python.cache.impl.StreamingCacheKeyGenerator;
+import io.w4t3rcs.python.cache.storage.PythonCacheStorage;
 import io.w4t3rcs.python.executor.CachingPythonExecutor;
 import io.w4t3rcs.python.file.CachingPythonFileHandler;
 import io.w4t3rcs.python.processor.CachingPythonProcessor;
 import io.w4t3rcs.python.resolver.CachingPythonResolverHolder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
 
 /**
  * Configuration properties for Python caching functionality.
  * <p>
  * Maps properties under the prefix {@code spring.python.cache} to configure
  * caching behavior including enabling/disabling cache, cache levels, cache
- * names for different cache types, and key generation properties.
+ * names for different cache types, key generation properties, the bounds
+ * applied by the default Caffeine-based cache manager, the coalescing of concurrent loads,
+ * the persistence of cached results on disk, and the encoded storage of cached results in memory.
  * </p>
  *
  * <p>Example configuration in application.yml:</p>
@@ -29,12 +39,46 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *         executor: pythonExecutorCache
  *         processor: pythonProcessorCache
  *       key:
+ *         type: hash
  *         hashAlgorithm: SHA-256
  *         charset: UTF-8
  *         delimiter: _
+ *       policy:
+ *         record-stats: true
+ *         file:
+ *           maximum-size: 1000
+ *           expire-after-access: 1h
+ *         resolver:
+ *           maximum-weight: 32MB
+ *           expire-after-access: 1h
+ *         executor:
+ *           maximum-size: 10000
+ *           expire-after-write: 10m
+ *         processor:
+ *           maximum-size: 10000
+ *           expire-after-write: 10m
+ *       coalescing:
+ *         levels: executor, processor
+ *       persistence:
+ *         enabled: false
+ *         levels: executor, processor
+ *         directory: /var/cache/python
+ *         segment-size: 64MB
+ *         maximum-size: 1GB
+ *         time-to-live: 7d
+ *       storage:
+ *         enabled: false
+ *         levels: executor, processor
+ *         compression-threshold: 4KB
+ *         off-heap: false
+ *         off-heap-limit: 256MB
  * }</pre>
  *
  * @see HashCacheKeyGenerator
+ * @see StreamingCacheKeyGenerator
+ * @see SingleFlight
+ * @see PythonCachePersistence
+ * @see PythonCacheStorage
  * @see CachingPythonFileHandler
  * @see CachingPythonResolverHolder
  * @see CachingPythonExecutor
@@ -43,7 +87,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * @since 1.0.0
  */
 @ConfigurationProperties(prefix = "spring.python.cache")
-public record PythonCacheProperties(boolean enabled, PythonCacheLevel[] levels, NameProperties name, KeyProperties key) {
+public record PythonCacheProperties(boolean enabled, PythonCacheLevel[] levels, NameProperties name, KeyProperties key, PolicyProperties policy,
+                                    CoalescingProperties coalescing, PersistenceProperties persistence, StorageProperties storage) {
     /**
      * Enumeration of available caching levels.
      * <p>
@@ -72,13 +117,122 @@ public record PythonCacheProperties(boolean enabled, PythonCacheLevel[] levels,
     /**
      * Properties related to cache key generation.
      * <p>
-     * Defines hash algorithm, charset, and delimiter used to generate cache keys.
+     * Defines the key generator type, and hash algorithm, charset, and delimiter used to generate cache keys.
      * </p>
      *
-     * @param hashAlgorithm name of the hashing algorithm (e.g. "SHA-256")
-     * @param charset charset name used to encode strings before hashing (e.g. "UTF-8")
+     * @param hashAlgorithm name of the hashing algorithm (e.g. "SHA-256"), used by the {@link Type#HASH} generator only
+     * @param charset charset name used to encode strings before hashing (e.g. "UTF-8"), used by the {@link Type#HASH} generator only
      * @param delimiter delimiter string used to separate key parts
+     * @param type type of the default key generator
+     */
+    public record KeyProperties(String hashAlgorithm, String charset, String delimiter, Type type) {
+        /**
+         * Enumeration of available key generators.
+         * <p>
+         * {@link #HASH} creates {@link HashCacheKeyGenerator} and {@link #STREAMING} creates {@link StreamingCacheKeyGenerator}.
+         * </p>
+         */
+        public enum Type {
+            HASH, STREAMING
+        }
+    }
+
+    /**
+     * Bounds of the caches created by the default Caffeine-based cache manager.
+     * <p>
+     * Every {@link PythonCacheLevel} has its own policy, the {@link PythonCacheLevel#FILE} policy applies
+     * to both file caches.
+     * </p>
+     *
+     * @param recordStats whether hit, miss and eviction statistics are recorded
+     * @param file policy of the file path and file body caches
+     * @param resolver policy of the resolved script cache
+     * @param executor policy of the executed result cache
+     * @param processor policy of the processed result cache
+     */
+    public record PolicyProperties(boolean recordStats, LevelPolicyProperties file, LevelPolicyProperties resolver,
+                                   LevelPolicyProperties executor, LevelPolicyProperties processor) {
+        /**
+         * Returns the policy of the given cache level.
+         *
+         * @param cacheLevel non-null cache level
+         * @return the policy of the cache level, may be {@code null} if not configured
+         */
+        public LevelPolicyProperties of(PythonCacheLevel cacheLevel) {
+            return switch (cacheLevel) {
+                case FILE -> file;
+                case RESOLVER -> resolver;
+                case EXECUTOR -> executor;
+                case PROCESSOR -> processor;
+            };
+        }
+    }
+
+    /**
+     * Bounds of the caches of one {@link PythonCacheLevel}.
+     * <p>
+     * If {@code maximumWeight} is set, entries are weighed by the size of their keys and values in bytes
+     * and {@code maximumSize} is ignored. Zero or missing values leave the corresponding bound unset.
+     * </p>
+     *
+     * @param maximumSize maximum number of entries
+     * @param maximumWeight maximum total size of the keys and values
+     * @param expireAfterWrite time after which an entry expires once it was written
+     * @param expireAfterAccess time after which an entry expires once it was last read or written
+     */
+    public record LevelPolicyProperties(long maximumSize, DataSize maximumWeight, Duration expireAfterWrite, Duration expireAfterAccess) {
+    }
+
+    /**
+     * Properties of the single-flight coalescing of concurrent cache loads.
+     * <p>
+     * For the declared levels, concurrent callers missing the cache for the same key share one load
+     * instead of executing the same work each.
+     * </p>
+     *
+     * @param levels cache levels whose loads are coalesced
+     */
+    public record CoalescingProperties(PythonCacheLevel[] levels) {
+    }
+
+    /**
+     * Properties of the persistent on-disk caches.
+     * <p>
+     * If enabled, the caches of the declared levels keep their entries in memory-mapped segment files as well,
+     * so a restarted application serves previously cached results without executing the scripts again.
+     * Only {@link PythonCacheLevel#RESOLVER}, {@link PythonCacheLevel#EXECUTOR} and {@link PythonCacheLevel#PROCESSOR}
+     * caches can be persistent.
+     * </p>
+     *
+     * @param enabled whether persistent caches are created
+     * @param levels cache levels whose caches are persistent
+     * @param directory directory holding a subdirectory of segment files per cache, created accessible by its owner only
+     * @param segmentSize size of every segment file
+     * @param maximumSize maximum total size of the segment files of one cache
+     * @param timeToLive time after which a stored entry expires once it was written, {@code 0} disables it,
+     * the {@code expireAfterWrite} of the level policy is used if {@code null}
+     * @param allowedClasses additional class name patterns stored values may be deserialized to, may be {@code null}
+     */
+    public record PersistenceProperties(boolean enabled, PythonCacheLevel[] levels, Path directory, DataSize segmentSize,
+                                        DataSize maximumSize, Duration timeToLive, String[] allowedClasses) {
+    }
+
+    /**
+     * Properties of the encoded storage of cached results.
+     * <p>
+     * If enabled, the caches of the declared levels keep the JSON encoded bodies of the results instead of the result objects
+     * and decode a fresh result on every hit. Encoded bodies of at least {@code compressionThreshold} are deflated,
+     * and with {@code offHeap} the bytes are kept in direct memory until {@code offHeapLimit} is reached.
+     * Only {@link PythonCacheLevel#EXECUTOR} and {@link PythonCacheLevel#PROCESSOR} caches can be encoded.
+     * </p>
+     *
+     * @param enabled whether encoded caches are created
+     * @param levels cache levels whose caches are encoded
+     * @param compressionThreshold minimal size of an encoded body to be compressed, {@code 0} disables compression
+     * @param offHeap whether the encoded bodies are kept in direct memory
+     * @param offHeapLimit maximum total size of the encoded bodies kept in direct memory
      */
-    public record KeyProperties(String hashAlgorithm, String charset, String delimiter) {
+    public record StorageProperties(boolean enabled, PythonCacheLevel[] levels, DataSize compressionThreshold, boolean offHeap,
+                                    DataSize offHeapLimit) {
     }
 }
@@ -2,6 +2,7 @@ package io.w4t3rcs.python.resolver;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.w4t3rcs.python.cache.CacheKeyGenerator;
+import io.w4t3rcs.python.cache.SingleFlight;
 import io.w4t3rcs.python.exception.PythonCacheException;
 import io.w4t3rcs.python.properties.PythonCacheProperties;
 import org.springframework.cache.Cache;
@@ -9,7 +10,6 @@ import org.springframework.cache.CacheManager;
 
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 
 /**
  * {@link PythonResolverHolder} implementation that adds caching functionality
@@ -41,6 +41,7 @@ import java.util.TreeMap;
  * @see PythonResolverHolder
  * @see PythonCacheProperties.NameProperties
  * @see CacheKeyGenerator
+ * @see SingleFlight
  * @see PythonResolver
  * @author w4t3rcs
  * @since 1.0.0
@@ -50,6 +51,7 @@ public class CachingPythonResolverHolder implements PythonResolverHolder {
     private final Cache cache;
     private final CacheKeyGenerator keyGenerator;
     private final ObjectMapper objectMapper;
+    private final SingleFlight singleFlight;
 
     /**
      * Constructs a new {@code CachingPythonResolverHolder}.
@@ -65,15 +67,17 @@ public class CachingPythonResolverHolder implements PythonResolverHolder {
         this.cache = cacheManager.getCache(cacheProperties.name().resolver());
         this.keyGenerator = keyGenerator;
         this.objectMapper = objectMapper;
+        this.singleFlight = SingleFlight.of(cacheProperties, PythonCacheProperties.PythonCacheLevel.RESOLVER);
     }
 
     /**
      * Resolves all variables in the given script using provided arguments,
      * caching the resolved script body.
      * <p>
-     * The cache key is generated by concatenating the original script and the JSON
-     * serialization of the sorted arguments map, ensuring consistent keys for
-     * logically equivalent argument sets.
+     * The cache key is generated from the original script and the arguments map
+     * by {@link CacheKeyGenerator#generateKey(String, Map, Object, ObjectMapper)}, ensuring consistent keys for
+     * logically equivalent argument sets. If coalescing is enabled for {@link PythonCacheProperties.PythonCacheLevel#RESOLVER},
+     * concurrent misses of the same key share one resolution through {@link SingleFlight}.
      * </p>
      *
      * @param script non-null script to resolve variables in
@@ -84,18 +88,14 @@ public class CachingPythonResolverHolder implements PythonResolverHolder {
     @Override
     public String resolveAll(String script, Map<String, Object> arguments) {
         try {
-            Map<String, Object> sortedMap = new TreeMap<>(arguments);
-            String argumentsJson = objectMapper.writeValueAsString(sortedMap);
-            String body = script + argumentsJson;
-            String key = keyGenerator.generateKey(body);
-            String cachedResolvedScript = cache.get(key, String.class);
-            if (cachedResolvedScript != null) {
-                return cachedResolvedScript;
-            } else {
-                String resolvedScript = pythonResolverHolder.resolveAll(script, arguments);
-                cache.put(key, resolvedScript);
-                return resolvedScript;
-            }
+            Object key = keyGenerator.generateKey(script, arguments, null, objectMapper);
+            return singleFlight.getOrLoad(key,
+                    () -> cache.get(key, String.class),
+                    () -> {
+                        String resolvedScript = pythonResolverHolder.resolveAll(script, arguments);
+                        cache.put(key, resolvedScript);
+                        return resolvedScript;
+                    });
         } catch (Exception e) {
             throw new PythonCacheException(e);
         }
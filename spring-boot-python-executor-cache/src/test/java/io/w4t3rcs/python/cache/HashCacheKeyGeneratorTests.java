@@ -1,6 +1,7 @@
 package io.w4t3rcs.python.cache;
 
 import io.w4t3rcs.python.cache.impl.HashCacheKeyGenerator;
+import io.w4t3rcs.python.dto.ResolvedScript;
 import io.w4t3rcs.python.properties.PythonCacheProperties;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -10,7 +11,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import static io.w4t3rcs.python.constant.TestConstants.OK;
+import static io.w4t3rcs.python.constant.TestConstants.*;
 import static io.w4t3rcs.python.properties.PythonCacheProperties.KeyProperties;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,4 +41,20 @@ class HashCacheKeyGeneratorTests {
         Assertions.assertTrue(generated.contains(hashedBody));
         Assertions.assertFalse(generated.contains(OK));
     }
+
+    @Test
+    void testGenerateBindingsKey() {
+        Mockito.when(cacheProperties.key()).thenReturn(keyProperties);
+        Mockito.when(keyProperties.hashAlgorithm()).thenReturn("SHA-256");
+        Mockito.when(keyProperties.charset()).thenReturn("UTF-8");
+        Mockito.when(keyProperties.delimiter()).thenReturn("_");
+
+        String generated = keyGenerator.generateKey(new ResolvedScript(SPELYTHON_SCRIPT_0, "[1]"), STRING_CLASS);
+        String largeBindings = "[\"" + "a".repeat(100_000) + "\"]";
+        String largeGenerated = keyGenerator.generateKey(new ResolvedScript(SPELYTHON_SCRIPT_0, largeBindings), STRING_CLASS);
+        Assertions.assertEquals(generated.length(), largeGenerated.length());
+        Assertions.assertNotEquals(generated, largeGenerated);
+        Assertions.assertFalse(generated.contains("[1]"));
+        Assertions.assertNotEquals(generated, keyGenerator.generateKey(ResolvedScript.of(SPELYTHON_SCRIPT_0 + "[1]"), STRING_CLASS));
+    }
 }
@@ -0,0 +1,190 @@
+package io.w4t3rcs.python.cache;
+
+import io.w4t3rcs.python.properties.PythonCacheProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.w4t3rcs.python.constant.TestConstants.CACHE_KEY;
+import static io.w4t3rcs.python.constant.TestConstants.OK;
+import static io.w4t3rcs.python.properties.PythonCacheProperties.CoalescingProperties;
+import static io.w4t3rcs.python.properties.PythonCacheProperties.PythonCacheLevel;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightTests {
+    private static final int CALLERS = 8;
+    @Mock
+    private PythonCacheProperties cacheProperties;
+
+    @Test
+    void testOf() {
+        Mockito.when(cacheProperties.coalescing()).thenReturn(null, new CoalescingProperties(new PythonCacheLevel[]{PythonCacheLevel.EXECUTOR}));
+
+        Assertions.assertFalse(this.isEnabled(SingleFlight.of(cacheProperties, PythonCacheLevel.EXECUTOR)));
+        Assertions.assertTrue(this.isEnabled(SingleFlight.of(cacheProperties, PythonCacheLevel.EXECUTOR)));
+        Assertions.assertFalse(this.isEnabled(SingleFlight.of(cacheProperties, PythonCacheLevel.PROCESSOR)));
+    }
+
+    @Test
+    void testGetOrLoadCoalesced() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(true);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executorService.submit(() -> singleFlight.getOrLoad(CACHE_KEY, () -> null, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                this.await(release);
+                return OK;
+            })));
+            Assertions.assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executorService.submit(() -> singleFlight.getOrLoad(CACHE_KEY, () -> null, () -> {
+                    loads.incrementAndGet();
+                    return OK;
+                })));
+            }
+            this.awaitWaiting(singleFlight);
+            release.countDown();
+            for (Future<String> result : results) {
+                Assertions.assertEquals(OK, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void testGetOrLoadSharedException() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(true);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException exception = new IllegalStateException(OK);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executorService.submit(() -> singleFlight.<String>getOrLoad(CACHE_KEY, () -> null, () -> {
+                loading.countDown();
+                this.await(release);
+                throw exception;
+            }));
+            Assertions.assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<String> waiter = executorService.submit(() -> singleFlight.getOrLoad(CACHE_KEY, () -> null, () -> OK));
+            this.awaitWaiting(singleFlight);
+            release.countDown();
+            Assertions.assertSame(exception, Assertions.assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS)).getCause());
+            Assertions.assertSame(exception, Assertions.assertThrows(Exception.class, () -> waiter.get(5, TimeUnit.SECONDS)).getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+        Assertions.assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void testGetOrLoadCached() {
+        SingleFlight singleFlight = new SingleFlight(true);
+
+        Assertions.assertEquals(OK, singleFlight.getOrLoad(CACHE_KEY, () -> OK, Assertions::fail));
+    }
+
+    @Test
+    void testGetOrLoadDisabled() {
+        SingleFlight singleFlight = new SingleFlight(false);
+        AtomicInteger loads = new AtomicInteger();
+
+        Assertions.assertEquals(OK, singleFlight.getOrLoad(CACHE_KEY, () -> null, () -> {
+            loads.incrementAndGet();
+            return OK;
+        }));
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void testGetOrLoadAsyncCoalesced() {
+        SingleFlight singleFlight = new SingleFlight(true);
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> load = new CompletableFuture<>();
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(singleFlight.getOrLoadAsync(CACHE_KEY, () -> null, () -> {
+                loads.incrementAndGet();
+                return load;
+            }));
+        }
+        Assertions.assertEquals(1, singleFlight.getInFlightCount());
+        results.get(0).cancel(true);
+        load.complete(OK);
+        for (CompletableFuture<String> result : results.subList(1, CALLERS)) {
+            Assertions.assertEquals(OK, result.join());
+        }
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void testGetOrLoadAsyncSharedException() {
+        SingleFlight singleFlight = new SingleFlight(true);
+        CompletableFuture<String> load = new CompletableFuture<>();
+        IllegalStateException exception = new IllegalStateException(OK);
+
+        CompletableFuture<String> leader = singleFlight.getOrLoadAsync(CACHE_KEY, () -> null, () -> load);
+        CompletableFuture<String> waiter = singleFlight.getOrLoadAsync(CACHE_KEY, () -> null, () -> CompletableFuture.completedFuture(OK));
+        load.completeExceptionally(exception);
+        Assertions.assertSame(exception, Assertions.assertThrows(CompletionException.class, leader::join).getCause());
+        Assertions.assertSame(exception, Assertions.assertThrows(CompletionException.class, waiter::join).getCause());
+        Assertions.assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void testGetOrLoadAsyncDisabled() {
+        SingleFlight singleFlight = new SingleFlight(false);
+        CompletableFuture<String> load = new CompletableFuture<>();
+
+        Assertions.assertSame(load, singleFlight.getOrLoadAsync(CACHE_KEY, () -> null, () -> load));
+        Assertions.assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    private boolean isEnabled(SingleFlight singleFlight) {
+        CompletableFuture<String> load = new CompletableFuture<>();
+        singleFlight.getOrLoadAsync(CACHE_KEY, () -> null, () -> load);
+        boolean enabled = singleFlight.getInFlightCount() == 1;
+        load.complete(OK);
+        return enabled;
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitWaiting(SingleFlight singleFlight) throws InterruptedException {
+        Thread.sleep(100);
+        Assertions.assertEquals(1, singleFlight.getInFlightCount());
+    }
+}
@@ -0,0 +1,93 @@
+package io.w4t3rcs.python.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.cache.impl.StreamingCacheKeyGenerator;
+import io.w4t3rcs.python.dto.ResolvedScript;
+import io.w4t3rcs.python.properties.PythonCacheProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+import static io.w4t3rcs.python.properties.PythonCacheProperties.KeyProperties;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingCacheKeyGeneratorTests {
+    private static final String PARAM = "a";
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    @InjectMocks
+    private StreamingCacheKeyGenerator keyGenerator;
+    @Mock
+    private PythonCacheProperties cacheProperties;
+    @Mock
+    private KeyProperties keyProperties;
+
+    @Test
+    void testGenerateKey() {
+        Mockito.when(cacheProperties.key()).thenReturn(keyProperties);
+        Mockito.when(keyProperties.delimiter()).thenReturn("_");
+
+        String generated = keyGenerator.generateKey("prefix", OK, "suffix");
+        Assertions.assertTrue(generated.matches("[0-9a-f]{32}_suffix"));
+        Assertions.assertEquals(generated, keyGenerator.generateKey("prefix", OK, "suffix"));
+        Assertions.assertNotEquals(generated, keyGenerator.generateKey("prefixO", "K", "suffix"));
+        Assertions.assertNotEquals(keyGenerator.generateKey(OK), keyGenerator.generateKey((Object) "", OK));
+    }
+
+    @Test
+    void testGenerateArgumentsKey() {
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put(PARAM, List.of(1, "b", Map.of("c", 2.5)));
+        arguments.put("d", null);
+        arguments.put("e", new Point(1, 2));
+        Map<String, Object> reorderedArguments = new LinkedHashMap<>();
+        reorderedArguments.put("e", new Point(1, 2));
+        reorderedArguments.put("d", null);
+        reorderedArguments.put(PARAM, List.of(1L, "b", Map.of("c", 2.5)));
+
+        Object generated = keyGenerator.generateKey(SPELYTHON_SCRIPT_0, arguments, STRING_CLASS, objectMapper);
+        Assertions.assertInstanceOf(CacheKey.class, generated);
+        Assertions.assertEquals(generated, keyGenerator.generateKey(SPELYTHON_SCRIPT_0, reorderedArguments, STRING_CLASS, objectMapper));
+        Assertions.assertNotEquals(generated, keyGenerator.generateKey(SPELYTHON_SCRIPT_0, arguments, Integer.class, objectMapper));
+        Assertions.assertNotEquals(generated, keyGenerator.generateKey(SPELYTHON_SCRIPT_1, arguments, STRING_CLASS, objectMapper));
+        reorderedArguments.put(PARAM, List.of(1, "b", Map.of("c", 2.6)));
+        Assertions.assertNotEquals(generated, keyGenerator.generateKey(SPELYTHON_SCRIPT_0, reorderedArguments, STRING_CLASS, objectMapper));
+    }
+
+    @Test
+    void testGenerateArgumentsKeyUnambiguous() {
+        Object generated = keyGenerator.generateKey(SPELYTHON_SCRIPT_0, Map.of(PARAM, "1"), null, objectMapper);
+
+        Assertions.assertNotEquals(generated, keyGenerator.generateKey(SPELYTHON_SCRIPT_0, Map.of(PARAM, 1), null, objectMapper));
+        Assertions.assertNotEquals(generated, keyGenerator.generateKey(SPELYTHON_SCRIPT_0, Map.of(PARAM, List.of("1")), null, objectMapper));
+        Assertions.assertNotEquals(generated, keyGenerator.generateKey(SPELYTHON_SCRIPT_0 + PARAM, Map.of("", "1"), null, objectMapper));
+        Assertions.assertNotEquals(keyGenerator.generateKey(SPELYTHON_SCRIPT_0, EMPTY_ARGUMENTS, null, objectMapper),
+                keyGenerator.generateKey(SPELYTHON_SCRIPT_0, Map.of(PARAM, ""), null, objectMapper));
+    }
+
+    @Test
+    void testGenerateBindingsKey() {
+        Mockito.when(cacheProperties.key()).thenReturn(keyProperties);
+        Mockito.when(keyProperties.delimiter()).thenReturn("_");
+
+        String generated = keyGenerator.generateKey(new ResolvedScript(SPELYTHON_SCRIPT_0, "[1]"), STRING_CLASS);
+        String largeBindings = "[\"" + "a".repeat(100_000) + "\"]";
+        String largeGenerated = keyGenerator.generateKey(new ResolvedScript(SPELYTHON_SCRIPT_0, largeBindings), STRING_CLASS);
+        Assertions.assertEquals(generated.length(), largeGenerated.length());
+        Assertions.assertNotEquals(generated, largeGenerated);
+        Assertions.assertNotEquals(generated, keyGenerator.generateKey(ResolvedScript.of(SPELYTHON_SCRIPT_0 + "[1]"), STRING_CLASS));
+        Assertions.assertNotEquals(generated, keyGenerator.generateKey("[1]", SPELYTHON_SCRIPT_0, STRING_CLASS));
+    }
+
+    record Point(int x, int y) {
+    }
+}
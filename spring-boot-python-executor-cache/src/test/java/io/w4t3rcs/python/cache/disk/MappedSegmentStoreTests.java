@@ -0,0 +1,218 @@
+package io.w4t3rcs.python.cache.disk;
+
+import io.w4t3rcs.python.exception.PythonCacheException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.stream.Stream;
+
+import static io.w4t3rcs.python.constant.TestConstants.OK;
+
+class MappedSegmentStoreTests {
+    private static final int SEGMENT_SIZE = 4096;
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testPutAndGet() {
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 4L, null)) {
+            store.put(bytes("a"), bytes(OK));
+            store.put(bytes("b"), bytes("first"));
+            store.put(bytes("b"), bytes("second"));
+
+            Assertions.assertArrayEquals(bytes(OK), store.get(bytes("a")));
+            Assertions.assertArrayEquals(bytes("second"), store.get(bytes("b")));
+            Assertions.assertNull(store.get(bytes("c")));
+            Assertions.assertEquals(2, store.size());
+        }
+    }
+
+    @Test
+    void testRecover() {
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 4L, null)) {
+            store.put(bytes("a"), bytes(OK));
+            store.put(bytes("b"), bytes("first"));
+            store.put(bytes("b"), bytes("second"));
+            store.put(bytes("c"), bytes(OK));
+            store.remove(bytes("c"));
+        }
+
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 4L, null)) {
+            Assertions.assertArrayEquals(bytes(OK), store.get(bytes("a")));
+            Assertions.assertArrayEquals(bytes("second"), store.get(bytes("b")));
+            Assertions.assertNull(store.get(bytes("c")));
+            Assertions.assertEquals(2, store.size());
+            store.put(bytes("d"), bytes(OK));
+            Assertions.assertArrayEquals(bytes(OK), store.get(bytes("d")));
+        }
+    }
+
+    @Test
+    void testRecoverTornRecord() throws IOException {
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 4L, null)) {
+            store.put(bytes("a"), bytes(OK));
+            store.put(bytes("b"), bytes(OK));
+        }
+        Path segment = this.listSegments()[0];
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            int secondRecordValue = 8 + 8 + 4 + 1 + 4 + OK.length() + 8 + 8 + 4 + 1 + 4;
+            channel.write(ByteBuffer.wrap(bytes("X")), secondRecordValue);
+        }
+
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 4L, null)) {
+            Assertions.assertArrayEquals(bytes(OK), store.get(bytes("a")));
+            Assertions.assertNull(store.get(bytes("b")));
+            store.put(bytes("c"), bytes(OK));
+        }
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 4L, null)) {
+            Assertions.assertArrayEquals(bytes(OK), store.get(bytes("c")));
+        }
+    }
+
+    @Test
+    void testTimeToLive() {
+        MutableClock clock = new MutableClock();
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 4L, Duration.ofMinutes(1), clock)) {
+            store.put(bytes("a"), bytes(OK));
+            Assertions.assertArrayEquals(bytes(OK), store.get(bytes("a")));
+            clock.instant = clock.instant.plusSeconds(61);
+            Assertions.assertNull(store.get(bytes("a")));
+            Assertions.assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    void testCompactAndMaximumSize() {
+        byte[] value = new byte[1000];
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 3L, null)) {
+            store.put(bytes("live"), value);
+            for (int i = 0; i < 20; i++) {
+                store.put(bytes("overwritten"), value);
+            }
+            Assertions.assertArrayEquals(value, store.get(bytes("live")));
+            Assertions.assertTrue(store.getDiskSize() <= SEGMENT_SIZE * 3L);
+            Assertions.assertEquals(store.getDiskSize(), this.listSegments().length * (long) SEGMENT_SIZE);
+
+            for (int i = 0; i < 20; i++) {
+                store.put(bytes("key" + i), value);
+            }
+            Assertions.assertTrue(store.getDiskSize() <= SEGMENT_SIZE * 3L);
+            Assertions.assertNull(store.get(bytes("key0")));
+            Assertions.assertArrayEquals(value, store.get(bytes("key19")));
+        }
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 3L, null)) {
+            Assertions.assertNull(store.get(bytes("key0")));
+            Assertions.assertArrayEquals(value, store.get(bytes("key19")));
+        }
+    }
+
+    @Test
+    void testRemovalSurvivesCompaction() {
+        byte[] value = new byte[1000];
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 8L, null)) {
+            store.put(bytes("removed"), value);
+            store.put(bytes("a"), value);
+            store.put(bytes("b"), value);
+            store.put(bytes("c"), value);
+            store.remove(bytes("removed"));
+            for (int i = 0; i < 8; i++) {
+                store.put(bytes("overwritten"), value);
+            }
+        }
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 8L, null)) {
+            Assertions.assertNull(store.get(bytes("removed")));
+            Assertions.assertArrayEquals(value, store.get(bytes("a")));
+        }
+    }
+
+    @Test
+    void testOversizedRecord() {
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 4L, null)) {
+            store.put(bytes("a"), bytes(OK));
+            store.put(bytes("a"), new byte[SEGMENT_SIZE]);
+
+            Assertions.assertNull(store.get(bytes("a")));
+        }
+    }
+
+    @Test
+    void testClear() {
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 4L, null)) {
+            store.put(bytes("a"), bytes(OK));
+            store.clear();
+
+            Assertions.assertNull(store.get(bytes("a")));
+            Assertions.assertEquals(1, this.listSegments().length);
+        }
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 4L, null)) {
+            Assertions.assertNull(store.get(bytes("a")));
+        }
+    }
+
+    @Test
+    void testDirectoryIsLocked() {
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 4L, null)) {
+            store.put(bytes("a"), bytes(OK));
+            Assertions.assertThrows(PythonCacheException.class, () -> new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 4L, null));
+        }
+        try (MappedSegmentStore store = new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 4L, null)) {
+            Assertions.assertArrayEquals(bytes(OK), store.get(bytes("a")));
+        }
+    }
+
+    @Test
+    void testDirectoryIsOwnerOnly() throws IOException {
+        Path storeDirectory = directory.resolve("parent").resolve("store");
+        try (MappedSegmentStore ignored = new MappedSegmentStore(storeDirectory, SEGMENT_SIZE, SEGMENT_SIZE * 4L, null)) {
+            if (Files.getFileAttributeView(storeDirectory, PosixFileAttributeView.class) != null) {
+                Assertions.assertEquals(PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(storeDirectory));
+                Assertions.assertEquals(PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(storeDirectory.getParent()));
+            }
+        }
+    }
+
+    private Path[] listSegments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("segment-")).toArray(Path[]::new);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.EPOCH;
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
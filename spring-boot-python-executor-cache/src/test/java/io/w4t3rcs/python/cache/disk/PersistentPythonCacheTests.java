@@ -0,0 +1,103 @@
+package io.w4t3rcs.python.cache.disk;
+
+import io.w4t3rcs.python.cache.CacheKey;
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+
+class PersistentPythonCacheTests {
+    private static final long SEGMENT_SIZE = 1 << 16;
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testGetAfterRestart() {
+        CacheKey cacheKey = new CacheKey(1, 2);
+        PythonExecutionResponse<Object> response = new PythonExecutionResponse<>(Map.of("a", List.of(1, 2)));
+        try (MappedSegmentStore store = this.openStore()) {
+            Cache cache = new PersistentPythonCache(new ConcurrentMapCache(CACHE_MANAGER_KEY), store);
+            cache.put(CACHE_KEY, OK_RESPONSE);
+            cache.put(cacheKey, response);
+            Assertions.assertEquals(OK_RESPONSE, cache.get(CACHE_KEY, PythonExecutionResponse.class));
+        }
+
+        try (MappedSegmentStore store = this.openStore()) {
+            ConcurrentMapCache memoryCache = new ConcurrentMapCache(CACHE_MANAGER_KEY);
+            Cache cache = new PersistentPythonCache(memoryCache, store);
+            Assertions.assertNull(memoryCache.get(CACHE_KEY));
+            Assertions.assertEquals(OK_RESPONSE, cache.get(CACHE_KEY, PythonExecutionResponse.class));
+            Assertions.assertEquals(OK_RESPONSE, memoryCache.get(CACHE_KEY, PythonExecutionResponse.class));
+            Assertions.assertEquals(response, cache.get(cacheKey, PythonExecutionResponse.class));
+            Assertions.assertNull(cache.get(new CacheKey(2, 1)));
+            Assertions.assertEquals(CACHE_MANAGER_KEY, cache.getName());
+        }
+    }
+
+    @Test
+    void testNotSerializableValue() {
+        PythonExecutionResponse<Object> response = new PythonExecutionResponse<>(new Object());
+        try (MappedSegmentStore store = this.openStore()) {
+            Cache cache = new PersistentPythonCache(new ConcurrentMapCache(CACHE_MANAGER_KEY), store);
+            cache.put(CACHE_KEY, OK_RESPONSE);
+            cache.put(CACHE_KEY, response);
+            Assertions.assertSame(response, cache.get(CACHE_KEY, PythonExecutionResponse.class));
+        }
+
+        try (MappedSegmentStore store = this.openStore()) {
+            Cache cache = new PersistentPythonCache(new ConcurrentMapCache(CACHE_MANAGER_KEY), store);
+            Assertions.assertNull(cache.get(CACHE_KEY));
+        }
+    }
+
+    @Test
+    void testEvictAndClear() {
+        try (MappedSegmentStore store = this.openStore()) {
+            Cache cache = new PersistentPythonCache(new ConcurrentMapCache(CACHE_MANAGER_KEY), store);
+            cache.put(CACHE_KEY, OK_RESPONSE);
+            cache.put(OK, OK_RESPONSE);
+            cache.evict(CACHE_KEY);
+            Assertions.assertNull(cache.get(CACHE_KEY));
+            Assertions.assertEquals(OK_RESPONSE, cache.get(OK, () -> null));
+            cache.clear();
+            Assertions.assertNull(cache.get(OK));
+            Assertions.assertEquals(OK_RESPONSE, cache.get(OK, () -> OK_RESPONSE));
+        }
+
+        try (MappedSegmentStore store = this.openStore()) {
+            Cache cache = new PersistentPythonCache(new ConcurrentMapCache(CACHE_MANAGER_KEY), store);
+            Assertions.assertNull(cache.get(CACHE_KEY));
+            Assertions.assertEquals(OK_RESPONSE, cache.get(OK, PythonExecutionResponse.class));
+        }
+    }
+
+    @Test
+    void testOnlyAllowedClassesAreDeserialized() {
+        PythonExecutionResponse<Object> response = new PythonExecutionResponse<>(URI.create("https://localhost"));
+        try (MappedSegmentStore store = this.openStore()) {
+            Cache cache = new PersistentPythonCache(new ConcurrentMapCache(CACHE_MANAGER_KEY), store);
+            cache.put(CACHE_KEY, response);
+            cache.put(OK, response);
+        }
+
+        try (MappedSegmentStore store = this.openStore()) {
+            Cache cache = new PersistentPythonCache(new ConcurrentMapCache(CACHE_MANAGER_KEY), store);
+            Assertions.assertNull(cache.get(CACHE_KEY));
+            Cache allowingCache = new PersistentPythonCache(new ConcurrentMapCache(CACHE_MANAGER_KEY), store, List.of("java.net.URI"));
+            Assertions.assertEquals(response, allowingCache.get(OK, PythonExecutionResponse.class));
+        }
+    }
+
+    private MappedSegmentStore openStore() {
+        return new MappedSegmentStore(directory, SEGMENT_SIZE, SEGMENT_SIZE * 4, null);
+    }
+}
@@ -0,0 +1,32 @@
+package io.w4t3rcs.python.cache.impl;
+
+import io.w4t3rcs.python.cache.CacheKey;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+class Murmur3HasherTests {
+    @Test
+    void testHash() {
+        Assertions.assertEquals(new CacheKey(0, 0), new Murmur3Hasher(0).hash());
+        Assertions.assertEquals(new CacheKey(0xe34bbc7bbc071b6cL, 0x7a433ca9c49a9347L), this.hash("The quick brown fox jumps over the lazy dog"));
+    }
+
+    @Test
+    void testPutChar() {
+        Murmur3Hasher hasher = new Murmur3Hasher(0);
+        for (char character : "hello".toCharArray()) {
+            hasher.putChar(character);
+        }
+        Assertions.assertEquals(this.hash("h\0e\0l\0l\0o\0"), hasher.hash());
+    }
+
+    private CacheKey hash(String value) {
+        Murmur3Hasher hasher = new Murmur3Hasher(0);
+        for (byte next : value.getBytes(StandardCharsets.UTF_8)) {
+            hasher.putByte(next);
+        }
+        return hasher.hash();
+    }
+}
@@ -0,0 +1,163 @@
+package io.w4t3rcs.python.cache.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.*;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+
+class EncodedPythonCacheTests {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testGetDecodesFreshResponse() {
+        ConcurrentMapCache delegate = new ConcurrentMapCache(CACHE_MANAGER_KEY);
+        Cache cache = new EncodedPythonCache(delegate, objectMapper, 0, null);
+        PythonExecutionResponse<Object> response = new PythonExecutionResponse<>(new ArrayList<>(List.of(Map.of("a", 1), "b")));
+        cache.put(CACHE_KEY, response);
+
+        EncodedPythonResponse encodedResponse = Assertions.assertInstanceOf(EncodedPythonResponse.class, delegate.get(CACHE_KEY).get());
+        Assertions.assertFalse(encodedResponse.isCompressed());
+        Assertions.assertFalse(encodedResponse.isOffHeap());
+        PythonExecutionResponse<?> first = cache.get(CACHE_KEY, PythonExecutionResponse.class);
+        PythonExecutionResponse<?> second = cache.get(CACHE_KEY, PythonExecutionResponse.class);
+        Assertions.assertEquals(response, first);
+        Assertions.assertEquals(first, second);
+        Assertions.assertNotSame(first.body(), second.body());
+        Assertions.assertEquals(CACHE_MANAGER_KEY, cache.getName());
+    }
+
+    @Test
+    void testCompressedOffHeap() {
+        ConcurrentMapCache delegate = new ConcurrentMapCache(CACHE_MANAGER_KEY);
+        DirectMemoryBudget budget = new DirectMemoryBudget(1024);
+        Cache cache = new EncodedPythonCache(delegate, objectMapper, 64, budget);
+        PythonExecutionResponse<String> response = new PythonExecutionResponse<>(OK.repeat(1000));
+        cache.put(CACHE_KEY, response);
+        cache.put(OK, OK_RESPONSE);
+
+        EncodedPythonResponse encodedResponse = (EncodedPythonResponse) delegate.get(CACHE_KEY).get();
+        Assertions.assertTrue(encodedResponse.isCompressed());
+        Assertions.assertTrue(encodedResponse.isOffHeap());
+        Assertions.assertEquals(0, encodedResponse.getHeapSize());
+        Assertions.assertTrue(encodedResponse.getSize() < 100);
+        Assertions.assertFalse(((EncodedPythonResponse) delegate.get(OK).get()).isCompressed());
+        Assertions.assertTrue(budget.getUsed() > 0);
+        Assertions.assertEquals(response, cache.get(CACHE_KEY, PythonExecutionResponse.class));
+        Assertions.assertEquals(OK_RESPONSE, cache.get(OK, PythonExecutionResponse.class));
+    }
+
+    @Test
+    void testExhaustedBudgetKeepsBytesOnHeap() {
+        ConcurrentMapCache delegate = new ConcurrentMapCache(CACHE_MANAGER_KEY);
+        DirectMemoryBudget budget = new DirectMemoryBudget(2);
+        Cache cache = new EncodedPythonCache(delegate, objectMapper, 0, budget);
+        cache.put(CACHE_KEY, OK_RESPONSE);
+
+        EncodedPythonResponse encodedResponse = (EncodedPythonResponse) delegate.get(CACHE_KEY).get();
+        Assertions.assertFalse(encodedResponse.isOffHeap());
+        Assertions.assertEquals(0, budget.getUsed());
+        Assertions.assertEquals(OK_RESPONSE, cache.get(CACHE_KEY, PythonExecutionResponse.class));
+    }
+
+    @Test
+    void testEvictReleasesBudget() {
+        ConcurrentMapCache delegate = new ConcurrentMapCache(CACHE_MANAGER_KEY);
+        DirectMemoryBudget budget = new DirectMemoryBudget(1024);
+        Cache cache = new EncodedPythonCache(delegate, objectMapper, 0, budget);
+        cache.put(CACHE_KEY, OK_RESPONSE);
+        EncodedPythonResponse encodedResponse = (EncodedPythonResponse) delegate.get(CACHE_KEY).get();
+        Assertions.assertTrue(encodedResponse.isOffHeap());
+        Assertions.assertEquals(encodedResponse.getSize(), budget.getUsed());
+
+        cache.evict(CACHE_KEY);
+        Assertions.assertEquals(0, budget.getUsed());
+        encodedResponse.release();
+        Assertions.assertEquals(0, budget.getUsed());
+        Assertions.assertNull(cache.get(CACHE_KEY));
+    }
+
+    @Test
+    void testNotEncodedValues() {
+        ConcurrentMapCache delegate = new ConcurrentMapCache(CACHE_MANAGER_KEY);
+        Cache cache = new EncodedPythonCache(delegate, objectMapper, 0, null);
+        PythonExecutionResponse<Object> response = new PythonExecutionResponse<>(new Object());
+        cache.put(CACHE_KEY, response);
+        cache.put(OK, OK);
+        cache.put(SIMPLE_SCRIPT_0, new PythonExecutionResponse<>(null));
+
+        Assertions.assertSame(response, cache.get(CACHE_KEY, PythonExecutionResponse.class));
+        Assertions.assertSame(OK, cache.get(OK, String.class));
+        Assertions.assertEquals(new PythonExecutionResponse<>(null), cache.get(SIMPLE_SCRIPT_0, PythonExecutionResponse.class));
+    }
+
+    @Test
+    void testCollectionBodyKeepsItsClass() {
+        ConcurrentMapCache delegate = new ConcurrentMapCache(CACHE_MANAGER_KEY);
+        Cache cache = new EncodedPythonCache(delegate, objectMapper, 0, null);
+        List<Object> bodies = List.of(new TreeSet<>(List.of("b", "a")), new LinkedHashSet<>(List.of("b", "a")), new LinkedList<>(List.of(1, 2)),
+                new TreeMap<>(Map.of("b", 1, "a", 2)));
+        for (Object body : bodies) {
+            cache.put(CACHE_KEY, new PythonExecutionResponse<>(body));
+            Assertions.assertInstanceOf(EncodedPythonResponse.class, delegate.get(CACHE_KEY).get());
+            Object decodedBody = cache.get(CACHE_KEY, PythonExecutionResponse.class).body();
+            Assertions.assertEquals(body.getClass(), decodedBody.getClass());
+            Assertions.assertEquals(body, decodedBody);
+        }
+    }
+
+    @Test
+    void testNotConstructibleCollectionBodyIsKeptAsObject() {
+        ConcurrentMapCache delegate = new ConcurrentMapCache(CACHE_MANAGER_KEY);
+        Cache cache = new EncodedPythonCache(delegate, objectMapper, 0, null);
+        List<PythonExecutionResponse<?>> responses = List.of(new PythonExecutionResponse<>(List.of(1, 2)),
+                new PythonExecutionResponse<>(Collections.unmodifiableMap(new HashMap<>(Map.of("a", 1)))),
+                new PythonExecutionResponse<>(new TreeSet<>(Comparator.reverseOrder())));
+        for (PythonExecutionResponse<?> response : responses) {
+            cache.put(CACHE_KEY, response);
+            Assertions.assertSame(response, cache.get(CACHE_KEY, PythonExecutionResponse.class));
+        }
+    }
+
+    @Test
+    void testUndecodableBodyIsEvicted() {
+        ConcurrentMapCache delegate = new ConcurrentMapCache(CACHE_MANAGER_KEY);
+        Cache cache = new EncodedPythonCache(delegate, objectMapper, 0, null);
+        PythonExecutionResponse<Immutable> response = new PythonExecutionResponse<>(new Immutable(OK));
+        cache.put(CACHE_KEY, response);
+
+        Assertions.assertNull(cache.get(CACHE_KEY));
+        Assertions.assertNull(delegate.get(CACHE_KEY));
+        cache.put(CACHE_KEY, response);
+        Assertions.assertSame(response, cache.get(CACHE_KEY, PythonExecutionResponse.class));
+    }
+
+    @Test
+    void testGetWithLoaderEvictAndClear() {
+        Cache cache = new EncodedPythonCache(new ConcurrentMapCache(CACHE_MANAGER_KEY), objectMapper, 0, null);
+        Assertions.assertEquals(OK_RESPONSE, cache.get(CACHE_KEY, () -> OK_RESPONSE));
+        Assertions.assertEquals(OK_RESPONSE, cache.get(CACHE_KEY, () -> null));
+        cache.evict(CACHE_KEY);
+        Assertions.assertNull(cache.get(CACHE_KEY));
+        cache.put(OK, OK_RESPONSE);
+        cache.clear();
+        Assertions.assertNull(cache.get(OK));
+    }
+
+    static class Immutable {
+        private final String value;
+
+        Immutable(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
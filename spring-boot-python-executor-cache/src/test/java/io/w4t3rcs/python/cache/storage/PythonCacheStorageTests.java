@@ -0,0 +1,44 @@
+package io.w4t3rcs.python.cache.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.properties.PythonCacheProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.util.unit.DataSize;
+
+class PythonCacheStorageTests {
+    private static final PythonCacheProperties.NameProperties NAME_PROPERTIES = new PythonCacheProperties.NameProperties(
+            "filePathsCache", "fileBodiesCache", "pythonResolverCache", "pythonExecutorCache", "pythonProcessorCache");
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testDecorate() {
+        PythonCacheStorage cacheStorage = new PythonCacheStorage(this.createProperties(true, PythonCacheProperties.PythonCacheLevel.EXECUTOR), objectMapper);
+        CacheManager cacheManager = cacheStorage.decorate(new ConcurrentMapCacheManager());
+
+        Assertions.assertArrayEquals(new String[]{"pythonExecutorCache"}, cacheStorage.getCacheNames());
+        Assertions.assertInstanceOf(EncodedPythonCache.class, cacheManager.getCache("pythonExecutorCache"));
+        Assertions.assertFalse(cacheManager.getCache("pythonProcessorCache") instanceof EncodedPythonCache);
+        Assertions.assertEquals(1024, cacheStorage.getBudget().getLimit());
+    }
+
+    @Test
+    void testHeapStorage() {
+        PythonCacheStorage cacheStorage = new PythonCacheStorage(this.createProperties(false, PythonCacheProperties.PythonCacheLevel.PROCESSOR), objectMapper);
+        Assertions.assertNull(cacheStorage.getBudget());
+        Assertions.assertNull(cacheStorage.decorate("pythonProcessorCache", null));
+    }
+
+    @Test
+    void testUnsupportedLevel() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new PythonCacheStorage(this.createProperties(false, PythonCacheProperties.PythonCacheLevel.RESOLVER), objectMapper));
+    }
+
+    private PythonCacheProperties createProperties(boolean offHeap, PythonCacheProperties.PythonCacheLevel... levels) {
+        var storageProperties = new PythonCacheProperties.StorageProperties(true, levels, DataSize.ofKilobytes(4), offHeap, DataSize.ofKilobytes(1));
+        return new PythonCacheProperties(true, levels, NAME_PROPERTIES, null, null, null, null, storageProperties);
+    }
+}
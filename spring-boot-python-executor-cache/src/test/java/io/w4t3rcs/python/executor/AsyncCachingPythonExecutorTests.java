@@ -0,0 +1,80 @@
+package io.w4t3rcs.python.executor;
+
+import io.w4t3rcs.python.cache.CacheKeyGenerator;
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.properties.PythonCacheProperties;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.concurrent.CompletableFuture;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+import static io.w4t3rcs.python.properties.PythonCacheProperties.NameProperties;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncCachingPythonExecutorTests {
+    private AsyncCachingPythonExecutor asyncCachingPythonExecutor;
+    @Mock
+    private AsyncPythonExecutor asyncPythonExecutor;
+    @Mock
+    private Cache cache;
+    @Mock
+    private CacheKeyGenerator keyGenerator;
+    @Mock
+    private PythonCacheProperties cacheProperties;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private NameProperties nameProperties;
+
+    @BeforeEach
+    void init() {
+        Mockito.when(cacheProperties.name()).thenReturn(nameProperties);
+        Mockito.when(nameProperties.executor()).thenReturn(CACHE_MANAGER_KEY);
+        Mockito.when(cacheManager.getCache(CACHE_MANAGER_KEY)).thenReturn(cache);
+        asyncCachingPythonExecutor = new AsyncCachingPythonExecutor(cacheProperties, asyncPythonExecutor, cacheManager, keyGenerator);
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {
+            SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1, SIMPLE_SCRIPT_2, SIMPLE_SCRIPT_3,
+            RESULT_SCRIPT_0, RESULT_SCRIPT_1, RESULT_SCRIPT_2, RESULT_SCRIPT_3,
+            SPELYTHON_SCRIPT_0, SPELYTHON_SCRIPT_1,
+            COMPOUND_SCRIPT_0, COMPOUND_SCRIPT_1,
+    })
+    void testExistentKeyExecuteAsync(String script) {
+        Mockito.when(keyGenerator.generateKey(script, STRING_CLASS)).thenReturn(CACHE_KEY);
+        Mockito.when((PythonExecutionResponse<String>) cache.get(CACHE_KEY, STRING_RESPONSE_CLASS)).thenReturn(OK_RESPONSE);
+
+        String executed = asyncCachingPythonExecutor.executeAsync(script, STRING_CLASS).get().body();
+        Assertions.assertEquals(OK, executed);
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {
+            SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1, SIMPLE_SCRIPT_2, SIMPLE_SCRIPT_3,
+            RESULT_SCRIPT_0, RESULT_SCRIPT_1, RESULT_SCRIPT_2, RESULT_SCRIPT_3,
+            SPELYTHON_SCRIPT_0, SPELYTHON_SCRIPT_1,
+            COMPOUND_SCRIPT_0, COMPOUND_SCRIPT_1,
+    })
+    void testNonexistentKeyExecuteAsync(String script) {
+        Mockito.when(keyGenerator.generateKey(script, STRING_CLASS)).thenReturn(CACHE_KEY);
+        Mockito.when((PythonExecutionResponse<String>) cache.get(CACHE_KEY, STRING_RESPONSE_CLASS)).thenReturn(null);
+        Mockito.when(asyncPythonExecutor.executeAsync(script, STRING_CLASS)).thenReturn(CompletableFuture.completedFuture((PythonExecutionResponse) OK_RESPONSE));
+        Mockito.doNothing().when(cache).put(CACHE_KEY, OK_RESPONSE);
+
+        String executed = asyncCachingPythonExecutor.executeAsync(script, STRING_CLASS).get().body();
+        Assertions.assertEquals(OK, executed);
+    }
+}
@@ -2,6 +2,7 @@ package io.w4t3rcs.python.executor;
 
 import io.w4t3rcs.python.cache.CacheKeyGenerator;
 import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.dto.ResolvedScript;
 import io.w4t3rcs.python.properties.PythonCacheProperties;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -72,4 +73,17 @@ class CachingPythonExecutorTests {
         String executed = cachingPythonExecutor.execute(script, STRING_CLASS).body();
         Assertions.assertEquals(OK, executed);
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {SPELYTHON_SCRIPT_0, SPELYTHON_SCRIPT_1, COMPOUND_SCRIPT_0, COMPOUND_SCRIPT_1})
+    void testNonexistentKeyExecuteWithBindings(String script) {
+        ResolvedScript resolvedScript = new ResolvedScript(script, "[1]");
+        Mockito.when(keyGenerator.generateKey(resolvedScript, STRING_CLASS)).thenReturn(CACHE_KEY);
+        Mockito.when((PythonExecutionResponse<String>) cache.get(CACHE_KEY, STRING_RESPONSE_CLASS)).thenReturn(null);
+        Mockito.when((PythonExecutionResponse<String>) pythonExecutor.execute(resolvedScript, STRING_CLASS)).thenReturn(OK_RESPONSE);
+        Mockito.doNothing().when(cache).put(CACHE_KEY, OK_RESPONSE);
+
+        String executed = cachingPythonExecutor.execute(resolvedScript, STRING_CLASS).body();
+        Assertions.assertEquals(OK, executed);
+    }
 }
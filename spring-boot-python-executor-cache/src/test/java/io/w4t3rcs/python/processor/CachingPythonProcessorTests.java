@@ -59,6 +59,7 @@ class CachingPythonProcessorTests {
         TreeMap<String, Object> sortedMap = new TreeMap<>(EMPTY_ARGUMENTS);
 
         Mockito.when(objectMapper.writeValueAsString(sortedMap)).thenReturn(EMPTY);
+        Mockito.when(keyGenerator.generateKey(script, EMPTY_ARGUMENTS, STRING_CLASS, objectMapper)).thenCallRealMethod();
         Mockito.when(keyGenerator.generateKey(script, STRING_CLASS)).thenReturn(CACHE_KEY);
         Mockito.when((PythonExecutionResponse<String>) cache.get(CACHE_KEY, STRING_RESPONSE_CLASS)).thenReturn(OK_RESPONSE);
 
@@ -78,6 +79,7 @@ class CachingPythonProcessorTests {
         TreeMap<String, Object> sortedMap = new TreeMap<>(EMPTY_ARGUMENTS);
 
         Mockito.when(objectMapper.writeValueAsString(sortedMap)).thenReturn(EMPTY);
+        Mockito.when(keyGenerator.generateKey(script, EMPTY_ARGUMENTS, STRING_CLASS, objectMapper)).thenCallRealMethod();
         Mockito.when(keyGenerator.generateKey(script, STRING_CLASS)).thenReturn(CACHE_KEY);
         Mockito.when((PythonExecutionResponse<String>) cache.get(CACHE_KEY, STRING_RESPONSE_CLASS)).thenReturn(null);
         Mockito.when((PythonExecutionResponse<String>) pythonProcessor.process(script, STRING_CLASS, EMPTY_ARGUMENTS)).thenReturn(OK_RESPONSE);
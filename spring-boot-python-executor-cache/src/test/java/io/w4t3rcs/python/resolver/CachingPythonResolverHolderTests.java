@@ -62,7 +62,8 @@ class CachingPythonResolverHolderTests {
         TreeMap<String, Object> sortedMap = new TreeMap<>(EMPTY_ARGUMENTS);
 
         Mockito.when(objectMapper.writeValueAsString(sortedMap)).thenReturn(EMPTY);
-        Mockito.when(keyGenerator.generateKey(script)).thenReturn(CACHE_KEY);
+        Mockito.when(keyGenerator.generateKey(script, EMPTY_ARGUMENTS, null, objectMapper)).thenCallRealMethod();
+        Mockito.when(keyGenerator.generateKey(script, (Object) null)).thenReturn(CACHE_KEY);
         Mockito.when((String) cache.get(CACHE_KEY, STRING_CLASS)).thenReturn(OK);
 
         String executed = cachingPythonResolverHolder.resolveAll(script);
@@ -81,7 +82,8 @@ class CachingPythonResolverHolderTests {
         TreeMap<String, Object> sortedMap = new TreeMap<>(EMPTY_ARGUMENTS);
 
         Mockito.when(objectMapper.writeValueAsString(sortedMap)).thenReturn(EMPTY);
-        Mockito.when(keyGenerator.generateKey(script)).thenReturn(CACHE_KEY);
+        Mockito.when(keyGenerator.generateKey(script, EMPTY_ARGUMENTS, null, objectMapper)).thenCallRealMethod();
+        Mockito.when(keyGenerator.generateKey(script, (Object) null)).thenReturn(CACHE_KEY);
         Mockito.when((String) cache.get(CACHE_KEY, STRING_CLASS)).thenReturn(null);
         Mockito.when(pythonResolverHolder.resolveAll(script, EMPTY_ARGUMENTS)).thenReturn(OK);
         Mockito.doNothing().when(cache).put(CACHE_KEY, OK);
@@ -1,10 +1,14 @@
 package io.w4t3rcs.python.dto;
 
+import java.io.Serializable;
+
 /**
  * Response wrapper for Python script execution result.
  *
+ * <p>The response is {@link Serializable}, so it can be stored by persistent caches if its body is serializable as well.</p>
+ *
  * @param <R> the type of the execution result body
  * @param body the result returned from executing the Python script
  */
-public record PythonExecutionResponse<R>(R body) {
+public record PythonExecutionResponse<R>(R body) implements Serializable {
 }
@@ -0,0 +1,55 @@
+package io.w4t3rcs.python.dto;
+
+/**
+ * Resolved Python script together with the arguments bound to it through a side channel.
+ *
+ * <p>When the arguments are bound through a side channel, the script text stays the same for every argument value,
+ * and the values travel separately as a JSON array {@code bindings}. The script reads them in a generated prologue
+ * from the {@link #BINDINGS_VARIABLE} global or, if it is absent, from the UTF-8 file named by the {@link #BINDINGS_FILE_VARIABLE}
+ * environment variable. Executors that have no side channel can run {@link #toInlineScript()} instead.</p>
+ *
+ * @param script non-{@code null} resolved Python script
+ * @param bindings JSON array of the bound argument values, {@code null} if nothing is bound
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public record ResolvedScript(String script, String bindings) {
+    /**
+     * Name of the global variable holding the bindings in the script namespace.
+     */
+    public static final String BINDINGS_VARIABLE = "spelython_bindings";
+    /**
+     * Name of the environment variable holding the path of the file with the bindings of a local Python process.
+     */
+    public static final String BINDINGS_FILE_VARIABLE = "SPELYTHON_BINDINGS_FILE";
+
+    /**
+     * Creates a resolved script without bindings.
+     *
+     * @param script non-{@code null} resolved Python script
+     * @return non-{@code null} resolved script
+     */
+    public static ResolvedScript of(String script) {
+        return new ResolvedScript(script, null);
+    }
+
+    /**
+     * Checks whether any argument is bound through the side channel.
+     *
+     * @return {@code true} if {@link #bindings()} is not {@code null}
+     */
+    public boolean hasBindings() {
+        return bindings != null;
+    }
+
+    /**
+     * Returns the script with the bindings assigned to {@link #BINDINGS_VARIABLE} on its first line.
+     *
+     * @return non-{@code null} self-contained Python script
+     */
+    public String toInlineScript() {
+        if (bindings == null) return script;
+        String literal = bindings.replace("\\", "\\\\").replace("'", "\\'");
+        return BINDINGS_VARIABLE + " = '" + literal + "'\n" + script;
+    }
+}
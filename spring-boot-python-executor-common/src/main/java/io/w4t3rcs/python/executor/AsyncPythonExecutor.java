@@ -0,0 +1,54 @@
+package io.w4t3rcs.python.executor;
+
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.dto.ResolvedScript;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Defines the non-blocking counterpart of {@link PythonExecutor}.
+ *
+ * <p>Implementations start the execution of a Python script and return immediately with a
+ * {@link CompletableFuture} which is completed once the execution body has been mapped
+ * to the requested Java type. The calling thread is never blocked while the script is running,
+ * so a large number of concurrent executions does not require the same number of threads.</p>
+ *
+ * <p>If the execution fails, the returned future is completed exceptionally with the same
+ * exception the blocking counterpart would throw.</p>
+ *
+ * <p><strong>Example usage:</strong></p>
+ * <pre>{@code
+ * AsyncPythonExecutor executor = ...;
+ * executor.executeAsync("r4java = 2 + 2", Integer.class)
+ *         .thenAccept(response -> System.out.println(response.body()));
+ * }</pre>
+ *
+ * @see PythonExecutor
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public interface AsyncPythonExecutor {
+    /**
+     * Starts the execution of the given Python script and converts the body to the specified Java type on completion.
+     *
+     * @param <R> the expected body type
+     * @param script non-{@code null} Python script to execute
+     * @param resultClass the Java class representing the expected body type, may be {@code null} if the script produces no output
+     * @return non-{@code null} future of the execution body mapped to {@code resultClass}
+     */
+    <R> CompletableFuture<PythonExecutionResponse<R>> executeAsync(String script, Class<? extends R> resultClass);
+
+    /**
+     * Starts the execution of the given resolved Python script, passing its bindings through the side channel of the implementation.
+     *
+     * <p>The default implementation has no side channel and executes {@link ResolvedScript#toInlineScript()}.</p>
+     *
+     * @param <R> the expected body type
+     * @param resolvedScript non-{@code null} resolved Python script with its bindings
+     * @param resultClass the Java class representing the expected body type, may be {@code null} if the script produces no output
+     * @return non-{@code null} future of the execution body mapped to {@code resultClass}
+     */
+    default <R> CompletableFuture<PythonExecutionResponse<R>> executeAsync(ResolvedScript resolvedScript, Class<? extends R> resultClass) {
+        return this.executeAsync(resolvedScript.toInlineScript(), resultClass);
+    }
+}
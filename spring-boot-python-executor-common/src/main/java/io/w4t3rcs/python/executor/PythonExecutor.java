@@ -1,6 +1,7 @@
 package io.w4t3rcs.python.executor;
 
 import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.dto.ResolvedScript;
 
 /**
  * Defines the contract for executing Python scripts and mapping the execution body
@@ -34,5 +35,19 @@ public interface PythonExecutor {
      * @return the body of the script execution mapped to {@code resultClass}, may be {@code null} if the script produces no output
      */
     <R> PythonExecutionResponse<R> execute(String script, Class<? extends R> resultClass);
+
+    /**
+     * Executes the given resolved Python script, passing its bindings through the side channel of the implementation.
+     *
+     * <p>The default implementation has no side channel and executes {@link ResolvedScript#toInlineScript()}.</p>
+     *
+     * @param <R> the expected body type
+     * @param resolvedScript non-{@code null} resolved Python script with its bindings
+     * @param resultClass the Java class representing the expected body type, may be {@code null} if the script produces no output
+     * @return the body of the script execution mapped to {@code resultClass}, may be {@code null} if the script produces no output
+     */
+    default <R> PythonExecutionResponse<R> execute(ResolvedScript resolvedScript, Class<? extends R> resultClass) {
+        return this.execute(resolvedScript.toInlineScript(), resultClass);
+    }
 }
 
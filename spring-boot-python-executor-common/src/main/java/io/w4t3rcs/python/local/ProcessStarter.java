@@ -1,5 +1,7 @@
 package io.w4t3rcs.python.local;
 
+import io.w4t3rcs.python.dto.ResolvedScript;
+
 /**
  * Defines the contract for creating and starting {@link Process} instances.
  *
@@ -33,4 +35,17 @@ public interface ProcessStarter {
      * @return the started {@link Process} instance
      */
     Process start(String script);
+
+    /**
+     * Starts a new {@link Process} for the given script and passes the bindings to it.
+     *
+     * <p>The default implementation has no side channel and starts {@link ResolvedScript#toInlineScript()}.</p>
+     *
+     * @param script non-{@code null} script or command to execute
+     * @param bindings JSON array of the bound argument values, may be {@code null}
+     * @return the started {@link Process} instance
+     */
+    default Process start(String script, String bindings) {
+        return this.start(new ResolvedScript(script, bindings).toInlineScript());
+    }
 }
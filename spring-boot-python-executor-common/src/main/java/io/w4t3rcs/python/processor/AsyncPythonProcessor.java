@@ -0,0 +1,74 @@
+package io.w4t3rcs.python.processor;
+
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.executor.AsyncPythonExecutor;
+import io.w4t3rcs.python.resolver.PythonResolverHolder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Defines the non-blocking counterpart of {@link PythonProcessor}.
+ *
+ * <p>Implementations pre-process Python scripts with the registered resolvers
+ * and delegate the execution to an {@link AsyncPythonExecutor}, returning a
+ * {@link CompletableFuture} instead of blocking the calling thread.</p>
+ *
+ * <p><strong>Example usage:</strong></p>
+ * <pre>{@code
+ * AsyncPythonProcessor processor = ...;
+ * processor.processAsync("o4java{spel{#a} + 2}", Integer.class, Map.of("a", 2))
+ *         .thenAccept(response -> System.out.println(response.body()));
+ * }</pre>
+ *
+ * @see PythonProcessor
+ * @see AsyncPythonExecutor
+ * @see PythonResolverHolder
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public interface AsyncPythonProcessor {
+    /**
+     * Processes and executes a Python script without additional arguments or body mapping.
+     *
+     * @param script non-{@code null} Python script to execute
+     * @return non-{@code null} future of the execution body
+     */
+    default CompletableFuture<? extends PythonExecutionResponse<?>> processAsync(String script) {
+        return this.processAsync(script, null, Map.of());
+    }
+
+    /**
+     * Processes and executes a Python script with the given argument map.
+     *
+     * @param script non-{@code null} Python script to execute
+     * @param arguments a map of arguments accessible to resolvers during preprocessing
+     * @return non-{@code null} future of the execution body
+     */
+    default CompletableFuture<? extends PythonExecutionResponse<?>> processAsync(String script, Map<String, Object> arguments) {
+        return this.processAsync(script, null, arguments);
+    }
+
+    /**
+     * Processes and executes a Python script, mapping the body to the specified type.
+     *
+     * @param <R> the type of body expected from script execution
+     * @param script non-{@code null} Python script to execute
+     * @param resultClass the class representing the expected body type (nullable)
+     * @return non-{@code null} future of the execution body cast to {@code R}
+     */
+    default <R> CompletableFuture<PythonExecutionResponse<R>> processAsync(String script, Class<? extends R> resultClass) {
+        return this.processAsync(script, resultClass, Map.of());
+    }
+
+    /**
+     * Processes and executes a Python script with arguments and optional body mapping.
+     *
+     * @param <R> the type of body expected from script execution
+     * @param script non-{@code null} Python script to execute
+     * @param resultClass the class representing the expected body type (nullable)
+     * @param arguments a map of arguments accessible to resolvers during preprocessing
+     * @return non-{@code null} future of the execution body cast to {@code R}
+     */
+    <R> CompletableFuture<PythonExecutionResponse<R>> processAsync(String script, Class<? extends R> resultClass, Map<String, Object> arguments);
+}
@@ -1,5 +1,7 @@
 package io.w4t3rcs.python.resolver;
 
+import io.w4t3rcs.python.dto.ResolvedScript;
+
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -103,6 +105,30 @@ public interface PythonResolverHolder extends Iterable<PythonResolver> {
      */
     String resolveAll(String script, Map<String, Object> arguments);
 
+    /**
+     * Applies all registered resolvers to the given Python script and keeps the argument values bound
+     * through a side channel apart from the script text.
+     * <p>
+     * The default implementation binds nothing and returns the result of {@link #resolveAll(String, Map)}.
+     * </p>
+     *
+     * @param script the Python script containing placeholders or expressions (non-{@code null})
+     * @param arguments the input arguments for resolution (non-{@code null}, can be empty)
+     * @return the fully resolved Python script with its bindings (never {@code null})
+     */
+    default ResolvedScript resolveAllWithBindings(String script, Map<String, Object> arguments) {
+        return ResolvedScript.of(this.resolveAll(script, arguments));
+    }
+
+    /**
+     * Checks whether {@link #resolveAllWithBindings(String, Map)} may bind arguments through a side channel.
+     *
+     * @return {@code true} if any registered resolver binds arguments, {@code false} by default
+     */
+    default boolean supportsBindings() {
+        return false;
+    }
+
     /**
      * Returns a list of registered {@link PythonResolver} instances.
      *
@@ -74,4 +74,39 @@ public @interface PythonAfter {
      * @return array of profile names, never {@code null}, may be empty
      */
     String[] activeProfiles() default {};
-}
\ No newline at end of file
+
+    /**
+     * Order of this script among the scripts of a {@link PythonAfters} container.
+     * <p>
+     * Scripts are executed in ascending order. Scripts of equal order do not depend on each other,
+     * so they are executed concurrently if parallel execution is enabled, and in declaration order otherwise.
+     * </p>
+     *
+     * @return the order of the script, {@code 0} by default
+     */
+    int order() default 0;
+
+    /**
+     * Coalescing window of the asynchronous executions of this script, in milliseconds.
+     * <p>
+     * If positive and coalescing is enabled for asynchronous {@code after} executions, an execution is delayed until
+     * no execution with the same scripts and arguments has been submitted for this long, and all such duplicates
+     * are collapsed into that single execution. Ignored inside a {@link PythonAfters} container,
+     * declare it on the container instead.
+     * </p>
+     *
+     * @return the coalescing window in milliseconds, {@code 0} by default to execute every invocation
+     */
+    long coalescingWindow() default 0;
+
+    /**
+     * Maximum time an execution can be delayed by the {@link #coalescingWindow()}, in milliseconds.
+     * <p>
+     * Guarantees that a coalesced execution happens even if duplicates keep arriving. Values lower than
+     * the coalescing window are raised to it.
+     * </p>
+     *
+     * @return the maximum latency in milliseconds, {@code 0} by default to use the coalescing window
+     */
+    long coalescingMaxLatency() default 0;
+}
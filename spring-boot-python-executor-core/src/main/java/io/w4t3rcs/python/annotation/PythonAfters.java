@@ -45,4 +45,27 @@ public @interface PythonAfters {
      * @return an array of {@link PythonAfter} annotations, never {@code null}
      */
     PythonAfter[] value();
-}
\ No newline at end of file
+
+    /**
+     * Coalescing window of the asynchronous executions of the contained scripts, in milliseconds.
+     * <p>
+     * If positive and coalescing is enabled for asynchronous {@code after} executions, an execution is delayed until
+     * no execution with the same scripts and arguments has been submitted for this long, and all such duplicates
+     * are collapsed into that single execution.
+     * </p>
+     *
+     * @return the coalescing window in milliseconds, {@code 0} by default to execute every invocation
+     */
+    long coalescingWindow() default 0;
+
+    /**
+     * Maximum time an execution can be delayed by the {@link #coalescingWindow()}, in milliseconds.
+     * <p>
+     * Guarantees that a coalesced execution happens even if duplicates keep arriving. Values lower than
+     * the coalescing window are raised to it.
+     * </p>
+     *
+     * @return the maximum latency in milliseconds, {@code 0} by default to use the coalescing window
+     */
+    long coalescingMaxLatency() default 0;
+}
@@ -74,4 +74,15 @@ public @interface PythonBefore {
      * @return array of profile names, never {@code null}, may be empty
      */
     String[] activeProfiles() default {};
+
+    /**
+     * Order of this script among the scripts of a {@link PythonBefores} container.
+     * <p>
+     * Scripts are executed in ascending order. Scripts of equal order do not depend on each other,
+     * so they are executed concurrently if parallel execution is enabled, and in declaration order otherwise.
+     * </p>
+     *
+     * @return the order of the script, {@code 0} by default
+     */
+    int order() default 0;
 }
\ No newline at end of file
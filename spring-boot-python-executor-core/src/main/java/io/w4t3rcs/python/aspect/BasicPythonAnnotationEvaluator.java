@@ -1,30 +1,32 @@
 package io.w4t3rcs.python.aspect;
 
 import io.w4t3rcs.python.processor.PythonProcessor;
-import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.JoinPoint;
+import org.springframework.core.task.AsyncTaskExecutor;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Basic implementation of {@link PythonAnnotationEvaluator} that evaluates
  * Python script annotations.
  * <p>
- * This evaluator extracts Python scripts and their associated active profiles
- * from the annotation on the intercepted method, checks the active Spring profiles,
- * extracts method arguments, and processes the Python scripts accordingly.
+ * This evaluator looks up the {@link PythonMethodMetadata} of the intercepted method, which holds its Python scripts,
+ * the outcome of their profile checks and the names of its parameters, maps the method arguments to those names,
+ * and processes the Python scripts accordingly.
  * </p>
  * <p>
- * The evaluation is performed synchronously in the calling thread.
+ * The scripts are executed in stages of ascending {@code order}. By default, the evaluation is performed synchronously
+ * in the calling thread. If a parallel {@link AsyncTaskExecutor} is given, the scripts of a stage are executed concurrently
+ * within a {@link PythonScriptScope}: the calling thread runs the last script of the stage itself and waits for the others,
+ * the first failing script cancels its siblings, and its exception is rethrown before the next stage is started.
  * </p>
  *
  * <p><b>Example usage:</b></p>
  * <pre>{@code
  * PythonAnnotationEvaluator evaluator = new BasicPythonAnnotationEvaluator(
- *     profileChecker,
- *     annotationValueExtractorChain,
- *     argumentsExtractor,
+ *     methodMetadataProvider,
  *     pythonProcessor
  * );
  * evaluator.evaluate(joinPoint, PythonAfter.class);
@@ -32,29 +34,51 @@ import java.util.Map;
  *
  * @see PythonAnnotationEvaluator
  * @see AsyncPythonAnnotationEvaluator
+ * @see PythonMethodMetadataProvider
  * @author w4t3rcs
  * @since 1.0.0
  */
-@RequiredArgsConstructor
 public class BasicPythonAnnotationEvaluator implements PythonAnnotationEvaluator {
-    private final ProfileChecker profileChecker;
-    private final PythonAnnotationValueCompounder annotationValueCompounder;
-    private final PythonArgumentsExtractor argumentsExtractor;
+    private final PythonMethodMetadataProvider methodMetadataProvider;
     private final PythonProcessor pythonProcessor;
+    private final AsyncTaskExecutor parallelTaskExecutor;
+
+    /**
+     * Creates a new evaluator executing the scripts sequentially.
+     *
+     * @param methodMetadataProvider non-null provider of the method metadata
+     * @param pythonProcessor non-null processor of the scripts
+     */
+    public BasicPythonAnnotationEvaluator(PythonMethodMetadataProvider methodMetadataProvider, PythonProcessor pythonProcessor) {
+        this(methodMetadataProvider, pythonProcessor, null);
+    }
+
+    /**
+     * Creates a new evaluator executing the scripts of a stage concurrently.
+     *
+     * @param methodMetadataProvider non-null provider of the method metadata
+     * @param pythonProcessor non-null processor of the scripts
+     * @param parallelTaskExecutor executor of the concurrent scripts, {@code null} to execute them sequentially
+     */
+    public BasicPythonAnnotationEvaluator(PythonMethodMetadataProvider methodMetadataProvider, PythonProcessor pythonProcessor, AsyncTaskExecutor parallelTaskExecutor) {
+        this.methodMetadataProvider = methodMetadataProvider;
+        this.pythonProcessor = pythonProcessor;
+        this.parallelTaskExecutor = parallelTaskExecutor;
+    }
 
     /**
      * Evaluates the specified Python-related annotation.
      * <p>
-     * For each Python script and its associated active profiles extracted from
-     * the annotation on the method represented by {@code joinPoint}, this method:
+     * For each Python script of the annotation on the method represented by {@code joinPoint}
+     * whose active profiles matched according to the {@link PythonMethodMetadata}, this method:
      * <ul>
-     *     <li>Checks if the current Spring profile matches the specified active profiles using {@link ProfileChecker}.</li>
-     *     <li>If the profiles match, extracts method arguments using {@link PythonArgumentsExtractor}.</li>
-     *     <li>Processes the Python script with the extracted arguments using {@link PythonProcessor}.</li>
+     *     <li>Maps the method arguments to the parameter names of the metadata and adds the additional arguments.</li>
+     *     <li>Processes the Python script with these arguments using {@link PythonProcessor}.</li>
      * </ul>
      * </p>
      * <p>
      * If no active profiles are specified for a script, the script is always executed.
+     * A stage is started only after every script of the previous stage has completed successfully.
      * </p>
      *
      * @param <A> the type of annotation to evaluate, must be a subtype of {@link Annotation}
@@ -64,12 +88,28 @@ public class BasicPythonAnnotationEvaluator implements PythonAnnotationEvaluator
      */
     @Override
     public <A extends Annotation> void evaluate(JoinPoint joinPoint, Class<? extends A> annotationClass, Map<String, Object> additionalArguments) {
-        Map<String, String[]> annotationValue = annotationValueCompounder.compound(joinPoint, annotationClass);
-        annotationValue.forEach((script, activeProfiles) -> {
-            profileChecker.doOnProfiles(activeProfiles, () -> {
-                Map<String, Object> arguments = argumentsExtractor.getArguments(joinPoint, additionalArguments);
-                pythonProcessor.process(script, arguments);
-            });
-        });
+        PythonMethodMetadata metadata = methodMetadataProvider.getMetadata(joinPoint, annotationClass);
+        for (List<String> stage : metadata.activeStages()) {
+            if (parallelTaskExecutor == null || stage.size() == 1) {
+                for (String script : stage) {
+                    this.process(script, metadata, joinPoint, additionalArguments);
+                }
+            } else {
+                try (PythonScriptScope scope = new PythonScriptScope(parallelTaskExecutor)) {
+                    int last = stage.size() - 1;
+                    for (int i = 0; i < last; i++) {
+                        String script = stage.get(i);
+                        scope.fork(() -> this.process(script, metadata, joinPoint, additionalArguments));
+                    }
+                    scope.run(() -> this.process(stage.get(last), metadata, joinPoint, additionalArguments));
+                    scope.join();
+                }
+            }
+        }
+    }
+
+    private void process(String script, PythonMethodMetadata metadata, JoinPoint joinPoint, Map<String, Object> additionalArguments) {
+        Map<String, Object> arguments = metadata.getArguments(joinPoint.getArgs(), additionalArguments);
+        pythonProcessor.process(script, arguments);
     }
 }
\ No newline at end of file
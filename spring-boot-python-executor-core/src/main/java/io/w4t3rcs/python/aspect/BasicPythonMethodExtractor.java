@@ -48,23 +48,32 @@ public class BasicPythonMethodExtractor implements PythonMethodExtractor {
      */
     @Override
     public Map<String, Object> getMethodParameters(JoinPoint joinPoint) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
         Object[] objects = joinPoint.getArgs();
-        Parameter[] parameters = method.getParameters();
-        String[] parameterNames = signature.getParameterNames();
+        String[] parameterNames = this.getMethodParameterNames(joinPoint);
         Map<String, Object> methodParameters = new HashMap<>();
-        for (int i = 0; i < parameters.length; i++) {
-            Parameter parameter = parameters[i];
-            if (parameter.isAnnotationPresent(PythonParam.class)) {
-                PythonParam annotation = parameter.getAnnotation(PythonParam.class);
-                String parameterName = annotation.value();
-                methodParameters.put(parameterName, objects[i]);
-            } else {
-                String parameterName = parameterNames[i];
-                methodParameters.put(parameterName, objects[i]);
-            }
+        for (int i = 0; i < parameterNames.length; i++) {
+            methodParameters.put(parameterNames[i], objects[i]);
         }
         return methodParameters;
     }
+
+    /**
+     * Returns the {@link PythonParam} annotation values of the method parameters,
+     * falling back to the parameter names from the signature for parameters without the annotation.
+     *
+     * @param joinPoint the join point representing the method invocation, must not be {@code null}
+     * @return a non-null array of parameter names in the order of the method parameters
+     */
+    @Override
+    public String[] getMethodParameterNames(JoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Parameter[] parameters = signature.getMethod().getParameters();
+        String[] signatureParameterNames = signature.getParameterNames();
+        String[] parameterNames = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            PythonParam annotation = parameters[i].getAnnotation(PythonParam.class);
+            parameterNames[i] = annotation != null ? annotation.value() : signatureParameterNames[i];
+        }
+        return parameterNames;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package io.w4t3rcs.python.aspect;
+
+import io.w4t3rcs.python.exception.AnnotationValueExtractingException;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link PythonMethodMetadataProvider} implementation resolving the metadata of a method lazily on its first invocation
+ * and caching it per {@link Method} and annotation type.
+ * <p>
+ * The scripts and parameter names are taken from the {@link PythonScriptRegistry} generated at compile time if there is one.
+ * Otherwise, the scripts are read by the {@link PythonAnnotationValueCompounder} and the parameter names by the {@link PythonMethodExtractor}.
+ * The scripts to execute are decided once by the {@link ProfileChecker} and grouped into stages by their declared {@code order}.
+ * Later invocations of the method are served by a single map lookup without any reflection, so changes of the active profiles after the first invocation are not observed.
+ * </p>
+ * <p>
+ * Failures of the resolution are not cached, so the next invocation tries again.
+ * </p>
+ *
+ * <p><b>Example usage:</b></p>
+ * <pre>{@code
+ * PythonMethodMetadataProvider metadataProvider = new BasicPythonMethodMetadataProvider(methodExtractor, annotationValueCompounder, profileChecker);
+ * PythonMethodMetadata metadata = metadataProvider.getMetadata(joinPoint, PythonBefore.class);
+ * }</pre>
+ *
+ * @see PythonMethodMetadataProvider
+ * @see PythonMethodMetadata
+ * @see PythonScriptRegistryLocator
+ * @see PythonAnnotationValueCompounder
+ * @see ProfileChecker
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class BasicPythonMethodMetadataProvider implements PythonMethodMetadataProvider {
+    private static final String ORDER_METHOD_NAME = "order";
+    private final Map<MetadataKey, PythonMethodMetadata> metadataCache = new ConcurrentHashMap<>();
+    private final PythonScriptRegistryLocator registryLocator = new PythonScriptRegistryLocator();
+    private final PythonMethodExtractor methodExtractor;
+    private final PythonAnnotationValueCompounder annotationValueCompounder;
+    private final ProfileChecker profileChecker;
+
+    /**
+     * Returns the cached metadata of the method, resolving it on the first invocation.
+     *
+     * @param joinPoint the join point representing the method invocation, must not be {@code null}
+     * @param annotationClass the class of the annotation to read the scripts from, must not be {@code null}
+     * @param <A> the annotation type
+     * @return the non-null {@link PythonMethodMetadata}
+     * @throws AnnotationValueExtractingException if no scripts can be extracted from the annotation
+     */
+    @Override
+    public <A extends Annotation> PythonMethodMetadata getMetadata(JoinPoint joinPoint, Class<? extends A> annotationClass) {
+        MetadataKey key = new MetadataKey(methodExtractor.getMethod(joinPoint), annotationClass);
+        PythonMethodMetadata metadata = metadataCache.get(key);
+        if (metadata != null) return metadata;
+        return metadataCache.computeIfAbsent(key, k -> this.resolveMetadata(joinPoint, k.method(), annotationClass));
+    }
+
+    /**
+     * Returns the number of cached method metadata.
+     *
+     * @return the number of resolved methods and annotation types
+     */
+    public int size() {
+        return metadataCache.size();
+    }
+
+    private PythonMethodMetadata resolveMetadata(JoinPoint joinPoint, Method method, Class<? extends Annotation> annotationClass) {
+        PythonScriptRegistration registration = registryLocator.find(method, annotationClass);
+        Map<String, String[]> scripts;
+        Map<String, Integer> orders;
+        String[] parameterNames;
+        if (registration != null) {
+            scripts = registration.scripts();
+            orders = registration.orders();
+            parameterNames = registration.parameterNames();
+        } else {
+            scripts = Collections.unmodifiableMap(new LinkedHashMap<>(annotationValueCompounder.compound(joinPoint, annotationClass)));
+            orders = getOrders(method, annotationClass);
+            parameterNames = methodExtractor.getMethodParameterNames(joinPoint);
+        }
+        Map<Integer, List<String>> activeStages = new TreeMap<>();
+        scripts.forEach((script, activeProfiles) -> profileChecker.doOnProfiles(activeProfiles, () ->
+                activeStages.computeIfAbsent(orders.getOrDefault(script, 0), order -> new ArrayList<>()).add(script)));
+        List<List<String>> stages = activeStages.values().stream().map(List::copyOf).toList();
+        return new PythonMethodMetadata(scripts, stages, parameterNames);
+    }
+
+    private static Map<String, Integer> getOrders(Method method, Class<? extends Annotation> annotationClass) {
+        Annotation annotation = AnnotatedElementUtils.findMergedAnnotation(method, annotationClass);
+        if (annotation == null || !(AnnotationUtils.getValue(annotation) instanceof Annotation[] nestedAnnotations)) return Map.of();
+        Map<String, Integer> orders = new HashMap<>();
+        for (Annotation nestedAnnotation : nestedAnnotations) {
+            Object value = AnnotationUtils.getValue(nestedAnnotation);
+            Object script = value instanceof String stringValue && !stringValue.isBlank()
+                    ? stringValue
+                    : AnnotationUtils.getValue(nestedAnnotation, PythonAnnotationValueExtractor.SCRIPT_METHOD_NAME);
+            if (script instanceof String stringScript && AnnotationUtils.getValue(nestedAnnotation, ORDER_METHOD_NAME) instanceof Integer order) {
+                orders.put(stringScript, order);
+            }
+        }
+        return orders;
+    }
+
+    private record MetadataKey(Method method, Class<?> annotationClass) {
+    }
+}
@@ -0,0 +1,279 @@
+package io.w4t3rcs.python.aspect;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.annotation.PythonAfter;
+import io.w4t3rcs.python.annotation.PythonAfters;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link PythonAnnotationEvaluator} implementation collapsing duplicate fire-and-forget evaluations into one.
+ * <p>
+ * Annotations declaring a positive {@code coalescingWindow}, such as {@link PythonAfter} and {@link PythonAfters},
+ * are evaluated with a trailing delay. Evaluations of the same method, annotation and scripts whose arguments, as mapped by
+ * the {@link PythonMethodMetadata}, serialize to the same JSON share one pending evaluation: every duplicate pushes it back
+ * to the end of the window, but never beyond {@code coalescingMaxLatency} after the first one, so the evaluation eventually
+ * happens even if duplicates keep arriving. Other evaluations are delegated immediately.
+ * </p>
+ * <p>
+ * The pending evaluations are keyed by a SHA-256 hash of the arguments serialized with their names sorted, so the key
+ * neither holds the argument objects nor changes if they are mutated while the evaluation is pending. Evaluations
+ * whose arguments cannot be serialized are not coalesced but delegated immediately.
+ * </p>
+ * <p>
+ * The delayed evaluations are scheduled on a {@link TaskScheduler} and passed to the delegate evaluator, which is expected
+ * to be asynchronous, so the scheduler thread is never blocked. Pending evaluations are flushed by {@link #close()},
+ * which also shuts down the scheduler if it was created by this evaluator.
+ * </p>
+ *
+ * <p><b>Example usage:</b></p>
+ * <pre>{@code
+ * PythonAnnotationEvaluator coalescingEvaluator = new CoalescingPythonAnnotationEvaluator(asyncEvaluator, methodExtractor,
+ *     methodMetadataProvider, objectMapper, taskScheduler);
+ * coalescingEvaluator.evaluate(joinPoint, PythonAfter.class, Map.of("result", result));
+ * }</pre>
+ *
+ * @see PythonAfter#coalescingWindow()
+ * @see PythonAfters#coalescingWindow()
+ * @see AsyncPythonAnnotationEvaluator
+ * @see PythonMethodMetadataProvider
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Slf4j
+public class CoalescingPythonAnnotationEvaluator implements PythonAnnotationEvaluator, AutoCloseable {
+    private static final String WINDOW_METHOD_NAME = "coalescingWindow";
+    private static final String MAX_LATENCY_METHOD_NAME = "coalescingMaxLatency";
+    private static final String ARGUMENTS_HASH_ALGORITHM = "SHA-256";
+    private static final CoalescingWindow NO_WINDOW = new CoalescingWindow(0, 0);
+    private final Map<WindowKey, CoalescingWindow> windows = new ConcurrentHashMap<>();
+    private final Map<CoalescingKey, PendingEvaluation> pendingEvaluations = new ConcurrentHashMap<>();
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder executedCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final PythonAnnotationEvaluator annotationEvaluator;
+    private final PythonMethodExtractor methodExtractor;
+    private final PythonMethodMetadataProvider methodMetadataProvider;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+    private final ThreadPoolTaskScheduler ownedTaskScheduler;
+
+    /**
+     * Creates a new instance scheduling the delayed evaluations on the given scheduler, which is not shut down by {@link #close()}.
+     *
+     * @param annotationEvaluator non-null evaluator of the coalesced evaluations
+     * @param methodExtractor non-null extractor of the intercepted methods
+     * @param methodMetadataProvider non-null provider of the method metadata used to map the arguments
+     * @param objectMapper non-null mapper serializing the arguments into the coalescing key
+     * @param taskScheduler non-null scheduler of the delayed evaluations
+     */
+    public CoalescingPythonAnnotationEvaluator(PythonAnnotationEvaluator annotationEvaluator, PythonMethodExtractor methodExtractor,
+                                               PythonMethodMetadataProvider methodMetadataProvider, ObjectMapper objectMapper,
+                                               TaskScheduler taskScheduler) {
+        this(annotationEvaluator, methodExtractor, methodMetadataProvider, objectMapper, taskScheduler, null);
+    }
+
+    /**
+     * Creates a new instance scheduling the delayed evaluations on its own single-threaded scheduler, which is shut down by {@link #close()}.
+     *
+     * @param annotationEvaluator non-null evaluator of the coalesced evaluations
+     * @param methodExtractor non-null extractor of the intercepted methods
+     * @param methodMetadataProvider non-null provider of the method metadata used to map the arguments
+     * @param objectMapper non-null mapper serializing the arguments into the coalescing key
+     * @param threadNamePrefix non-null name prefix of the scheduler thread
+     */
+    public CoalescingPythonAnnotationEvaluator(PythonAnnotationEvaluator annotationEvaluator, PythonMethodExtractor methodExtractor,
+                                               PythonMethodMetadataProvider methodMetadataProvider, ObjectMapper objectMapper,
+                                               String threadNamePrefix) {
+        this(annotationEvaluator, methodExtractor, methodMetadataProvider, objectMapper, null, createTaskScheduler(threadNamePrefix));
+    }
+
+    private CoalescingPythonAnnotationEvaluator(PythonAnnotationEvaluator annotationEvaluator, PythonMethodExtractor methodExtractor,
+                                                PythonMethodMetadataProvider methodMetadataProvider, ObjectMapper objectMapper,
+                                                TaskScheduler taskScheduler, ThreadPoolTaskScheduler ownedTaskScheduler) {
+        this.annotationEvaluator = annotationEvaluator;
+        this.methodExtractor = methodExtractor;
+        this.methodMetadataProvider = methodMetadataProvider;
+        this.objectMapper = objectMapper;
+        this.taskScheduler = ownedTaskScheduler == null ? taskScheduler : ownedTaskScheduler;
+        this.ownedTaskScheduler = ownedTaskScheduler;
+    }
+
+    /**
+     * Evaluates the annotation immediately or joins it to the pending evaluation with the same scripts and arguments.
+     *
+     * @param <A> the type of annotation to evaluate, must be a subtype of {@link Annotation}
+     * @param joinPoint the AOP join point representing the intercepted method, must not be {@code null}
+     * @param annotationClass the {@link Class} object of the annotation type to evaluate, must not be {@code null}
+     * @param additionalArguments additional arguments to pass to the evaluator, must not be {@code null}
+     */
+    @Override
+    public <A extends Annotation> void evaluate(JoinPoint joinPoint, Class<? extends A> annotationClass, Map<String, Object> additionalArguments) {
+        Method method = methodExtractor.getMethod(joinPoint);
+        CoalescingWindow window = windows.computeIfAbsent(new WindowKey(method, annotationClass), CoalescingPythonAnnotationEvaluator::getWindow);
+        if (window.window() <= 0) {
+            annotationEvaluator.evaluate(joinPoint, annotationClass, additionalArguments);
+            return;
+        }
+        PythonMethodMetadata metadata = methodMetadataProvider.getMetadata(joinPoint, annotationClass);
+        String argumentsHash;
+        try {
+            argumentsHash = this.hash(metadata.getArguments(joinPoint.getArgs(), additionalArguments));
+        } catch (Exception e) {
+            log.debug("Arguments of {} cannot be serialized, evaluating without coalescing", method, e);
+            annotationEvaluator.evaluate(joinPoint, annotationClass, additionalArguments);
+            return;
+        }
+        submittedCount.increment();
+        CoalescingKey key = new CoalescingKey(method, annotationClass, metadata.scripts().keySet(), argumentsHash);
+        Runnable evaluation = () -> annotationEvaluator.evaluate(joinPoint, annotationClass, additionalArguments);
+        pendingEvaluations.compute(key, (k, pendingEvaluation) -> {
+            long now = System.currentTimeMillis();
+            if (pendingEvaluation == null) {
+                PendingEvaluation newEvaluation = new PendingEvaluation(k, now + window.window(), now + window.maxLatency(), evaluation);
+                taskScheduler.schedule(newEvaluation, Instant.ofEpochMilli(newEvaluation.dueTime));
+                return newEvaluation;
+            }
+            coalescedCount.increment();
+            pendingEvaluation.dueTime = Math.min(now + window.window(), pendingEvaluation.deadline);
+            pendingEvaluation.evaluation = evaluation;
+            return pendingEvaluation;
+        });
+    }
+
+    /**
+     * Returns the number of evaluations submitted with a coalescing window.
+     *
+     * @return the number of submitted evaluations
+     */
+    public long getSubmittedCount() {
+        return submittedCount.sum();
+    }
+
+    /**
+     * Returns the number of coalesced evaluations passed to the delegate evaluator.
+     *
+     * @return the number of executed evaluations
+     */
+    public long getExecutedCount() {
+        return executedCount.sum();
+    }
+
+    /**
+     * Returns the number of evaluations saved by collapsing them into a pending one.
+     *
+     * @return the number of coalesced duplicates
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * Returns the number of evaluations waiting for the end of their window.
+     *
+     * @return the number of pending evaluations
+     */
+    public int getPendingCount() {
+        return pendingEvaluations.size();
+    }
+
+    /**
+     * Executes every pending evaluation without waiting for the end of its window
+     * and shuts down the scheduler if it was created by this evaluator.
+     */
+    @Override
+    public void close() {
+        try {
+            List<PendingEvaluation> evaluations = new ArrayList<>(pendingEvaluations.values());
+            for (PendingEvaluation pendingEvaluation : evaluations) {
+                if (pendingEvaluations.remove(pendingEvaluation.key, pendingEvaluation)) this.execute(pendingEvaluation);
+            }
+        } finally {
+            if (ownedTaskScheduler != null) ownedTaskScheduler.shutdown();
+        }
+    }
+
+    private static ThreadPoolTaskScheduler createTaskScheduler(String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    private String hash(Map<String, Object> arguments) throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(new TreeMap<>(arguments));
+        return HexFormat.of().formatHex(MessageDigest.getInstance(ARGUMENTS_HASH_ALGORITHM).digest(json));
+    }
+
+    private void execute(PendingEvaluation pendingEvaluation) {
+        executedCount.increment();
+        try {
+            pendingEvaluation.evaluation.run();
+        } catch (Exception e) {
+            log.error("Exception occurred during coalesced execution", e);
+        }
+    }
+
+    private static CoalescingWindow getWindow(WindowKey key) {
+        Annotation annotation = AnnotatedElementUtils.findMergedAnnotation(key.method(), key.annotationClass());
+        if (annotation == null || !(AnnotationUtils.getValue(annotation, WINDOW_METHOD_NAME) instanceof Long window) || window <= 0) return NO_WINDOW;
+        long maxLatency = AnnotationUtils.getValue(annotation, MAX_LATENCY_METHOD_NAME) instanceof Long value ? value : 0;
+        return new CoalescingWindow(window, Math.max(window, maxLatency));
+    }
+
+    private final class PendingEvaluation implements Runnable {
+        private final CoalescingKey key;
+        private final long deadline;
+        private volatile long dueTime;
+        private volatile Runnable evaluation;
+
+        private PendingEvaluation(CoalescingKey key, long dueTime, long deadline, Runnable evaluation) {
+            this.key = key;
+            this.dueTime = dueTime;
+            this.deadline = deadline;
+            this.evaluation = evaluation;
+        }
+
+        @Override
+        public void run() {
+            boolean[] due = {false};
+            pendingEvaluations.computeIfPresent(key, (k, pendingEvaluation) -> {
+                if (pendingEvaluation != this) return pendingEvaluation;
+                if (System.currentTimeMillis() < dueTime) {
+                    taskScheduler.schedule(this, Instant.ofEpochMilli(dueTime));
+                    return pendingEvaluation;
+                }
+                due[0] = true;
+                return null;
+            });
+            if (due[0]) execute(this);
+        }
+    }
+
+    private record CoalescingWindow(long window, long maxLatency) {
+    }
+
+    private record WindowKey(Method method, Class<? extends Annotation> annotationClass) {
+    }
+
+    private record CoalescingKey(Method method, Class<?> annotationClass, Set<String> scripts, String argumentsHash) {
+    }
+}
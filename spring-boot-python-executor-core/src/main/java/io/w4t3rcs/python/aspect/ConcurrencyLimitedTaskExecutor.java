@@ -0,0 +1,100 @@
+package io.w4t3rcs.python.aspect;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * {@link TaskExecutor} implementation limiting the number of concurrently running tasks of another executor with a {@link Semaphore}.
+ * <p>
+ * The permit is acquired by the thread of the delegate executor, not by the submitting thread, so {@link #execute(Runnable)}
+ * never blocks the caller. It is meant to be used with an executor starting a virtual thread per task:
+ * tasks over the limit wait for a permit in their own cheap thread instead of in a bounded queue,
+ * so no task is rejected and no caller is turned into a worker.
+ * </p>
+ * <p>
+ * Tasks whose thread is interrupted while waiting for a permit are skipped.
+ * </p>
+ *
+ * <p><b>Example usage:</b></p>
+ * <pre>{@code
+ * SimpleAsyncTaskExecutor virtualThreadExecutor = new SimpleAsyncTaskExecutor("AsyncPython-");
+ * virtualThreadExecutor.setVirtualThreads(true);
+ * TaskExecutor taskExecutor = new ConcurrencyLimitedTaskExecutor(virtualThreadExecutor, 1000);
+ * }</pre>
+ *
+ * @see AsyncPythonAnnotationEvaluator
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Slf4j
+public class ConcurrencyLimitedTaskExecutor implements TaskExecutor {
+    private final TaskExecutor taskExecutor;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param taskExecutor non-null executor running the tasks
+     * @param maxConcurrency maximum number of concurrently running tasks, must be positive
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    public ConcurrencyLimitedTaskExecutor(TaskExecutor taskExecutor, int maxConcurrency) {
+        if (maxConcurrency <= 0) throw new IllegalArgumentException("Max concurrency must be positive: " + maxConcurrency);
+        this.taskExecutor = taskExecutor;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Submits the task to the delegate executor, which runs it as soon as a permit is available.
+     *
+     * @param task non-null task to run
+     */
+    @Override
+    public void execute(Runnable task) {
+        taskExecutor.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Task skipped, thread was interrupted while waiting for a permit");
+                return;
+            }
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Returns the number of currently running tasks.
+     *
+     * @return the number of acquired permits
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of tasks waiting for a permit.
+     *
+     * @return an estimate of the number of waiting tasks
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Returns the maximum number of concurrently running tasks.
+     *
+     * @return the configured limit
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+}
@@ -37,4 +37,13 @@ public interface PythonMethodExtractor {
      * @return a {@link Map} where keys are parameter names and values are argument objects, never {@code null}, but may be empty if the method has no parameters
      */
     Map<String, Object> getMethodParameters(JoinPoint joinPoint);
+
+    /**
+     * Returns the names under which the arguments of the method invoked by the given {@link JoinPoint} are passed to scripts,
+     * in the order of the method parameters.
+     *
+     * @param joinPoint the join point representing the method invocation; must not be {@code null}
+     * @return a non-null array of parameter names, empty if the method has no parameters
+     */
+    String[] getMethodParameterNames(JoinPoint joinPoint);
 }
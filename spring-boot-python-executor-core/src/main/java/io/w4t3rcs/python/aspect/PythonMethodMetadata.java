@@ -0,0 +1,40 @@
+package io.w4t3rcs.python.aspect;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable metadata of a method annotated with a Python script annotation.
+ * <p>
+ * Holds everything the evaluation of the annotation needs besides the actual arguments of an invocation,
+ * so it is resolved once per method and annotation type by a {@link PythonMethodMetadataProvider}.
+ * </p>
+ *
+ * @param scripts non-null unmodifiable map of the declared scripts or script paths to their active profiles
+ * @param activeStages non-null unmodifiable list of the scripts whose active profiles matched when the metadata was resolved,
+ *                     grouped by their ascending order, every stage in declaration order
+ * @param parameterNames non-null names under which the method arguments are passed to the scripts, in the order of the method parameters
+ * @see PythonMethodMetadataProvider
+ * @see BasicPythonAnnotationEvaluator
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public record PythonMethodMetadata(Map<String, String[]> scripts, List<List<String>> activeStages, String[] parameterNames) {
+    /**
+     * Maps the arguments of an invocation to the parameter names and merges them with the {@code additionalArguments}.
+     * Additional arguments take precedence in case of key collisions.
+     *
+     * @param arguments non-null arguments of the invocation, in the order of the method parameters
+     * @param additionalArguments non-null additional arguments, may be empty
+     * @return a new mutable map of argument names to values
+     */
+    public Map<String, Object> getArguments(Object[] arguments, Map<String, Object> additionalArguments) {
+        Map<String, Object> result = new HashMap<>((int) ((parameterNames.length + additionalArguments.size()) / 0.75f) + 1);
+        for (int i = 0; i < parameterNames.length; i++) {
+            result.put(parameterNames[i], arguments[i]);
+        }
+        result.putAll(additionalArguments);
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+package io.w4t3rcs.python.aspect;
+
+import org.aspectj.lang.JoinPoint;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Interface providing the {@link PythonMethodMetadata} of methods intercepted by the Python aspects.
+ * <p>
+ * Implementations are expected to resolve the metadata of a method and annotation type once
+ * and to serve every later invocation of the same method from memory.
+ * </p>
+ *
+ * @see BasicPythonMethodMetadataProvider
+ * @see PythonMethodMetadata
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public interface PythonMethodMetadataProvider {
+    /**
+     * Returns the metadata of the given annotation on the method invoked by the {@code joinPoint}.
+     *
+     * @param joinPoint the join point representing the method invocation, must not be {@code null}
+     * @param annotationClass the class of the annotation to read the scripts from, must not be {@code null}
+     * @param <A> the annotation type
+     * @return the non-null {@link PythonMethodMetadata}
+     */
+    <A extends Annotation> PythonMethodMetadata getMetadata(JoinPoint joinPoint, Class<? extends A> annotationClass);
+}
@@ -0,0 +1,48 @@
+package io.w4t3rcs.python.aspect;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Scripts and parameter names of a method annotated with a Python script annotation, as recorded at compile time.
+ *
+ * @param scripts non-null unmodifiable map of the declared scripts or script paths to their active profiles, in declaration order
+ * @param parameterNames non-null names under which the method arguments are passed to the scripts, in the order of the method parameters
+ * @param orders non-null unmodifiable map of the scripts to their declared order
+ * @see PythonScriptRegistry
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public record PythonScriptRegistration(Map<String, String[]> scripts, String[] parameterNames, Map<String, Integer> orders) {
+    /**
+     * Creates a new registration from parallel arrays of scripts and their active profiles, all of order {@code 0}.
+     *
+     * @param parameterNames non-null names of the method parameters
+     * @param scripts non-null scripts or script paths
+     * @param activeProfiles non-null active profiles of every script, of the same length as {@code scripts}
+     * @return non-null {@link PythonScriptRegistration}
+     */
+    public static PythonScriptRegistration of(String[] parameterNames, String[] scripts, String[][] activeProfiles) {
+        return of(parameterNames, scripts, activeProfiles, new int[scripts.length]);
+    }
+
+    /**
+     * Creates a new registration from parallel arrays of scripts, their active profiles and their orders.
+     *
+     * @param parameterNames non-null names of the method parameters
+     * @param scripts non-null scripts or script paths
+     * @param activeProfiles non-null active profiles of every script, of the same length as {@code scripts}
+     * @param orders non-null order of every script, of the same length as {@code scripts}
+     * @return non-null {@link PythonScriptRegistration}
+     */
+    public static PythonScriptRegistration of(String[] parameterNames, String[] scripts, String[][] activeProfiles, int[] orders) {
+        Map<String, String[]> scriptMap = new LinkedHashMap<>();
+        Map<String, Integer> orderMap = new LinkedHashMap<>();
+        for (int i = 0; i < scripts.length; i++) {
+            scriptMap.put(scripts[i], activeProfiles[i]);
+            orderMap.put(scripts[i], orders[i]);
+        }
+        return new PythonScriptRegistration(Collections.unmodifiableMap(scriptMap), parameterNames, Collections.unmodifiableMap(orderMap));
+    }
+}
@@ -0,0 +1,54 @@
+package io.w4t3rcs.python.aspect;
+
+import java.lang.reflect.Method;
+
+/**
+ * Interface of the registries generated at compile time by the {@code spring-boot-python-executor-processor}
+ * annotation processor.
+ * <p>
+ * The processor generates one registry per compilation unit declaring methods annotated with Python script annotations.
+ * The registry is named after the top-level class of the compilation unit followed by {@link #GENERATED_CLASS_SUFFIX}
+ * and holds a {@link PythonScriptRegistration} per annotated method and annotation type, so the scripts, profiles
+ * and parameter names are available without reflecting over the annotations or depending on the {@code -parameters}
+ * compiler flag.
+ * </p>
+ *
+ * @see PythonScriptRegistration
+ * @see PythonScriptRegistryLocator
+ * @see BasicPythonMethodMetadataProvider
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public interface PythonScriptRegistry {
+    /**
+     * Suffix appended to the binary name of a top-level class to get the name of its generated registry.
+     */
+    String GENERATED_CLASS_SUFFIX = "__PythonScripts";
+
+    /**
+     * Returns the registration of the annotation on the method.
+     *
+     * @param annotationName non-null fully qualified name of the annotation type
+     * @param methodSignature non-null signature of the method as returned by {@link #getMethodSignature(Method)}
+     * @return the {@link PythonScriptRegistration}, or {@code null} if the method is not registered for the annotation
+     */
+    PythonScriptRegistration getRegistration(String annotationName, String methodSignature);
+
+    /**
+     * Returns the signature identifying a method within its top-level class: the binary name of its declaring class,
+     * its name and the binary names of its erased parameter types, for example
+     * {@code com.example.Service$Inner#run(java.lang.String,int[])}.
+     *
+     * @param method non-null method
+     * @return non-null method signature
+     */
+    static String getMethodSignature(Method method) {
+        StringBuilder signature = new StringBuilder(method.getDeclaringClass().getName()).append('#').append(method.getName()).append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) signature.append(',');
+            signature.append(parameterTypes[i].getTypeName());
+        }
+        return signature.append(')').toString();
+    }
+}
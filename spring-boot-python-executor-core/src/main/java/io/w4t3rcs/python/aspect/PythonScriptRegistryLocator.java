@@ -0,0 +1,61 @@
+package io.w4t3rcs.python.aspect;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * Locates the {@link PythonScriptRegistry} generated for the top-level class declaring a method.
+ * <p>
+ * The registry of a class is loaded by name from the class loader of the class once and then kept
+ * for the lifetime of the class. Classes compiled without the annotation processor have no registry,
+ * in which case {@link #find(Method, Class)} returns {@code null} and callers fall back to reflection.
+ * </p>
+ *
+ * @see PythonScriptRegistry
+ * @see BasicPythonMethodMetadataProvider
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Slf4j
+public class PythonScriptRegistryLocator {
+    private final ClassValue<Optional<PythonScriptRegistry>> registries = new ClassValue<>() {
+        @Override
+        protected Optional<PythonScriptRegistry> computeValue(Class<?> type) {
+            return loadRegistry(type);
+        }
+    };
+
+    /**
+     * Returns the compile-time registration of the annotation on the method.
+     *
+     * @param method non-null annotated method
+     * @param annotationClass non-null class of the annotation
+     * @return the {@link PythonScriptRegistration}, or {@code null} if no registry or registration exists
+     */
+    public PythonScriptRegistration find(Method method, Class<? extends Annotation> annotationClass) {
+        Class<?> topLevelClass = method.getDeclaringClass();
+        while (topLevelClass.getEnclosingClass() != null) {
+            topLevelClass = topLevelClass.getEnclosingClass();
+        }
+        return registries.get(topLevelClass)
+                .map(registry -> registry.getRegistration(annotationClass.getName(), PythonScriptRegistry.getMethodSignature(method)))
+                .orElse(null);
+    }
+
+    private static Optional<PythonScriptRegistry> loadRegistry(Class<?> type) {
+        String registryName = type.getName() + PythonScriptRegistry.GENERATED_CLASS_SUFFIX;
+        try {
+            Class<?> registryClass = Class.forName(registryName, true, type.getClassLoader());
+            if (!PythonScriptRegistry.class.isAssignableFrom(registryClass)) return Optional.empty();
+            return Optional.of((PythonScriptRegistry) registryClass.getDeclaredConstructor().newInstance());
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("Generated Python script registry {} cannot be loaded: {}", registryName, e.toString());
+            return Optional.empty();
+        }
+    }
+}
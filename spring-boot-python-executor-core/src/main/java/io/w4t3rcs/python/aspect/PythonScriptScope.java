@@ -0,0 +1,144 @@
+package io.w4t3rcs.python.aspect;
+
+import io.w4t3rcs.python.exception.PythonScriptExecutionException;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Structured scope running the Python scripts of one stage concurrently on an {@link AsyncTaskExecutor}.
+ * <p>
+ * The scope fails fast: the first failure of a task is recorded and every running sibling task is interrupted.
+ * Tasks that have not started yet after a failure are skipped. {@link #join()} waits until every task has completed,
+ * been skipped or reacted to its interruption, and only then rethrows the first failure,
+ * so no script of a scope outlives the {@code try} block that opened it.
+ * </p>
+ *
+ * <p><b>Example usage:</b></p>
+ * <pre>{@code
+ * try (PythonScriptScope scope = new PythonScriptScope(taskExecutor)) {
+ *     scope.fork(() -> pythonProcessor.process(firstScript, arguments));
+ *     scope.run(() -> pythonProcessor.process(secondScript, arguments));
+ *     scope.join();
+ * }
+ * }</pre>
+ *
+ * @see BasicPythonAnnotationEvaluator
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+class PythonScriptScope implements AutoCloseable {
+    private final AsyncTaskExecutor taskExecutor;
+    private final Set<Thread> runningThreads = new HashSet<>();
+    private final Set<Thread> interruptedThreads = new HashSet<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private final AtomicInteger pendingTasks = new AtomicInteger(1);
+
+    /**
+     * Creates a new scope.
+     *
+     * @param taskExecutor non-null executor running the forked tasks
+     */
+    PythonScriptScope(AsyncTaskExecutor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Submits the task to the executor of the scope.
+     *
+     * @param task non-null task to run concurrently
+     */
+    void fork(Runnable task) {
+        if (failure.get() != null) return;
+        pendingTasks.incrementAndGet();
+        try {
+            taskExecutor.execute(() -> this.execute(task));
+        } catch (RuntimeException e) {
+            this.fail(e);
+            this.complete();
+        }
+    }
+
+    /**
+     * Runs the task in the calling thread as a part of the scope.
+     *
+     * @param task non-null task to run
+     */
+    void run(Runnable task) {
+        pendingTasks.incrementAndGet();
+        this.execute(task);
+    }
+
+    /**
+     * Waits until every task of the scope has terminated and rethrows the first failure.
+     * If the calling thread is interrupted, the running tasks are interrupted as well and still awaited.
+     *
+     * @throws RuntimeException the first failure of a task, unwrapped if it is unchecked
+     * @throws PythonScriptExecutionException if the calling thread is interrupted or a task failed with a checked exception
+     */
+    void join() {
+        this.complete();
+        try {
+            completion.get();
+        } catch (InterruptedException e) {
+            this.fail(e);
+            completion.join();
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            this.fail(e.getCause());
+        }
+        Throwable firstFailure = failure.get();
+        if (firstFailure instanceof RuntimeException runtimeException) throw runtimeException;
+        if (firstFailure instanceof Error error) throw error;
+        if (firstFailure != null) throw new PythonScriptExecutionException(firstFailure);
+    }
+
+    /**
+     * Skips the tasks of the scope that have not started yet and interrupts the running ones.
+     */
+    @Override
+    public void close() {
+        this.fail(new CancellationException("Python script scope is closed"));
+    }
+
+    private void execute(Runnable task) {
+        synchronized (runningThreads) {
+            runningThreads.add(Thread.currentThread());
+        }
+        try {
+            if (failure.get() == null) task.run();
+        } catch (Throwable e) {
+            this.fail(e);
+        } finally {
+            synchronized (runningThreads) {
+                runningThreads.remove(Thread.currentThread());
+                if (interruptedThreads.remove(Thread.currentThread())) Thread.interrupted();
+            }
+            this.complete();
+        }
+    }
+
+    private void fail(Throwable e) {
+        if (failure.compareAndSet(null, e)) this.interruptAll();
+    }
+
+    private void complete() {
+        if (pendingTasks.decrementAndGet() == 0) completion.complete(null);
+    }
+
+    private void interruptAll() {
+        synchronized (runningThreads) {
+            Thread currentThread = Thread.currentThread();
+            for (Thread thread : runningThreads) {
+                if (thread != currentThread && interruptedThreads.add(thread)) thread.interrupt();
+            }
+        }
+    }
+}
@@ -1,22 +1,71 @@
 package io.w4t3rcs.python.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.w4t3rcs.python.executor.RestPythonExecutor;
+import io.w4t3rcs.python.registration.ScriptRegistry;
 
 /**
  * Data Transfer Object representing a request to execute a Python script
  * via the {@code python-rest-server}'s {@link RestPythonExecutor}.
  * <p>
- * This record encapsulates the Python script content to be executed.
+ * This record encapsulates the Python script content to be executed and, optionally, its hash.
+ * A request carrying only the hash invokes a script previously registered on the server,
+ * The argument values bound through a side channel travel in {@code bindings},
+ * {@code null} components are omitted from the JSON body.
  * It is immutable and thread-safe by design.
  * <p>
  * Example usage:
  * <pre>{@code
  * ScriptRequest request = new ScriptRequest("print('Hello, World!')");
+ * ScriptRequest hashedRequest = ScriptRequest.ofHash(scriptRegistry.hash("print('Hello, World!')"));
  * }</pre>
  *
+ * @param script Python script to execute, may be {@code null} if the request carries only the hash
+ * @param hash hash of the script computed by {@link ScriptRegistry#hash(String)}, may be {@code null}
+ * @param bindings JSON array of the bound argument values described by {@link ResolvedScript}, may be {@code null}
  * @see RestPythonExecutor
+ * @see ScriptRegistry
  * @since 1.0.0
  * @author w4t3rcs
  */
-public record ScriptRequest(String script) {
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ScriptRequest(String script, String hash, String bindings) {
+    /**
+     * Creates a request carrying only the script body.
+     *
+     * @param script Python script to execute
+     */
+    public ScriptRequest(String script) {
+        this(script, null, null);
+    }
+
+    /**
+     * Creates a request carrying the script body and its hash.
+     *
+     * @param script Python script to execute, may be {@code null} if the request carries only the hash
+     * @param hash hash of the script, may be {@code null}
+     */
+    public ScriptRequest(String script, String hash) {
+        this(script, hash, null);
+    }
+
+    /**
+     * Creates a request invoking a registered script by its hash.
+     *
+     * @param hash non-null hash of the registered script
+     * @return new {@link ScriptRequest} without the script body
+     */
+    public static ScriptRequest ofHash(String hash) {
+        return new ScriptRequest(null, hash);
+    }
+
+    /**
+     * Creates a copy of this request carrying the given bindings.
+     *
+     * @param bindings JSON array of the bound argument values, may be {@code null}
+     * @return new {@link ScriptRequest} with the same script and hash
+     */
+    public ScriptRequest withBindings(String bindings) {
+        return new ScriptRequest(script, hash, bindings);
+    }
 }
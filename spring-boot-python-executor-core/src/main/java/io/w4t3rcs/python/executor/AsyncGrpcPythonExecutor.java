@@ -0,0 +1,160 @@
+package io.w4t3rcs.python.executor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.dto.ResolvedScript;
+import io.w4t3rcs.python.exception.PythonScriptExecutionException;
+import io.w4t3rcs.python.proto.PythonRequest;
+import io.w4t3rcs.python.proto.PythonResponse;
+import io.w4t3rcs.python.proto.PythonServiceGrpc;
+import io.w4t3rcs.python.registration.ScriptRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Implementation of the {@link AsyncPythonExecutor} interface that executes Python scripts via a gRPC endpoint.
+ * <p>
+ * This class is the non-blocking counterpart of {@link GrpcPythonExecutor}. It uses a gRPC future stub,
+ * so the call is multiplexed over the shared channel and the returned future is completed
+ * by the gRPC transport as soon as the response arrives.
+ * <p>
+ * If a {@link ScriptRegistry} is provided, the register-once / invoke-by-hash protocol of
+ * {@link GrpcPythonExecutor} is used, the fallback to the script body is chained without blocking.
+ * <p>
+ * Usage example:
+ * <pre>{@code
+ * AsyncPythonExecutor executor = new AsyncGrpcPythonExecutor(futureStub, objectMapper);
+ * executor.executeAsync("print('Hello, World!')", String.class)
+ *         .thenAccept(response -> System.out.println(response.body()));
+ * }</pre>
+ *
+ * @see AsyncPythonExecutor
+ * @see GrpcPythonExecutor
+ * @see PythonServiceGrpc.PythonServiceFutureStub
+ * @see ScriptRegistry
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AsyncGrpcPythonExecutor implements AsyncPythonExecutor {
+    private final PythonServiceGrpc.PythonServiceFutureStub stub;
+    private final ObjectMapper objectMapper;
+    private final ScriptRegistry scriptRegistry;
+
+    /**
+     * Creates a new executor which always sends the full script body.
+     *
+     * @param stub non-null {@link PythonServiceGrpc.PythonServiceFutureStub} for gRPC communication
+     * @param objectMapper non-null {@link ObjectMapper} for JSON serialization/deserialization
+     */
+    public AsyncGrpcPythonExecutor(PythonServiceGrpc.PythonServiceFutureStub stub, ObjectMapper objectMapper) {
+        this(stub, objectMapper, null);
+    }
+
+    /**
+     * Sends the given Python {@code script} to the gRPC Python service without blocking the calling thread.
+     *
+     * @param <R> the expected body type
+     * @param script the Python script to execute (non-null, non-empty recommended)
+     * @param resultClass the {@link Class} representing the expected type of the body, may be null if no body expected
+     * @return future of the script body parsed to {@code R}, completed exceptionally with {@link PythonScriptExecutionException}
+     * if any error occurs during script execution or body parsing
+     */
+    @Override
+    public <R> CompletableFuture<PythonExecutionResponse<R>> executeAsync(String script, Class<? extends R> resultClass) {
+        return this.executeAsync(ResolvedScript.of(script), resultClass);
+    }
+
+    /**
+     * Sends the given resolved Python script to the gRPC Python service with its bindings in the {@code bindings} request field.
+     *
+     * @param <R> the expected body type
+     * @param resolvedScript the resolved Python script with its bindings (non-null)
+     * @param resultClass the {@link Class} representing the expected type of the body, may be null if no body expected
+     * @return future of the script body parsed to {@code R}, completed exceptionally with {@link PythonScriptExecutionException}
+     * if any error occurs during script execution or body parsing
+     */
+    @Override
+    public <R> CompletableFuture<PythonExecutionResponse<R>> executeAsync(ResolvedScript resolvedScript, Class<? extends R> resultClass) {
+        try {
+            String script = resolvedScript.script();
+            String bindings = resolvedScript.bindings();
+            CompletableFuture<PythonResponse> responseFuture = scriptRegistry == null
+                    ? this.send(newRequest(bindings).setScript(script).build())
+                    : this.sendRegistered(script, bindings);
+            return responseFuture
+                    .handle((response, throwable) -> {
+                        if (throwable != null) throw new PythonScriptExecutionException(unwrap(throwable));
+                        try {
+                            String responseResult = response.getResult();
+                            R result = resultClass == null || responseResult.isBlank()
+                                    ? null
+                                    : objectMapper.readValue(responseResult, resultClass);
+                            return new PythonExecutionResponse<>(result);
+                        } catch (Exception e) {
+                            throw new PythonScriptExecutionException(e);
+                        }
+                    });
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new PythonScriptExecutionException(e));
+        }
+    }
+
+    private CompletableFuture<PythonResponse> sendRegistered(String script, String bindings) {
+        String hash = scriptRegistry.hash(script);
+        if (!scriptRegistry.isRegistered(hash)) return this.register(script, hash, bindings);
+        return this.send(newRequest(bindings).setHash(hash).build())
+                .exceptionallyCompose(throwable -> {
+                    Throwable cause = unwrap(throwable);
+                    if (!(cause instanceof StatusRuntimeException exception) || exception.getStatus().getCode() != Status.Code.NOT_FOUND) {
+                        return CompletableFuture.failedFuture(cause);
+                    }
+                    scriptRegistry.unregister(hash);
+                    return this.register(script, hash, bindings);
+                });
+    }
+
+    private CompletableFuture<PythonResponse> register(String script, String hash, String bindings) {
+        return this.send(newRequest(bindings).setScript(script).setHash(hash).build())
+                .thenApply(response -> {
+                    scriptRegistry.register(hash);
+                    return response;
+                });
+    }
+
+    private CompletableFuture<PythonResponse> send(PythonRequest request) {
+        CompletableFuture<PythonResponse> future = new CompletableFuture<>();
+        ListenableFuture<PythonResponse> responseFuture = stub.sendCode(request);
+        Futures.addCallback(responseFuture, new FutureCallback<>() {
+            @Override
+            public void onSuccess(PythonResponse response) {
+                future.complete(response);
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+        }, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    private static PythonRequest.Builder newRequest(String bindings) {
+        PythonRequest.Builder request = PythonRequest.newBuilder();
+        return bindings == null ? request : request.setBindings(bindings);
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+}
@@ -0,0 +1,262 @@
+package io.w4t3rcs.python.executor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.dto.ResolvedScript;
+import io.w4t3rcs.python.exception.PythonScriptExecutionException;
+import io.w4t3rcs.python.local.ProcessFinisher;
+import io.w4t3rcs.python.local.ProcessHandler;
+import io.w4t3rcs.python.local.ProcessStarter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.*;
+
+/**
+ * Implementation of the {@link AsyncPythonExecutor} interface that executes Python scripts locally.
+ * <p>
+ * This class is the non-blocking counterpart of {@link LocalPythonExecutor}, but it is not thread-light:
+ * every process is started by a platform thread of a daemon pool owned by this executor and its output and error
+ * streams are drained by two more, while the completion of the execution is driven by {@link Process#onExit()}.
+ * The calling thread never starts a process itself, so even a {@link ProcessStarter} running the whole script
+ * inside {@link ProcessStarter#start(String)} does not block it.
+ * <p>
+ * At most {@code maxConcurrency} processes run at once, so the pool never grows beyond
+ * {@code 3 * maxConcurrency} threads. Up to {@code queueCapacity} further executions are queued and started
+ * as soon as a running one completes, any execution beyond that fails at once.
+ * <p>
+ * Usage example:
+ * <pre>{@code
+ * AsyncPythonExecutor executor = new AsyncLocalPythonExecutor(processStarter, inputHandler, errorHandler, objectMapper, processFinisher);
+ * executor.executeAsync("print('Hello from Python')", String.class)
+ *         .thenAccept(response -> System.out.println(response.body()));
+ * }</pre>
+ *
+ * @see AsyncPythonExecutor
+ * @see LocalPythonExecutor
+ * @see ProcessStarter
+ * @see ProcessHandler
+ * @see ProcessFinisher
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Slf4j
+public class AsyncLocalPythonExecutor implements AsyncPythonExecutor, AutoCloseable {
+    /**
+     * Maximum number of concurrently running processes used when none is configured.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+    /**
+     * Maximum number of queued executions used when none is configured.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final String STREAM_DRAINER_THREAD_NAME = "AsyncPythonStreamDrainer";
+    private static final long STREAM_DRAINER_KEEP_ALIVE_SECONDS = 60;
+    private final ProcessStarter processStarter;
+    private final ProcessHandler<String> inputProcessHandler;
+    private final ProcessHandler<Void> errorProcessHandler;
+    private final ObjectMapper objectMapper;
+    private final ProcessFinisher processFinisher;
+    private final ThreadPoolExecutor streamDrainer;
+    private final Semaphore permits;
+    private final int queueCapacity;
+    private final BlockingQueue<PendingExecution<?>> pendingExecutions;
+
+    /**
+     * Constructs a new {@code AsyncLocalPythonExecutor} running at most {@link #DEFAULT_MAX_CONCURRENCY} processes at once.
+     *
+     * @param processStarter the {@link ProcessStarter} launching Python processes (non-null)
+     * @param inputProcessHandler the {@link ProcessHandler} reading the process output (non-null)
+     * @param errorProcessHandler the {@link ProcessHandler} reading the process error output (non-null)
+     * @param objectMapper the {@link ObjectMapper} parsing the script result (non-null)
+     * @param processFinisher the {@link ProcessFinisher} finalizing the exited process (non-null)
+     */
+    public AsyncLocalPythonExecutor(ProcessStarter processStarter, ProcessHandler<String> inputProcessHandler, ProcessHandler<Void> errorProcessHandler,
+                                    ObjectMapper objectMapper, ProcessFinisher processFinisher) {
+        this(processStarter, inputProcessHandler, errorProcessHandler, objectMapper, processFinisher, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Constructs a new {@code AsyncLocalPythonExecutor} running at most {@code maxConcurrency} processes at once
+     * and queueing at most {@link #DEFAULT_QUEUE_CAPACITY} further executions.
+     *
+     * @param processStarter the {@link ProcessStarter} launching Python processes (non-null)
+     * @param inputProcessHandler the {@link ProcessHandler} reading the process output (non-null)
+     * @param errorProcessHandler the {@link ProcessHandler} reading the process error output (non-null)
+     * @param objectMapper the {@link ObjectMapper} parsing the script result (non-null)
+     * @param processFinisher the {@link ProcessFinisher} finalizing the exited process (non-null)
+     * @param maxConcurrency maximum number of processes running at once, must be positive
+     */
+    public AsyncLocalPythonExecutor(ProcessStarter processStarter, ProcessHandler<String> inputProcessHandler, ProcessHandler<Void> errorProcessHandler,
+                                    ObjectMapper objectMapper, ProcessFinisher processFinisher, int maxConcurrency) {
+        this(processStarter, inputProcessHandler, errorProcessHandler, objectMapper, processFinisher, maxConcurrency, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructs a new {@code AsyncLocalPythonExecutor} running at most {@code maxConcurrency} processes at once
+     * and queueing at most {@code queueCapacity} further executions.
+     *
+     * @param processStarter the {@link ProcessStarter} launching Python processes (non-null)
+     * @param inputProcessHandler the {@link ProcessHandler} reading the process output (non-null)
+     * @param errorProcessHandler the {@link ProcessHandler} reading the process error output (non-null)
+     * @param objectMapper the {@link ObjectMapper} parsing the script result (non-null)
+     * @param processFinisher the {@link ProcessFinisher} finalizing the exited process (non-null)
+     * @param maxConcurrency maximum number of processes running at once, must be positive
+     * @param queueCapacity maximum number of executions waiting for a running one to complete, must not be negative
+     */
+    public AsyncLocalPythonExecutor(ProcessStarter processStarter, ProcessHandler<String> inputProcessHandler, ProcessHandler<Void> errorProcessHandler,
+                                    ObjectMapper objectMapper, ProcessFinisher processFinisher, int maxConcurrency, int queueCapacity) {
+        if (maxConcurrency <= 0) throw new IllegalArgumentException("maxConcurrency must be positive");
+        if (queueCapacity < 0) throw new IllegalArgumentException("queueCapacity must not be negative");
+        this.processStarter = processStarter;
+        this.inputProcessHandler = inputProcessHandler;
+        this.errorProcessHandler = errorProcessHandler;
+        this.objectMapper = objectMapper;
+        this.processFinisher = processFinisher;
+        this.permits = new Semaphore(maxConcurrency);
+        this.queueCapacity = queueCapacity;
+        this.pendingExecutions = queueCapacity == 0 ? new SynchronousQueue<>() : new LinkedBlockingQueue<>(queueCapacity);
+        this.streamDrainer = new ThreadPoolExecutor(3 * maxConcurrency, 3 * maxConcurrency,
+                STREAM_DRAINER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, STREAM_DRAINER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.streamDrainer.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Starts the provided Python {@code script} locally without blocking the calling thread.
+     *
+     * @param <R> the expected body type
+     * @param script the Python script to execute (non-null, non-empty recommended)
+     * @param resultClass the {@link Class} representing the expected return type, may be null if no body expected
+     * @return future of the script output parsed to {@code R}, completed exceptionally with {@link PythonScriptExecutionException}
+     * if an error occurs during process execution, I/O handling, or JSON deserialization
+     */
+    @Override
+    public <R> CompletableFuture<PythonExecutionResponse<R>> executeAsync(String script, Class<? extends R> resultClass) {
+        return this.executeAsync(ResolvedScript.of(script), resultClass);
+    }
+
+    /**
+     * Starts the resolved Python script as a local process, passing its bindings through {@link ProcessStarter#start(String, String)}.
+     * The process is started on a thread of this executor if fewer than {@code maxConcurrency} processes are running,
+     * otherwise the execution is queued, or fails at once if the queue is full.
+     *
+     * @param <R> the expected body type
+     * @param resolvedScript the resolved Python script with its bindings (non-null)
+     * @param resultClass the {@link Class} representing the expected return type, may be null if no body expected
+     * @return future of the script body parsed to {@code R}, completed exceptionally with {@link PythonScriptExecutionException}
+     * if the queue is full or an error occurs during process execution, I/O handling, or JSON deserialization
+     */
+    @Override
+    public <R> CompletableFuture<PythonExecutionResponse<R>> executeAsync(ResolvedScript resolvedScript, Class<? extends R> resultClass) {
+        PendingExecution<R> execution = new PendingExecution<>(resolvedScript, resultClass);
+        if (permits.tryAcquire()) {
+            this.start(execution);
+        } else if (pendingExecutions.offer(execution)) {
+            this.startPending();
+        } else {
+            execution.result.completeExceptionally(new PythonScriptExecutionException("Python execution queue of capacity "
+                    + queueCapacity + " is full"));
+        }
+        return execution.result;
+    }
+
+    /**
+     * Shuts down the threads of this executor and fails the queued executions. Running processes are not awaited.
+     */
+    @Override
+    public void close() {
+        streamDrainer.shutdownNow();
+        PendingExecution<?> execution;
+        while ((execution = pendingExecutions.poll()) != null) {
+            execution.result.completeExceptionally(new PythonScriptExecutionException("Python executor is closed"));
+        }
+    }
+
+    private <R> CompletableFuture<PythonExecutionResponse<R>> run(ResolvedScript resolvedScript, Class<? extends R> resultClass) {
+        CompletableFuture<PythonExecutionResponse<R>> execution;
+        try {
+            Process process = resolvedScript.hasBindings()
+                    ? processStarter.start(resolvedScript.script(), resolvedScript.bindings())
+                    : processStarter.start(resolvedScript.script());
+            execution = this.await(process, resultClass);
+        } catch (Exception e) {
+            execution = CompletableFuture.failedFuture(e);
+        }
+        return execution.handle((response, throwable) -> {
+            if (throwable == null) return response;
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            throw cause instanceof PythonScriptExecutionException executionException
+                    ? executionException
+                    : new PythonScriptExecutionException(cause);
+        });
+    }
+
+    private void release() {
+        permits.release();
+        this.startPending();
+    }
+
+    private void startPending() {
+        while (!pendingExecutions.isEmpty() && permits.tryAcquire()) {
+            PendingExecution<?> execution = pendingExecutions.poll();
+            if (execution == null) permits.release();
+            else this.start(execution);
+        }
+    }
+
+    private void start(PendingExecution<?> execution) {
+        try {
+            streamDrainer.execute(execution);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            execution.result.completeExceptionally(new PythonScriptExecutionException(e));
+        }
+    }
+
+    private <R> CompletableFuture<PythonExecutionResponse<R>> await(Process process, Class<? extends R> resultClass) {
+        CompletableFuture<String> inputHandling = CompletableFuture.supplyAsync(() -> inputProcessHandler.handle(process), streamDrainer);
+        CompletableFuture<Void> errorHandling = CompletableFuture.supplyAsync(() -> errorProcessHandler.handle(process), streamDrainer);
+        return inputHandling.thenCombine(errorHandling, (jsonResult, ignored) -> jsonResult)
+                .thenCombine(process.onExit(), (jsonResult, exitedProcess) -> {
+                    processFinisher.finish(exitedProcess);
+                    return this.<R>parse(jsonResult, resultClass);
+                })
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null && process.isAlive()) process.destroyForcibly();
+                });
+    }
+
+    private <R> PythonExecutionResponse<R> parse(String jsonResult, Class<? extends R> resultClass) {
+        try {
+            R result = resultClass == null || jsonResult == null || jsonResult.isBlank()
+                    ? null
+                    : objectMapper.readValue(jsonResult, resultClass);
+            return new PythonExecutionResponse<>(result);
+        } catch (Exception e) {
+            throw new PythonScriptExecutionException(e);
+        }
+    }
+
+    private final class PendingExecution<R> implements Runnable {
+        private final ResolvedScript resolvedScript;
+        private final Class<? extends R> resultClass;
+        private final CompletableFuture<PythonExecutionResponse<R>> result = new CompletableFuture<>();
+
+        private PendingExecution(ResolvedScript resolvedScript, Class<? extends R> resultClass) {
+            this.resolvedScript = resolvedScript;
+            this.resultClass = resultClass;
+        }
+
+        @Override
+        public void run() {
+            AsyncLocalPythonExecutor.this.<R>run(resolvedScript, resultClass).whenComplete((response, throwable) -> {
+                AsyncLocalPythonExecutor.this.release();
+                if (throwable == null) result.complete(response);
+                else result.completeExceptionally(throwable);
+            });
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package io.w4t3rcs.python.executor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.connection.PythonServerConnectionDetails;
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.dto.ResolvedScript;
+import io.w4t3rcs.python.dto.ScriptRequest;
+import io.w4t3rcs.python.exception.PythonScriptExecutionException;
+import io.w4t3rcs.python.registration.ScriptRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Implementation of the {@link AsyncPythonExecutor} interface that executes Python scripts via a REST endpoint.
+ * <p>
+ * This class is the non-blocking counterpart of {@link RestPythonExecutor}. The request is sent with
+ * {@link HttpClient#sendAsync(HttpRequest, HttpResponse.BodyHandler)}, so no thread is parked while
+ * the remote Python service executes the script.
+ * <p>
+ * If a {@link ScriptRegistry} is provided, the register-once / invoke-by-hash protocol of
+ * {@link RestPythonExecutor} is used, the fallback to the script body is chained without blocking.
+ * <p>
+ * Usage example:
+ * <pre>{@code
+ * AsyncPythonExecutor executor = new AsyncRestPythonExecutor(connectionDetails, objectMapper, httpClient);
+ * executor.executeAsync("print('Hello from Python via REST')", String.class)
+ *         .thenAccept(response -> System.out.println(response.body()));
+ * }</pre>
+ *
+ * @see AsyncPythonExecutor
+ * @see RestPythonExecutor
+ * @see ScriptRequest
+ * @see PythonServerConnectionDetails
+ * @see ScriptRegistry
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AsyncRestPythonExecutor implements AsyncPythonExecutor {
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final String TOKEN_HEADER = "X-Token";
+    private final PythonServerConnectionDetails connectionDetails;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final ScriptRegistry scriptRegistry;
+
+    /**
+     * Creates a new executor which always sends the full script body.
+     *
+     * @param connectionDetails non-null {@link PythonServerConnectionDetails} for REST server connection
+     * @param objectMapper non-null {@link ObjectMapper} for JSON serialization/deserialization
+     * @param httpClient non-null {@link HttpClient} for HTTP communication with the Python server
+     */
+    public AsyncRestPythonExecutor(PythonServerConnectionDetails connectionDetails, ObjectMapper objectMapper, HttpClient httpClient) {
+        this(connectionDetails, objectMapper, httpClient, null);
+    }
+
+    /**
+     * Sends the given Python {@code script} to a REST endpoint without blocking the calling thread.
+     *
+     * @param <R> the expected body type
+     * @param script the Python script to execute (non-null, non-empty recommended)
+     * @param resultClass the {@link Class} representing the expected return type, may be null if no body expected
+     * @return future of the REST response body parsed to {@code R}, completed exceptionally with {@link PythonScriptExecutionException}
+     * if an error occurs during HTTP communication or JSON serialization/deserialization
+     */
+    @Override
+    public <R> CompletableFuture<PythonExecutionResponse<R>> executeAsync(String script, Class<? extends R> resultClass) {
+        return this.executeAsync(ResolvedScript.of(script), resultClass);
+    }
+
+    /**
+     * Sends the given resolved Python script to a REST endpoint with its bindings in the {@code bindings} request field.
+     *
+     * @param <R> the expected body type
+     * @param resolvedScript the resolved Python script with its bindings (non-null)
+     * @param resultClass the {@link Class} representing the expected return type, may be null if no body expected
+     * @return future of the REST response body parsed to {@code R}, completed exceptionally with {@link PythonScriptExecutionException}
+     * if an error occurs during HTTP communication or JSON serialization/deserialization
+     */
+    @Override
+    public <R> CompletableFuture<PythonExecutionResponse<R>> executeAsync(ResolvedScript resolvedScript, Class<? extends R> resultClass) {
+        try {
+            String script = resolvedScript.script();
+            String bindings = resolvedScript.bindings();
+            CompletableFuture<HttpResponse<String>> responseFuture = scriptRegistry == null
+                    ? this.send(new ScriptRequest(script).withBindings(bindings))
+                    : this.sendRegistered(script, bindings);
+            return responseFuture
+                    .handle((response, throwable) -> {
+                        if (throwable != null) throw new PythonScriptExecutionException(unwrap(throwable));
+                        return this.parse(response, resultClass);
+                    });
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new PythonScriptExecutionException(e));
+        }
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendRegistered(String script, String bindings) {
+        String hash = scriptRegistry.hash(script);
+        if (!scriptRegistry.isRegistered(hash)) return this.register(script, hash, bindings);
+        return this.send(ScriptRequest.ofHash(hash).withBindings(bindings))
+                .thenCompose(response -> {
+                    if (!RestPythonExecutor.isUnknownHash(response, objectMapper)) return CompletableFuture.completedFuture(response);
+                    scriptRegistry.unregister(hash);
+                    return this.register(script, hash, bindings);
+                });
+    }
+
+    private CompletableFuture<HttpResponse<String>> register(String script, String hash, String bindings) {
+        return this.send(new ScriptRequest(script, hash, bindings))
+                .thenApply(response -> {
+                    if (response.statusCode() == HttpStatus.OK.value()) scriptRegistry.register(hash);
+                    return response;
+                });
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(ScriptRequest scriptRequest) {
+        try {
+            String scriptJson = objectMapper.writeValueAsString(scriptRequest);
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create(connectionDetails.getUri()))
+                    .header(CONTENT_TYPE_HEADER, JSON_CONTENT_TYPE)
+                    .header(TOKEN_HEADER, connectionDetails.getToken())
+                    .POST(HttpRequest.BodyPublishers.ofString(scriptJson))
+                    .build();
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <R> PythonExecutionResponse<R> parse(HttpResponse<String> response, Class<? extends R> resultClass) {
+        if (response.statusCode() != HttpStatus.OK.value()) throw new PythonScriptExecutionException("Request failed with status code: " + response.statusCode());
+        try {
+            String body = response.body();
+            R result = resultClass == null || body == null || body.isBlank() || RestPythonExecutor.EMPTY_BODY.equals(body)
+                    ? null
+                    : objectMapper.readValue(body, resultClass);
+            return new PythonExecutionResponse<>(result);
+        } catch (Exception e) {
+            throw new PythonScriptExecutionException(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+}
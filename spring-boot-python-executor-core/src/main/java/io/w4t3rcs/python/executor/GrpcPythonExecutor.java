@@ -1,12 +1,16 @@
 package io.w4t3rcs.python.executor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import io.w4t3rcs.python.connection.PythonServerConnectionDetails;
 import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.dto.ResolvedScript;
 import io.w4t3rcs.python.exception.PythonScriptExecutionException;
 import io.w4t3rcs.python.proto.PythonRequest;
 import io.w4t3rcs.python.proto.PythonResponse;
 import io.w4t3rcs.python.proto.PythonServiceGrpc;
+import io.w4t3rcs.python.registration.ScriptRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,6 +24,10 @@ import lombok.extern.slf4j.Slf4j;
  * This executor abstracts the complexity of starting and managing Python processes,
  * relying on the gRPC service to execute scripts and return results.
  * <p>
+ * If a {@link ScriptRegistry} is provided, a script is sent together with its hash only once,
+ * later executions send just the hash. When the server answers with {@link Status.Code#NOT_FOUND} for a hash,
+ * the script body is sent again.
+ * <p>
  * Usage example:
  * <pre>{@code
  * PythonExecutor executor = new GrpcPythonExecutor(stub, objectMapper);
@@ -32,6 +40,7 @@ import lombok.extern.slf4j.Slf4j;
  * @see PythonResponse
  * @see PythonServiceGrpc.PythonServiceBlockingStub
  * @see PythonServerConnectionDetails
+ * @see ScriptRegistry
  * @see RestPythonExecutor
  * @see LocalPythonExecutor
  * @author w4t3rcs
@@ -42,6 +51,17 @@ import lombok.extern.slf4j.Slf4j;
 public class GrpcPythonExecutor implements PythonExecutor {
     private final PythonServiceGrpc.PythonServiceBlockingStub stub;
     private final ObjectMapper objectMapper;
+    private final ScriptRegistry scriptRegistry;
+
+    /**
+     * Creates a new executor which always sends the full script body.
+     *
+     * @param stub non-null {@link PythonServiceGrpc.PythonServiceBlockingStub} for gRPC communication
+     * @param objectMapper non-null {@link ObjectMapper} for JSON serialization/deserialization
+     */
+    public GrpcPythonExecutor(PythonServiceGrpc.PythonServiceBlockingStub stub, ObjectMapper objectMapper) {
+        this(stub, objectMapper, null);
+    }
 
     /**
      * Executes the given Python {@code script} via the gRPC Python service and converts the body to the specified type.
@@ -54,10 +74,26 @@ public class GrpcPythonExecutor implements PythonExecutor {
      */
     @Override
     public <R> PythonExecutionResponse<R> execute(String script, Class<? extends R> resultClass) {
+        return this.execute(ResolvedScript.of(script), resultClass);
+    }
+
+    /**
+     * Executes the given resolved Python script via the gRPC Python service with its bindings in the {@code bindings} request field.
+     *
+     * @param <R> the expected body type
+     * @param resolvedScript the resolved Python script with its bindings (non-null)
+     * @param resultClass the {@link Class} representing the expected type of the body, may be null if no body expected
+     * @return an instance of {@code R} parsed from the Python script output, or {@code null} if {@code resultClass} is null or output is blank
+     * @throws PythonScriptExecutionException if any error occurs during script execution or body parsing
+     */
+    @Override
+    public <R> PythonExecutionResponse<R> execute(ResolvedScript resolvedScript, Class<? extends R> resultClass) {
         try {
-            PythonResponse response = stub.sendCode(PythonRequest.newBuilder()
-                    .setScript(script)
-                    .build());
+            String script = resolvedScript.script();
+            String bindings = resolvedScript.bindings();
+            PythonResponse response = scriptRegistry == null
+                    ? stub.sendCode(newRequest(bindings).setScript(script).build())
+                    : this.sendRegistered(script, bindings);
             String responseResult = response.getResult();
             R result = resultClass == null || responseResult.isBlank()
                     ? null
@@ -67,4 +103,27 @@ public class GrpcPythonExecutor implements PythonExecutor {
             throw new PythonScriptExecutionException(e);
         }
     }
-}
+
+    private PythonResponse sendRegistered(String script, String bindings) {
+        String hash = scriptRegistry.hash(script);
+        if (scriptRegistry.isRegistered(hash)) {
+            try {
+                return stub.sendCode(newRequest(bindings).setHash(hash).build());
+            } catch (StatusRuntimeException e) {
+                if (e.getStatus().getCode() != Status.Code.NOT_FOUND) throw e;
+                scriptRegistry.unregister(hash);
+            }
+        }
+        PythonResponse response = stub.sendCode(newRequest(bindings)
+                .setScript(script)
+                .setHash(hash)
+                .build());
+        scriptRegistry.register(hash);
+        return response;
+    }
+
+    private static PythonRequest.Builder newRequest(String bindings) {
+        PythonRequest.Builder request = PythonRequest.newBuilder();
+        return bindings == null ? request : request.setBindings(bindings);
+    }
+}
\ No newline at end of file
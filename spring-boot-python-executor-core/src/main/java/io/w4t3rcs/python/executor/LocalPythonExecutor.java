@@ -2,13 +2,19 @@ package io.w4t3rcs.python.executor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.dto.ResolvedScript;
 import io.w4t3rcs.python.exception.PythonScriptExecutionException;
 import io.w4t3rcs.python.local.ProcessFinisher;
 import io.w4t3rcs.python.local.ProcessHandler;
 import io.w4t3rcs.python.local.ProcessStarter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Implementation of the {@link PythonExecutor} interface that executes Python scripts locally.
  * <p>
@@ -16,11 +22,16 @@ import lombok.extern.slf4j.Slf4j;
  * <ul>
  *   <li>Starting the Python process with the provided script using {@link ProcessStarter}.</li>
  *   <li>Handling the process's input stream to capture the Python script output via {@link ProcessHandler}.</li>
- *   <li>Handling the process's error stream to capture error messages via {@link ProcessHandler}.</li>
- *   <li>Ensuring the process completes correctly using {@link ProcessFinisher}.</li>
+ *   <li>Handling the process's error stream to capture error messages via {@link ProcessHandler}
+ *   concurrently with the input stream, so neither pipe can fill up and block the running script.</li>
+ *   <li>Awaiting the process completion once both streams are drained using {@link ProcessFinisher}.</li>
  *   <li>Converting the captured JSON output into the specified Java type.</li>
  * </ul>
  * <p>
+ * The error streams are drained by at most {@code streamDrainerThreads} daemon threads of a pool owned by this executor
+ * and shut down by {@link #close()}. Drains beyond that limit are queued until a running execution completes, so a
+ * queued script writing more error output than the pipe buffer holds waits for a free thread.
+ * <p>
  * Usage example:
  * <pre>{@code
  * PythonExecutor executor = new LocalPythonExecutor(processStarter, inputHandler, errorHandler, objectMapper, processFinisher);
@@ -38,20 +49,67 @@ import lombok.extern.slf4j.Slf4j;
  * @since 1.0.0
  */
 @Slf4j
-@RequiredArgsConstructor
-public class LocalPythonExecutor implements PythonExecutor {
+public class LocalPythonExecutor implements PythonExecutor, AutoCloseable {
+    /**
+     * Maximum number of stream draining threads used when none is configured.
+     */
+    public static final int DEFAULT_STREAM_DRAINER_THREADS = 16;
+    private static final String STREAM_DRAINER_THREAD_NAME = "PythonStreamDrainer";
+    private static final long STREAM_DRAINER_KEEP_ALIVE_SECONDS = 60;
     private final ProcessStarter processStarter;
     private final ProcessHandler<String> inputProcessHandler;
     private final ProcessHandler<Void> errorProcessHandler;
     private final ObjectMapper objectMapper;
     private final ProcessFinisher processFinisher;
+    private final ThreadPoolExecutor streamDrainer;
+
+    /**
+     * Constructs a new {@code LocalPythonExecutor} draining error streams with at most {@link #DEFAULT_STREAM_DRAINER_THREADS} threads.
+     *
+     * @param processStarter the {@link ProcessStarter} launching Python processes (non-null)
+     * @param inputProcessHandler the {@link ProcessHandler} reading the process output (non-null)
+     * @param errorProcessHandler the {@link ProcessHandler} reading the process error output (non-null)
+     * @param objectMapper the {@link ObjectMapper} parsing the script result (non-null)
+     * @param processFinisher the {@link ProcessFinisher} finalizing the exited process (non-null)
+     */
+    public LocalPythonExecutor(ProcessStarter processStarter, ProcessHandler<String> inputProcessHandler, ProcessHandler<Void> errorProcessHandler,
+                               ObjectMapper objectMapper, ProcessFinisher processFinisher) {
+        this(processStarter, inputProcessHandler, errorProcessHandler, objectMapper, processFinisher, DEFAULT_STREAM_DRAINER_THREADS);
+    }
+
+    /**
+     * Constructs a new {@code LocalPythonExecutor} draining error streams with at most {@code streamDrainerThreads} threads.
+     *
+     * @param processStarter the {@link ProcessStarter} launching Python processes (non-null)
+     * @param inputProcessHandler the {@link ProcessHandler} reading the process output (non-null)
+     * @param errorProcessHandler the {@link ProcessHandler} reading the process error output (non-null)
+     * @param objectMapper the {@link ObjectMapper} parsing the script result (non-null)
+     * @param processFinisher the {@link ProcessFinisher} finalizing the exited process (non-null)
+     * @param streamDrainerThreads maximum number of threads draining error streams, must be positive
+     */
+    public LocalPythonExecutor(ProcessStarter processStarter, ProcessHandler<String> inputProcessHandler, ProcessHandler<Void> errorProcessHandler,
+                               ObjectMapper objectMapper, ProcessFinisher processFinisher, int streamDrainerThreads) {
+        if (streamDrainerThreads <= 0) throw new IllegalArgumentException("streamDrainerThreads must be positive");
+        this.processStarter = processStarter;
+        this.inputProcessHandler = inputProcessHandler;
+        this.errorProcessHandler = errorProcessHandler;
+        this.objectMapper = objectMapper;
+        this.processFinisher = processFinisher;
+        this.streamDrainer = new ThreadPoolExecutor(streamDrainerThreads, streamDrainerThreads,
+                STREAM_DRAINER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, STREAM_DRAINER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.streamDrainer.allowCoreThreadTimeOut(true);
+    }
 
     /**
      * Executes the provided Python {@code script} locally, captures the JSON output,
      * and converts it into an instance of the specified {@code resultClass}.
      * <p>
-     * The method starts a new Python process, processes the output and error streams,
-     * and waits for the process termination.
+     * The method starts a new Python process, drains the output and error streams concurrently
+     * while the process runs, and waits for the process termination afterward.
      *
      * @param <R> the expected body type
      * @param script the Python script to execute (non-null, non-empty recommended)
@@ -61,17 +119,53 @@ public class LocalPythonExecutor implements PythonExecutor {
      */
     @Override
     public <R> PythonExecutionResponse<R> execute(String script, Class<? extends R> resultClass) {
+        return this.execute(ResolvedScript.of(script), resultClass);
+    }
+
+    /**
+     * Executes the provided resolved Python script locally, passing its bindings to the started process
+     * through {@link ProcessStarter#start(String, String)}.
+     *
+     * @param <R> the expected body type
+     * @param resolvedScript the resolved Python script with its bindings (non-null)
+     * @param resultClass the {@link Class} representing the expected return type, may be null if no body expected
+     * @return an instance of {@code R} parsed from the Python script output, or {@code null} if {@code resultClass} is null or output is blank
+     * @throws PythonScriptExecutionException if an error occurs during process execution, I/O handling, or JSON deserialization
+     */
+    @Override
+    public <R> PythonExecutionResponse<R> execute(ResolvedScript resolvedScript, Class<? extends R> resultClass) {
+        Process process = null;
         try {
-            Process process = processStarter.start(script);
+            process = resolvedScript.hasBindings()
+                    ? processStarter.start(resolvedScript.script(), resolvedScript.bindings())
+                    : processStarter.start(resolvedScript.script());
+            Process startedProcess = process;
+            Future<Void> errorHandling = streamDrainer.submit(() -> errorProcessHandler.handle(startedProcess));
             String jsonResult = inputProcessHandler.handle(process);
-            errorProcessHandler.handle(process);
+            errorHandling.get();
             processFinisher.finish(process);
             R result = resultClass == null || jsonResult == null || jsonResult.isBlank()
                     ? null
                     : objectMapper.readValue(jsonResult, resultClass);
             return new PythonExecutionResponse<>(result);
+        } catch (ExecutionException e) {
+            this.destroy(process);
+            throw new PythonScriptExecutionException(e.getCause());
         } catch (Exception e) {
+            this.destroy(process);
             throw new PythonScriptExecutionException(e);
         }
     }
+
+    /**
+     * Shuts down the stream draining threads of this executor. Running executions fail once their error stream is no longer drained.
+     */
+    @Override
+    public void close() {
+        streamDrainer.shutdownNow();
+    }
+
+    private void destroy(Process process) {
+        if (process != null && process.isAlive()) process.destroyForcibly();
+    }
 }
@@ -1,10 +1,14 @@
 package io.w4t3rcs.python.executor;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.w4t3rcs.python.connection.PythonServerConnectionDetails;
 import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.dto.ResolvedScript;
 import io.w4t3rcs.python.dto.ScriptRequest;
 import io.w4t3rcs.python.exception.PythonScriptExecutionException;
+import io.w4t3rcs.python.registration.ScriptRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -27,6 +31,11 @@ import java.net.http.HttpResponse;
  *   <li>Receiving the JSON response and deserializing it into the expected body type.</li>
  * </ul>
  * <p>
+ * If a {@link ScriptRegistry} is provided, a script is sent together with its hash only once,
+ * later executions send just the hash. When the server answers {@code 404 Not Found} with the
+ * {@link ScriptRegistry#UNKNOWN_HASH_ERROR} error for a hash, the script body is sent again. Any other
+ * {@code 404 Not Found}, e.g. of a wrong endpoint, fails the execution.
+ * <p>
  * Usage example:
  * <pre>{@code
  * PythonExecutor executor = new RestPythonExecutor(connectionDetails, objectMapper, httpClient);
@@ -37,6 +46,7 @@ import java.net.http.HttpResponse;
  * @see PythonExecutor
  * @see ScriptRequest
  * @see PythonServerConnectionDetails
+ * @see ScriptRegistry
  * @see GrpcPythonExecutor
  * @see LocalPythonExecutor
  * @author w4t3rcs
@@ -48,10 +58,23 @@ public class RestPythonExecutor implements PythonExecutor {
     private static final String CONTENT_TYPE_HEADER = "Content-Type";
     private static final String JSON_CONTENT_TYPE = "application/json";
     private static final String TOKEN_HEADER = "X-Token";
+    private static final String ERROR_FIELD = "error";
     public static final String EMPTY_BODY = "\"\"";
     private final PythonServerConnectionDetails connectionDetails;
     private final ObjectMapper objectMapper;
     private final HttpClient httpClient;
+    private final ScriptRegistry scriptRegistry;
+
+    /**
+     * Creates a new executor which always sends the full script body.
+     *
+     * @param connectionDetails non-null {@link PythonServerConnectionDetails} for REST server connection
+     * @param objectMapper non-null {@link ObjectMapper} for JSON serialization/deserialization
+     * @param httpClient non-null {@link HttpClient} for HTTP communication with the Python server
+     */
+    public RestPythonExecutor(PythonServerConnectionDetails connectionDetails, ObjectMapper objectMapper, HttpClient httpClient) {
+        this(connectionDetails, objectMapper, httpClient, null);
+    }
 
     /**
      * Executes the given Python {@code script} remotely by sending it to a REST endpoint.
@@ -67,17 +90,26 @@ public class RestPythonExecutor implements PythonExecutor {
      */
     @Override
     public <R> PythonExecutionResponse<R> execute(String script, Class<? extends R> resultClass) {
+        return this.execute(ResolvedScript.of(script), resultClass);
+    }
+
+    /**
+     * Sends the given resolved Python script to a REST endpoint with its bindings in the {@code bindings} request field.
+     *
+     * @param <R> the expected body type
+     * @param resolvedScript the resolved Python script with its bindings (non-null)
+     * @param resultClass the {@link Class} representing the expected return type, may be null if no body expected
+     * @return an instance of {@code R} parsed from the REST response body, or {@code null} if {@code resultClass} is null or body is empty
+     * @throws PythonScriptExecutionException if an error occurs during HTTP communication, JSON serialization/deserialization, or if the response status is not 200 OK
+     */
+    @Override
+    public <R> PythonExecutionResponse<R> execute(ResolvedScript resolvedScript, Class<? extends R> resultClass) {
         try {
-            ScriptRequest scriptRequest = new ScriptRequest(script);
-            String scriptJson = objectMapper.writeValueAsString(scriptRequest);
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(connectionDetails.getUri()))
-                    .header(CONTENT_TYPE_HEADER, JSON_CONTENT_TYPE)
-                    .header(TOKEN_HEADER, connectionDetails.getToken())
-                    .POST(HttpRequest.BodyPublishers.ofString(scriptJson))
-                    .build();
-            HttpResponse.BodyHandler<String> handler = HttpResponse.BodyHandlers.ofString();
-            HttpResponse<String> response = httpClient.send(request, handler);
+            String script = resolvedScript.script();
+            String bindings = resolvedScript.bindings();
+            HttpResponse<String> response = scriptRegistry == null
+                    ? this.send(new ScriptRequest(script).withBindings(bindings))
+                    : this.sendRegistered(script, bindings);
             if (response.statusCode() != HttpStatus.OK.value()) throw new PythonScriptExecutionException("Request failed with status code: " + response.statusCode());
             String body = response.body();
             R result = resultClass == null || body == null || body.isBlank() || EMPTY_BODY.equals(body)
@@ -88,4 +120,45 @@ public class RestPythonExecutor implements PythonExecutor {
             throw new PythonScriptExecutionException(e);
         }
     }
+
+    private HttpResponse<String> sendRegistered(String script, String bindings) throws Exception {
+        String hash = scriptRegistry.hash(script);
+        if (scriptRegistry.isRegistered(hash)) {
+            HttpResponse<String> response = this.send(ScriptRequest.ofHash(hash).withBindings(bindings));
+            if (!isUnknownHash(response, objectMapper)) return response;
+            scriptRegistry.unregister(hash);
+        }
+        HttpResponse<String> response = this.send(new ScriptRequest(script, hash, bindings));
+        if (response.statusCode() == HttpStatus.OK.value()) scriptRegistry.register(hash);
+        return response;
+    }
+
+    /**
+     * Checks whether the response is the REST server's answer to a hash it has not registered.
+     *
+     * @param response non-null HTTP response
+     * @param objectMapper non-null {@link ObjectMapper} parsing the response body
+     * @return {@code true} if the status is {@code 404 Not Found} and the body has the {@link ScriptRegistry#UNKNOWN_HASH_ERROR} error
+     */
+    static boolean isUnknownHash(HttpResponse<String> response, ObjectMapper objectMapper) {
+        String body = response.body();
+        if (response.statusCode() != HttpStatus.NOT_FOUND.value() || body == null) return false;
+        try {
+            JsonNode error = objectMapper.readTree(body);
+            return error != null && ScriptRegistry.UNKNOWN_HASH_ERROR.equals(error.path(ERROR_FIELD).asText());
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    private HttpResponse<String> send(ScriptRequest scriptRequest) throws Exception {
+        String scriptJson = objectMapper.writeValueAsString(scriptRequest);
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(connectionDetails.getUri()))
+                .header(CONTENT_TYPE_HEADER, JSON_CONTENT_TYPE)
+                .header(TOKEN_HEADER, connectionDetails.getToken())
+                .POST(HttpRequest.BodyPublishers.ofString(scriptJson))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,205 @@
+package io.w4t3rcs.python.executor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.grpc.Metadata;
+import io.grpc.stub.MetadataUtils;
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.dto.ResolvedScript;
+import io.w4t3rcs.python.exception.PythonScriptExecutionException;
+import io.w4t3rcs.python.grpc.PythonExecutionStream;
+import io.w4t3rcs.python.properties.PythonExecutorProperties;
+import io.w4t3rcs.python.proto.PythonServiceGrpc;
+import io.w4t3rcs.python.proto.PythonStreamResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Implementation of the {@link PythonExecutor} and {@link AsyncPythonExecutor} interfaces that executes Python scripts
+ * over long-lived bidirectional gRPC streams.
+ * <p>
+ * Instead of a unary call per script as in {@link GrpcPythonExecutor}, executions are multiplexed over a fixed number
+ * of {@link PythonExecutionStream} instances and correlated by id, so many small scripts can be pipelined through
+ * one channel without paying a full round trip each. Every execution is sent over the least loaded stream,
+ * and streams terminated by the server or the transport are transparently replaced by new ones.
+ * <p>
+ * The behaviour is configured by {@link PythonExecutorProperties.GrpcProperties.StreamProperties}:
+ * <ul>
+ *   <li>{@code streams} — number of streams the executions are multiplexed over.</li>
+ *   <li>{@code maxInFlight} — number of executions per stream awaiting a response before further ones are queued.</li>
+ *   <li>{@code ordered} — whether the server must answer in request order instead of as soon as an execution completes.</li>
+ *   <li>{@code timeout} — how long an execution waits for its response before it fails, like the deadline of a unary call.</li>
+ * </ul>
+ * <p>
+ * Usage example:
+ * <pre>{@code
+ * StreamingGrpcPythonExecutor executor = new StreamingGrpcPythonExecutor(asyncStub, objectMapper, executorProperties);
+ * executor.executeAsync("r4java = 2 + 2", Integer.class)
+ *         .thenAccept(response -> System.out.println(response.body()));
+ * }</pre>
+ *
+ * @see PythonExecutor
+ * @see AsyncPythonExecutor
+ * @see GrpcPythonExecutor
+ * @see PythonExecutionStream
+ * @see PythonExecutorProperties.GrpcProperties.StreamProperties
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Slf4j
+public class StreamingGrpcPythonExecutor implements PythonExecutor, AsyncPythonExecutor, AutoCloseable {
+    /**
+     * gRPC metadata key telling the server whether the responses of a stream must keep the request order.
+     */
+    public static final String ORDERED_KEY = "x-stream-ordered";
+    private final PythonServiceGrpc.PythonServiceStub stub;
+    private final ObjectMapper objectMapper;
+    private final int maxInFlight;
+    private final Duration timeout;
+    private final AtomicReferenceArray<PythonExecutionStream> streams;
+    private final AtomicLong ids = new AtomicLong();
+
+    /**
+     * Creates a new executor, the streams are opened lazily on first use.
+     *
+     * @param stub non-{@code null} asynchronous stub with authentication metadata attached
+     * @param objectMapper non-{@code null} {@link ObjectMapper} for JSON deserialization
+     * @param executorProperties non-{@code null} executor properties with configured {@code grpc.stream} section
+     */
+    public StreamingGrpcPythonExecutor(PythonServiceGrpc.PythonServiceStub stub, ObjectMapper objectMapper, PythonExecutorProperties executorProperties) {
+        var streamProperties = executorProperties.grpc().stream();
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of(ORDERED_KEY, Metadata.ASCII_STRING_MARSHALLER), String.valueOf(streamProperties.ordered()));
+        this.stub = stub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+        this.objectMapper = objectMapper;
+        this.maxInFlight = Math.max(streamProperties.maxInFlight(), 1);
+        this.timeout = streamProperties.timeout();
+        this.streams = new AtomicReferenceArray<>(Math.max(streamProperties.streams(), 1));
+    }
+
+    /**
+     * Executes the given Python {@code script} over one of the streams and waits for its body.
+     *
+     * @param <R> the expected body type
+     * @param script the Python script to execute (non-null, non-empty recommended)
+     * @param resultClass the {@link Class} representing the expected type of the body, may be null if no body expected
+     * @return an instance of {@code R} parsed from the Python script output, or {@code null} if {@code resultClass} is null or output is blank
+     * @throws PythonScriptExecutionException if any error occurs during script execution or body parsing
+     */
+    @Override
+    public <R> PythonExecutionResponse<R> execute(String script, Class<? extends R> resultClass) {
+        return this.execute(ResolvedScript.of(script), resultClass);
+    }
+
+    /**
+     * Executes the given resolved Python script over one of the streams with its bindings in the {@code bindings} request field.
+     *
+     * @param <R> the expected body type
+     * @param resolvedScript the resolved Python script with its bindings (non-null)
+     * @param resultClass the {@link Class} representing the expected type of the body, may be null if no body expected
+     * @return an instance of {@code R} parsed from the Python script output, or {@code null} if {@code resultClass} is null or output is blank
+     * @throws PythonScriptExecutionException if any error occurs during script execution or body parsing
+     */
+    @Override
+    public <R> PythonExecutionResponse<R> execute(ResolvedScript resolvedScript, Class<? extends R> resultClass) {
+        try {
+            return this.<R>executeAsync(resolvedScript, resultClass).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof PythonScriptExecutionException executionException
+                    ? executionException
+                    : new PythonScriptExecutionException(e.getCause());
+        }
+    }
+
+    /**
+     * Sends the given Python {@code script} over the least loaded stream without blocking the calling thread.
+     *
+     * @param <R> the expected body type
+     * @param script the Python script to execute (non-null, non-empty recommended)
+     * @param resultClass the {@link Class} representing the expected type of the body, may be null if no body expected
+     * @return future of the script body parsed to {@code R}, completed exceptionally with {@link PythonScriptExecutionException}
+     * if any error occurs during script execution or body parsing
+     */
+    @Override
+    public <R> CompletableFuture<PythonExecutionResponse<R>> executeAsync(String script, Class<? extends R> resultClass) {
+        return this.executeAsync(ResolvedScript.of(script), resultClass);
+    }
+
+    /**
+     * Sends the given resolved Python script over the least loaded stream with its bindings in the {@code bindings} request field.
+     *
+     * @param <R> the expected body type
+     * @param resolvedScript the resolved Python script with its bindings (non-null)
+     * @param resultClass the {@link Class} representing the expected type of the body, may be null if no body expected
+     * @return future of the script body parsed to {@code R}, completed exceptionally with {@link PythonScriptExecutionException}
+     * if any error occurs during script execution or body parsing
+     */
+    @Override
+    public <R> CompletableFuture<PythonExecutionResponse<R>> executeAsync(ResolvedScript resolvedScript, Class<? extends R> resultClass) {
+        try {
+            return this.acquireStream()
+                    .send(ids.incrementAndGet(), resolvedScript.script(), resolvedScript.bindings())
+                    .handle((response, throwable) -> {
+                        if (throwable instanceof TimeoutException) {
+                            throw new PythonScriptExecutionException("Python execution has not been answered within " + timeout);
+                        } else if (throwable != null) {
+                            throw throwable instanceof PythonScriptExecutionException executionException
+                                    ? executionException
+                                    : new PythonScriptExecutionException(throwable);
+                        }
+                        return this.parse(response, resultClass);
+                    });
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new PythonScriptExecutionException(e));
+        }
+    }
+
+    /**
+     * Half-closes all open streams.
+     */
+    @Override
+    public void close() {
+        for (int i = 0; i < streams.length(); i++) {
+            PythonExecutionStream stream = streams.getAndSet(i, null);
+            if (stream != null) stream.close();
+        }
+    }
+
+    private PythonExecutionStream acquireStream() {
+        PythonExecutionStream leastLoaded = null;
+        for (int i = 0; i < streams.length(); i++) {
+            PythonExecutionStream stream = streams.get(i);
+            if (stream == null || stream.isClosed()) {
+                PythonExecutionStream newStream = new PythonExecutionStream(stub, maxInFlight, timeout);
+                if (streams.compareAndSet(i, stream, newStream)) {
+                    stream = newStream;
+                } else {
+                    newStream.close();
+                    stream = streams.get(i);
+                    if (stream == null || stream.isClosed()) continue;
+                }
+            }
+            if (leastLoaded == null || stream.load() < leastLoaded.load()) leastLoaded = stream;
+        }
+        if (leastLoaded == null) throw new PythonScriptExecutionException("No Python execution stream is available");
+        return leastLoaded;
+    }
+
+    private <R> PythonExecutionResponse<R> parse(PythonStreamResponse response, Class<? extends R> resultClass) {
+        if (!response.getError().isEmpty()) throw new PythonScriptExecutionException(response.getError());
+        try {
+            String responseResult = response.getResult();
+            R result = resultClass == null || responseResult.isBlank()
+                    ? null
+                    : objectMapper.readValue(responseResult, resultClass);
+            return new PythonExecutionResponse<>(result);
+        } catch (Exception e) {
+            throw new PythonScriptExecutionException(e);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package io.w4t3rcs.python.grpc;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.w4t3rcs.python.exception.PythonScriptExecutionException;
+import io.w4t3rcs.python.executor.StreamingGrpcPythonExecutor;
+import io.w4t3rcs.python.proto.PythonServiceGrpc;
+import io.w4t3rcs.python.proto.PythonStreamRequest;
+import io.w4t3rcs.python.proto.PythonStreamResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single long-lived {@code ExecuteStream} call multiplexing many script executions.
+ *
+ * <p>Every execution is sent as a {@link PythonStreamRequest} carrying a correlation id,
+ * and the pending future is completed once the {@link PythonStreamResponse} with the same id arrives,
+ * regardless of the order in which the server answers.</p>
+ *
+ * <p>Outgoing requests are queued and sent only while the transport is ready and fewer than
+ * {@code maxInFlight} executions are awaiting a response, so both the HTTP/2 flow control of the channel
+ * and the configured window are respected. The queue is drained again whenever the transport becomes ready
+ * or a response frees a slot.</p>
+ *
+ * <p>If a timeout is configured, an execution not answered in time is failed and its slot is freed,
+ * so a server that hangs on one script cannot block its callers or the stream forever. A late response to it is ignored.</p>
+ *
+ * <p>Once the call fails or is completed by the server, all pending executions are failed and the stream
+ * reports itself as closed, so the owner can replace it with a new one.</p>
+ *
+ * @see StreamingGrpcPythonExecutor
+ * @see PythonServiceGrpc.PythonServiceStub#executeStream(io.grpc.stub.StreamObserver)
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Slf4j
+public class PythonExecutionStream implements ClientResponseObserver<PythonStreamRequest, PythonStreamResponse> {
+    private final int maxInFlight;
+    private final Duration timeout;
+    private final Map<Long, CompletableFuture<PythonStreamResponse>> pendingResponses = new ConcurrentHashMap<>();
+    private final Queue<PythonStreamRequest> outgoingRequests = new ConcurrentLinkedQueue<>();
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private ClientCallStreamObserver<PythonStreamRequest> requestStream;
+    private volatile boolean closed;
+
+    /**
+     * Opens a new execution stream using the given stub, its executions wait for their responses without a time limit.
+     *
+     * @param stub non-{@code null} asynchronous stub with authentication and ordering metadata attached
+     * @param maxInFlight maximum number of executions awaiting a response, must be positive
+     */
+    public PythonExecutionStream(PythonServiceGrpc.PythonServiceStub stub, int maxInFlight) {
+        this(stub, maxInFlight, null);
+    }
+
+    /**
+     * Opens a new execution stream using the given stub.
+     *
+     * @param stub non-{@code null} asynchronous stub with authentication and ordering metadata attached
+     * @param maxInFlight maximum number of executions awaiting a response, must be positive
+     * @param timeout maximum time an execution waits for its response, {@code null} or zero disables the limit
+     */
+    public PythonExecutionStream(PythonServiceGrpc.PythonServiceStub stub, int maxInFlight, Duration timeout) {
+        this.maxInFlight = maxInFlight;
+        this.timeout = timeout == null || timeout.isZero() || timeout.isNegative() ? null : timeout;
+        stub.executeStream(this);
+    }
+
+    /**
+     * Enqueues the script for execution over this stream.
+     *
+     * @param id correlation id unique within this stream
+     * @param script non-{@code null} Python script to execute
+     * @return non-{@code null} future of the response with the same correlation id
+     */
+    public CompletableFuture<PythonStreamResponse> send(long id, String script) {
+        return this.send(id, script, null);
+    }
+
+    /**
+     * Enqueues the script for execution over this stream together with the argument values bound through a side channel.
+     *
+     * @param id correlation id unique within this stream
+     * @param script non-{@code null} Python script to execute
+     * @param bindings JSON array of the bound argument values, may be {@code null}
+     * @return non-{@code null} future of the response with the same correlation id,
+     * completed exceptionally with {@link TimeoutException} if it is not answered within the timeout
+     */
+    public CompletableFuture<PythonStreamResponse> send(long id, String script, String bindings) {
+        CompletableFuture<PythonStreamResponse> future = new CompletableFuture<>();
+        if (closed) {
+            future.completeExceptionally(new PythonScriptExecutionException("Python execution stream is closed"));
+            return future;
+        }
+        pendingResponses.put(id, future);
+        if (timeout != null) {
+            future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)
+                    .exceptionally(throwable -> {
+                        if (throwable instanceof TimeoutException) this.expire(id, future);
+                        return null;
+                    });
+        }
+        PythonStreamRequest.Builder request = PythonStreamRequest.newBuilder()
+                .setId(id)
+                .setScript(script);
+        if (bindings != null) request.setBindings(bindings);
+        outgoingRequests.add(request.build());
+        this.drain();
+        if (closed) this.failQueued(new PythonScriptExecutionException("Python execution stream is closed"));
+        return future;
+    }
+
+    /**
+     * Returns the number of executions sent or queued on this stream and not answered yet.
+     *
+     * @return current stream load
+     */
+    public int load() {
+        return pendingResponses.size();
+    }
+
+    /**
+     * Checks whether the stream can no longer accept executions.
+     *
+     * @return {@code true} if the stream has been closed or the underlying call has terminated
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Half-closes the stream, the server answers the already sent executions and completes the call.
+     * Executions queued but not sent yet are failed, and no further executions are accepted.
+     */
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        this.failQueued(new PythonScriptExecutionException("Python execution stream is closed"));
+        requestStream.onCompleted();
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<PythonStreamRequest> requestStream) {
+        this.requestStream = requestStream;
+        requestStream.setOnReadyHandler(this::drain);
+    }
+
+    @Override
+    public void onNext(PythonStreamResponse response) {
+        CompletableFuture<PythonStreamResponse> future = pendingResponses.remove(response.getId());
+        inFlight.remove(response.getId());
+        this.drain();
+        if (future != null) future.complete(response);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        log.error("Python execution stream has failed", throwable);
+        closed = true;
+        this.failPending(throwable);
+    }
+
+    @Override
+    public void onCompleted() {
+        closed = true;
+        this.failPending(new PythonScriptExecutionException("Python execution stream has been completed by the server"));
+    }
+
+    private synchronized void drain() {
+        while (!closed && inFlight.size() < maxInFlight && requestStream.isReady()) {
+            PythonStreamRequest request = outgoingRequests.poll();
+            if (request == null) return;
+            inFlight.add(request.getId());
+            requestStream.onNext(request);
+        }
+    }
+
+    private synchronized void expire(long id, CompletableFuture<PythonStreamResponse> future) {
+        pendingResponses.remove(id, future);
+        outgoingRequests.removeIf(request -> request.getId() == id);
+        if (inFlight.remove(id)) this.drain();
+    }
+
+    private void failQueued(Throwable throwable) {
+        PythonStreamRequest request;
+        while ((request = outgoingRequests.poll()) != null) {
+            CompletableFuture<PythonStreamResponse> future = pendingResponses.remove(request.getId());
+            if (future != null) future.completeExceptionally(throwable);
+        }
+    }
+
+    private void failPending(Throwable throwable) {
+        outgoingRequests.clear();
+        pendingResponses.keySet().forEach(id -> {
+            CompletableFuture<PythonStreamResponse> future = pendingResponses.remove(id);
+            if (future != null) future.completeExceptionally(throwable);
+        });
+    }
+}
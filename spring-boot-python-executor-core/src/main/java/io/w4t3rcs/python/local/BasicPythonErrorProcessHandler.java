@@ -2,16 +2,20 @@ package io.w4t3rcs.python.local;
 
 import io.w4t3rcs.python.exception.PythonReadingException;
 import io.w4t3rcs.python.executor.LocalPythonExecutor;
+import io.w4t3rcs.python.properties.PythonExecutorProperties;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Processes and handles the standard error stream of a given {@link Process}.
  *
- * <p>This {@link ProcessHandler} implementation reads the error output (stderr) of the process.
+ * <p>This {@link ProcessHandler} implementation reads the error output (stderr) of the process until its end.
+ * Only the first {@link PythonExecutorProperties.LocalProperties#captureLimit()} characters are kept,
+ * the rest is drained and discarded, so chatty scripts cannot exhaust the heap.
  * If the error stream contains any non-blank content, the message is:
  * <ul>
  *     <li>Logged using SLF4J at <code>ERROR</code> level.</li>
@@ -30,17 +34,22 @@ import java.util.stream.Collectors;
  * <p>Example usage:
  * <pre>{@code
  * Process process = new ProcessBuilder("python", "script.py").start();
- * new ErrorProcessHandler().handle(process);
+ * new BasicPythonErrorProcessHandler(executorProperties).handle(process);
  * }</pre>
  *
  * @see ProcessHandler
  * @see BasicPythonInputProcessHandler
+ * @see PythonExecutorProperties
  * @see LocalPythonExecutor
  * @author w4t3rcs
  * @since 1.0.0
  */
 @Slf4j
+@RequiredArgsConstructor
 public class BasicPythonErrorProcessHandler implements ProcessHandler<Void> {
+    private static final int BUFFER_SIZE = 8192;
+    private final PythonExecutorProperties executorProperties;
+
     /**
      * Reads and processes the standard error stream of the specified {@link Process}.
      *
@@ -54,11 +63,19 @@ public class BasicPythonErrorProcessHandler implements ProcessHandler<Void> {
      */
     @Override
     public Void handle(Process process) {
-        try (BufferedReader bufferedReader = process.errorReader()) {
-            String errorMessage = bufferedReader.lines().collect(Collectors.joining());
-            if (!errorMessage.isBlank()) {
-                log.error(errorMessage);
-                throw new PythonReadingException(errorMessage);
+        int captureLimit = executorProperties.local().captureLimit();
+        try (BufferedReader bufferedReader = process.errorReader(StandardCharsets.UTF_8)) {
+            StringBuilder errorMessage = new StringBuilder();
+            char[] buffer = new char[BUFFER_SIZE];
+            int read;
+            while ((read = bufferedReader.read(buffer)) != -1) {
+                int remaining = captureLimit - errorMessage.length();
+                if (remaining > 0) errorMessage.append(buffer, 0, Math.min(read, remaining));
+            }
+            String capturedMessage = errorMessage.toString();
+            if (!capturedMessage.isBlank()) {
+                log.error(capturedMessage);
+                throw new PythonReadingException(capturedMessage);
             }
         } catch (IOException e) {
             throw new PythonReadingException(e);
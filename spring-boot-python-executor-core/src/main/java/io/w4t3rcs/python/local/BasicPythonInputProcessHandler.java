@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -19,7 +20,8 @@ import java.util.concurrent.atomic.AtomicReference;
  * {@link PythonResolverProperties.ResultProperties#appearance()}, and returns it as a raw JSON string.
  *
  * <p>If {@link PythonExecutorProperties.LocalProperties#loggable()} is enabled, all output lines
- * (including non-body lines) are logged at <code>INFO</code> level.
+ * (including non-body lines) are logged at <code>INFO</code> level, each truncated to
+ * {@link PythonExecutorProperties.LocalProperties#captureLimit()} characters.
  *
  * <p>Example usage:
  * <pre>{@code
@@ -61,14 +63,14 @@ public class BasicPythonInputProcessHandler implements ProcessHandler<String> {
         var localProperties = executorProperties.local();
         var resultProperties = resolverProperties.result();
         AtomicReference<String> result = new AtomicReference<>();
-        try (BufferedReader bufferedReader = process.inputReader()) {
+        try (BufferedReader bufferedReader = process.inputReader(StandardCharsets.UTF_8)) {
             bufferedReader.lines().forEach(line -> {
                 if (line.contains(resultProperties.appearance())) {
                     String resultJson = line.replace(resultProperties.appearance(), "");
                     result.set(resultJson);
                 }
                 if (localProperties.loggable()) {
-                    log.info(line);
+                    log.info(line.length() > localProperties.captureLimit() ? line.substring(0, localProperties.captureLimit()) : line);
                 }
             });
         } catch (IOException e) {
@@ -1,25 +1,27 @@
 package io.w4t3rcs.python.local;
 
+import io.w4t3rcs.python.exception.PythonScriptExecutionException;
 import io.w4t3rcs.python.executor.LocalPythonExecutor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Handles completion of a {@link Process} by checking its exit code and logging the body.
  *
- * <p>This {@link ProcessFinisher} implementation inspects the process's exit value:
+ * <p>This {@link ProcessFinisher} implementation awaits the process termination and inspects its exit value:
  * <ul>
  *     <li>If the exit code is <code>0</code> — logs a success message at <code>INFO</code> level.</li>
  *     <li>Otherwise — logs an error message at <code>ERROR</code> level.</li>
  * </ul>
  * After logging, the process is explicitly terminated via {@link Process#destroy()} to release resources.
  *
- * <p><b>Error handling:</b>
+ * <p><b>Error handling:</b> if the waiting thread is interrupted, the interrupt flag is restored,
+ * the process is destroyed and a {@link PythonScriptExecutionException} is thrown.
  *
  * <p>Example usage:
  * <pre>{@code
  * Process process = new ProcessBuilder("python", "script.py").start();
- * process.waitFor(); // Ensure process completion before finishing
- * new ProcessFinisherImpl().finish(process);
+ * // Drain the process streams before finishing
+ * new BasicPythonProcessFinisher().finish(process);
  * }</pre>
  *
  * @see ProcessFinisher
@@ -32,17 +34,23 @@ public class BasicPythonProcessFinisher implements ProcessFinisher {
     /**
      * Finalizes the given {@link Process} by logging its exit status and releasing resources.
      *
-     * @param process the non-{@code null} {@link Process} to finish; must be already terminated
-     * @throws IllegalThreadStateException if the process has not yet terminated
+     * @param process the non-{@code null} {@link Process} to finish; its streams should be already drained
+     * @throws PythonScriptExecutionException if the thread is interrupted while awaiting the process termination
      */
     @Override
     public void finish(Process process) {
-        int exitCode = process.exitValue();
-        if (exitCode == 0) {
-            log.info("Python script is executed with code: {}", exitCode);
-        } else {
-            log.error("Something went wrong! Python script is executed with code: {}", exitCode);
+        try {
+            int exitCode = process.waitFor();
+            if (exitCode == 0) {
+                log.info("Python script is executed with code: {}", exitCode);
+            } else {
+                log.error("Something went wrong! Python script is executed with code: {}", exitCode);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PythonScriptExecutionException(e);
+        } finally {
+            process.destroy();
         }
-        process.destroy();
     }
 }
\ No newline at end of file
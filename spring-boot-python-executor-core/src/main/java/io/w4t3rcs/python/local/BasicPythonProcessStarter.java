@@ -1,5 +1,6 @@
 package io.w4t3rcs.python.local;
 
+import io.w4t3rcs.python.dto.ResolvedScript;
 import io.w4t3rcs.python.exception.ProcessStartException;
 import io.w4t3rcs.python.executor.LocalPythonExecutor;
 import io.w4t3rcs.python.file.PythonFileHandler;
@@ -7,6 +8,14 @@ import io.w4t3rcs.python.properties.PythonExecutorProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.w4t3rcs.python.properties.PythonExecutorProperties.LocalProperties.ScriptMode;
+
 /**
  * Starts Python processes from script files or inline Python code.
  *
@@ -15,15 +24,27 @@ import lombok.extern.slf4j.Slf4j;
  * Depending on the input, it will either:
  * <ul>
  *     <li>Execute a Python script from a file path (if {@link PythonFileHandler#isPythonFile(String)} returns {@code true}).</li>
- *     <li>Execute inline Python code using the {@code -c} option.</li>
+ *     <li>Execute inline Python code streamed to the interpreter's standard input
+ *     (if {@link PythonExecutorProperties.LocalProperties#scriptMode()} is {@code STDIN}).</li>
+ *     <li>Execute inline Python code using the {@code -c} option otherwise.</li>
  * </ul>
  *
- * <p>If inline code contains double quotes, they are escaped by doubling them to ensure
- * proper command-line parsing.</p>
+ * <p>In the {@code -c} mode, double quotes in inline code are escaped by doubling them to ensure
+ * proper command-line parsing, and the script size is limited by the OS argument limit.
+ * The {@code STDIN} mode needs neither escaping nor an argv copy of the script.</p>
+ *
+ * <p>The standard streams of the interpreter are encoded as UTF-8 regardless of the platform locale,
+ * which is the charset the {@link ProcessHandler} implementations decode them with.</p>
  *
- * <p><b>Execution order:</b> After starting the process via {@link ProcessBuilder#start()},
- * this implementation waits for its completion using {@link Process#waitFor()} before returning.
- * As a body, the returned process is always in a terminated state.</p>
+ * <p>Bindings passed to {@link #start(String, String)} are written as UTF-8 to a temporary file readable by the owner only,
+ * whose path is exported to the process as the {@link ResolvedScript#BINDINGS_FILE_VARIABLE} environment variable,
+ * so the script text stays the same for every argument value and the bindings are not limited by the OS environment size.
+ * The file is deleted once the process exits.</p>
+ *
+ * <p><b>Execution order:</b> The process is returned right after {@link ProcessBuilder#start()}
+ * while it is still running. Its output and error streams must be drained by the caller before
+ * (or while) awaiting its completion, otherwise a script writing more than the OS pipe buffer would block.
+ * {@link LocalPythonExecutor} drains both streams concurrently and awaits completion in {@link ProcessFinisher}.</p>
  *
  * <p>Example usage:
  * <pre>{@code
@@ -46,7 +67,18 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RequiredArgsConstructor
 public class BasicPythonProcessStarter implements ProcessStarter {
+    /**
+     * Environment variable defining the encoding of the standard streams of the Python interpreter.
+     */
+    public static final String IO_ENCODING_VARIABLE = "PYTHONIOENCODING";
+    /**
+     * Encoding of the standard streams of every started Python interpreter, independent of the platform locale.
+     */
+    public static final String IO_ENCODING = "utf-8";
     private static final String COMMAND_HEADER = "-c";
+    private static final String STDIN_HEADER = "-";
+    private static final String BINDINGS_FILE_PREFIX = "spelython-bindings-";
+    private static final String BINDINGS_FILE_SUFFIX = ".json";
     private final PythonExecutorProperties executorProperties;
     private final PythonFileHandler pythonFileHandler;
 
@@ -54,26 +86,68 @@ public class BasicPythonProcessStarter implements ProcessStarter {
      * Starts a Python process from either a file or inline code.
      *
      * @param script non-{@code null} Python script, can be a file path or inline code
-     * @return non-{@code null} terminated {@link Process} representing the executed script
-     * @throws ProcessStartException if the process cannot be started or interrupted
+     * @return non-{@code null} running {@link Process} representing the executed script
+     * @throws ProcessStartException if the process cannot be started
      */
     @Override
     public Process start(String script) {
+        return this.start(script, null);
+    }
+
+    /**
+     * Starts a Python process for the given script and passes the bindings to it through a temporary file.
+     *
+     * @param script non-{@code null} Python script, can be a file path or inline code
+     * @param bindings JSON array of the bound argument values, may be {@code null}
+     * @return non-{@code null} started {@link Process} representing the running script
+     * @throws ProcessStartException if the process fails to start
+     */
+    @Override
+    public Process start(String script, String bindings) {
+        Path bindingsFile = null;
         try {
             ProcessBuilder processBuilder = new ProcessBuilder();
-            String startCommand = executorProperties.local().startCommand();
+            processBuilder.environment().put(IO_ENCODING_VARIABLE, IO_ENCODING);
+            if (bindings != null) {
+                bindingsFile = Files.createTempFile(BINDINGS_FILE_PREFIX, BINDINGS_FILE_SUFFIX);
+                Files.writeString(bindingsFile, bindings, StandardCharsets.UTF_8);
+                processBuilder.environment().put(ResolvedScript.BINDINGS_FILE_VARIABLE, bindingsFile.toString());
+            }
+            var localProperties = executorProperties.local();
+            String startCommand = localProperties.startCommand();
+            boolean streamed = false;
             if (pythonFileHandler.isPythonFile(script)) {
                 processBuilder.command(startCommand, pythonFileHandler.getScriptPath(script).toString());
+            } else if (localProperties.scriptMode() == ScriptMode.STDIN) {
+                processBuilder.command(startCommand, STDIN_HEADER);
+                streamed = true;
             } else {
                 processBuilder.command(startCommand, COMMAND_HEADER, script.replace("\"", "\"\""));
             }
 
             log.info("Python script is going to be executed");
             Process process = processBuilder.start();
-            process.waitFor();
+            if (bindingsFile != null) {
+                Path startedBindingsFile = bindingsFile;
+                process.onExit().whenComplete((exitedProcess, throwable) -> this.deleteBindingsFile(startedBindingsFile));
+            }
+            if (streamed) {
+                try (OutputStream scriptStream = process.getOutputStream()) {
+                    scriptStream.write(script.getBytes(StandardCharsets.UTF_8));
+                }
+            }
             return process;
         } catch (Exception e) {
+            if (bindingsFile != null) this.deleteBindingsFile(bindingsFile);
             throw new ProcessStartException(e);
         }
     }
+
+    private void deleteBindingsFile(Path bindingsFile) {
+        try {
+            Files.deleteIfExists(bindingsFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete the bindings file {}", bindingsFile, e);
+        }
+    }
 }
\ No newline at end of file
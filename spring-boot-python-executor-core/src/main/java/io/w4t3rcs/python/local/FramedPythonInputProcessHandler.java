@@ -0,0 +1,116 @@
+package io.w4t3rcs.python.local;
+
+import io.w4t3rcs.python.exception.PythonReadingException;
+import io.w4t3rcs.python.executor.LocalPythonExecutor;
+import io.w4t3rcs.python.properties.PythonExecutorProperties;
+import io.w4t3rcs.python.properties.PythonResolverProperties;
+import io.w4t3rcs.python.resolver.FramedResultResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Processes the standard output stream of a given {@link Process} and extracts the length-prefixed body frame.
+ *
+ * <p>This {@link ProcessHandler} implementation is the counterpart of {@link FramedResultResolver}.
+ * It reads the standard output (stdout) in byte chunks and looks for a {@code NUL} byte at the start of a line only.
+ * When found, the frame header {@code <appearance> <length>} is parsed and the payload is read straight into
+ * a byte buffer of the announced length, without decoding other output lines and without searching for the
+ * appearance marker in them.</p>
+ *
+ * <p>If {@link PythonExecutorProperties.LocalProperties#loggable()} is enabled, the remaining non-empty output lines
+ * are logged at <code>INFO</code> level, each truncated to {@link PythonExecutorProperties.LocalProperties#captureLimit()} bytes.
+ * Otherwise, they are drained without being buffered.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * Process process = new ProcessBuilder("python", "script.py").start();
+ * ProcessHandler<String> handler = new FramedPythonInputProcessHandler(executorProperties, resolverProperties);
+ * String jsonResult = handler.handle(process);
+ * }</pre>
+ *
+ * @see ProcessHandler
+ * @see BasicPythonInputProcessHandler
+ * @see FramedResultResolver
+ * @see PythonExecutorProperties
+ * @see PythonResolverProperties
+ * @see LocalPythonExecutor
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FramedPythonInputProcessHandler implements ProcessHandler<String> {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int FRAME_MARKER = 0;
+    private static final int LINE_END = '\n';
+    private final PythonExecutorProperties executorProperties;
+    private final PythonResolverProperties resolverProperties;
+
+    /**
+     * Reads the standard output stream of the specified {@link Process} and extracts the body frame.
+     *
+     * @param process the non-{@code null} {@link Process} whose standard output should be handled
+     * @return the extracted JSON body string, or {@code null} if no frame was written
+     * @throws PythonReadingException if reading the standard output fails or the frame is malformed
+     */
+    @Override
+    public String handle(Process process) {
+        var localProperties = executorProperties.local();
+        boolean loggable = localProperties.loggable();
+        int captureLimit = localProperties.captureLimit();
+        byte[] result = null;
+        try (PushbackInputStream inputStream = new PushbackInputStream(process.getInputStream(), BUFFER_SIZE)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            boolean lineStart = true;
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    byte next = buffer[i];
+                    if (lineStart && next == FRAME_MARKER) {
+                        inputStream.unread(buffer, i + 1, read - i - 1);
+                        result = this.readFrame(inputStream);
+                        break;
+                    }
+                    if (next == LINE_END) {
+                        this.log(line);
+                        lineStart = true;
+                    } else {
+                        if (loggable && line.size() < captureLimit) line.write(next);
+                        lineStart = false;
+                    }
+                }
+            }
+            this.log(line);
+        } catch (IOException e) {
+            throw new PythonReadingException(e);
+        }
+        return result == null ? null : new String(result, StandardCharsets.UTF_8);
+    }
+
+    private byte[] readFrame(PushbackInputStream inputStream) throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        int next;
+        while ((next = inputStream.read()) != LINE_END) {
+            if (next == -1) throw new PythonReadingException("Result frame header is incomplete");
+            header.write(next);
+        }
+        String appearance = resolverProperties.result().appearance();
+        String headerString = header.toString(StandardCharsets.US_ASCII);
+        if (!headerString.startsWith(appearance + " ")) throw new PythonReadingException("Unexpected result frame header: " + headerString);
+        int length = Integer.parseInt(headerString.substring(appearance.length() + 1));
+        byte[] payload = inputStream.readNBytes(length);
+        if (payload.length != length) throw new PythonReadingException("Result frame is incomplete");
+        return payload;
+    }
+
+    private void log(ByteArrayOutputStream line) {
+        if (executorProperties.local().loggable() && line.size() > 0) log.info(line.toString());
+        line.reset();
+    }
+}
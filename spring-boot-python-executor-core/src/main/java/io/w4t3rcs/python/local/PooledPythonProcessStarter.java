@@ -0,0 +1,73 @@
+package io.w4t3rcs.python.local;
+
+import io.w4t3rcs.python.exception.ProcessStartException;
+import io.w4t3rcs.python.executor.LocalPythonExecutor;
+import io.w4t3rcs.python.file.PythonFileHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executes Python scripts on warm interpreters taken from a {@link PythonWorkerPool}.
+ *
+ * <p>This {@link ProcessStarter} implementation is an alternative to {@link BasicPythonProcessStarter}
+ * that avoids the interpreter cold start on every execution. The script (or the body of the script file,
+ * if {@link PythonFileHandler#isPythonFile(String)} returns {@code true}) is handed to a borrowed
+ * {@link PythonWorker}, and the worker is returned to the pool as soon as the response has been read.</p>
+ *
+ * <p>The returned process is already terminated and its streams are fully captured,
+ * so the configured {@link ProcessHandler} and {@link ProcessFinisher} beans can be used unchanged.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * ProcessStarter starter = new PooledPythonProcessStarter(pythonWorkerPool, pythonFileHandler);
+ * Process process = starter.start("print('Hello from a warm interpreter')");
+ * }</pre>
+ *
+ * @see ProcessStarter
+ * @see PythonWorkerPool
+ * @see PythonWorkerProcess
+ * @see LocalPythonExecutor
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PooledPythonProcessStarter implements ProcessStarter {
+    private final PythonWorkerPool pythonWorkerPool;
+    private final PythonFileHandler pythonFileHandler;
+
+    /**
+     * Executes the script on a pooled interpreter.
+     *
+     * @param script non-{@code null} Python script, can be a file path or inline code
+     * @return non-{@code null} terminated {@link Process} representing the executed script
+     * @throws ProcessStartException if no interpreter is available or the exchange with it fails
+     */
+    @Override
+    public Process start(String script) {
+        return this.start(script, null);
+    }
+
+    /**
+     * Executes the script on a pooled interpreter, which exposes the bindings to it as a global variable.
+     *
+     * @param script non-{@code null} Python script, can be a file path or inline code
+     * @param bindings JSON array of the bound argument values, may be {@code null}
+     * @return non-{@code null} terminated {@link Process} representing the executed script
+     * @throws ProcessStartException if no interpreter is available or the exchange with it fails
+     */
+    @Override
+    public Process start(String script, String bindings) {
+        String body = pythonFileHandler.isPythonFile(script) ? pythonFileHandler.readScriptBodyFromFile(script) : script;
+        PythonWorker worker = pythonWorkerPool.borrow();
+        try {
+            log.info("Python script is going to be executed by a pooled interpreter");
+            Process process = bindings == null ? worker.execute(body) : worker.execute(body, bindings);
+            pythonWorkerPool.release(worker);
+            return process;
+        } catch (Exception e) {
+            pythonWorkerPool.invalidate(worker);
+            throw new ProcessStartException(e);
+        }
+    }
+}
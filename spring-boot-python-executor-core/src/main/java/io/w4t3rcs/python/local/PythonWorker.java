@@ -0,0 +1,261 @@
+package io.w4t3rcs.python.local;
+
+import io.w4t3rcs.python.dto.ResolvedScript;
+import io.w4t3rcs.python.exception.ProcessStartException;
+import io.w4t3rcs.python.exception.PythonReadingException;
+import lombok.Getter;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-lived Python interpreter that executes scripts sent over its standard input.
+ *
+ * <p>The interpreter is started once with a small bootstrap loop and then reused for many scripts,
+ * so the interpreter start-up and module imports are paid only once. Every script is sent as a frame
+ * consisting of a header line {@code <scriptLength> <bindingsLength>} followed by the UTF-8 encoded script and bindings.
+ * Non-empty bindings are exposed to the script as the {@link ResolvedScript#BINDINGS_VARIABLE} global. The interpreter executes
+ * the script in a fresh global namespace while capturing its standard output and error streams, and answers with a header line
+ * {@code <outputLength> <errorLength> <exitCode>} followed by the captured output encoded as UTF-8.</p>
+ *
+ * <p>The frames travel over private duplicates of the original standard input and output descriptors, while descriptors
+ * {@code 0} and {@code 1} are pointed at the null device on start-up. A script therefore reads an empty standard input
+ * and cannot corrupt the protocol by writing to descriptor {@code 1} directly, e.g. through {@code os.write(1, ...)},
+ * {@code sys.__stdout__}, C extensions or subprocesses; such output is discarded.</p>
+ *
+ * <p>The captured streams are bounded like the output of a process per script: the error stream keeps its first
+ * {@code captureLimit} characters, and the output keeps every line containing the result appearance, together with
+ * the payload line of a result frame, but only the first {@code captureLimit} characters of all other lines, which are merely logged.</p>
+ *
+ * <p>Each response is exposed as a terminated {@link PythonWorkerProcess}, so the existing
+ * {@link ProcessHandler} and {@link ProcessFinisher} implementations can consume it unchanged.</p>
+ *
+ * <p>If an execution timeout is configured, the interpreter is destroyed once a script runs longer than the timeout,
+ * which unblocks the waiting caller with a {@link PythonReadingException}. Such a worker is dead and must be invalidated.</p>
+ *
+ * <p>Instances are not thread-safe and are meant to be used by one caller at a time through {@link PythonWorkerPool}.</p>
+ *
+ * @see PythonWorkerPool
+ * @see PythonWorkerProcess
+ * @see PooledPythonProcessStarter
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public class PythonWorker implements AutoCloseable {
+    private static final String COMMAND_HEADER = "-c";
+    private static final String UNBUFFERED_FLAG = "-u";
+    private static final String BOOTSTRAP_SCRIPT = """
+            import contextlib, io, os, sys, traceback
+            class _Capture(io.TextIOBase):
+                def __init__(self, limit, marker):
+                    self._marker, self._bound = marker, limit + len(marker or '')
+                    self._parts, self._line, self._free, self._payload = [], '', limit, False
+                def writable(self):
+                    return True
+                def write(self, text):
+                    for part in text.splitlines(True):
+                        self._line += part
+                        if self._line.endswith('\\n'):
+                            self._end_line()
+                        elif len(self._line) > self._bound and not self._keeps(self._line):
+                            self._line = self._line[:self._bound]
+                    return len(text)
+                def getvalue(self):
+                    self._end_line()
+                    return ''.join(self._parts)
+                def _keeps(self, line):
+                    return self._payload or (self._marker is not None and self._marker in line)
+                def _end_line(self):
+                    line, self._line = self._line, ''
+                    if not line:
+                        return
+                    if self._keeps(line):
+                        self._parts.append(line)
+                        self._payload = not self._payload and line.startswith('\\x00')
+                    elif self._free > 0:
+                        taken = line[:self._free]
+                        self._free -= len(taken)
+                        self._parts.append(taken + '\\n' if line.endswith('\\n') and not taken.endswith('\\n') else taken)
+            _limit = int(sys.argv[1]) if len(sys.argv) > 1 else sys.maxsize
+            _marker = sys.argv[2] if len(sys.argv) > 2 else None
+            del sys.argv[1:]
+            _input = os.fdopen(os.dup(0), 'rb')
+            _output = os.fdopen(os.dup(1), 'wb')
+            _null = os.open(os.devnull, os.O_RDWR)
+            os.dup2(_null, 0)
+            os.dup2(_null, 1)
+            while True:
+                _header = _input.readline()
+                if not _header:
+                    break
+                _lengths = _header.split()
+                _source = _input.read(int(_lengths[0])).decode('utf-8')
+                _bindings = _input.read(int(_lengths[1])).decode('utf-8')
+                _globals = {'__name__': '__main__'}
+                if _bindings:
+                    _globals['$BINDINGS_VARIABLE'] = _bindings
+                _stdout, _stderr, _code = _Capture(_limit, _marker), _Capture(_limit, None), 0
+                with contextlib.redirect_stdout(_stdout), contextlib.redirect_stderr(_stderr):
+                    try:
+                        exec(compile(_source, '<script>', 'exec'), _globals)
+                    except SystemExit as e:
+                        _code = e.code if isinstance(e.code, int) else (0 if e.code is None else 1)
+                    except BaseException:
+                        traceback.print_exc()
+                        _code = 1
+                _out = _stdout.getvalue().encode('utf-8', 'backslashreplace')
+                _err = _stderr.getvalue().encode('utf-8', 'backslashreplace')
+                _output.write(b'%d %d %d\\n' % (len(_out), len(_err), _code))
+                _output.write(_out)
+                _output.write(_err)
+                _output.flush()
+            """.replace("$BINDINGS_VARIABLE", ResolvedScript.BINDINGS_VARIABLE);
+    private final Process process;
+    private final OutputStream scriptStream;
+    private final InputStream responseStream;
+    private final Duration executionTimeout;
+    private final ScheduledExecutorService watchdog;
+    private volatile boolean timedOut;
+    @Getter
+    private int handledRequests;
+    @Getter
+    private volatile long lastUsedNanos;
+
+    /**
+     * Starts a new Python interpreter running the worker bootstrap loop without capture limit and execution timeout.
+     *
+     * @param startCommand non-{@code null} command used to start the Python interpreter
+     * @throws ProcessStartException if the interpreter cannot be started
+     */
+    public PythonWorker(String startCommand) {
+        this(startCommand, Integer.MAX_VALUE, null, null, null);
+    }
+
+    /**
+     * Starts a new Python interpreter running the worker bootstrap loop.
+     *
+     * @param startCommand non-{@code null} command used to start the Python interpreter
+     * @param captureLimit maximum number of characters kept from the error stream and from every output line without the result, must be positive
+     * @param resultAppearance marker of the output lines holding the result, which are kept whole, may be {@code null}
+     * @param executionTimeout maximum time of a single execution, {@code null} or zero disables the limit
+     * @param watchdog scheduler destroying the interpreter when an execution times out, required if the timeout is enabled
+     * @throws ProcessStartException if the interpreter cannot be started
+     */
+    public PythonWorker(String startCommand, int captureLimit, String resultAppearance, Duration executionTimeout, ScheduledExecutorService watchdog) {
+        this.executionTimeout = executionTimeout == null || executionTimeout.isZero() || executionTimeout.isNegative() ? null : executionTimeout;
+        this.watchdog = watchdog;
+        try {
+            List<String> command = new ArrayList<>(List.of(startCommand, UNBUFFERED_FLAG, COMMAND_HEADER, BOOTSTRAP_SCRIPT, String.valueOf(captureLimit)));
+            if (resultAppearance != null) command.add(resultAppearance);
+            ProcessBuilder processBuilder = new ProcessBuilder(command)
+                    .redirectError(ProcessBuilder.Redirect.DISCARD);
+            processBuilder.environment().put(BasicPythonProcessStarter.IO_ENCODING_VARIABLE, BasicPythonProcessStarter.IO_ENCODING);
+            this.process = processBuilder.start();
+            this.scriptStream = new BufferedOutputStream(process.getOutputStream());
+            this.responseStream = new BufferedInputStream(process.getInputStream());
+            this.lastUsedNanos = System.nanoTime();
+        } catch (IOException e) {
+            throw new ProcessStartException(e);
+        }
+    }
+
+    /**
+     * Sends the given script to the interpreter and waits for its response frame.
+     *
+     * @param script non-{@code null} inline Python code to execute
+     * @return non-{@code null} terminated {@link Process} view over the captured output, error and exit code
+     * @throws PythonReadingException if the interpreter has terminated or the response frame cannot be read
+     */
+    public Process execute(String script) {
+        return this.execute(script, null);
+    }
+
+    /**
+     * Sends the given script with its bindings to the interpreter and waits for its response frame.
+     *
+     * @param script non-{@code null} inline Python code to execute
+     * @param bindings JSON array of the bound argument values, may be {@code null}
+     * @return non-{@code null} terminated {@link Process} view over the captured output, error and exit code
+     * @throws PythonReadingException if the interpreter has terminated, exceeded the execution timeout or the response frame cannot be read
+     */
+    public Process execute(String script, String bindings) {
+        ScheduledFuture<?> deadline = executionTimeout == null ? null
+                : watchdog.schedule(this::timeOut, executionTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        try {
+            byte[] scriptBytes = script.getBytes(StandardCharsets.UTF_8);
+            byte[] bindingsBytes = bindings == null ? new byte[0] : bindings.getBytes(StandardCharsets.UTF_8);
+            scriptStream.write((scriptBytes.length + " " + bindingsBytes.length + "\n").getBytes(StandardCharsets.US_ASCII));
+            scriptStream.write(scriptBytes);
+            scriptStream.write(bindingsBytes);
+            scriptStream.flush();
+
+            String[] header = this.readHeader().split(" ");
+            byte[] output = this.readFully(Integer.parseInt(header[0]));
+            byte[] error = this.readFully(Integer.parseInt(header[1]));
+            handledRequests++;
+            lastUsedNanos = System.nanoTime();
+            return new PythonWorkerProcess(process.pid(), output, error, Integer.parseInt(header[2]));
+        } catch (IOException | RuntimeException e) {
+            if (timedOut) {
+                this.awaitTermination();
+                throw new PythonReadingException("Python worker has exceeded the execution timeout of " + executionTimeout);
+            }
+            if (e instanceof PythonReadingException readingException) throw readingException;
+            throw new PythonReadingException(e);
+        } finally {
+            if (deadline != null) deadline.cancel(false);
+        }
+    }
+
+    /**
+     * Checks whether the underlying interpreter is still running.
+     *
+     * @return {@code true} if the interpreter process is alive
+     */
+    public boolean isAlive() {
+        return process.isAlive();
+    }
+
+    /**
+     * Terminates the underlying interpreter.
+     */
+    @Override
+    public void close() {
+        process.destroy();
+    }
+
+    private void timeOut() {
+        timedOut = true;
+        process.destroyForcibly();
+    }
+
+    private void awaitTermination() {
+        try {
+            process.waitFor(executionTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String readHeader() throws IOException {
+        StringBuilder header = new StringBuilder();
+        int next;
+        while ((next = responseStream.read()) != '\n') {
+            if (next == -1) throw new PythonReadingException("Python worker has terminated unexpectedly");
+            header.append((char) next);
+        }
+        return header.toString();
+    }
+
+    private byte[] readFully(int length) throws IOException {
+        byte[] bytes = responseStream.readNBytes(length);
+        if (bytes.length != length) throw new PythonReadingException("Python worker has terminated unexpectedly");
+        return bytes;
+    }
+}
@@ -0,0 +1,206 @@
+package io.w4t3rcs.python.local;
+
+import io.w4t3rcs.python.exception.ProcessStartException;
+import io.w4t3rcs.python.properties.PythonExecutorProperties;
+import io.w4t3rcs.python.properties.PythonResolverProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of warm {@link PythonWorker} interpreters shared by local script executions.
+ *
+ * <p>The pool is configured by {@link PythonExecutorProperties.LocalProperties.PoolProperties} and provides:
+ * <ul>
+ *     <li>Pre-warming of {@code minSize} interpreters on {@link #start()} when {@code prewarm} is enabled.</li>
+ *     <li>Lazy growth up to {@code maxSize} interpreters, callers wait up to {@code borrowTimeout} for a free one.</li>
+ *     <li>Idle reaping of interpreters above {@code minSize} which were not used for {@code idleTimeout}.</li>
+ *     <li>Recycling of interpreters that have handled {@code maxRequests} scripts or have terminated.</li>
+ *     <li>Destruction of interpreters whose script runs longer than {@code executionTimeout},
+ *     invalidated interpreters are replaced up to {@code minSize} in the background.</li>
+ * </ul>
+ * Idle workers are reused in LIFO order, so the most recently used interpreters stay hot
+ * and the least recently used ones become candidates for reaping.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * PythonWorkerPool pool = new PythonWorkerPool(executorProperties, resolverProperties);
+ * pool.start();
+ * PythonWorker worker = pool.borrow();
+ * try {
+ *     Process process = worker.execute("print('Hello from Python')");
+ * } finally {
+ *     pool.release(worker);
+ * }
+ * }</pre>
+ *
+ * @see PythonWorker
+ * @see PooledPythonProcessStarter
+ * @see PythonExecutorProperties.LocalProperties.PoolProperties
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Slf4j
+public class PythonWorkerPool implements AutoCloseable {
+    private static final String REAPER_THREAD_NAME = "PythonWorkerReaper";
+    private final String startCommand;
+    private final int captureLimit;
+    private final String resultAppearance;
+    private final PythonExecutorProperties.LocalProperties.PoolProperties poolProperties;
+    private final BlockingDeque<PythonWorker> idleWorkers = new LinkedBlockingDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Semaphore permits;
+    private final ScheduledExecutorService reaper;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new pool from the local executor configuration, no interpreter is started yet.
+     *
+     * @param executorProperties non-{@code null} executor properties with configured {@code local.pool} section
+     * @param resolverProperties non-{@code null} resolver properties providing the result appearance kept whole in the captured output
+     */
+    public PythonWorkerPool(PythonExecutorProperties executorProperties, PythonResolverProperties resolverProperties) {
+        this.startCommand = executorProperties.local().startCommand();
+        this.captureLimit = executorProperties.local().captureLimit();
+        this.resultAppearance = resolverProperties.result().appearance();
+        this.poolProperties = executorProperties.local().pool();
+        this.permits = new Semaphore(poolProperties.maxSize(), true);
+        this.reaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, REAPER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Pre-warms the pool if enabled and schedules the idle reaping.
+     */
+    public void start() {
+        if (poolProperties.prewarm()) this.fillToMinSize();
+        long period = Math.max(poolProperties.idleTimeout().toMillis(), 1);
+        reaper.scheduleWithFixedDelay(this::reapIdleWorkers, period, period, TimeUnit.MILLISECONDS);
+        log.info("Python worker pool is started with {} warm interpreters", size.get());
+    }
+
+    /**
+     * Takes a free interpreter from the pool, starting a new one if the pool has not reached {@code maxSize}.
+     *
+     * @return non-{@code null} exclusively owned {@link PythonWorker}, must be passed back to {@link #release(PythonWorker)} or {@link #invalidate(PythonWorker)}
+     * @throws ProcessStartException if the pool is closed, no interpreter becomes free within {@code borrowTimeout} or a new one cannot be started
+     */
+    public PythonWorker borrow() {
+        if (closed) throw new ProcessStartException("Python worker pool is closed");
+        try {
+            Duration borrowTimeout = poolProperties.borrowTimeout();
+            if (!permits.tryAcquire(borrowTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ProcessStartException("No Python worker became available within " + borrowTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessStartException(e);
+        }
+        try {
+            PythonWorker worker;
+            while ((worker = idleWorkers.pollFirst()) != null) {
+                if (worker.isAlive()) return worker;
+                this.discard(worker);
+            }
+            return this.createWorker();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a healthy interpreter to the pool, recycling it if it has reached {@code maxRequests}.
+     *
+     * @param worker non-{@code null} worker previously obtained from {@link #borrow()}
+     */
+    public void release(PythonWorker worker) {
+        int maxRequests = poolProperties.maxRequests();
+        if (closed || !worker.isAlive() || (maxRequests > 0 && worker.getHandledRequests() >= maxRequests)) {
+            this.discard(worker);
+        } else {
+            idleWorkers.offerFirst(worker);
+        }
+        permits.release();
+    }
+
+    /**
+     * Discards an interpreter which is in an unknown state, e.g. after a failed or timed out exchange,
+     * and replaces it in the background if the pool has fallen below {@code minSize}.
+     *
+     * @param worker non-{@code null} worker previously obtained from {@link #borrow()}
+     */
+    public void invalidate(PythonWorker worker) {
+        this.discard(worker);
+        permits.release();
+        if (!closed) {
+            try {
+                reaper.execute(this::reapIdleWorkers);
+            } catch (RejectedExecutionException e) {
+                log.debug("Python worker pool is closed, the invalidated worker is not replaced");
+            }
+        }
+    }
+
+    /**
+     * Returns the number of live interpreters, both idle and borrowed.
+     *
+     * @return current pool size
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Stops the idle reaping and terminates all idle interpreters.
+     * Borrowed interpreters are terminated when they are released.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        reaper.shutdownNow();
+        PythonWorker worker;
+        while ((worker = idleWorkers.pollFirst()) != null) {
+            this.discard(worker);
+        }
+    }
+
+    private void reapIdleWorkers() {
+        try {
+            long idleTimeoutNanos = poolProperties.idleTimeout().toNanos();
+            Iterator<PythonWorker> iterator = idleWorkers.descendingIterator();
+            while (iterator.hasNext() && size.get() > poolProperties.minSize()) {
+                PythonWorker worker = iterator.next();
+                if ((!worker.isAlive() || System.nanoTime() - worker.getLastUsedNanos() > idleTimeoutNanos) && idleWorkers.remove(worker)) {
+                    this.discard(worker);
+                }
+            }
+            this.fillToMinSize();
+        } catch (RuntimeException e) {
+            log.error("Python worker pool maintenance has failed", e);
+        }
+    }
+
+    private void fillToMinSize() {
+        while (!closed && size.get() < poolProperties.minSize()) {
+            idleWorkers.offerLast(this.createWorker());
+        }
+    }
+
+    private PythonWorker createWorker() {
+        PythonWorker worker = new PythonWorker(startCommand, captureLimit, resultAppearance, poolProperties.executionTimeout(), reaper);
+        size.incrementAndGet();
+        return worker;
+    }
+
+    private void discard(PythonWorker worker) {
+        worker.close();
+        size.decrementAndGet();
+    }
+}
@@ -0,0 +1,86 @@
+package io.w4t3rcs.python.local;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Terminated {@link Process} view over a single script execution handled by a {@link PythonWorker}.
+ *
+ * <p>The captured standard output and error of the script are exposed through {@link #getInputStream()}
+ * and {@link #getErrorStream()}, and the script exit code through {@link #exitValue()}.
+ * The view never blocks and {@link #destroy()} has no effect, because the underlying interpreter
+ * is owned by the {@link PythonWorkerPool} and outlives this execution.</p>
+ *
+ * @see PythonWorker
+ * @see PythonWorkerPool
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public class PythonWorkerProcess extends Process {
+    private final long pid;
+    private final byte[] output;
+    private final byte[] error;
+    private final int exitCode;
+
+    /**
+     * Creates a new view over a completed script execution.
+     *
+     * @param pid process identifier of the interpreter that executed the script
+     * @param output non-{@code null} captured standard output bytes
+     * @param error non-{@code null} captured standard error bytes
+     * @param exitCode exit code of the script
+     */
+    public PythonWorkerProcess(long pid, byte[] output, byte[] error, int exitCode) {
+        this.pid = pid;
+        this.output = output;
+        this.error = error;
+        this.exitCode = exitCode;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return OutputStream.nullOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(output);
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+        return new ByteArrayInputStream(error);
+    }
+
+    @Override
+    public int waitFor() {
+        return exitCode;
+    }
+
+    @Override
+    public boolean waitFor(long timeout, TimeUnit unit) {
+        return true;
+    }
+
+    @Override
+    public int exitValue() {
+        return exitCode;
+    }
+
+    @Override
+    public boolean isAlive() {
+        return false;
+    }
+
+    @Override
+    public long pid() {
+        return pid;
+    }
+
+    @Override
+    public void destroy() {
+        //The interpreter is owned by the pool, nothing to release here
+    }
+}
@@ -0,0 +1,63 @@
+package io.w4t3rcs.python.processor;
+
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.executor.AsyncPythonExecutor;
+import io.w4t3rcs.python.file.PythonFileHandler;
+import io.w4t3rcs.python.resolver.PythonResolverHolder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Default implementation of {@link AsyncPythonProcessor}, the non-blocking counterpart of {@link BasicPythonProcessor}.
+ *
+ * <p>The script is loaded and resolved on the calling thread exactly like in {@link BasicPythonProcessor},
+ * only the execution itself is delegated to an {@link AsyncPythonExecutor}.
+ * If loading or resolving fails, the returned future is completed exceptionally.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * AsyncPythonProcessor processor = new BasicAsyncPythonProcessor(fileHandler, asyncExecutor, resolverHolder);
+ * processor.processAsync("print('Hello')", String.class, Map.of())
+ *         .thenAccept(response -> System.out.println(response.body()));
+ * }</pre>
+ *
+ * @see AsyncPythonProcessor
+ * @see AsyncPythonExecutor
+ * @see PythonFileHandler
+ * @see PythonResolverHolder
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class BasicAsyncPythonProcessor implements AsyncPythonProcessor {
+    private final PythonFileHandler pythonFileHandler;
+    private final AsyncPythonExecutor asyncPythonExecutor;
+    private final PythonResolverHolder pythonResolverHolder;
+
+    /**
+     * Processes a Python script by optionally reading it from a file,
+     * applying all resolvers, and starting its execution.
+     *
+     * @param script non-{@code null} Python script content or file path
+     * @param resultClass nullable target body type
+     * @param arguments optional arguments for resolvers (can be empty but not {@code null})
+     * @param <R> type of the expected body
+     * @return future of the execution body converted to {@code resultClass}
+     */
+    @Override
+    public <R> CompletableFuture<PythonExecutionResponse<R>> processAsync(String script, Class<? extends R> resultClass, Map<String, Object> arguments) {
+        try {
+            String resolvedScript = script;
+            if (pythonFileHandler.isPythonFile(script)) resolvedScript = pythonFileHandler.readScriptBodyFromFile(script);
+            if (pythonResolverHolder.supportsBindings()) {
+                return asyncPythonExecutor.executeAsync(pythonResolverHolder.resolveAllWithBindings(resolvedScript, arguments), resultClass);
+            }
+            resolvedScript = pythonResolverHolder.resolveAll(resolvedScript, arguments);
+            return asyncPythonExecutor.executeAsync(resolvedScript, resultClass);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -28,6 +28,8 @@ import java.util.Map;
  *     <li>Apply argument-based resolution to the script text.</li>
  *     <li>Execute the resolved script and return the execution body.</li>
  * </ol>
+ * If {@link PythonResolverHolder#supportsBindings()} is {@code true}, the argument values bound through a side channel
+ * are passed to {@link PythonExecutor#execute(io.w4t3rcs.python.dto.ResolvedScript, Class)} apart from the script text.
  *
  * <p>Example usage:
  * <pre>{@code
@@ -62,6 +64,9 @@ public class BasicPythonProcessor implements PythonProcessor {
     public <R> PythonExecutionResponse<R> process(String script, Class<? extends R> resultClass, Map<String, Object> arguments) {
         String resolvedScript = script;
         if (pythonFileHandler.isPythonFile(script)) resolvedScript = pythonFileHandler.readScriptBodyFromFile(script);
+        if (pythonResolverHolder.supportsBindings()) {
+            return pythonExecutor.execute(pythonResolverHolder.resolveAllWithBindings(resolvedScript, arguments), resultClass);
+        }
         resolvedScript = pythonResolverHolder.resolveAll(resolvedScript, arguments);
         return pythonExecutor.execute(resolvedScript, resultClass);
     }
@@ -12,7 +12,7 @@ import java.util.concurrent.RejectedExecutionHandler;
  * Configuration properties for Python aspect execution.
  *
  * <p>Defines when asynchronous execution should be applied for Python script calls
- * intercepted by Spring AOP aspects.</p>
+ * intercepted by Spring AOP aspects and whether the scripts of one annotation are executed concurrently.</p>
  *
  * <p>Properties are bound from the application configuration using the prefix
  * {@code spring.python.aspect}.</p>
@@ -35,9 +35,20 @@ import java.util.concurrent.RejectedExecutionHandler;
  *         queue-capacity: 50
  *         thread-name-prefix: AsyncPython-
  *         rejection-policy: caller_runs
+ *         thread-mode: virtual
+ *         max-concurrency: 1000
+ *       parallel:
+ *         enabled: true
+ *         pool-size: 16
+ *         thread-name-prefix: ParallelPython-
+ *       coalescing:
+ *         enabled: true
+ *         thread-name-prefix: CoalescingPython-
  * }</pre>
  *
  * @param async properties defining async scopes and executor configuration, may be {@code null}
+ * @param parallel properties defining the concurrent execution of the scripts of one annotation, may be {@code null}
+ * @param coalescing properties defining the coalescing of asynchronous {@code after} executions, may be {@code null}
  * @see PythonBeforeAspect
  * @see PythonAfterAspect
  * @see BasicPythonAnnotationEvaluator
@@ -46,12 +57,13 @@ import java.util.concurrent.RejectedExecutionHandler;
  * @since 1.0.0
  */
 @ConfigurationProperties("spring.python.aspect")
-public record PythonAspectProperties(AsyncProperties async) {
+public record PythonAspectProperties(AsyncProperties async, ParallelProperties parallel, CoalescingProperties coalescing) {
     /**
      * Properties for asynchronous execution configuration within Python aspect.
      *
      * <p>Includes the scopes when async execution applies and thread pool settings
-     * for the async executor.</p>
+     * for the async executor. In {@link ThreadMode#VIRTUAL} mode, the pool settings except the thread name prefix are ignored:
+     * every task gets its own virtual thread and at most {@code maxConcurrency} tasks run at once.</p>
      *
      * @param scopes array of async execution scopes, may be {@code null} or empty
      * @param corePoolSize core number of threads in the async executor thread pool
@@ -59,8 +71,11 @@ public record PythonAspectProperties(AsyncProperties async) {
      * @param queueCapacity capacity of the async executor task queue
      * @param threadNamePrefix prefix used for naming async executor threads
      * @param rejectionPolicy {@link RejectedExecutionHandler} instance type
+     * @param threadMode kind of threads running the async executions
+     * @param maxConcurrency maximum number of concurrently running async executions in {@link ThreadMode#VIRTUAL} mode
      */
-    public record AsyncProperties(Scope[] scopes, int corePoolSize, int maxPoolSize, int queueCapacity, String threadNamePrefix, RejectionPolicy rejectionPolicy) {
+    public record AsyncProperties(Scope[] scopes, int corePoolSize, int maxPoolSize, int queueCapacity, String threadNamePrefix, RejectionPolicy rejectionPolicy,
+                                  ThreadMode threadMode, int maxConcurrency) {
         /**
          * Scopes defining when asynchronous execution of Python scripts is applied.
          */
@@ -74,5 +89,37 @@ public record PythonAspectProperties(AsyncProperties async) {
         public enum RejectionPolicy {
             CALLER_RUNS, ABORT, DISCARD, DISCARD_OLDEST
         }
+
+        /**
+         * Kinds of threads running the asynchronous executions.
+         * {@link #VIRTUAL} requires Java 21 or later and falls back to {@link #PLATFORM} otherwise.
+         */
+        public enum ThreadMode {
+            PLATFORM, VIRTUAL
+        }
+    }
+
+    /**
+     * Properties for the concurrent execution of the scripts declared by {@code @PythonBefores} and {@code @PythonAfters}.
+     *
+     * <p>Scripts of the same {@code order} are executed concurrently on a dedicated thread pool,
+     * while stages of different order are still executed one after another.</p>
+     *
+     * @param enabled whether the scripts of one annotation are executed concurrently
+     * @param poolSize number of threads in the parallel executor thread pool
+     * @param threadNamePrefix prefix used for naming parallel executor threads
+     */
+    public record ParallelProperties(boolean enabled, int poolSize, String threadNamePrefix) {
+    }
+
+    /**
+     * Properties for the coalescing of asynchronous executions of {@code @PythonAfter} and {@code @PythonAfters}.
+     *
+     * <p>Only annotations declaring a positive {@code coalescingWindow} are coalesced, and only if the {@code after} scope is asynchronous.</p>
+     *
+     * @param enabled whether duplicate asynchronous {@code after} executions are coalesced
+     * @param threadNamePrefix prefix used for naming the thread of the coalescing scheduler
+     */
+    public record CoalescingProperties(boolean enabled, String threadNamePrefix) {
     }
 }
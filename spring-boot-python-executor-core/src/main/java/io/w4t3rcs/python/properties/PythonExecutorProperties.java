@@ -6,6 +6,8 @@ import io.w4t3rcs.python.executor.PythonExecutor;
 import io.w4t3rcs.python.executor.RestPythonExecutor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 /**
  * Configuration properties for selecting and configuring the {@link PythonExecutor} implementation.
  *
@@ -31,7 +33,12 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *       type: local
  *       local:
  *         start-command: python
+ *         script-mode: stdin
  *         loggable: true
+ *         pool:
+ *           enabled: true
+ *           min-size: 2
+ *           max-size: 8
  * }</pre>
  * </p>
  *
@@ -39,6 +46,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * @param local configuration properties for the local executor, must not be null
  * @param rest configuration properties for the REST executor, must not be null
  * @param grpc configuration properties for the gRPC executor, must not be null
+ * @param registration configuration of the register-once / invoke-by-hash protocol of the remote executors, may be null if it is not configured
  * @see PythonExecutor
  * @see LocalPythonExecutor
  * @see RestPythonExecutor
@@ -47,7 +55,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * @since 1.0.0
  */
 @ConfigurationProperties("spring.python.executor")
-public record PythonExecutorProperties(Type type, LocalProperties local, RestProperties rest, GrpcProperties grpc) {
+public record PythonExecutorProperties(Type type, LocalProperties local, RestProperties rest, GrpcProperties grpc, RegistrationProperties registration) {
     public enum Type {
         LOCAL, REST, GRPC
     }
@@ -57,8 +65,47 @@ public record PythonExecutorProperties(Type type, LocalProperties local, RestPro
      *
      * @param startCommand the command to start Python interpreter, must not be null or blank
      * @param loggable flag indicating if output should be logged
+     * @param captureLimit maximum number of characters kept from the error stream and from every logged output line, must be positive
+     * @param scriptMode the way inline scripts are handed to a new interpreter, {@link ScriptMode#ARGUMENT} is used if null
+     * @param pool configuration of the warm interpreter pool, may be null if pooling is not configured
+     * @param asyncConcurrency maximum number of processes the asynchronous executor runs at once, further executions are queued, must be positive
+     * @param asyncQueueCapacity maximum number of executions the asynchronous executor queues, further executions fail at once, must not be negative
+     * @param streamDrainerThreads maximum number of threads the synchronous executor drains error streams with, must be positive
      */
-    public record LocalProperties(String startCommand, boolean loggable) {
+    public record LocalProperties(String startCommand, boolean loggable, int captureLimit, ScriptMode scriptMode, PoolProperties pool, int asyncConcurrency,
+                                  int asyncQueueCapacity, int streamDrainerThreads) {
+        /**
+         * Ways of handing an inline script to a new Python interpreter.
+         *
+         * <ul>
+         *   <li>{@link #ARGUMENT} — the script is passed as the {@code -c} command-line argument, its size is limited by the OS argument limit.</li>
+         *   <li>{@link #STDIN} — the script is streamed to the interpreter's standard input, its size is bounded only by memory,
+         *   but the script itself cannot read from its standard input. It has to be enabled explicitly.</li>
+         * </ul>
+         */
+        public enum ScriptMode {
+            ARGUMENT, STDIN
+        }
+
+        /**
+         * Configuration properties for the pool of long-lived Python interpreters.
+         *
+         * <p>When enabled, scripts are handed to warm interpreters over their stdin/stdout
+         * instead of forking a new interpreter per execution.</p>
+         *
+         * @param enabled flag indicating if pooled execution should be used instead of a process per script
+         * @param minSize number of interpreters kept alive even when idle, must not be negative
+         * @param maxSize maximum number of interpreters, must be positive and not less than {@code minSize}
+         * @param idleTimeout time after which an idle interpreter above {@code minSize} is reaped, must not be null
+         * @param maxRequests number of scripts after which an interpreter is recycled, {@code 0} disables recycling
+         * @param prewarm flag indicating if {@code minSize} interpreters should be started on context startup
+         * @param borrowTimeout maximum time to wait for a free interpreter, must not be null
+         * @param executionTimeout maximum time a script may run on an interpreter before the interpreter is destroyed and replaced,
+         *                         {@code null} or zero disables the limit
+         */
+        public record PoolProperties(boolean enabled, int minSize, int maxSize, Duration idleTimeout, int maxRequests, boolean prewarm, Duration borrowTimeout,
+                                     Duration executionTimeout) {
+        }
     }
 
     /**
@@ -79,7 +126,31 @@ public record PythonExecutorProperties(Type type, LocalProperties local, RestPro
      * @param port gRPC service port
      * @param token authentication token
      * @param uri full URI to gRPC endpoint, must not be null or blank
+     * @param stream configuration of the multiplexed bidirectional streaming mode, may be null if streaming is not configured
+     */
+    public record GrpcProperties(String host, int port, String token, String uri, StreamProperties stream) {
+        /**
+         * Configuration properties for executing scripts over long-lived bidirectional gRPC streams.
+         *
+         * @param enabled flag indicating if the streaming executor should be used instead of unary calls
+         * @param streams number of long-lived streams the executions are multiplexed over, must be positive
+         * @param maxInFlight maximum number of executions sent over a single stream and not answered yet, must be positive
+         * @param ordered flag indicating if the server must answer the requests of a stream in the order they were sent
+         * @param timeout maximum time an execution waits for its response before it is failed, {@code null} or zero disables the limit
+         */
+        public record StreamProperties(boolean enabled, int streams, int maxInFlight, boolean ordered, Duration timeout) {
+        }
+    }
+
+    /**
+     * Configuration properties for sending script hashes instead of script bodies to the remote Python servers.
+     *
+     * <p>When enabled, the REST and gRPC executors send every script together with its hash once,
+     * and afterward only the hash, until the server reports the hash as unknown.</p>
+     *
+     * @param enabled flag indicating if the remote executors should invoke registered scripts by their hash
+     * @param capacity maximum number of script hashes remembered as registered on the server, must be positive
      */
-    public record GrpcProperties(String host, int port, String token, String uri) {
+    public record RegistrationProperties(boolean enabled, int capacity) {
     }
 }
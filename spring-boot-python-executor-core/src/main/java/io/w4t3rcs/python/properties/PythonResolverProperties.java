@@ -3,6 +3,7 @@ package io.w4t3rcs.python.properties;
 import io.w4t3rcs.python.executor.PythonExecutor;
 import io.w4t3rcs.python.resolver.*;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.expression.spel.SpelCompilerMode;
 /**
  * Configuration properties for selecting and configuring {@link PythonResolver} implementations.
  *
@@ -21,10 +22,13 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *       script-imports-regex: (^import [\\w.]+$)|(^import [\\w.]+ as [\\w.]+$)|(^from [\\w.]+ import [\\w., ]+$)
  *       spelython:
  *         regex: spel\\{.+?}
+ *         binding: side_channel
  *         spel:
  *           local-variable-index: #
  *           position-from-start: 5
  *           position-from-end: 1
+ *           compiler-mode: mixed
+ *           cache-capacity: 1024
  *       py4j:
  *         import-line: "from py4j.java_gateway import JavaGateway, GatewayParameters"
  *         gateway-object: gateway = JavaGateway(\n\tgateway_parameters=GatewayParameters(\n\t\t%s\n\t)\n)
@@ -43,6 +47,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *         appearance: r4java
  *         position-from-start: 7
  *         position-from-end: 1
+ *       template:
+ *         enabled: true
+ *         capacity: 256
  * }</pre>
  * </p>
  *
@@ -52,15 +59,16 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * @param py4j configuration properties specific to Py4J resolver, non-null
  * @param restrictedPython configuration properties specific to Restricted Python resolver, non-null
  * @param result configuration properties for body parsing, non-null
+ * @param template configuration properties for precompiled script templates, may be {@code null} if templates are not used
  * @see PythonResolver
  * @see PythonResolverHolder
  * @author w4t3rcs
  * @since 1.0.0
  */
 @ConfigurationProperties("spring.python.resolver")
-public record PythonResolverProperties(DeclaredResolver[] declared, String scriptImportsRegex, SpelythonProperties spelython, Py4JProperties py4j, RestrictedPythonProperties restrictedPython, ResultProperties result) {
+public record PythonResolverProperties(DeclaredResolver[] declared, String scriptImportsRegex, SpelythonProperties spelython, Py4JProperties py4j, RestrictedPythonProperties restrictedPython, ResultProperties result, TemplateProperties template) {
     public enum DeclaredResolver {
-        SPELYTHON, PY4J, RESTRICTED_PYTHON, RESULT, PRINTED_RESULT
+        SPELYTHON, PY4J, RESTRICTED_PYTHON, RESULT, PRINTED_RESULT, FRAMED_RESULT
     }
 
     /**
@@ -68,17 +76,34 @@ public record PythonResolverProperties(DeclaredResolver[] declared, String scrip
      *
      * @param regex the regex pattern to match SpEL expressions, non-null
      * @param spel nested properties related to SpEL expression parsing, non-null
+     * @param binding the way evaluated expressions are passed to the script, {@code null} means {@link ArgumentBinding#INLINE}
      * @see SpelythonResolver
      */
-    public record SpelythonProperties(String regex, SpelProperties spel) {
+    public record SpelythonProperties(String regex, SpelProperties spel, ArgumentBinding binding) {
+        /**
+         * Ways of passing evaluated SpEL expressions to the Python script.
+         */
+        public enum ArgumentBinding {
+            /**
+             * Every value is spliced into the script text as a Python literal.
+             */
+            INLINE,
+            /**
+             * The script text only references the values, which travel apart from it as one JSON array.
+             */
+            SIDE_CHANNEL
+        }
+
         /**
          * Properties specifying details for SpEL expression parsing.
          *
          * @param localVariableIndex the name of the local variable index, non-null
          * @param positionFromStart the number of characters to skip from start, >= 0
          * @param positionFromEnd the number of characters to skip from end, >= 0
+         * @param compilerMode the {@link SpelCompilerMode} of the parsed expressions, {@code null} means {@link SpelCompilerMode#OFF}
+         * @param cacheCapacity the maximum number of cached parsed expressions, {@code 0} disables the cache
          */
-        public record SpelProperties(String localVariableIndex, int positionFromStart, int positionFromEnd) {
+        public record SpelProperties(String localVariableIndex, int positionFromStart, int positionFromEnd, SpelCompilerMode compilerMode, int cacheCapacity) {
         }
     }
 
@@ -117,4 +142,13 @@ public record PythonResolverProperties(DeclaredResolver[] declared, String scrip
      */
     public record ResultProperties(String regex, String appearance, int positionFromStart, int positionFromEnd) {
     }
+
+    /**
+     * Configuration properties for precompiled script templates.
+     * @param enabled whether {@link CompiledPythonResolverHolder} is used instead of {@link BasicPythonResolverHolder}
+     * @param capacity maximum number of cached {@link CompiledPythonScript} templates, > 0
+     * @see CompiledPythonResolverHolder
+     */
+    public record TemplateProperties(boolean enabled, int capacity) {
+    }
 }
@@ -0,0 +1,125 @@
+package io.w4t3rcs.python.registration;
+
+import io.w4t3rcs.python.executor.AsyncGrpcPythonExecutor;
+import io.w4t3rcs.python.executor.AsyncRestPythonExecutor;
+import io.w4t3rcs.python.executor.GrpcPythonExecutor;
+import io.w4t3rcs.python.executor.RestPythonExecutor;
+import io.w4t3rcs.python.properties.PythonExecutorProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Client-side record of the scripts registered on a remote Python server.
+ *
+ * <p>The remote executors use this registry to implement the register-once / invoke-by-hash protocol:
+ * a script is sent once together with its SHA-256 hash, the server compiles and keeps it under that hash,
+ * and later executions send only the hash. If the server answers that the hash is unknown, e.g. after
+ * a restart or an eviction from its cache, the hash is {@link #unregister(String) unregistered}
+ * and the script is sent again.</p>
+ *
+ * <p>At most {@link PythonExecutorProperties.RegistrationProperties#capacity()} hashes are remembered,
+ * the least recently used ones are forgotten first. The hashes of as many recently used scripts are memoized,
+ * so a repeated script is not digested again. The registry is thread-safe.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * ScriptRegistry registry = new ScriptRegistry(executorProperties);
+ * String hash = registry.hash(script);
+ * ScriptRequest request = registry.isRegistered(hash) ? ScriptRequest.ofHash(hash) : new ScriptRequest(script, hash);
+ * }</pre>
+ *
+ * @see PythonExecutorProperties.RegistrationProperties
+ * @see RestPythonExecutor
+ * @see AsyncRestPythonExecutor
+ * @see GrpcPythonExecutor
+ * @see AsyncGrpcPythonExecutor
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public class ScriptRegistry {
+    /**
+     * Value of the {@code error} field of the REST server's {@code 404 Not Found} answer to an unknown hash.
+     */
+    public static final String UNKNOWN_HASH_ERROR = "unknown_script_hash";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private final Map<String, Boolean> registeredHashes;
+    private final Map<String, String> scriptHashes;
+
+    /**
+     * Creates a new empty registry bounded by the configured capacity.
+     *
+     * @param executorProperties non-{@code null} executor properties with configured {@code registration} section
+     */
+    public ScriptRegistry(PythonExecutorProperties executorProperties) {
+        int capacity = executorProperties.registration().capacity();
+        this.registeredHashes = createLeastRecentlyUsedMap(capacity);
+        this.scriptHashes = createLeastRecentlyUsedMap(capacity);
+    }
+
+    /**
+     * Returns the hash the server registers the script under, computing it only if it is not memoized.
+     *
+     * @param script non-{@code null} Python script
+     * @return non-{@code null} lowercase hexadecimal SHA-256 hash of the UTF-8 encoded script
+     */
+    public String hash(String script) {
+        String hash = scriptHashes.get(script);
+        if (hash == null) {
+            hash = digest(script);
+            scriptHashes.put(script, hash);
+        }
+        return hash;
+    }
+
+    /**
+     * Checks whether the script with the given hash is believed to be registered on the server.
+     *
+     * @param hash non-{@code null} script hash
+     * @return {@code true} if only the hash should be sent
+     */
+    public boolean isRegistered(String hash) {
+        return registeredHashes.get(hash) != null;
+    }
+
+    /**
+     * Remembers the script with the given hash as registered on the server.
+     *
+     * @param hash non-{@code null} script hash
+     */
+    public void register(String hash) {
+        registeredHashes.put(hash, Boolean.TRUE);
+    }
+
+    /**
+     * Forgets the script with the given hash, so its body is sent with the next execution.
+     *
+     * @param hash non-{@code null} script hash
+     */
+    public void unregister(String hash) {
+        registeredHashes.remove(hash);
+    }
+
+    private static String digest(String script) {
+        try {
+            byte[] hash = MessageDigest.getInstance(HASH_ALGORITHM).digest(script.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <V> Map<String, V> createLeastRecentlyUsedMap(int capacity) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return this.size() > capacity;
+            }
+        });
+    }
+}
@@ -3,7 +3,8 @@ package io.w4t3rcs.python.resolver;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -21,6 +22,11 @@ import java.util.regex.Pattern;
  *   <li>Extracting imported variable names from Python import statements</li>
  * </ul>
  *
+ * <p>Subclasses transform a mutable {@link StringBuilder} through {@link #resolve(StringBuilder, Map)},
+ * so {@link BasicPythonResolverHolder} can pass a single buffer through the whole resolver chain
+ * instead of copying the script into a new {@link String} after every resolver. Regular expressions
+ * are compiled once and reused across resolutions.</p>
+ *
  * @see PythonResolver
  * @see FragmentReplacer
  * @see FragmentReplacement
@@ -51,17 +57,85 @@ public abstract class AbstractPythonResolver implements PythonResolver {
      * Constant representing the starting index in a {@link StringBuilder}.
      */
     protected static final int STRING_BUILDER_START_INDEX = 0;
+    /**
+     * Maximum number of fragments replaced in place, more fragments are written to a new buffer in a single forward pass.
+     * <p>Shifting the tail of the script once per fragment beats copying the whole script up to this number,
+     * beyond it the shifting grows quadratically.</p>
+     */
+    protected static final int IN_PLACE_REPLACEMENT_LIMIT = 32;
+    private static final Pattern IMPORT_VARIABLE_PATTERN = Pattern.compile(IMPORT_VARIABLE_REGEX);
+    private static final Map<String, Pattern> COMPILED_PATTERNS = new ConcurrentHashMap<>();
+
+    /**
+     * Resolves the given Python script by delegating to {@link #resolve(StringBuilder, Map)}.
+     *
+     * @param script non-null Python script to resolve
+     * @param arguments map of arguments, may be {@code null} or empty
+     * @return non-null resolved script
+     */
+    @Override
+    public String resolve(String script, Map<String, Object> arguments) {
+        return this.resolve(new StringBuilder(script), arguments).toString();
+    }
+
+    /**
+     * Resolves the Python script held by the given buffer.
+     *
+     * <p>Implementations modify the buffer in place and return it, or return another buffer holding the result.</p>
+     *
+     * @param resolvedScript non-null mutable Python script to resolve
+     * @param arguments map of arguments, may be {@code null} or empty
+     * @return non-null buffer holding the resolved script
+     */
+    public abstract StringBuilder resolve(StringBuilder resolvedScript, Map<String, Object> arguments);
+
+    /**
+     * Resolves the Python script held by the given buffer and collects the argument values bound through a side channel.
+     *
+     * <p>The default implementation binds nothing and delegates to {@link #resolve(StringBuilder, Map)}.</p>
+     *
+     * @param resolvedScript non-null mutable Python script to resolve
+     * @param arguments map of arguments, may be {@code null} or empty
+     * @param bindings non-null mutable list receiving the JSON representation of every bound value
+     * @return non-null buffer holding the resolved script
+     */
+    public StringBuilder resolve(StringBuilder resolvedScript, Map<String, Object> arguments, List<String> bindings) {
+        return this.resolve(resolvedScript, arguments);
+    }
+
+    /**
+     * Checks whether {@link #resolve(StringBuilder, Map, List)} of this resolver binds argument values through a side channel.
+     *
+     * @return {@code true} if values may be added to the bindings, {@code false} by default
+     */
+    public boolean bindsArguments() {
+        return false;
+    }
+
+    /**
+     * Checks whether the output of this resolver depends only on the script and never on the arguments.
+     *
+     * <p>Argument-independent resolvers are applied once per script by {@link CompiledPythonResolverHolder}
+     * and their output is reused by every later execution of the same script.</p>
+     *
+     * @return {@code true} if {@code arguments} are ignored by {@link #resolve(StringBuilder, Map)}, {@code false} by default
+     */
+    public boolean isArgumentIndependent() {
+        return false;
+    }
 
     /**
      * Replaces all fragments in the given Python script that match a specified regular expression.
      *
-     * <p>The replacement is performed in reverse order of matches to preserve indexes. The matched
-     * fragment is trimmed according to {@code positionFromStart} and {@code positionFromEnd} before
+     * <p>The script is scanned once. Up to {@link #IN_PLACE_REPLACEMENT_LIMIT} fragments are then replaced in place
+     * from the last one to the first, more fragments are written to a new buffer in a single forward pass, which is returned
+     * instead of {@code script}. Callers therefore have to continue with the returned buffer.
+     * The matched fragment is trimmed according to {@code positionFromStart} and {@code positionFromEnd} before
      * passing to the {@link FragmentReplacer}.
      *
      * <pre>{@code
      * StringBuilder script = new StringBuilder("print(42)");
-     * StringBuilder updated = replaceScriptFragments(script, "\\d+", 0, 0, (matcher, fragment, body) -> body.append("100"));
+     * script = replaceScriptFragments(script, "\\d+", 0, 0, (matcher, fragment, body) -> body.append("100"));
      * // Result: print(100)
      * }</pre>
      *
@@ -70,58 +144,50 @@ public abstract class AbstractPythonResolver implements PythonResolver {
      * @param positionFromStart number of characters to skip from the start of the match, must be >= 0
      * @param positionFromEnd number of characters to skip from the end of the match, must be >= 0
      * @param fragmentReplacer non-null {@link FragmentReplacer} to transform each matched fragment
-     * @return non-null {@link StringBuilder} instance with modifications applied
+     * @return non-null {@code script} or a new {@link StringBuilder} with modifications applied
      */
     protected StringBuilder replaceScriptFragments(StringBuilder script, String regex, int positionFromStart, int positionFromEnd, FragmentReplacer fragmentReplacer) {
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(script.toString());
+        Matcher matcher = compilePattern(regex).matcher(script);
         List<FragmentReplacement> fragmentReplacements = new ArrayList<>();
         while (matcher.find()) {
-            String group = matcher.group();
-            String expressionString = group.substring(positionFromStart, group.length() - positionFromEnd);
-            StringBuilder expressionBody = new StringBuilder(expressionString);
+            StringBuilder expressionBody = new StringBuilder(script.subSequence(matcher.start() + positionFromStart, matcher.end() - positionFromEnd));
             StringBuilder emptyBody = new StringBuilder();
             StringBuilder result = fragmentReplacer.replace(matcher, expressionBody, emptyBody);
             fragmentReplacements.add(new FragmentReplacement(result.toString(), matcher.start(), matcher.end()));
         }
-        for (int i = fragmentReplacements.size() - 1; i >= 0; i--) {
-            FragmentReplacement replacement = fragmentReplacements.get(i);
-            script.replace(replacement.start(), replacement.end(), replacement.replacement());
-        }
-        return script;
+        return replaceFragments(script, fragmentReplacements);
     }
 
     /**
      * Removes all lines from the given Python script that match the specified pattern.
      *
-     * <p>Before removal, each matched line is passed to the provided {@link BiConsumer} along with its {@link Matcher}.</p>
+     * <p>Before removal, each matched line is passed to the provided {@link BiConsumer} along with its {@link Matcher}.
+     * Lines are matched in place through {@link Matcher#region(int, int)} and removed like the fragments of
+     * {@link #replaceScriptFragments(StringBuilder, String, int, int, FragmentReplacer)}, so callers have to continue
+     * with the returned buffer. The line terminators are kept.</p>
      *
      * @param script non-null script content to process
      * @param regex non-null pattern for identifying lines to remove
      * @param fragmentConsumer non-null consumer receiving each match before removal
-     * @return non-null {@link StringBuilder} with all matched lines removed
+     * @return non-null {@code script} or a new {@link StringBuilder} with all matched lines removed
      */
     protected StringBuilder removeScriptLines(StringBuilder script, String regex, BiConsumer<Matcher, String> fragmentConsumer) {
-        Pattern pattern = Pattern.compile(regex);
-        String scriptString = script.toString();
-        AtomicInteger offset = new AtomicInteger();
+        Matcher matcher = compilePattern(regex).matcher(script);
         List<FragmentReplacement> fragmentReplacements = new ArrayList<>();
-        scriptString.lines().forEach(line -> {
-            int start = offset.get();
-            int end = start + line.length();
-            Matcher matcher = pattern.matcher(line);
-            if (matcher.matches()) {
-                String group = matcher.group();
-                fragmentConsumer.accept(matcher, group);
+        int length = script.length();
+        int start = STRING_BUILDER_START_INDEX;
+        while (start < length) {
+            int lineEnd = script.indexOf("\n", start);
+            int next = lineEnd == STRING_BUILDER_NO_VALUE_INDEX ? length : lineEnd + 1;
+            int end = lineEnd == STRING_BUILDER_NO_VALUE_INDEX ? length : lineEnd;
+            if (end > start && script.charAt(end - 1) == '\r') end--;
+            if (matcher.region(start, end).matches()) {
+                fragmentConsumer.accept(matcher, matcher.group());
                 fragmentReplacements.add(new FragmentReplacement("", start, end));
             }
-            offset.set(end + 1);
-        });
-        for (int i = fragmentReplacements.size() - 1; i >= 0; i--) {
-            FragmentReplacement replacement = fragmentReplacements.get(i);
-            script.replace(replacement.start(), replacement.end(), replacement.replacement());
+            start = next;
         }
-        return script;
+        return replaceFragments(script, fragmentReplacements);
     }
 
     /**
@@ -173,8 +239,7 @@ public abstract class AbstractPythonResolver implements PythonResolver {
      * @return non-null immutable {@link List} of imported variable names, possibly empty
      */
     protected List<String> findImportVariables(String line) {
-        Pattern pattern = Pattern.compile(IMPORT_VARIABLE_REGEX);
-        Matcher matcher = pattern.matcher(line);
+        Matcher matcher = IMPORT_VARIABLE_PATTERN.matcher(line);
         if (!matcher.matches()) return Collections.emptyList();
         String fromImports = matcher.group(2);
         String importImports = matcher.group(3);
@@ -193,6 +258,16 @@ public abstract class AbstractPythonResolver implements PythonResolver {
         return result;
     }
 
+    /**
+     * Returns the compiled {@link Pattern} of the given regular expression, compiling it only on first use.
+     *
+     * @param regex non-null regular expression
+     * @return non-null shared compiled {@link Pattern}
+     */
+    protected static Pattern compilePattern(String regex) {
+        return COMPILED_PATTERNS.computeIfAbsent(regex, Pattern::compile);
+    }
+
     /**
      * Checks whether the given {@link StringBuilder} contains the specified string.
      *
@@ -203,4 +278,21 @@ public abstract class AbstractPythonResolver implements PythonResolver {
     protected boolean containsString(StringBuilder resolvedScript, String string) {
         return resolvedScript.indexOf(string) != STRING_BUILDER_NO_VALUE_INDEX;
     }
+
+    private static StringBuilder replaceFragments(StringBuilder script, List<FragmentReplacement> fragmentReplacements) {
+        if (fragmentReplacements.size() <= IN_PLACE_REPLACEMENT_LIMIT) {
+            for (int i = fragmentReplacements.size() - 1; i >= 0; i--) {
+                FragmentReplacement replacement = fragmentReplacements.get(i);
+                script.replace(replacement.start(), replacement.end(), replacement.replacement());
+            }
+            return script;
+        }
+        StringBuilder resolvedScript = new StringBuilder(script.length());
+        int lastEnd = STRING_BUILDER_START_INDEX;
+        for (FragmentReplacement replacement : fragmentReplacements) {
+            resolvedScript.append(script, lastEnd, replacement.start()).append(replacement.replacement());
+            lastEnd = replacement.end();
+        }
+        return resolvedScript.append(script, lastEnd, script.length());
+    }
 }
\ No newline at end of file
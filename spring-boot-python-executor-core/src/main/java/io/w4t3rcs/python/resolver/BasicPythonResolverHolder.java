@@ -1,7 +1,9 @@
 package io.w4t3rcs.python.resolver;
 
+import io.w4t3rcs.python.dto.ResolvedScript;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -13,6 +15,15 @@ import java.util.Map;
  * It is immutable — the list of resolvers is provided via constructor and does not change.
  * </p>
  * <p>
+ * The chain is fused over a single {@link StringBuilder}: every {@link AbstractPythonResolver} edits the same buffer
+ * through {@link AbstractPythonResolver#resolve(StringBuilder, Map)}, and the resolved {@link String} is created once
+ * at the end. Other {@link PythonResolver} implementations are applied through {@link PythonResolver#resolve(String, Map)}.
+ * </p>
+ * <p>
+ * Argument values bound through a side channel are returned by {@link #resolveAllWithBindings(String, Map)}
+ * and inlined into the script by {@link #resolveAll(String, Map)}.
+ * </p>
+ * <p>
  * Usage example:
  * <pre>{@code
  * List<PythonResolver> resolvers = List.of(new SpelythonResolver(...), new Py4JResolver(...), ...);
@@ -25,6 +36,7 @@ import java.util.Map;
  *
  * @see PythonResolverHolder
  * @see PythonResolver
+ * @see AbstractPythonResolver
  * @author w4t3rcs
  * @since 1.0.0
  */
@@ -42,7 +54,7 @@ public class BasicPythonResolverHolder implements PythonResolverHolder {
      * Returns the final script after all resolvers have been applied in order.
      * <p>
      * Behavior for {@code arguments} depends on individual resolver implementations.
-     * This method does not modify the original script but creates new string instances on each iteration.
+     * This method does not modify the original script, intermediate results are kept in a single shared buffer.
      * </p>
      *
      * @param script the original Python script, must be non-null and non-empty
@@ -52,12 +64,46 @@ public class BasicPythonResolverHolder implements PythonResolverHolder {
      */
     @Override
     public String resolveAll(String script, Map<String, Object> arguments) {
+        return this.resolveAllWithBindings(script, arguments).toInlineScript();
+    }
+
+    /**
+     * Sequentially applies all {@link PythonResolver} instances from {@link #getResolvers()} to the input script
+     * and collects the values bound through {@link AbstractPythonResolver#resolve(StringBuilder, Map, List)}.
+     *
+     * @param script the original Python script, must be non-null and non-empty
+     * @param arguments map of arguments passed to resolvers, can be {@code null} or empty
+     * @return the fully resolved script with the JSON array of the bound values, or {@code null} bindings if nothing is bound
+     * @throws IllegalArgumentException if {@code script} is {@code null} or empty
+     */
+    @Override
+    public ResolvedScript resolveAllWithBindings(String script, Map<String, Object> arguments) {
         if (script == null || script.isEmpty()) throw new IllegalArgumentException("Script cannot be null or empty");
-        String resolvedScript = script;
+        StringBuilder resolvedScript = new StringBuilder(script);
+        List<String> bindings = new ArrayList<>();
+        for (PythonResolver resolver : this.getResolvers()) {
+            if (resolver instanceof AbstractPythonResolver abstractResolver) {
+                resolvedScript = abstractResolver.resolve(resolvedScript, arguments, bindings);
+            } else {
+                String resolved = resolver.resolve(resolvedScript.toString(), arguments);
+                resolvedScript.setLength(0);
+                resolvedScript.append(resolved);
+            }
+        }
+        return new ResolvedScript(resolvedScript.toString(), bindings.isEmpty() ? null : "[" + String.join(",", bindings) + "]");
+    }
+
+    /**
+     * Checks whether any registered {@link AbstractPythonResolver} binds arguments through a side channel.
+     *
+     * @return {@code true} if {@link AbstractPythonResolver#bindsArguments()} is {@code true} for any resolver
+     */
+    @Override
+    public boolean supportsBindings() {
         for (PythonResolver resolver : this.getResolvers()) {
-            resolvedScript = resolver.resolve(resolvedScript, arguments);
+            if (resolver instanceof AbstractPythonResolver abstractResolver && abstractResolver.bindsArguments()) return true;
         }
-        return resolvedScript;
+        return false;
     }
 
     /**
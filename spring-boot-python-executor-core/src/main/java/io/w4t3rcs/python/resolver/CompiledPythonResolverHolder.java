@@ -0,0 +1,153 @@
+package io.w4t3rcs.python.resolver;
+
+import io.w4t3rcs.python.dto.ResolvedScript;
+import io.w4t3rcs.python.properties.PythonResolverProperties;
+import org.springframework.expression.Expression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of {@link PythonResolverHolder} that parses every script once into a {@link CompiledPythonScript}
+ * and renders it many times with new arguments.
+ * <p>
+ * On the first resolution of a script, the resolver chain is applied with every {@link SpelythonResolver} expression
+ * replaced by a slot placeholder, so the argument-independent resolvers produce the static preamble and epilogue only once.
+ * The resulting template is cached per script text, which is either the inline script or the file path passed to the processor,
+ * and later resolutions of the same script only evaluate the pre-parsed slot expressions.
+ * </p>
+ * <p>
+ * Templates are used only if every resolver is either the single {@link SpelythonResolver} or an {@link AbstractPythonResolver}
+ * whose {@link AbstractPythonResolver#isArgumentIndependent()} returns {@code true}, otherwise every script is resolved by
+ * {@link BasicPythonResolverHolder}. Scripts containing {@link CompiledPythonScript#PLACEHOLDER_START} are never compiled.
+ * </p>
+ * <p>
+ * The cache holds at most {@link PythonResolverProperties.TemplateProperties#capacity()} templates
+ * and is cleared as a whole when the limit is reached.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>{@code
+ * PythonResolverHolder holder = new CompiledPythonResolverHolder(resolvers, resolverProperties);
+ * String resolved = holder.resolveAll("print(spel{#a})", Map.of("a", 1));
+ * }</pre>
+ * </p>
+ *
+ * @see PythonResolverHolder
+ * @see CompiledPythonScript
+ * @see BasicPythonResolverHolder
+ * @see PythonResolverProperties.TemplateProperties
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public class CompiledPythonResolverHolder implements PythonResolverHolder {
+    private final List<PythonResolver> pythonResolvers;
+    private final BasicPythonResolverHolder basicPythonResolverHolder;
+    private final SpelythonResolver spelythonResolver;
+    private final boolean compilable;
+    private final int capacity;
+    private final Map<String, CompiledPythonScript> compiledScripts = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new holder applying the given resolvers.
+     *
+     * @param pythonResolvers non-null list of resolvers, applied in order
+     * @param resolverProperties non-null resolver properties with configured {@code template} section
+     */
+    public CompiledPythonResolverHolder(List<PythonResolver> pythonResolvers, PythonResolverProperties resolverProperties) {
+        this.pythonResolvers = pythonResolvers;
+        this.basicPythonResolverHolder = new BasicPythonResolverHolder(pythonResolvers);
+        this.capacity = resolverProperties.template().capacity();
+        SpelythonResolver foundSpelythonResolver = null;
+        boolean foundCompilable = true;
+        for (PythonResolver resolver : pythonResolvers) {
+            if (resolver instanceof SpelythonResolver currentSpelythonResolver && foundSpelythonResolver == null) {
+                foundSpelythonResolver = currentSpelythonResolver;
+            } else if (!(resolver instanceof AbstractPythonResolver abstractResolver) || !abstractResolver.isArgumentIndependent()) {
+                foundCompilable = false;
+            }
+        }
+        this.spelythonResolver = foundSpelythonResolver;
+        this.compilable = foundCompilable;
+    }
+
+    /**
+     * Renders the cached template of the script with the given arguments, compiling the template on first use.
+     *
+     * @param script the original Python script, must be non-null and non-empty
+     * @param arguments map of arguments passed to the slot expressions, can be {@code null} or empty
+     * @return the fully resolved script, never {@code null}
+     * @throws IllegalArgumentException if {@code script} is {@code null} or empty
+     */
+    @Override
+    public String resolveAll(String script, Map<String, Object> arguments) {
+        if (script == null || script.isEmpty()) throw new IllegalArgumentException("Script cannot be null or empty");
+        if (!this.isCompilable(script)) return basicPythonResolverHolder.resolveAll(script, arguments);
+        return this.getCompiledScript(script).render(arguments);
+    }
+
+    /**
+     * Renders the cached template of the script with the given arguments, keeping the values bound through a side channel
+     * apart from the script text.
+     *
+     * @param script the original Python script, must be non-null and non-empty
+     * @param arguments map of arguments passed to the slot expressions, can be {@code null} or empty
+     * @return the fully resolved script with its bindings, never {@code null}
+     * @throws IllegalArgumentException if {@code script} is {@code null} or empty
+     */
+    @Override
+    public ResolvedScript resolveAllWithBindings(String script, Map<String, Object> arguments) {
+        if (script == null || script.isEmpty()) throw new IllegalArgumentException("Script cannot be null or empty");
+        if (!this.isCompilable(script)) return basicPythonResolverHolder.resolveAllWithBindings(script, arguments);
+        return this.getCompiledScript(script).renderWithBindings(arguments);
+    }
+
+    /**
+     * Checks whether any registered resolver binds arguments through a side channel.
+     *
+     * @return {@code true} if {@link AbstractPythonResolver#bindsArguments()} is {@code true} for any resolver
+     */
+    @Override
+    public boolean supportsBindings() {
+        return basicPythonResolverHolder.supportsBindings();
+    }
+
+    /**
+     * Returns the list of resolvers registered in this holder.
+     *
+     * @return the list of {@link PythonResolver}, never {@code null}
+     */
+    @Override
+    public List<PythonResolver> getResolvers() {
+        return pythonResolvers;
+    }
+
+    private boolean isCompilable(String script) {
+        return compilable && script.indexOf(CompiledPythonScript.PLACEHOLDER_START) == AbstractPythonResolver.STRING_BUILDER_NO_VALUE_INDEX;
+    }
+
+    private CompiledPythonScript getCompiledScript(String script) {
+        CompiledPythonScript compiledScript = compiledScripts.get(script);
+        if (compiledScript == null) {
+            compiledScript = this.compile(script);
+            if (compiledScripts.size() >= capacity) compiledScripts.clear();
+            compiledScripts.put(script, compiledScript);
+        }
+        return compiledScript;
+    }
+
+    private CompiledPythonScript compile(String script) {
+        StringBuilder template = new StringBuilder(script);
+        List<Expression> expressions = new ArrayList<>();
+        for (PythonResolver resolver : pythonResolvers) {
+            if (resolver == spelythonResolver) {
+                template = spelythonResolver.resolveTemplate(template, expressions);
+            } else {
+                template = ((AbstractPythonResolver) resolver).resolve(template, null);
+            }
+        }
+        return CompiledPythonScript.of(template, expressions, spelythonResolver);
+    }
+}
@@ -0,0 +1,151 @@
+package io.w4t3rcs.python.resolver;
+
+import io.w4t3rcs.python.dto.ResolvedScript;
+import org.springframework.expression.Expression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precompiled Python script template produced by {@link CompiledPythonResolverHolder}.
+ *
+ * <p>The template consists of static text segments and argument-dependent slots. The static segments already contain
+ * everything the argument-independent resolvers have produced, such as the preamble with imports and the epilogue
+ * with the result handling, while every slot holds a pre-parsed SpEL expression of {@link SpelythonResolver}.
+ * Rendering only evaluates the slots and concatenates them with the static segments into a presized buffer.</p>
+ *
+ * <p>Slots are marked in the resolved template text by placeholders returned by {@link #placeholder(int)}.
+ * The placeholders use characters from the Unicode private use area, so they survive every resolver unchanged
+ * and can be found again even if a resolver has moved the line holding them.</p>
+ *
+ * <p>If {@link SpelythonResolver#bindsArguments()} is enabled, the template has no slots at all, because every expression
+ * is referenced by its index in the bindings, and rendering only evaluates the bindings.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * CompiledPythonScript compiledScript = CompiledPythonScript.of(template, expressions, spelythonResolver);
+ * String script = compiledScript.render(Map.of("a", 1));
+ * }</pre>
+ *
+ * @see CompiledPythonResolverHolder
+ * @see SpelythonResolver
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public class CompiledPythonScript {
+    /**
+     * Character starting a slot placeholder.
+     */
+    public static final char PLACEHOLDER_START = '\uE000';
+    /**
+     * Character ending a slot placeholder.
+     */
+    public static final char PLACEHOLDER_END = '\uE001';
+    private final String[] segments;
+    private final int[] slots;
+    private final List<Expression> expressions;
+    private final SpelythonResolver spelythonResolver;
+    private final int staticLength;
+    private final boolean bound;
+
+    private CompiledPythonScript(String[] segments, int[] slots, List<Expression> expressions, SpelythonResolver spelythonResolver) {
+        this.segments = segments;
+        this.slots = slots;
+        this.expressions = expressions;
+        this.spelythonResolver = spelythonResolver;
+        this.bound = spelythonResolver != null && spelythonResolver.bindsArguments();
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.staticLength = length;
+    }
+
+    /**
+     * Splits the resolved template text into static segments and slots.
+     *
+     * @param template non-null resolved script holding placeholders of {@code expressions}
+     * @param expressions non-null list of pre-parsed expressions, indexed by the placeholders
+     * @param spelythonResolver resolver evaluating the expressions, may be {@code null} if {@code expressions} is empty
+     * @return non-null compiled script
+     * @throws IllegalArgumentException if a placeholder is malformed or refers to an unknown expression
+     */
+    public static CompiledPythonScript of(CharSequence template, List<Expression> expressions, SpelythonResolver spelythonResolver) {
+        List<String> segments = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        int lastEnd = 0;
+        for (int i = 0; i < template.length(); i++) {
+            if (template.charAt(i) != PLACEHOLDER_START) continue;
+            int end = i + 1;
+            while (end < template.length() && template.charAt(end) != PLACEHOLDER_END) end++;
+            if (end == template.length()) throw new IllegalArgumentException("Unterminated template placeholder at " + i);
+            int slot = Integer.parseInt(template, i + 1, end, 10);
+            if (slot < 0 || slot >= expressions.size()) throw new IllegalArgumentException("Unknown template slot " + slot);
+            segments.add(template.subSequence(lastEnd, i).toString());
+            slots.add(slot);
+            lastEnd = end + 1;
+            i = end;
+        }
+        segments.add(template.subSequence(lastEnd, template.length()).toString());
+        return new CompiledPythonScript(segments.toArray(String[]::new), slots.stream().mapToInt(Integer::intValue).toArray(),
+                List.copyOf(expressions), spelythonResolver);
+    }
+
+    /**
+     * Returns the placeholder marking the slot with the given index.
+     *
+     * @param slot index of the slot, >= 0
+     * @return non-null placeholder text
+     */
+    public static String placeholder(int slot) {
+        return PLACEHOLDER_START + Integer.toString(slot) + PLACEHOLDER_END;
+    }
+
+    /**
+     * Renders the script with the given arguments.
+     *
+     * <p>Every expression is evaluated once, even if its slot occurs several times or not at all in the template.</p>
+     *
+     * @param arguments nullable map of variables for the slot expressions
+     * @return non-null resolved Python script
+     */
+    public String render(Map<String, Object> arguments) {
+        if (bound) return this.renderWithBindings(arguments).toInlineScript();
+        if (expressions.isEmpty()) return segments[0];
+        String[] values = spelythonResolver.evaluateTemplate(expressions, arguments);
+        int length = staticLength;
+        for (int slot : slots) {
+            length += values[slot].length();
+        }
+        StringBuilder script = new StringBuilder(length);
+        for (int i = 0; i < slots.length; i++) {
+            script.append(segments[i]).append(values[slots[i]]);
+        }
+        return script.append(segments[slots.length]).toString();
+    }
+
+    /**
+     * Renders the script with the given arguments, keeping the values bound through a side channel apart from the script text.
+     *
+     * <p>If the template was compiled with {@link SpelythonResolver#bindsArguments()} enabled, the script text is constant
+     * and only {@link SpelythonResolver#evaluateBindings(List, Map)} is evaluated, otherwise the result of {@link #render(Map)}
+     * is returned without bindings.</p>
+     *
+     * @param arguments nullable map of variables for the slot expressions
+     * @return non-null resolved Python script with its bindings
+     */
+    public ResolvedScript renderWithBindings(Map<String, Object> arguments) {
+        if (!bound) return ResolvedScript.of(this.render(arguments));
+        return new ResolvedScript(segments[0], expressions.isEmpty() ? null : spelythonResolver.evaluateBindings(expressions, arguments));
+    }
+
+    /**
+     * Returns the number of argument-dependent slots in the template.
+     *
+     * @return number of slots, >= 0
+     */
+    public int getSlotCount() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,73 @@
+package io.w4t3rcs.python.resolver;
+
+import io.w4t3rcs.python.local.FramedPythonInputProcessHandler;
+import io.w4t3rcs.python.properties.PythonResolverProperties;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * {@link PythonResolver} implementation that emits the script body as a length-prefixed frame on standard output.
+ *
+ * <p>This resolver is an alternative to {@link PrintedResultResolver} for local execution. Instead of printing
+ * the body on a line prefixed by the appearance marker, the generated epilogue writes a frame consisting of
+ * a header line starting with a {@code NUL} character, followed by the appearance and the payload length,
+ * and then the JSON payload itself:</p>
+ * <pre>{@code
+ * \0r4java 17
+ * {"x": 2, "y": 7}
+ * }</pre>
+ *
+ * <p>{@link FramedPythonInputProcessHandler} reads the payload straight into a byte buffer of the announced length,
+ * so no per-line decoding and no marker search is required, and user {@code print} output cannot interfere with the body.
+ * The JSON payload is ASCII-only, so its length in characters equals its length in bytes.</p>
+ *
+ * @see PythonResolver
+ * @see AbstractPythonResolver
+ * @see PrintedResultResolver
+ * @see FramedPythonInputProcessHandler
+ * @see PythonResolverProperties.ResultProperties
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class FramedResultResolver extends AbstractPythonResolver {
+    private static final String IMPORT_SYS = "import sys\n";
+    private static final String FRAME_VARIABLE_SUFFIX = "_frame";
+    private final PythonResolverProperties resolverProperties;
+
+    /**
+     * Resolves the Python script by appending the epilogue that writes the body frame.
+     *
+     * @param resolvedScript the Python script to process (non-null), modified in place
+     * @param arguments unused map of variables, may be null or empty
+     * @return the transformed script with the frame epilogue added for results
+     */
+    @Override
+    public StringBuilder resolve(StringBuilder resolvedScript, Map<String, Object> arguments) {
+        this.insertUniqueLineToStart(resolvedScript, AbstractPythonResolver.IMPORT_JSON);
+        this.insertUniqueLineToStart(resolvedScript, IMPORT_SYS);
+        var resultProperties = resolverProperties.result();
+        String appearance = resultProperties.appearance();
+        if (this.containsString(resolvedScript, appearance)) {
+            String frameVariable = appearance + FRAME_VARIABLE_SUFFIX;
+            this.appendNextLine(resolvedScript, builder -> builder.append("\n")
+                    .append(frameVariable).append(" = json.dumps(").append(appearance).append(")"));
+            this.appendNextLine(resolvedScript, builder -> builder.append("sys.stdout.write('\\n\\x00")
+                    .append(appearance)
+                    .append(" %d\\n' % len(").append(frameVariable).append(") + ").append(frameVariable).append(")"));
+            this.appendNextLine(resolvedScript, "sys.stdout.flush()");
+        }
+        return resolvedScript;
+    }
+
+    /**
+     * This resolver only depends on {@link PythonResolverProperties}.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isArgumentIndependent() {
+        return true;
+    }
+}
@@ -31,13 +31,12 @@ public class PrintedResultResolver extends AbstractPythonResolver {
     /**
      * Resolves the Python script by wrapping configured body expressions with print statements.
      *
-     * @param script the original Python script to process (non-null)
+     * @param resolvedScript the Python script to process (non-null), modified in place
      * @param arguments unused map of variables, may be null or empty
      * @return the transformed script with print statements added for results
      */
     @Override
-    public String resolve(String script, Map<String, Object> arguments) {
-        StringBuilder resolvedScript = new StringBuilder(script);
+    public StringBuilder resolve(StringBuilder resolvedScript, Map<String, Object> arguments) {
         this.insertUniqueLineToStart(resolvedScript, AbstractPythonResolver.IMPORT_JSON);
         var resultProperties = resolverProperties.result();
         if (this.containsString(resolvedScript, resultProperties.appearance())) {
@@ -47,6 +46,16 @@ public class PrintedResultResolver extends AbstractPythonResolver {
                     .append(resultProperties.appearance())
                     .append("))"));
         }
-        return resolvedScript.toString();
+        return resolvedScript;
+    }
+
+    /**
+     * This resolver only depends on {@link PythonResolverProperties}.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isArgumentIndependent() {
+        return true;
     }
 }
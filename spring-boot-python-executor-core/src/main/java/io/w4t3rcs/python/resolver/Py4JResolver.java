@@ -35,16 +35,15 @@ public class Py4JResolver extends AbstractPythonResolver {
      * Resolves a Python script by inserting necessary Py4J import statements and gateway initialization lines.
      * Removes duplicate or existing import lines matching the configured regex before reinserting them.
      *
-     * @param script non-null Python script content
+     * @param resolvedScript non-null Python script content
      * @param arguments ignored in this implementation, may be null
      * @return non-null resolved script containing Py4J import statements and gateway setup
      */
     @Override
-    public String resolve(String script, Map<String, Object> arguments) {
-        StringBuilder resolvedScript = new StringBuilder(script);
+    public StringBuilder resolve(StringBuilder resolvedScript, Map<String, Object> arguments) {
         var py4JProperties = resolverProperties.py4j();
         List<String> importLines = new ArrayList<>();
-        this.removeScriptLines(resolvedScript, resolverProperties.scriptImportsRegex(),
+        resolvedScript = this.removeScriptLines(resolvedScript, resolverProperties.scriptImportsRegex(),
                 (matcher, fragment) -> importLines.add(fragment));
         String gatewayObject = py4JProperties.gatewayObject();
         String gatewayProperties = String.join(",\n\t\t", py4JProperties.gatewayProperties());
@@ -53,6 +52,16 @@ public class Py4JResolver extends AbstractPythonResolver {
             this.insertUniqueLineToStart(resolvedScript, importLines.get(i));
         }
         this.insertUniqueLineToStart(resolvedScript, py4JProperties.importLine());
-        return resolvedScript.toString();
+        return resolvedScript;
+    }
+
+    /**
+     * This resolver only depends on {@link PythonResolverProperties}.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isArgumentIndependent() {
+        return true;
     }
 }
@@ -20,7 +20,8 @@ import java.util.Set;
  *   <li>Initializes local variables container for execution results.</li>
  *   <li>Compiles the wrapped script with RestrictedPython's compile_restricted method.</li>
  *   <li>Executes the compiled code in a safe globals context augmented with collected imports.</li>
- *   <li>Replaces configured body fragments with JSON serialization code if enabled.</li>
+ *   <li>Replaces configured body fragments with assignments to the safe body variable if enabled,
+ *   the body is then JSON-encoded once outside the restricted code by the emitting resolver or server.</li>
  *   <li>Inserts necessary import statements and setup for safe globals and optional print support.</li>
  * </ul>
  *
@@ -40,18 +41,17 @@ public class RestrictedPythonResolver extends AbstractPythonResolver {
      * Resolves the given Python script by injecting RestrictedPython setup code to
      * enable secure execution.
      *
-     * @param script the original Python script content (non-null)
+     * @param resolvedScript the Python script content (non-null)
      * @param arguments unused map of variables for script execution context, may be null
      * @return the transformed Python script ready for execution with RestrictedPython
      */
     @Override
-    public String resolve(String script, Map<String, Object> arguments) {
-        StringBuilder resolvedScript = new StringBuilder(script);
+    public StringBuilder resolve(StringBuilder resolvedScript, Map<String, Object> arguments) {
         var restrictedPythonProperties = resolverProperties.restrictedPython();
         var resultProperties = resolverProperties.result();
         List<String> importLines = new ArrayList<>();
         List<String> importNames = new ArrayList<>();
-        this.removeScriptLines(resolvedScript, resolverProperties.scriptImportsRegex(),
+        resolvedScript = this.removeScriptLines(resolvedScript, resolverProperties.scriptImportsRegex(),
                 (matcher, fragment) -> {
             importLines.add(fragment);
             List<String> currentImportNames = this.findImportVariables(fragment);
@@ -68,13 +68,13 @@ public class RestrictedPythonResolver extends AbstractPythonResolver {
                 .append(restrictedPythonProperties.localVariablesName())
                 .append(")"));
         if (Set.of(resolverProperties.declared()).contains(PythonResolverProperties.DeclaredResolver.RESULT)) {
-            this.replaceScriptFragments(resolvedScript, resultProperties.regex(),
+            resolvedScript = this.replaceScriptFragments(resolvedScript, resultProperties.regex(),
                     resultProperties.positionFromStart(), resultProperties.positionFromEnd(),
                     (matcher, fragment, result) -> {
                 result.append(restrictedPythonProperties.safeResultAppearance())
-                        .append(" = json.loads(json.dumps(")
+                        .append(" = ")
                         .append(fragment)
-                        .append("))\n");
+                        .append("\n");
                 return result;
             });
             this.appendNextLine(resolvedScript, builder -> builder.append(resultProperties.appearance())
@@ -102,8 +102,17 @@ public class RestrictedPythonResolver extends AbstractPythonResolver {
         for (int i = importLines.size() - 1; i >= 0; i--) {
             this.insertUniqueLineToStart(resolvedScript, importLines.get(i));
         }
-        this.insertUniqueLineToStart(resolvedScript, AbstractPythonResolver.IMPORT_JSON);
         this.insertUniqueLineToStart(resolvedScript, restrictedPythonProperties.importLine());
-        return resolvedScript.toString();
+        return resolvedScript;
+    }
+
+    /**
+     * This resolver only depends on {@link PythonResolverProperties}.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isArgumentIndependent() {
+        return true;
     }
 }
@@ -9,10 +9,15 @@ import java.util.Map;
  * {@link PythonResolver} implementation that processes body expressions in Python scripts.
  *
  * <p>This resolver searches for body expressions in the script using a configured regex pattern
- * and wraps each found expression with JSON serialization logic, assigning it to a configured
- * body variable.</p>
+ * and assigns each found expression to a configured body variable.</p>
  *
- * <p>The processed script can then expose evaluated body data in a JSON-compatible form.</p>
+ * <p>The value is not serialized here. It is encoded to JSON exactly once by whatever emits the body,
+ * such as {@link PrintedResultResolver}, {@link FramedResultResolver} or the Python server, and that single
+ * encoding also rejects values which are not JSON-compatible.</p>
+ *
+ * <p>The assignment binds the live object rather than a snapshot of it. Since the body is encoded only after the script
+ * ends, in-place mutations of that object made after the body expression, such as {@code x.append(...)}, are part
+ * of the body, whereas rebinding the expression's variable to another object is not.</p>
  *
  * @see PythonResolver
  * @see AbstractPythonResolver
@@ -28,24 +33,31 @@ public class ResultResolver extends AbstractPythonResolver {
     /**
      * Resolves the script by finding and wrapping body expressions.
      *
-     * @param script the original Python script content (non-null)
+     * @param resolvedScript the Python script content (non-null)
      * @param arguments unused map of variables, may be null
-     * @return the processed script with body expressions replaced by JSON serialization assignments
+     * @return the processed script with body expressions replaced by body variable assignments
      */
     @Override
-    public String resolve(String script, Map<String, Object> arguments) {
-        StringBuilder resolvedScript = new StringBuilder(script);
-        this.insertUniqueLineToStart(resolvedScript, AbstractPythonResolver.IMPORT_JSON);
+    public StringBuilder resolve(StringBuilder resolvedScript, Map<String, Object> arguments) {
         var resultProperties = resolverProperties.result();
-        this.replaceScriptFragments(resolvedScript, resultProperties.regex(),
+        resolvedScript = this.replaceScriptFragments(resolvedScript, resultProperties.regex(),
                 resultProperties.positionFromStart(), resultProperties.positionFromEnd(),
                 (matcher, fragment, result) -> {
             this.appendNextLine(result, builder -> builder.append(resultProperties.appearance())
-                    .append(" = json.loads(json.dumps(")
-                    .append(fragment)
-                    .append("))"));
+                    .append(" = ")
+                    .append(fragment));
             return result;
         });
-        return resolvedScript.toString();
+        return resolvedScript;
+    }
+
+    /**
+     * This resolver only depends on {@link PythonResolverProperties}.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isArgumentIndependent() {
+        return true;
     }
 }
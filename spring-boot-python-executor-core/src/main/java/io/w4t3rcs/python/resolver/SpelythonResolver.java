@@ -2,17 +2,24 @@ package io.w4t3rcs.python.resolver;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.dto.ResolvedScript;
 import io.w4t3rcs.python.exception.SpelythonProcessingException;
 import io.w4t3rcs.python.properties.PythonResolverProperties;
+import io.w4t3rcs.python.properties.PythonResolverProperties.SpelythonProperties.ArgumentBinding;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.expression.Expression;
-import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@link PythonResolver} implementation that processes Spring Expression Language (SpEL)
@@ -27,18 +34,40 @@ import java.util.Map;
  * It supports passing external variables to the SpEL context via the {@code arguments} map.
  * Errors during JSON serialization are wrapped and rethrown as {@link SpelythonProcessingException}.</p>
  *
+ * <p>Parsed expressions are kept in a bounded cache of {@link PythonResolverProperties.SpelythonProperties.SpelProperties#cacheCapacity()}
+ * entries, so hot expressions are parsed once and, depending on
+ * {@link PythonResolverProperties.SpelythonProperties.SpelProperties#compilerMode()}, compiled to bytecode by the SpEL compiler.
+ * Every resolution uses a lightweight evaluation context that shares the bean resolver, accessors and resolvers
+ * of a single pre-built root context, and the arguments are bound to it through
+ * {@link StandardEvaluationContext#setVariable(String, Object)}.</p>
+ *
+ * <p>With {@link PythonResolverProperties.SpelythonProperties.ArgumentBinding#SIDE_CHANNEL} binding, the expressions are replaced
+ * by references to a {@code spelython_values} list, so the script text no longer depends on the argument values.
+ * The values are collected through {@link #resolve(StringBuilder, Map, List)} and read back by a generated prologue
+ * as described in {@link ResolvedScript}. This binding is not applied when Restricted Python is declared,
+ * because the restricted code cannot access the script globals.</p>
+ *
  * @see PythonResolver
  * @see AbstractPythonResolver
  * @see PythonResolverHolder
  * @see PythonResolverProperties.SpelythonProperties
+ * @see CompiledPythonScript
  * @author w4t3rcs
  * @since 1.0.0
  */
 @RequiredArgsConstructor
 public class SpelythonResolver extends AbstractPythonResolver {
+    private static final String VARIABLE_INDEX = "#";
+    private static final String VALUES_VARIABLE = "spelython_values";
+    private static final String BINDINGS_PROLOGUE = "import json, os, pathlib\n" + VALUES_VARIABLE + " = json.loads(globals().get('" + ResolvedScript.BINDINGS_VARIABLE
+            + "') or (pathlib.Path(os.environ['" + ResolvedScript.BINDINGS_FILE_VARIABLE + "']).read_text(encoding='utf-8') if '"
+            + ResolvedScript.BINDINGS_FILE_VARIABLE + "' in os.environ else '[]'))";
     private final PythonResolverProperties resolverProperties;
     private final ApplicationContext applicationContext;
     private final ObjectMapper objectMapper;
+    private final Map<String, Expression> parsedExpressions = new ConcurrentHashMap<>();
+    private volatile SpelExpressionParser parser;
+    private volatile StandardEvaluationContext rootContext;
 
     /**
      * Resolves SpEL expressions within the given Python script by evaluating each
@@ -48,46 +77,197 @@ public class SpelythonResolver extends AbstractPythonResolver {
      * identify expressions, then evaluates them against the SpEL context enriched
      * with the provided {@code arguments} as variables.</p>
      *
-     * @param script non-null Python script content possibly containing SpEL expressions
+     * @param resolvedScript non-null Python script content possibly containing SpEL expressions
      * @param arguments nullable map of variables for SpEL evaluation context, keys are variable names, values are their corresponding objects. If null or empty, no variables are set.
      * @return non-null-resolved script with SpEL expressions replaced by JSON-wrapped results
      */
     @Override
-    public String resolve(String script, Map<String, Object> arguments) {
-        StringBuilder resolvedScript = new StringBuilder(script);
+    public StringBuilder resolve(StringBuilder resolvedScript, Map<String, Object> arguments) {
         this.insertUniqueLineToStart(resolvedScript, AbstractPythonResolver.IMPORT_JSON);
-        ExpressionParser parser = new SpelExpressionParser();
-        StandardEvaluationContext context = new StandardEvaluationContext();
+        StandardEvaluationContext context = this.createEvaluationContext(arguments);
         var spelythonProperties = resolverProperties.spelython();
         var spelProperties = spelythonProperties.spel();
-        if (arguments != null && !arguments.isEmpty()) {
-            arguments.forEach((key, value) ->
-                    parser.parseExpression(spelProperties.localVariableIndex() + key)
-                            .setValue(context, value));
-        }
-        context.setBeanResolver(new BeanFactoryResolver(applicationContext));
-        this.replaceScriptFragments(resolvedScript, spelythonProperties.regex(),
+        resolvedScript = this.replaceScriptFragments(resolvedScript, spelythonProperties.regex(),
+                spelProperties.positionFromStart(), spelProperties.positionFromEnd(),
+                (matcher, fragment, result) -> this.appendValue(result, this.parseExpression(fragment.toString()), context));
+        return resolvedScript;
+    }
+
+    /**
+     * Resolves SpEL expressions within the given Python script and binds their values through a side channel
+     * if {@link #bindsArguments()} is {@code true}, otherwise delegates to {@link #resolve(StringBuilder, Map)}.
+     *
+     * @param resolvedScript non-null Python script content possibly containing SpEL expressions
+     * @param arguments nullable map of variables for SpEL evaluation context
+     * @param bindings non-null mutable list receiving the JSON representation of every expression value
+     * @return non-null resolved script with SpEL expressions replaced by references to the bound values
+     */
+    @Override
+    public StringBuilder resolve(StringBuilder resolvedScript, Map<String, Object> arguments, List<String> bindings) {
+        if (!this.bindsArguments()) return this.resolve(resolvedScript, arguments);
+        StandardEvaluationContext context = this.createEvaluationContext(arguments);
+        var spelythonProperties = resolverProperties.spelython();
+        var spelProperties = spelythonProperties.spel();
+        int boundValues = bindings.size();
+        resolvedScript = this.replaceScriptFragments(resolvedScript, spelythonProperties.regex(),
+                spelProperties.positionFromStart(), spelProperties.positionFromEnd(),
+                (matcher, fragment, result) -> {
+                    bindings.add(this.writeValue(this.parseExpression(fragment.toString()).getValue(context, Object.class)));
+                    return this.appendReference(result, bindings.size() - 1);
+                });
+        return this.insertBindingsPrologue(resolvedScript, bindings.size() > boundValues);
+    }
+
+    /**
+     * Checks whether SpEL expression values are bound through a side channel.
+     *
+     * @return {@code true} if {@link PythonResolverProperties.SpelythonProperties.ArgumentBinding#SIDE_CHANNEL} is configured
+     * and Restricted Python is not declared
+     */
+    @Override
+    public boolean bindsArguments() {
+        var declared = resolverProperties.declared();
+        return resolverProperties.spelython().binding() == ArgumentBinding.SIDE_CHANNEL
+                && (declared == null || !Arrays.asList(declared).contains(PythonResolverProperties.DeclaredResolver.RESTRICTED_PYTHON));
+    }
+
+    /**
+     * Prepares the given Python script as a template of a {@link CompiledPythonScript}.
+     *
+     * <p>Every SpEL expression is parsed once and replaced with the placeholder returned by
+     * {@link CompiledPythonScript#placeholder(int)}, the parsed expressions are added to {@code expressions}
+     * in the order of their placeholder indexes. If {@link #bindsArguments()} is {@code true}, the expressions are replaced
+     * by references to the values returned by {@link #evaluateBindings(List, Map)} instead.</p>
+     *
+     * @param resolvedScript non-null Python script content possibly containing SpEL expressions
+     * @param expressions non-null mutable list receiving the parsed expressions
+     * @return non-null script with SpEL expressions replaced by placeholders
+     */
+    public StringBuilder resolveTemplate(StringBuilder resolvedScript, List<Expression> expressions) {
+        boolean bindsArguments = this.bindsArguments();
+        if (!bindsArguments) this.insertUniqueLineToStart(resolvedScript, AbstractPythonResolver.IMPORT_JSON);
+        var spelythonProperties = resolverProperties.spelython();
+        var spelProperties = spelythonProperties.spel();
+        int parsedValues = expressions.size();
+        resolvedScript = this.replaceScriptFragments(resolvedScript, spelythonProperties.regex(),
                 spelProperties.positionFromStart(), spelProperties.positionFromEnd(),
                 (matcher, fragment, result) -> {
-                    try {
-                        Expression expression = parser.parseExpression(fragment.toString());
-                        Object expressionValue = expression.getValue(context, Object.class);
-                        String jsonResult = objectMapper.writeValueAsString(expressionValue).replace("'", "\\'");
-                        if (jsonResult.startsWith("\"\\\"") && jsonResult.endsWith("\\\"\"")) {
-                            int beginIndex = 3;
-                            int endIndex = jsonResult.length() - beginIndex;
-                            jsonResult = jsonResult.substring(beginIndex, endIndex);
-                            return result.append("'")
-                                    .append(jsonResult)
-                                    .append("'");
-                        }
-                        return result.append("json.loads('")
-                                .append(jsonResult)
-                                .append("')");
-                    } catch (JsonProcessingException e) {
-                        throw new SpelythonProcessingException(e);
-                    }
+                    expressions.add(this.parseExpression(fragment.toString()));
+                    int slot = expressions.size() - 1;
+                    return bindsArguments ? this.appendReference(result, slot) : result.append(CompiledPythonScript.placeholder(slot));
                 });
-        return resolvedScript.toString();
+        return bindsArguments ? this.insertBindingsPrologue(resolvedScript, expressions.size() > parsedValues) : resolvedScript;
+    }
+
+    /**
+     * Evaluates the pre-parsed SpEL expressions of a {@link CompiledPythonScript} within a single evaluation context.
+     *
+     * @param expressions non-null list of expressions returned by {@link #resolveTemplate(StringBuilder, List)}
+     * @param arguments nullable map of variables for SpEL evaluation context
+     * @return non-null array of Python literals, one per expression
+     */
+    public String[] evaluateTemplate(List<Expression> expressions, Map<String, Object> arguments) {
+        StandardEvaluationContext context = this.createEvaluationContext(arguments);
+        String[] values = new String[expressions.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.appendValue(new StringBuilder(), expressions.get(i), context).toString();
+        }
+        return values;
+    }
+
+    /**
+     * Evaluates the pre-parsed SpEL expressions of a {@link CompiledPythonScript} into the bindings of a side channel.
+     *
+     * @param expressions non-null list of expressions returned by {@link #resolveTemplate(StringBuilder, List)}
+     * @param arguments nullable map of variables for SpEL evaluation context
+     * @return non-null JSON array of the expression values
+     */
+    public String evaluateBindings(List<Expression> expressions, Map<String, Object> arguments) {
+        StandardEvaluationContext context = this.createEvaluationContext(arguments);
+        StringJoiner bindings = new StringJoiner(",", "[", "]");
+        for (Expression expression : expressions) {
+            bindings.add(this.writeValue(expression.getValue(context, Object.class)));
+        }
+        return bindings.toString();
+    }
+
+    private Expression parseExpression(String expressionString) {
+        int cacheCapacity = resolverProperties.spelython().spel().cacheCapacity();
+        if (cacheCapacity <= 0) return this.getParser().parseExpression(expressionString);
+        Expression expression = parsedExpressions.get(expressionString);
+        if (expression == null) {
+            expression = this.getParser().parseExpression(expressionString);
+            if (parsedExpressions.size() >= cacheCapacity) parsedExpressions.clear();
+            parsedExpressions.put(expressionString, expression);
+        }
+        return expression;
+    }
+
+    private StandardEvaluationContext createEvaluationContext(Map<String, Object> arguments) {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        this.getRootContext().applyDelegatesTo(context);
+        if (arguments != null && !arguments.isEmpty()) {
+            String localVariableIndex = resolverProperties.spelython().spel().localVariableIndex();
+            if (VARIABLE_INDEX.equals(localVariableIndex)) {
+                arguments.forEach(context::setVariable);
+            } else {
+                arguments.forEach((key, value) -> this.parseExpression(localVariableIndex + key).setValue(context, value));
+            }
+        }
+        return context;
+    }
+
+    private SpelExpressionParser getParser() {
+        SpelExpressionParser currentParser = parser;
+        if (currentParser == null) {
+            SpelCompilerMode compilerMode = resolverProperties.spelython().spel().compilerMode();
+            SpelParserConfiguration configuration = new SpelParserConfiguration(compilerMode == null ? SpelCompilerMode.OFF : compilerMode,
+                    applicationContext.getClassLoader());
+            parser = currentParser = new SpelExpressionParser(configuration);
+        }
+        return currentParser;
+    }
+
+    private StandardEvaluationContext getRootContext() {
+        StandardEvaluationContext currentRootContext = rootContext;
+        if (currentRootContext == null) {
+            currentRootContext = new StandardEvaluationContext();
+            currentRootContext.setBeanResolver(new BeanFactoryResolver(applicationContext));
+            rootContext = currentRootContext;
+        }
+        return currentRootContext;
+    }
+
+    private StringBuilder appendValue(StringBuilder result, Expression expression, StandardEvaluationContext context) {
+        Object expressionValue = expression.getValue(context, Object.class);
+        String jsonResult = this.writeValue(expressionValue).replace("'", "\\'");
+        if (jsonResult.startsWith("\"\\\"") && jsonResult.endsWith("\\\"\"")) {
+            int beginIndex = 3;
+            int endIndex = jsonResult.length() - beginIndex;
+            jsonResult = jsonResult.substring(beginIndex, endIndex);
+            return result.append("'")
+                    .append(jsonResult)
+                    .append("'");
+        }
+        return result.append("json.loads('")
+                .append(jsonResult)
+                .append("')");
+    }
+
+    private StringBuilder appendReference(StringBuilder result, int index) {
+        return result.append(VALUES_VARIABLE).append('[').append(index).append(']');
+    }
+
+    private StringBuilder insertBindingsPrologue(StringBuilder resolvedScript, boolean bound) {
+        if (bound) return this.insertUniqueLineToStart(resolvedScript, BINDINGS_PROLOGUE);
+        return this.insertUniqueLineToStart(resolvedScript, AbstractPythonResolver.IMPORT_JSON);
+    }
+
+    private String writeValue(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new SpelythonProcessingException(e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -5,26 +5,24 @@ import org.aspectj.lang.JoinPoint;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import static io.w4t3rcs.python.constant.TestConstants.SIMPLE_SCRIPT_0;
-import static io.w4t3rcs.python.constant.TestConstants.TEST_PROFILES;
+import static io.w4t3rcs.python.constant.TestConstants.*;
 
 @ExtendWith(MockitoExtension.class)
 class BasicPythonAnnotationEvaluatorTests {
-    @InjectMocks
-    private BasicPythonAnnotationEvaluator basicPythonAnnotationEvaluator;
     @Mock
-    private ProfileChecker profileChecker;
-    @Mock
-    private PythonAnnotationValueCompounder annotationValueExtractorChain;
-    @Mock
-    private PythonArgumentsExtractor argumentsExtractor;
+    private PythonMethodMetadataProvider methodMetadataProvider;
     @Mock
     private PythonProcessor pythonProcessor;
     @Mock
@@ -32,10 +30,125 @@ class BasicPythonAnnotationEvaluatorTests {
 
     @Test
     void testEvaluate() {
-        Map<String, String[]> annotationValue = Map.of(SIMPLE_SCRIPT_0, TEST_PROFILES);
+        BasicPythonAnnotationEvaluator basicPythonAnnotationEvaluator = new BasicPythonAnnotationEvaluator(methodMetadataProvider, pythonProcessor);
+        PythonMethodMetadata metadata = new PythonMethodMetadata(Map.of(SIMPLE_SCRIPT_0, TEST_PROFILES, SIMPLE_SCRIPT_1, EMPTY_PROFILES),
+                List.of(List.of(SIMPLE_SCRIPT_1)), new String[]{A_PYTHON_PARAM});
+
+        Mockito.when(methodMetadataProvider.getMetadata(joinPoint, null)).thenReturn(metadata);
+        Mockito.when(joinPoint.getArgs()).thenReturn(new Object[]{TEST_PROFILE});
+
+        Assertions.assertDoesNotThrow(() -> basicPythonAnnotationEvaluator.evaluate(joinPoint, null, Map.of("result", 1)));
+        Mockito.verify(pythonProcessor).process(SIMPLE_SCRIPT_1, Map.of(A_PYTHON_PARAM, TEST_PROFILE, "result", 1));
+        Mockito.verify(pythonProcessor, Mockito.never()).process(Mockito.eq(SIMPLE_SCRIPT_0), Mockito.anyMap());
+    }
+
+    @Test
+    void testEvaluateInParallel() {
+        BasicPythonAnnotationEvaluator basicPythonAnnotationEvaluator = new BasicPythonAnnotationEvaluator(methodMetadataProvider, pythonProcessor,
+                new SimpleAsyncTaskExecutor());
+        PythonMethodMetadata metadata = new PythonMethodMetadata(Map.of(), List.of(List.of(SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1), List.of(SIMPLE_SCRIPT_2)),
+                new String[0]);
+        CountDownLatch latch = new CountDownLatch(2);
+
+        Mockito.when(methodMetadataProvider.getMetadata(joinPoint, null)).thenReturn(metadata);
+        Mockito.when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        Mockito.doAnswer(invocation -> {
+            latch.countDown();
+            Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+            return null;
+        }).when(pythonProcessor).process(Mockito.argThat(script -> !SIMPLE_SCRIPT_2.equals(script)), Mockito.anyMap());
+
+        Assertions.assertDoesNotThrow(() -> basicPythonAnnotationEvaluator.evaluate(joinPoint, null, Map.of()));
+        InOrder inOrder = Mockito.inOrder(pythonProcessor);
+        inOrder.verify(pythonProcessor, Mockito.times(2)).process(Mockito.argThat(script -> !SIMPLE_SCRIPT_2.equals(script)), Mockito.anyMap());
+        inOrder.verify(pythonProcessor).process(Mockito.eq(SIMPLE_SCRIPT_2), Mockito.anyMap());
+    }
+
+    @Test
+    void testEvaluateInParallelAwaitsSlowerForkedScript() {
+        BasicPythonAnnotationEvaluator basicPythonAnnotationEvaluator = new BasicPythonAnnotationEvaluator(methodMetadataProvider, pythonProcessor,
+                new SimpleAsyncTaskExecutor());
+        PythonMethodMetadata metadata = new PythonMethodMetadata(Map.of(), List.of(List.of(SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1), List.of(SIMPLE_SCRIPT_2)),
+                new String[0]);
+        AtomicBoolean forkedCompleted = new AtomicBoolean();
+        AtomicBoolean nextStageStartedEarly = new AtomicBoolean();
+
+        Mockito.when(methodMetadataProvider.getMetadata(joinPoint, null)).thenReturn(metadata);
+        Mockito.when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        Mockito.doAnswer(invocation -> {
+            String script = invocation.getArgument(0);
+            if (SIMPLE_SCRIPT_0.equals(script)) {
+                Thread.sleep(300);
+                forkedCompleted.set(true);
+            } else if (SIMPLE_SCRIPT_2.equals(script)) {
+                nextStageStartedEarly.set(!forkedCompleted.get());
+            }
+            return null;
+        }).when(pythonProcessor).process(Mockito.anyString(), Mockito.anyMap());
+
+        Assertions.assertDoesNotThrow(() -> basicPythonAnnotationEvaluator.evaluate(joinPoint, null, Map.of()));
+        Assertions.assertTrue(forkedCompleted.get());
+        Assertions.assertFalse(nextStageStartedEarly.get());
+        Mockito.verify(pythonProcessor).process(Mockito.eq(SIMPLE_SCRIPT_1), Mockito.anyMap());
+    }
+
+    @Test
+    void testEvaluateInParallelWithException() {
+        BasicPythonAnnotationEvaluator basicPythonAnnotationEvaluator = new BasicPythonAnnotationEvaluator(methodMetadataProvider, pythonProcessor,
+                new SimpleAsyncTaskExecutor());
+        PythonMethodMetadata metadata = new PythonMethodMetadata(Map.of(), List.of(List.of(SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1), List.of(SIMPLE_SCRIPT_2)),
+                new String[0]);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        Mockito.when(methodMetadataProvider.getMetadata(joinPoint, null)).thenReturn(metadata);
+        Mockito.when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        Mockito.doAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        }).when(pythonProcessor).process(Mockito.eq(SIMPLE_SCRIPT_0), Mockito.anyMap());
+        Mockito.doAnswer(invocation -> {
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            throw new IllegalStateException();
+        }).when(pythonProcessor).process(Mockito.eq(SIMPLE_SCRIPT_1), Mockito.anyMap());
+
+        Assertions.assertThrows(IllegalStateException.class, () -> basicPythonAnnotationEvaluator.evaluate(joinPoint, null, Map.of()));
+        Assertions.assertDoesNotThrow(() -> Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS)));
+        Mockito.verify(pythonProcessor, Mockito.never()).process(Mockito.eq(SIMPLE_SCRIPT_2), Mockito.anyMap());
+    }
+
+    @Test
+    void testEvaluateInParallelWithExceptionAwaitsCancelledScript() {
+        BasicPythonAnnotationEvaluator basicPythonAnnotationEvaluator = new BasicPythonAnnotationEvaluator(methodMetadataProvider, pythonProcessor,
+                new SimpleAsyncTaskExecutor());
+        PythonMethodMetadata metadata = new PythonMethodMetadata(Map.of(), List.of(List.of(SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1)), new String[0]);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean cancelledCompleted = new AtomicBoolean();
 
-        Mockito.when(annotationValueExtractorChain.compound(joinPoint, null)).thenReturn(annotationValue);
+        Mockito.when(methodMetadataProvider.getMetadata(joinPoint, null)).thenReturn(metadata);
+        Mockito.when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        Mockito.doAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+                while (System.nanoTime() < deadline) Thread.onSpinWait();
+                cancelledCompleted.set(true);
+            }
+            return null;
+        }).when(pythonProcessor).process(Mockito.eq(SIMPLE_SCRIPT_0), Mockito.anyMap());
+        Mockito.doAnswer(invocation -> {
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            throw new IllegalStateException();
+        }).when(pythonProcessor).process(Mockito.eq(SIMPLE_SCRIPT_1), Mockito.anyMap());
 
-        Assertions.assertDoesNotThrow(() -> basicPythonAnnotationEvaluator.evaluate(joinPoint, null));
+        Assertions.assertThrows(IllegalStateException.class, () -> basicPythonAnnotationEvaluator.evaluate(joinPoint, null, Map.of()));
+        Assertions.assertTrue(cancelledCompleted.get());
     }
 }
@@ -44,4 +44,13 @@ class BasicPythonMethodExtractorTests {
 
         Assertions.assertEquals(result, basicPythonMethodExtractor.getMethodParameters(joinPoint));
     }
+
+    @Test
+    void testGetMethodParameterNames() {
+        Mockito.when(joinPoint.getSignature()).thenReturn(methodSignature);
+        Mockito.when(methodSignature.getMethod()).thenReturn(DUMMY_METHOD);
+        Mockito.when(methodSignature.getParameterNames()).thenReturn(new String[]{A_PYTHON_PARAM, "b"});
+
+        Assertions.assertArrayEquals(new String[]{A_PYTHON_PARAM, CUSTOM_PYTHON_PARAM}, basicPythonMethodExtractor.getMethodParameterNames(joinPoint));
+    }
 }
@@ -0,0 +1,86 @@
+package io.w4t3rcs.python.aspect;
+
+import io.w4t3rcs.python.annotation.PythonBefores;
+import io.w4t3rcs.python.exception.AnnotationValueExtractingException;
+import org.aspectj.lang.JoinPoint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+
+@ExtendWith(MockitoExtension.class)
+class BasicPythonMethodMetadataProviderTests {
+    @InjectMocks
+    private BasicPythonMethodMetadataProvider methodMetadataProvider;
+    @Mock
+    private PythonMethodExtractor methodExtractor;
+    @Mock
+    private PythonAnnotationValueCompounder annotationValueCompounder;
+    @Mock
+    private ProfileChecker profileChecker;
+    @Mock
+    private JoinPoint joinPoint;
+
+    @Test
+    void testGetMetadata() {
+        Mockito.when(methodExtractor.getMethod(joinPoint)).thenReturn(DUMMY_METHOD);
+        Mockito.when(methodExtractor.getMethodParameterNames(joinPoint)).thenReturn(new String[]{A_PYTHON_PARAM, CUSTOM_PYTHON_PARAM});
+        Mockito.when(annotationValueCompounder.compound(joinPoint, PythonBefores.class)).thenReturn(Map.of(SIMPLE_SCRIPT_0, TEST_PROFILES, SIMPLE_SCRIPT_1, EMPTY_PROFILES));
+        Mockito.doAnswer(invocation -> {
+            if (((String[]) invocation.getArgument(0)).length == 0) invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(profileChecker).doOnProfiles(Mockito.any(), Mockito.any());
+
+        PythonMethodMetadata metadata = methodMetadataProvider.getMetadata(joinPoint, PythonBefores.class);
+        Assertions.assertEquals(2, metadata.scripts().size());
+        Assertions.assertEquals(List.of(List.of(SIMPLE_SCRIPT_1)), metadata.activeStages());
+        Assertions.assertArrayEquals(new String[]{A_PYTHON_PARAM, CUSTOM_PYTHON_PARAM}, metadata.parameterNames());
+        Assertions.assertSame(metadata, methodMetadataProvider.getMetadata(joinPoint, PythonBefores.class));
+        Assertions.assertEquals(1, methodMetadataProvider.size());
+        Mockito.verify(annotationValueCompounder, Mockito.times(1)).compound(joinPoint, PythonBefores.class);
+        Mockito.verify(methodExtractor, Mockito.times(1)).getMethodParameterNames(joinPoint);
+    }
+
+    @Test
+    void testGetMetadataWithOrders() {
+        Mockito.when(methodExtractor.getMethod(joinPoint)).thenReturn(DUMMY_METHOD);
+        Mockito.when(methodExtractor.getMethodParameterNames(joinPoint)).thenReturn(new String[]{A_PYTHON_PARAM, CUSTOM_PYTHON_PARAM});
+        Mockito.when(annotationValueCompounder.compound(joinPoint, PythonBefores.class))
+                .thenReturn(Map.of(SIMPLE_SCRIPT_0, TEST_PROFILES, SIMPLE_SCRIPT_1, EMPTY_PROFILES, SIMPLE_SCRIPT_2, EMPTY_PROFILES));
+        Mockito.doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(profileChecker).doOnProfiles(Mockito.any(), Mockito.any());
+
+        PythonMethodMetadata metadata = methodMetadataProvider.getMetadata(joinPoint, PythonBefores.class);
+        Assertions.assertEquals(2, metadata.activeStages().size());
+        Assertions.assertEquals(Set.of(SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1), Set.copyOf(metadata.activeStages().get(0)));
+        Assertions.assertEquals(List.of(SIMPLE_SCRIPT_2), metadata.activeStages().get(1));
+    }
+
+    @Test
+    void testGetMetadataWithException() {
+        Mockito.when(methodExtractor.getMethod(joinPoint)).thenReturn(DUMMY_METHOD);
+        Mockito.when(annotationValueCompounder.compound(joinPoint, PythonBefores.class)).thenThrow(AnnotationValueExtractingException.class);
+
+        Assertions.assertThrows(AnnotationValueExtractingException.class, () -> methodMetadataProvider.getMetadata(joinPoint, PythonBefores.class));
+        Assertions.assertEquals(0, methodMetadataProvider.size());
+    }
+
+    @Test
+    void testGetArguments() {
+        PythonMethodMetadata metadata = new PythonMethodMetadata(Map.of(), List.of(), new String[]{A_PYTHON_PARAM, CUSTOM_PYTHON_PARAM});
+
+        Assertions.assertEquals(Map.of(A_PYTHON_PARAM, 1, CUSTOM_PYTHON_PARAM, 3),
+                metadata.getArguments(new Object[]{1, 2}, Map.of(CUSTOM_PYTHON_PARAM, 3)));
+    }
+}
@@ -0,0 +1,164 @@
+package io.w4t3rcs.python.aspect;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.annotation.PythonAfter;
+import io.w4t3rcs.python.annotation.PythonBefore;
+import org.aspectj.lang.JoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CoalescingPythonAnnotationEvaluatorTests {
+    private static final long WINDOW = 200;
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CoalescingPythonAnnotationEvaluator coalescingEvaluator;
+    @Mock
+    private PythonAnnotationEvaluator annotationEvaluator;
+    @Mock
+    private PythonMethodExtractor methodExtractor;
+    @Mock
+    private PythonMethodMetadataProvider methodMetadataProvider;
+    @Mock
+    private JoinPoint joinPoint;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        taskScheduler.initialize();
+        coalescingEvaluator = new CoalescingPythonAnnotationEvaluator(annotationEvaluator, methodExtractor, methodMetadataProvider, objectMapper, taskScheduler);
+        Method method = CoalescingPythonAnnotationEvaluatorTests.class.getDeclaredMethod("doCoalesced", String.class);
+        Mockito.when(methodExtractor.getMethod(joinPoint)).thenReturn(method);
+        Mockito.when(methodMetadataProvider.getMetadata(Mockito.eq(joinPoint), Mockito.any()))
+                .thenReturn(new PythonMethodMetadata(Map.of(SIMPLE_SCRIPT_0, EMPTY_PROFILES), List.of(List.of(SIMPLE_SCRIPT_0)), new String[]{A_PYTHON_PARAM}));
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskScheduler.shutdown();
+    }
+
+    @Test
+    void testEvaluate() {
+        Mockito.when(joinPoint.getArgs()).thenReturn(new Object[]{TEST_PROFILE});
+
+        for (int i = 0; i < 5; i++) {
+            coalescingEvaluator.evaluate(joinPoint, PythonAfter.class, Map.of());
+        }
+
+        Mockito.verify(annotationEvaluator, Mockito.timeout(WINDOW * 10)).evaluate(joinPoint, PythonAfter.class, Map.of());
+        Assertions.assertEquals(5, coalescingEvaluator.getSubmittedCount());
+        Assertions.assertEquals(4, coalescingEvaluator.getCoalescedCount());
+        Assertions.assertEquals(1, coalescingEvaluator.getExecutedCount());
+        Assertions.assertEquals(0, coalescingEvaluator.getPendingCount());
+    }
+
+    @Test
+    void testEvaluateWithDifferentArguments() {
+        Mockito.when(joinPoint.getArgs()).thenReturn(new Object[]{TEST_PROFILE});
+        coalescingEvaluator.evaluate(joinPoint, PythonAfter.class, Map.of());
+        coalescingEvaluator.evaluate(joinPoint, PythonAfter.class, Map.of("result", 1));
+
+        Assertions.assertEquals(2, coalescingEvaluator.getPendingCount());
+        Mockito.verify(annotationEvaluator, Mockito.timeout(WINDOW * 10).times(2)).evaluate(Mockito.eq(joinPoint), Mockito.eq(PythonAfter.class), Mockito.anyMap());
+        Assertions.assertEquals(0, coalescingEvaluator.getCoalescedCount());
+    }
+
+    @Test
+    void testEvaluateWithMutatedArguments() {
+        Mockito.when(joinPoint.getArgs()).thenReturn(new Object[]{TEST_PROFILE});
+        List<String> result = new ArrayList<>(List.of(OK));
+        coalescingEvaluator.evaluate(joinPoint, PythonAfter.class, Map.of("result", result));
+        result.add(OK);
+        coalescingEvaluator.evaluate(joinPoint, PythonAfter.class, Map.of("result", new ArrayList<>(List.of(OK))));
+
+        Assertions.assertEquals(1, coalescingEvaluator.getPendingCount());
+        Assertions.assertEquals(1, coalescingEvaluator.getCoalescedCount());
+    }
+
+    @Test
+    void testEvaluateWithUnserializableArguments() {
+        Mockito.when(joinPoint.getArgs()).thenReturn(new Object[]{TEST_PROFILE});
+        Map<String, Object> additionalArguments = Map.of("result", new Object());
+        coalescingEvaluator.evaluate(joinPoint, PythonAfter.class, additionalArguments);
+
+        Mockito.verify(annotationEvaluator).evaluate(joinPoint, PythonAfter.class, additionalArguments);
+        Assertions.assertEquals(0, coalescingEvaluator.getSubmittedCount());
+        Assertions.assertEquals(0, coalescingEvaluator.getPendingCount());
+    }
+
+    @Test
+    void testEvaluateWithMaxLatency() throws InterruptedException {
+        Mockito.when(joinPoint.getArgs()).thenReturn(new Object[]{TEST_PROFILE});
+
+        long end = System.currentTimeMillis() + WINDOW * 6;
+        while (System.currentTimeMillis() < end) {
+            coalescingEvaluator.evaluate(joinPoint, PythonAfter.class, Map.of());
+            Thread.sleep(WINDOW / 10);
+        }
+
+        Mockito.verify(annotationEvaluator, Mockito.atLeast(2)).evaluate(joinPoint, PythonAfter.class, Map.of());
+    }
+
+    @Test
+    void testEvaluateWithoutWindow() {
+        coalescingEvaluator.evaluate(joinPoint, PythonBefore.class, Map.of());
+
+        Mockito.verify(annotationEvaluator).evaluate(joinPoint, PythonBefore.class, Map.of());
+        Assertions.assertEquals(0, coalescingEvaluator.getSubmittedCount());
+    }
+
+    @Test
+    void testClose() {
+        Mockito.when(joinPoint.getArgs()).thenReturn(new Object[]{TEST_PROFILE});
+        coalescingEvaluator.evaluate(joinPoint, PythonAfter.class, Map.of());
+
+        coalescingEvaluator.close();
+        Mockito.verify(annotationEvaluator).evaluate(joinPoint, PythonAfter.class, Map.of());
+        Assertions.assertEquals(0, coalescingEvaluator.getPendingCount());
+        Assertions.assertFalse(taskScheduler.getScheduledExecutor().isShutdown());
+    }
+
+    @Test
+    void testCloseWithOwnedScheduler() throws InterruptedException {
+        String threadNamePrefix = "coalescing-test-";
+        CoalescingPythonAnnotationEvaluator ownedEvaluator = new CoalescingPythonAnnotationEvaluator(annotationEvaluator, methodExtractor,
+                methodMetadataProvider, objectMapper, threadNamePrefix);
+        Mockito.when(joinPoint.getArgs()).thenReturn(new Object[]{TEST_PROFILE});
+        ownedEvaluator.evaluate(joinPoint, PythonAfter.class, Map.of());
+
+        ownedEvaluator.close();
+        Mockito.verify(annotationEvaluator).evaluate(joinPoint, PythonAfter.class, Map.of());
+        long end = System.currentTimeMillis() + WINDOW * 10;
+        while (hasThread(threadNamePrefix) && System.currentTimeMillis() < end) {
+            Thread.sleep(WINDOW / 10);
+        }
+        Assertions.assertFalse(hasThread(threadNamePrefix));
+    }
+
+    private static boolean hasThread(String threadNamePrefix) {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.isAlive() && thread.getName().startsWith(threadNamePrefix));
+    }
+
+    @PythonBefore(SIMPLE_SCRIPT_0)
+    @PythonAfter(value = SIMPLE_SCRIPT_0, coalescingWindow = WINDOW, coalescingMaxLatency = WINDOW * 2)
+    private static void doCoalesced(String a) {
+    }
+}
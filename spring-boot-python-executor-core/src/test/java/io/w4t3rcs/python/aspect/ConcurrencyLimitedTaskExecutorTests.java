@@ -0,0 +1,47 @@
+package io.w4t3rcs.python.aspect;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ConcurrencyLimitedTaskExecutorTests {
+    @Test
+    void testExecute() throws InterruptedException {
+        ConcurrencyLimitedTaskExecutor taskExecutor = new ConcurrencyLimitedTaskExecutor(new SimpleAsyncTaskExecutor(), 2);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(5);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            taskExecutor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                completed.countDown();
+            });
+        }
+
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, taskExecutor.getActiveCount());
+        release.countDown();
+        Assertions.assertTrue(completed.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, maxRunning.get());
+        Assertions.assertEquals(2, taskExecutor.getMaxConcurrency());
+    }
+
+    @Test
+    void testInvalidMaxConcurrency() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimitedTaskExecutor(new SimpleAsyncTaskExecutor(), 0));
+    }
+}
@@ -10,6 +10,7 @@ import io.w4t3rcs.python.properties.PythonFileProperties;
 import io.w4t3rcs.python.properties.PythonResolverProperties;
 import io.w4t3rcs.python.resolver.*;
 import org.springframework.core.env.Profiles;
+import org.springframework.expression.spel.SpelCompilerMode;
 
 import java.lang.reflect.Method;
 import java.util.Map;
@@ -49,15 +50,19 @@ public final class TestConstants {
     public static final String FILE_WRITE_SCRIPT = "test_write.py";
 
     //Resolver constants
-    public static final SpelythonProperties SPELYTHON_PROPERTIES = new SpelythonProperties("spel\\{.+?}", new SpelProperties("#", 5, 1));
+    public static final SpelythonProperties SPELYTHON_PROPERTIES = new SpelythonProperties("spel\\{.+?}", new SpelProperties("#", 5, 1, SpelCompilerMode.MIXED, 4), SpelythonProperties.ArgumentBinding.INLINE);
     public static final Py4JProperties PY4J_PROPERTIES = new Py4JProperties("from py4j.java_gateway import JavaGateway, GatewayParameters", "gateway = JavaGateway(\n\tgateway_parameters=GatewayParameters(\n\t\t%s\n\t)\n)", new String[]{"address=\"localhost\""});
     public static final RestrictedPythonProperties RESTRICTED_PYTHON_PROPERTIES = new RestrictedPythonProperties("from RestrictedPython import compile_restricted\nfrom RestrictedPython import safe_globals", "source_code", "execution_result", "r4java_restricted", true);
     public static final ResultProperties RESULT_PROPERTIES = new ResultProperties("o4java\\{.+?}", "r4java", 7, 1);
-    public static final PythonResolverProperties RESOLVER_PROPERTIES = new PythonResolverProperties(new DeclaredResolver[]{SPELYTHON, PY4J, RESTRICTED_PYTHON, RESULT}, "(^import [\\w.]+$)|(^import [\\w.]+ as [\\w.]+$)|(^from [\\w.]+ import [\\w., ]+$)", SPELYTHON_PROPERTIES, PY4J_PROPERTIES, RESTRICTED_PYTHON_PROPERTIES, RESULT_PROPERTIES);
+    public static final TemplateProperties TEMPLATE_PROPERTIES = new TemplateProperties(true, 4);
+    public static final PythonResolverProperties RESOLVER_PROPERTIES = new PythonResolverProperties(new DeclaredResolver[]{SPELYTHON, PY4J, RESTRICTED_PYTHON, RESULT}, "(^import [\\w.]+$)|(^import [\\w.]+ as [\\w.]+$)|(^from [\\w.]+ import [\\w., ]+$)", SPELYTHON_PROPERTIES, PY4J_PROPERTIES, RESTRICTED_PYTHON_PROPERTIES, RESULT_PROPERTIES, TEMPLATE_PROPERTIES);
+    public static final SpelythonProperties SIDE_CHANNEL_SPELYTHON_PROPERTIES = new SpelythonProperties("spel\\{.+?}", new SpelProperties("#", 5, 1, SpelCompilerMode.MIXED, 4), SpelythonProperties.ArgumentBinding.SIDE_CHANNEL);
+    public static final PythonResolverProperties SIDE_CHANNEL_RESOLVER_PROPERTIES = new PythonResolverProperties(new DeclaredResolver[]{SPELYTHON, PY4J, RESULT}, "(^import [\\w.]+$)|(^import [\\w.]+ as [\\w.]+$)|(^from [\\w.]+ import [\\w., ]+$)", SIDE_CHANNEL_SPELYTHON_PROPERTIES, PY4J_PROPERTIES, RESTRICTED_PYTHON_PROPERTIES, RESULT_PROPERTIES, TEMPLATE_PROPERTIES);
     public static final PythonResolver PY4J_RESOLVER = new Py4JResolver(RESOLVER_PROPERTIES);
     public static final PythonResolver RESTRICTED_PYTHON_RESOLVER = new RestrictedPythonResolver(RESOLVER_PROPERTIES);
     public static final PythonResolver RESULT_RESOLVER = new ResultResolver(RESOLVER_PROPERTIES);
     public static final PythonResolver PRINTED_RESULT_RESOLVER = new PrintedResultResolver(RESOLVER_PROPERTIES);
+    public static final PythonResolver FRAMED_RESULT_RESOLVER = new FramedResultResolver(RESOLVER_PROPERTIES);
 
     //File constants
     public static final PythonFileProperties FILE_PROPERTIES = new PythonFileProperties("/");
@@ -84,7 +89,7 @@ public final class TestConstants {
     @PythonBefores(value = {
             @PythonBefore(script = SIMPLE_SCRIPT_0, activeProfiles = {TEST_PROFILE}),
             @PythonBefore(script = SIMPLE_SCRIPT_1),
-            @PythonBefore(script = SIMPLE_SCRIPT_2)
+            @PythonBefore(script = SIMPLE_SCRIPT_2, order = 1)
     })
     private static void doDummy(String a, @PythonParam(CUSTOM_PYTHON_PARAM) String custom) {
         //Just a stub method for mocking in JoinPoint object during tests
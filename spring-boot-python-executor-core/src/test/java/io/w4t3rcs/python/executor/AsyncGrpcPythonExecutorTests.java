@@ -0,0 +1,61 @@
+package io.w4t3rcs.python.executor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.Futures;
+import io.grpc.Status;
+import io.w4t3rcs.python.exception.PythonScriptExecutionException;
+import io.w4t3rcs.python.proto.PythonRequest;
+import io.w4t3rcs.python.proto.PythonResponse;
+import io.w4t3rcs.python.proto.PythonServiceGrpc;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncGrpcPythonExecutorTests {
+    @InjectMocks
+    private AsyncGrpcPythonExecutor asyncGrpcPythonExecutor;
+    @Mock
+    private PythonServiceGrpc.PythonServiceFutureStub stub;
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1, SIMPLE_SCRIPT_2, SIMPLE_SCRIPT_3})
+    void testExecuteAsync(String script) {
+        PythonRequest scriptRequest = PythonRequest.newBuilder()
+                .setScript(script)
+                .build();
+        PythonResponse scriptResponse = PythonResponse.newBuilder()
+                .setResult(OK)
+                .build();
+
+        Mockito.when(stub.sendCode(scriptRequest)).thenReturn(Futures.immediateFuture(scriptResponse));
+        Mockito.when((String) objectMapper.readValue(OK, STRING_CLASS)).thenReturn(OK);
+
+        String executed = asyncGrpcPythonExecutor.executeAsync(script, STRING_CLASS).get().body();
+        Assertions.assertEquals(OK, executed);
+    }
+
+    @Test
+    void testExecuteAsyncFailure() {
+        Mockito.when(stub.sendCode(Mockito.any(PythonRequest.class))).thenReturn(Futures.immediateFailedFuture(Status.UNAVAILABLE.asRuntimeException()));
+
+        CompletableFuture<?> future = asyncGrpcPythonExecutor.executeAsync(SIMPLE_SCRIPT_0, STRING_CLASS);
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, future::get);
+        Assertions.assertInstanceOf(PythonScriptExecutionException.class, exception.getCause());
+    }
+}
@@ -0,0 +1,151 @@
+package io.w4t3rcs.python.executor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.exception.PythonScriptExecutionException;
+import io.w4t3rcs.python.local.ProcessFinisher;
+import io.w4t3rcs.python.local.ProcessHandler;
+import io.w4t3rcs.python.local.ProcessStarter;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncLocalPythonExecutorTests {
+    private AsyncLocalPythonExecutor asyncLocalPythonExecutor;
+    @Mock
+    private ProcessStarter processStarter;
+    @Mock
+    private ProcessHandler<String> inputProcessHandler;
+    @Mock
+    private ProcessHandler<Void> errorProcessHandler;
+    @Mock
+    private ObjectMapper objectMapper;
+    @Mock
+    private ProcessFinisher processFinisher;
+
+    @BeforeEach
+    void init() {
+        asyncLocalPythonExecutor = new AsyncLocalPythonExecutor(processStarter, inputProcessHandler, errorProcessHandler, objectMapper, processFinisher);
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0})
+    void testExecuteAsync(String script) {
+        Process process = new ProcessBuilder("python", "-c", script).start();
+
+        Mockito.when(processStarter.start(script)).thenReturn(process);
+        Mockito.when(inputProcessHandler.handle(process)).thenReturn(OK);
+        Mockito.doNothing().when(processFinisher).finish(process);
+        Mockito.when((String) objectMapper.readValue(OK, STRING_CLASS)).thenReturn(OK);
+
+        String executed = asyncLocalPythonExecutor.executeAsync(script, STRING_CLASS).get().body();
+        Assertions.assertEquals(OK, executed);
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0})
+    void testExecuteAsyncFailure(String script) {
+        Process process = new ProcessBuilder("python", "-c", script).start();
+
+        Mockito.when(processStarter.start(script)).thenReturn(process);
+        Mockito.when(inputProcessHandler.handle(process)).thenThrow(new IllegalStateException());
+
+        CompletableFuture<?> future = asyncLocalPythonExecutor.executeAsync(script, STRING_CLASS);
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, future::get);
+        Assertions.assertInstanceOf(PythonScriptExecutionException.class, exception.getCause());
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0})
+    void testExecuteAsyncQueuesAboveMaxConcurrency(String script) {
+        try (AsyncLocalPythonExecutor boundedExecutor = new AsyncLocalPythonExecutor(processStarter, inputProcessHandler, errorProcessHandler,
+                objectMapper, processFinisher, 1)) {
+            Process firstProcess = new ProcessBuilder("python", "-c", script).start();
+            Process secondProcess = new ProcessBuilder("python", "-c", SIMPLE_SCRIPT_1).start();
+            CountDownLatch firstReleased = new CountDownLatch(1);
+
+            Mockito.when(processStarter.start(script)).thenReturn(firstProcess);
+            Mockito.when(processStarter.start(SIMPLE_SCRIPT_1)).thenReturn(secondProcess);
+            Mockito.when(inputProcessHandler.handle(firstProcess)).thenAnswer(invocation -> {
+                Assertions.assertTrue(firstReleased.await(5, TimeUnit.SECONDS));
+                return OK;
+            });
+            Mockito.when(inputProcessHandler.handle(secondProcess)).thenReturn(OK);
+            Mockito.when((String) objectMapper.readValue(OK, STRING_CLASS)).thenReturn(OK);
+
+            CompletableFuture<PythonExecutionResponse<String>> first = boundedExecutor.executeAsync(script, STRING_CLASS);
+            CompletableFuture<PythonExecutionResponse<String>> second = boundedExecutor.executeAsync(SIMPLE_SCRIPT_1, STRING_CLASS);
+            Mockito.verify(processStarter, Mockito.never()).start(SIMPLE_SCRIPT_1);
+
+            firstReleased.countDown();
+            Assertions.assertEquals(OK, first.get(5, TimeUnit.SECONDS).body());
+            Assertions.assertEquals(OK, second.get(5, TimeUnit.SECONDS).body());
+        }
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0})
+    void testExecuteAsyncStartsOffCallingThread(String script) {
+        Process process = new ProcessBuilder("python", "-c", script).start();
+        CountDownLatch startReleased = new CountDownLatch(1);
+
+        Mockito.when(processStarter.start(script)).thenAnswer(invocation -> {
+            Assertions.assertTrue(startReleased.await(5, TimeUnit.SECONDS));
+            return process;
+        });
+        Mockito.when(inputProcessHandler.handle(process)).thenReturn(OK);
+        Mockito.when((String) objectMapper.readValue(OK, STRING_CLASS)).thenReturn(OK);
+
+        CompletableFuture<PythonExecutionResponse<String>> future = asyncLocalPythonExecutor.executeAsync(script, STRING_CLASS);
+        Assertions.assertFalse(future.isDone());
+        startReleased.countDown();
+        Assertions.assertEquals(OK, future.get(5, TimeUnit.SECONDS).body());
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0})
+    void testExecuteAsyncFailsAboveQueueCapacity(String script) {
+        try (AsyncLocalPythonExecutor boundedExecutor = new AsyncLocalPythonExecutor(processStarter, inputProcessHandler, errorProcessHandler,
+                objectMapper, processFinisher, 1, 1)) {
+            Process process = new ProcessBuilder("python", "-c", script).start();
+            CountDownLatch startInvoked = new CountDownLatch(1);
+            CountDownLatch startReleased = new CountDownLatch(1);
+
+            Mockito.when(processStarter.start(script)).thenAnswer(invocation -> {
+                startInvoked.countDown();
+                Assertions.assertTrue(startReleased.await(5, TimeUnit.SECONDS));
+                return process;
+            });
+
+            CompletableFuture<PythonExecutionResponse<String>> running = boundedExecutor.executeAsync(script, STRING_CLASS);
+            CompletableFuture<PythonExecutionResponse<String>> queued = boundedExecutor.executeAsync(SIMPLE_SCRIPT_1, STRING_CLASS);
+            CompletableFuture<PythonExecutionResponse<String>> rejected = boundedExecutor.executeAsync(SIMPLE_SCRIPT_2, STRING_CLASS);
+            CompletionException exception = Assertions.assertThrows(CompletionException.class, () -> rejected.getNow(null));
+            Assertions.assertInstanceOf(PythonScriptExecutionException.class, exception.getCause());
+            Assertions.assertTrue(startInvoked.await(5, TimeUnit.SECONDS));
+            Assertions.assertFalse(running.isDone());
+            Assertions.assertFalse(queued.isDone());
+            startReleased.countDown();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.w4t3rcs.python.executor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.connection.PythonServerConnectionDetails;
+import io.w4t3rcs.python.dto.ScriptRequest;
+import io.w4t3rcs.python.exception.PythonScriptExecutionException;
+import io.w4t3rcs.python.properties.PythonExecutorProperties;
+import io.w4t3rcs.python.registration.ScriptRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncRestPythonExecutorTests {
+    private static final PythonExecutorProperties REGISTRATION_PROPERTIES = new PythonExecutorProperties(PythonExecutorProperties.Type.REST, null, null, null,
+            new PythonExecutorProperties.RegistrationProperties(true, 16));
+    @InjectMocks
+    private AsyncRestPythonExecutor asyncRestPythonExecutor;
+    @Mock
+    private PythonServerConnectionDetails connectionDetails;
+    @Mock
+    private ObjectMapper objectMapper;
+    @Mock
+    private HttpClient client;
+    @Mock
+    private HttpResponse<String> response;
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1, SIMPLE_SCRIPT_2, SIMPLE_SCRIPT_3})
+    void testExecuteAsync(String script) {
+        ScriptRequest scriptRequest = new ScriptRequest(script);
+
+        Mockito.when(objectMapper.writeValueAsString(scriptRequest)).thenReturn("{\"script\": \"%s\"}".formatted(script));
+        Mockito.when(connectionDetails.getUri()).thenReturn("http://localhost:8000/script");
+        Mockito.when(connectionDetails.getToken()).thenReturn("token");
+        Mockito.when(client.sendAsync(Mockito.any(HttpRequest.class), Mockito.any(HttpResponse.BodyHandler.class))).thenReturn(CompletableFuture.completedFuture(response));
+        Mockito.when(response.statusCode()).thenReturn(200);
+        Mockito.when(response.body()).thenReturn(OK);
+        Mockito.when((String) objectMapper.readValue(OK, STRING_CLASS)).thenReturn(OK);
+
+        String executed = asyncRestPythonExecutor.executeAsync(script, STRING_CLASS).get().body();
+        Assertions.assertEquals(OK, executed);
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(ints = {400, 401, 500})
+    void testExecuteAsyncFailedStatus(int statusCode) {
+        Mockito.when(objectMapper.writeValueAsString(Mockito.any(ScriptRequest.class))).thenReturn("{}");
+        Mockito.when(connectionDetails.getUri()).thenReturn("http://localhost:8000/script");
+        Mockito.when(connectionDetails.getToken()).thenReturn("token");
+        Mockito.when(client.sendAsync(Mockito.any(HttpRequest.class), Mockito.any(HttpResponse.BodyHandler.class))).thenReturn(CompletableFuture.completedFuture(response));
+        Mockito.when(response.statusCode()).thenReturn(statusCode);
+
+        CompletableFuture<?> future = asyncRestPythonExecutor.executeAsync(SIMPLE_SCRIPT_0, STRING_CLASS);
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, future::get);
+        Assertions.assertInstanceOf(PythonScriptExecutionException.class, exception.getCause());
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0})
+    void testExecuteAsyncRegisteredUnknownHash(String script) {
+        ObjectMapper mapper = new ObjectMapper();
+        ScriptRegistry scriptRegistry = new ScriptRegistry(REGISTRATION_PROPERTIES);
+        scriptRegistry.register(scriptRegistry.hash(script));
+        AsyncRestPythonExecutor registeredExecutor = new AsyncRestPythonExecutor(connectionDetails, mapper, client, scriptRegistry);
+        HttpResponse<String> unknownHashResponse = Mockito.mock();
+
+        Mockito.when(connectionDetails.getUri()).thenReturn("http://localhost:8000/script");
+        Mockito.when(connectionDetails.getToken()).thenReturn("token");
+        Mockito.when(client.sendAsync(Mockito.any(HttpRequest.class), Mockito.any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.completedFuture(unknownHashResponse), CompletableFuture.completedFuture(response));
+        Mockito.when(unknownHashResponse.statusCode()).thenReturn(404);
+        Mockito.when(unknownHashResponse.body()).thenReturn("{\"error\":\"%s\",\"detail\":\"Unknown script hash\"}".formatted(ScriptRegistry.UNKNOWN_HASH_ERROR));
+        Mockito.when(response.statusCode()).thenReturn(200);
+        Mockito.when(response.body()).thenReturn(mapper.writeValueAsString(OK));
+
+        Assertions.assertEquals(OK, registeredExecutor.executeAsync(script, STRING_CLASS).get().body());
+        Mockito.verify(client, Mockito.times(2)).sendAsync(Mockito.any(HttpRequest.class), Mockito.any(HttpResponse.BodyHandler.class));
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0})
+    void testExecuteAsyncRegisteredNotFound(String script) {
+        ScriptRegistry scriptRegistry = new ScriptRegistry(REGISTRATION_PROPERTIES);
+        scriptRegistry.register(scriptRegistry.hash(script));
+        AsyncRestPythonExecutor registeredExecutor = new AsyncRestPythonExecutor(connectionDetails, new ObjectMapper(), client, scriptRegistry);
+
+        Mockito.when(connectionDetails.getUri()).thenReturn("http://localhost:8000/script");
+        Mockito.when(connectionDetails.getToken()).thenReturn("token");
+        Mockito.when(client.sendAsync(Mockito.any(HttpRequest.class), Mockito.any(HttpResponse.BodyHandler.class))).thenReturn(CompletableFuture.completedFuture(response));
+        Mockito.when(response.statusCode()).thenReturn(404);
+        Mockito.when(response.body()).thenReturn("{\"detail\":\"Not Found\"}");
+
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> registeredExecutor.executeAsync(script, STRING_CLASS).get());
+        Assertions.assertInstanceOf(PythonScriptExecutionException.class, exception.getCause());
+        Mockito.verify(client).sendAsync(Mockito.any(HttpRequest.class), Mockito.any(HttpResponse.BodyHandler.class));
+    }
+}
@@ -1,11 +1,15 @@
 package io.w4t3rcs.python.executor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.grpc.Status;
+import io.w4t3rcs.python.properties.PythonExecutorProperties;
 import io.w4t3rcs.python.proto.PythonRequest;
 import io.w4t3rcs.python.proto.PythonResponse;
 import io.w4t3rcs.python.proto.PythonServiceGrpc;
+import io.w4t3rcs.python.registration.ScriptRegistry;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -42,4 +46,35 @@ class GrpcPythonExecutorTests {
         String executed = grpcPythonExecutor.execute(script, STRING_CLASS).body();
         Assertions.assertEquals(OK, executed);
     }
+
+    @SneakyThrows
+    @Test
+    void testExecuteRegistered() {
+        ScriptRegistry scriptRegistry = new ScriptRegistry(new PythonExecutorProperties(PythonExecutorProperties.Type.GRPC, null, null, null, new PythonExecutorProperties.RegistrationProperties(true, 16)));
+        GrpcPythonExecutor registeredExecutor = new GrpcPythonExecutor(stub, objectMapper, scriptRegistry);
+        String hash = scriptRegistry.hash(SIMPLE_SCRIPT_0);
+        PythonRequest fullRequest = PythonRequest.newBuilder()
+                .setScript(SIMPLE_SCRIPT_0)
+                .setHash(hash)
+                .build();
+        PythonRequest hashRequest = PythonRequest.newBuilder()
+                .setHash(hash)
+                .build();
+        PythonResponse scriptResponse = PythonResponse.newBuilder()
+                .setResult(OK)
+                .build();
+
+        Mockito.when(stub.sendCode(fullRequest)).thenReturn(scriptResponse);
+        Mockito.when(stub.sendCode(hashRequest))
+                .thenReturn(scriptResponse)
+                .thenThrow(Status.NOT_FOUND.asRuntimeException());
+        Mockito.when((String) objectMapper.readValue(OK, STRING_CLASS)).thenReturn(OK);
+
+        Assertions.assertEquals(OK, registeredExecutor.execute(SIMPLE_SCRIPT_0, STRING_CLASS).body());
+        Assertions.assertTrue(scriptRegistry.isRegistered(hash));
+        Assertions.assertEquals(OK, registeredExecutor.execute(SIMPLE_SCRIPT_0, STRING_CLASS).body());
+        Assertions.assertEquals(OK, registeredExecutor.execute(SIMPLE_SCRIPT_0, STRING_CLASS).body());
+        Mockito.verify(stub, Mockito.times(2)).sendCode(fullRequest);
+        Mockito.verify(stub, Mockito.times(2)).sendCode(hashRequest);
+    }
 }
@@ -1,24 +1,27 @@
 package io.w4t3rcs.python.executor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.exception.PythonScriptExecutionException;
 import io.w4t3rcs.python.local.ProcessFinisher;
 import io.w4t3rcs.python.local.ProcessHandler;
 import io.w4t3rcs.python.local.ProcessStarter;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.concurrent.TimeUnit;
+
 import static io.w4t3rcs.python.constant.TestConstants.*;
 
 @ExtendWith(MockitoExtension.class)
 class LocalPythonExecutorTests {
-    @InjectMocks
     private LocalPythonExecutor localPythonExecutor;
     @Mock
     private ProcessStarter processStarter;
@@ -31,6 +34,11 @@ class LocalPythonExecutorTests {
     @Mock
     private ProcessFinisher processFinisher;
 
+    @BeforeEach
+    void init() {
+        localPythonExecutor = new LocalPythonExecutor(processStarter, inputProcessHandler, errorProcessHandler, objectMapper, processFinisher);
+    }
+
     @SneakyThrows
     @ParameterizedTest
     @ValueSource(strings = {SIMPLE_SCRIPT_0})
@@ -46,4 +54,22 @@ class LocalPythonExecutorTests {
         String executed = localPythonExecutor.execute(script, STRING_CLASS).body();
         Assertions.assertEquals(OK, executed);
     }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0})
+    void testExecuteAfterClose(String script) {
+        Process process = new ProcessBuilder("python", "-c", script).start();
+        Mockito.when(processStarter.start(script)).thenReturn(process);
+
+        localPythonExecutor.close();
+        Assertions.assertThrows(PythonScriptExecutionException.class, () -> localPythonExecutor.execute(script, STRING_CLASS));
+        Assertions.assertTrue(process.waitFor(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testNonPositiveStreamDrainerThreads() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new LocalPythonExecutor(processStarter, inputProcessHandler, errorProcessHandler, objectMapper, processFinisher, 0));
+    }
 }
@@ -3,6 +3,9 @@ package io.w4t3rcs.python.executor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.w4t3rcs.python.connection.PythonServerConnectionDetails;
 import io.w4t3rcs.python.dto.ScriptRequest;
+import io.w4t3rcs.python.exception.PythonScriptExecutionException;
+import io.w4t3rcs.python.properties.PythonExecutorProperties;
+import io.w4t3rcs.python.registration.ScriptRegistry;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +24,8 @@ import static io.w4t3rcs.python.constant.TestConstants.*;
 
 @ExtendWith(MockitoExtension.class)
 class RestPythonExecutorTests {
+    private static final PythonExecutorProperties REGISTRATION_PROPERTIES = new PythonExecutorProperties(PythonExecutorProperties.Type.REST, null, null, null,
+            new PythonExecutorProperties.RegistrationProperties(true, 16));
     @InjectMocks
     private RestPythonExecutor restPythonExecutor;
     @Mock
@@ -49,4 +54,44 @@ class RestPythonExecutorTests {
         String executed = restPythonExecutor.execute(script, STRING_CLASS).body();
         Assertions.assertEquals(OK, executed);
     }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0})
+    void testExecuteRegisteredUnknownHash(String script) {
+        ObjectMapper mapper = new ObjectMapper();
+        ScriptRegistry scriptRegistry = new ScriptRegistry(REGISTRATION_PROPERTIES);
+        scriptRegistry.register(scriptRegistry.hash(script));
+        RestPythonExecutor registeredExecutor = new RestPythonExecutor(connectionDetails, mapper, client, scriptRegistry);
+        HttpResponse<String> unknownHashResponse = Mockito.mock();
+
+        Mockito.when(connectionDetails.getUri()).thenReturn("http://localhost:8000/script");
+        Mockito.when(connectionDetails.getToken()).thenReturn("token");
+        Mockito.when(client.send(Mockito.any(HttpRequest.class), Mockito.any(HttpResponse.BodyHandler.class))).thenReturn(unknownHashResponse, response);
+        Mockito.when(unknownHashResponse.statusCode()).thenReturn(404);
+        Mockito.when(unknownHashResponse.body()).thenReturn("{\"error\":\"%s\",\"detail\":\"Unknown script hash\"}".formatted(ScriptRegistry.UNKNOWN_HASH_ERROR));
+        Mockito.when(response.statusCode()).thenReturn(200);
+        Mockito.when(response.body()).thenReturn(mapper.writeValueAsString(OK));
+
+        Assertions.assertEquals(OK, registeredExecutor.execute(script, STRING_CLASS).body());
+        Mockito.verify(client, Mockito.times(2)).send(Mockito.any(HttpRequest.class), Mockito.any(HttpResponse.BodyHandler.class));
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0})
+    void testExecuteRegisteredNotFound(String script) {
+        ScriptRegistry scriptRegistry = new ScriptRegistry(REGISTRATION_PROPERTIES);
+        scriptRegistry.register(scriptRegistry.hash(script));
+        RestPythonExecutor registeredExecutor = new RestPythonExecutor(connectionDetails, new ObjectMapper(), client, scriptRegistry);
+
+        Mockito.when(connectionDetails.getUri()).thenReturn("http://localhost:8000/script");
+        Mockito.when(connectionDetails.getToken()).thenReturn("token");
+        Mockito.when(client.send(Mockito.any(HttpRequest.class), Mockito.any(HttpResponse.BodyHandler.class))).thenReturn(response);
+        Mockito.when(response.statusCode()).thenReturn(404);
+        Mockito.when(response.body()).thenReturn("{\"detail\":\"Not Found\"}");
+
+        Assertions.assertThrows(PythonScriptExecutionException.class, () -> registeredExecutor.execute(script, STRING_CLASS));
+        Mockito.verify(client).send(Mockito.any(HttpRequest.class), Mockito.any(HttpResponse.BodyHandler.class));
+    }
 }
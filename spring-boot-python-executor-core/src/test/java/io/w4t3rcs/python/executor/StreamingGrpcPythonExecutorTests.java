@@ -0,0 +1,233 @@
+package io.w4t3rcs.python.executor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.grpc.*;
+import io.grpc.stub.StreamObserver;
+import io.w4t3rcs.python.exception.PythonScriptExecutionException;
+import io.w4t3rcs.python.properties.PythonExecutorProperties;
+import io.w4t3rcs.python.proto.PythonServiceGrpc;
+import io.w4t3rcs.python.proto.PythonStreamRequest;
+import io.w4t3rcs.python.proto.PythonStreamResponse;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+
+class StreamingGrpcPythonExecutorTests {
+    private static final String FAILING_SCRIPT = "1 / 0";
+    private static final String BREAKING_SCRIPT = "break";
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Server> servers = new ArrayList<>();
+    private final List<ManagedChannel> channels = new ArrayList<>();
+
+    @AfterEach
+    void close() {
+        channels.forEach(ManagedChannel::shutdownNow);
+        servers.forEach(Server::shutdownNow);
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @CsvSource({"1, 1, false", "2, 4, false", "4, 16, true", "3, 1000, false"})
+    void testExecuteAsync(int streams, int maxInFlight, boolean ordered) {
+        BatchingPythonService service = new BatchingPythonService(1);
+        try (StreamingGrpcPythonExecutor executor = this.createExecutor(service, streams, maxInFlight, ordered)) {
+            List<CompletableFuture<String>> futures = IntStream.range(0, 500)
+                    .mapToObj(i -> executor.executeAsync("\"" + i + "\"", STRING_CLASS).thenApply(response -> (String) response.body()))
+                    .toList();
+            for (int i = 0; i < futures.size(); i++) {
+                Assertions.assertEquals(String.valueOf(i), futures.get(i).get(10, TimeUnit.SECONDS));
+            }
+            Assertions.assertTrue(service.getMaxStreams() <= streams);
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    void testOutOfOrderCompletion() {
+        BatchingPythonService service = new BatchingPythonService(8);
+        try (StreamingGrpcPythonExecutor executor = this.createExecutor(service, 1, 8, false)) {
+            List<CompletableFuture<String>> futures = IntStream.range(0, 64)
+                    .mapToObj(i -> executor.executeAsync("\"" + i + "\"", STRING_CLASS).thenApply(response -> (String) response.body()))
+                    .toList();
+            for (int i = 0; i < futures.size(); i++) {
+                Assertions.assertEquals(String.valueOf(i), futures.get(i).get(10, TimeUnit.SECONDS));
+            }
+        }
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @CsvSource({"1", "4", "16"})
+    void testMaxInFlight(int maxInFlight) {
+        BatchingPythonService service = new BatchingPythonService(maxInFlight);
+        try (StreamingGrpcPythonExecutor executor = this.createExecutor(service, 1, maxInFlight, false)) {
+            List<CompletableFuture<?>> futures = IntStream.range(0, maxInFlight * 10)
+                    .<CompletableFuture<?>>mapToObj(i -> executor.executeAsync("\"" + i + "\"", STRING_CLASS))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+            Assertions.assertEquals(maxInFlight, service.getMaxUnanswered());
+        }
+    }
+
+    @Test
+    void testExecuteWithError() {
+        try (StreamingGrpcPythonExecutor executor = this.createExecutor(new BatchingPythonService(1), 1, 1, false)) {
+            Assertions.assertThrows(PythonScriptExecutionException.class, () -> executor.execute(FAILING_SCRIPT, STRING_CLASS));
+            Assertions.assertEquals(OK, executor.execute("\"" + OK + "\"", STRING_CLASS).body());
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    void testStreamIsReplacedAfterFailure() {
+        BatchingPythonService service = new BatchingPythonService(1);
+        try (StreamingGrpcPythonExecutor executor = this.createExecutor(service, 1, 1, false)) {
+            ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> executor.executeAsync(BREAKING_SCRIPT, STRING_CLASS).get(10, TimeUnit.SECONDS));
+            Assertions.assertInstanceOf(PythonScriptExecutionException.class, exception.getCause());
+            Assertions.assertEquals(OK, executor.execute("\"" + OK + "\"", STRING_CLASS).body());
+            Assertions.assertEquals(2, service.getOpenedStreams());
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    void testCloseFailsQueuedExecutions() {
+        BatchingPythonService service = new BatchingPythonService(4);
+        StreamingGrpcPythonExecutor executor = this.createExecutor(service, 1, 2, false);
+        List<CompletableFuture<String>> futures = IntStream.range(0, 6)
+                .mapToObj(i -> executor.executeAsync("\"" + i + "\"", STRING_CLASS).thenApply(response -> (String) response.body()))
+                .toList();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (service.getMaxUnanswered() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        executor.close();
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertEquals(String.valueOf(i), futures.get(i).get(10, TimeUnit.SECONDS));
+        }
+        for (int i = 2; i < futures.size(); i++) {
+            CompletableFuture<String> future = futures.get(i);
+            ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+            Assertions.assertInstanceOf(PythonScriptExecutionException.class, exception.getCause());
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    void testExecutionTimeout() {
+        BatchingPythonService service = new BatchingPythonService(2);
+        try (StreamingGrpcPythonExecutor executor = this.createExecutor(service, 1, 1, false, Duration.ofMillis(300))) {
+            CompletableFuture<?> unanswered = executor.executeAsync("\"0\"", STRING_CLASS);
+            ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> unanswered.get(10, TimeUnit.SECONDS));
+            Assertions.assertInstanceOf(PythonScriptExecutionException.class, exception.getCause());
+            Assertions.assertTrue(exception.getCause().getMessage().contains("PT0.3S"));
+            Assertions.assertEquals("1", executor.executeAsync("\"1\"", STRING_CLASS).get(10, TimeUnit.SECONDS).body());
+            Assertions.assertEquals(1, service.getOpenedStreams());
+        }
+    }
+
+    @SneakyThrows
+    private StreamingGrpcPythonExecutor createExecutor(BatchingPythonService service, int streams, int maxInFlight, boolean ordered) {
+        return this.createExecutor(service, streams, maxInFlight, ordered, null);
+    }
+
+    @SneakyThrows
+    private StreamingGrpcPythonExecutor createExecutor(BatchingPythonService service, int streams, int maxInFlight, boolean ordered, Duration timeout) {
+        Server server = Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                .addService(service)
+                .build()
+                .start();
+        servers.add(server);
+        ManagedChannel channel = Grpc.newChannelBuilderForAddress("localhost", server.getPort(), InsecureChannelCredentials.create()).build();
+        channels.add(channel);
+        var streamProperties = new PythonExecutorProperties.GrpcProperties.StreamProperties(true, streams, maxInFlight, ordered, timeout);
+        var grpcProperties = new PythonExecutorProperties.GrpcProperties("localhost", server.getPort(), "token", "localhost:" + server.getPort(), streamProperties);
+        var executorProperties = new PythonExecutorProperties(PythonExecutorProperties.Type.GRPC, null, null, grpcProperties, null);
+        return new StreamingGrpcPythonExecutor(PythonServiceGrpc.newStub(channel), objectMapper, executorProperties);
+    }
+
+    /**
+     * Answers the requests of a stream in reverse order once {@code batchSize} of them are unanswered,
+     * treating the script body as the JSON result.
+     */
+    private static class BatchingPythonService extends PythonServiceGrpc.PythonServiceImplBase {
+        private final int batchSize;
+        private final AtomicInteger openedStreams = new AtomicInteger();
+        private final AtomicInteger activeStreams = new AtomicInteger();
+        private final AtomicInteger maxStreams = new AtomicInteger();
+        private final AtomicInteger maxUnanswered = new AtomicInteger();
+
+        private BatchingPythonService(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public StreamObserver<PythonStreamRequest> executeStream(StreamObserver<PythonStreamResponse> responseObserver) {
+            openedStreams.incrementAndGet();
+            maxStreams.accumulateAndGet(activeStreams.incrementAndGet(), Math::max);
+            List<PythonStreamRequest> batch = new ArrayList<>();
+            return new StreamObserver<>() {
+                @Override
+                public synchronized void onNext(PythonStreamRequest request) {
+                    if (BREAKING_SCRIPT.equals(request.getScript())) {
+                        activeStreams.decrementAndGet();
+                        responseObserver.onError(Status.INTERNAL.asRuntimeException());
+                        return;
+                    }
+                    batch.add(request);
+                    maxUnanswered.accumulateAndGet(batch.size(), Math::max);
+                    if (batch.size() < batchSize) return;
+                    Collections.reverse(batch);
+                    batch.forEach(next -> responseObserver.onNext(this.answer(next)));
+                    batch.clear();
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    activeStreams.decrementAndGet();
+                }
+
+                @Override
+                public synchronized void onCompleted() {
+                    batch.forEach(next -> responseObserver.onNext(this.answer(next)));
+                    activeStreams.decrementAndGet();
+                    responseObserver.onCompleted();
+                }
+
+                private PythonStreamResponse answer(PythonStreamRequest request) {
+                    PythonStreamResponse.Builder builder = PythonStreamResponse.newBuilder().setId(request.getId());
+                    return FAILING_SCRIPT.equals(request.getScript())
+                            ? builder.setError("division by zero").build()
+                            : builder.setResult(request.getScript()).build();
+                }
+            };
+        }
+
+        private int getOpenedStreams() {
+            return openedStreams.get();
+        }
+
+        private int getMaxStreams() {
+            return maxStreams.get();
+        }
+
+        private int getMaxUnanswered() {
+            return maxUnanswered.get();
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package io.w4t3rcs.python.local;
 
 import io.w4t3rcs.python.exception.PythonReadingException;
+import io.w4t3rcs.python.properties.PythonExecutorProperties;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import static io.w4t3rcs.python.constant.TestConstants.*;
+import static io.w4t3rcs.python.properties.PythonExecutorProperties.LocalProperties;
 
 class BasicPythonErrorProcessHandlerTests {
-    private static final ProcessHandler<Void> ERROR_PROCESS_HANDLER = new BasicPythonErrorProcessHandler();
+    private static final int CAPTURE_LIMIT = 1024;
+    private static final PythonExecutorProperties EXECUTOR_PROPERTIES = new PythonExecutorProperties(PythonExecutorProperties.Type.LOCAL, new LocalProperties("python", false, CAPTURE_LIMIT, null, null, 16, 1000, 16), null, null, null);
+    private static final ProcessHandler<Void> ERROR_PROCESS_HANDLER = new BasicPythonErrorProcessHandler(EXECUTOR_PROPERTIES);
 
     @SneakyThrows
     @ParameterizedTest
@@ -20,4 +25,13 @@ class BasicPythonErrorProcessHandlerTests {
         Assertions.assertThrows(PythonReadingException.class, () -> ERROR_PROCESS_HANDLER.handle(process));
         Assertions.assertNotEquals(0, process.exitValue());
     }
+
+    @SneakyThrows
+    @Test
+    void testHandleLargeError() {
+        Process process = new ProcessBuilder("python", "-c", "import sys\nsys.stderr.write('x' * 1000000)").start();
+        PythonReadingException exception = Assertions.assertThrows(PythonReadingException.class, () -> ERROR_PROCESS_HANDLER.handle(process));
+        Assertions.assertEquals(CAPTURE_LIMIT, exception.getMessage().length());
+        Assertions.assertEquals(0, process.waitFor());
+    }
 }
@@ -18,7 +18,7 @@ import static io.w4t3rcs.python.properties.PythonResolverProperties.ResultProper
 
 @ExtendWith(MockitoExtension.class)
 class BasicPythonInputProcessHandlerTests {
-    private static final LocalProperties LOCAL_PROPERTIES = new LocalProperties(null, true);
+    private static final LocalProperties LOCAL_PROPERTIES = new LocalProperties(null, true, 65536, null, null, 16, 1000, 16);
     private static final ResultProperties RESULT_PROPERTIES = new ResultProperties(null, "r4java", 0, 0);
     @InjectMocks
     private BasicPythonInputProcessHandler inputProcessHandler;
@@ -41,4 +41,17 @@ class BasicPythonInputProcessHandlerTests {
         String result = inputProcessHandler.handle(process);
         Assertions.assertEquals("4", result);
     }
+
+    @SneakyThrows
+    @Test
+    void testHandleLargeOutput() {
+        Process process = new ProcessBuilder("python", "-c", "import json\nprint('x' * 1000000)\nprint('r4java' + json.dumps(4))").start();
+
+        Mockito.when(executorProperties.local()).thenReturn(LOCAL_PROPERTIES);
+        Mockito.when(resolverProperties.result()).thenReturn(RESULT_PROPERTIES);
+
+        String result = inputProcessHandler.handle(process);
+        Assertions.assertEquals("4", result);
+        Assertions.assertEquals(0, process.waitFor());
+    }
 }
@@ -1,8 +1,11 @@
 package io.w4t3rcs.python.local;
 
+import io.w4t3rcs.python.dto.ResolvedScript;
 import io.w4t3rcs.python.file.PythonFileHandler;
 import io.w4t3rcs.python.properties.PythonExecutorProperties;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -11,12 +14,16 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 import static io.w4t3rcs.python.constant.TestConstants.*;
 import static io.w4t3rcs.python.properties.PythonExecutorProperties.LocalProperties;
 
 @ExtendWith(MockitoExtension.class)
 class BasicPythonProcessStarterTests {
-    private static final LocalProperties LOCAL_PROPERTIES = new LocalProperties("python", false);
+    private static final LocalProperties LOCAL_PROPERTIES = new LocalProperties("python", false, 65536, null, null, 16, 1000, 16);
+    private static final LocalProperties STDIN_LOCAL_PROPERTIES = new LocalProperties("python", false, 65536, LocalProperties.ScriptMode.STDIN, null, 16, 1000, 16);
     @InjectMocks
     private BasicPythonProcessStarter processStarter;
     @Mock
@@ -25,6 +32,7 @@ class BasicPythonProcessStarterTests {
     private PythonFileHandler pythonFileHandler;
 
 
+    @SneakyThrows
     @ParameterizedTest
     @ValueSource(strings = {SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1, SIMPLE_SCRIPT_2, SIMPLE_SCRIPT_3})
     void testStart(String script) {
@@ -32,6 +40,46 @@ class BasicPythonProcessStarterTests {
         Mockito.when(pythonFileHandler.isPythonFile(script)).thenReturn(false);
 
         Process process = processStarter.start(script);
-        Assertions.assertEquals(0, process.exitValue());
+        process.getInputStream().transferTo(OutputStream.nullOutputStream());
+        Assertions.assertEquals(0, process.waitFor());
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(ints = {16, 200_000})
+    void testStartWithBindings(int length) {
+        String script = "import os, pathlib\nprint(pathlib.Path(os.environ['" + ResolvedScript.BINDINGS_FILE_VARIABLE + "']).read_text(encoding='utf-8'))";
+        String bindings = "[1, \"it's\", \"" + "\u00e9".repeat(length) + "\"]";
+        Mockito.when(executorProperties.local()).thenReturn(LOCAL_PROPERTIES);
+        Mockito.when(pythonFileHandler.isPythonFile(script)).thenReturn(false);
+
+        Process process = processStarter.start(script, bindings);
+        Assertions.assertEquals(bindings, new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).strip());
+        Assertions.assertEquals(0, process.waitFor());
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1, SIMPLE_SCRIPT_2, SIMPLE_SCRIPT_3, "print(\"double \\\"quoted\\\"\")"})
+    void testStartFromStdin(String script) {
+        Mockito.when(executorProperties.local()).thenReturn(STDIN_LOCAL_PROPERTIES);
+        Mockito.when(pythonFileHandler.isPythonFile(script)).thenReturn(false);
+
+        Process expected = new ProcessBuilder("python", "-c", script).start();
+        Process process = processStarter.start(script);
+        Assertions.assertEquals(new String(expected.getInputStream().readAllBytes()), new String(process.getInputStream().readAllBytes()));
+        Assertions.assertEquals(0, process.waitFor());
+    }
+
+    @SneakyThrows
+    @Test
+    void testStartLargeScriptFromStdin() {
+        String script = "test_var = '" + "x".repeat(4 * 1024 * 1024) + "'\nprint(len(test_var))";
+        Mockito.when(executorProperties.local()).thenReturn(STDIN_LOCAL_PROPERTIES);
+        Mockito.when(pythonFileHandler.isPythonFile(script)).thenReturn(false);
+
+        Process process = processStarter.start(script);
+        Assertions.assertEquals(String.valueOf(4 * 1024 * 1024), new String(process.getInputStream().readAllBytes()).strip());
+        Assertions.assertEquals(0, process.waitFor());
     }
 }
@@ -0,0 +1,91 @@
+package io.w4t3rcs.python.local;
+
+import io.w4t3rcs.python.exception.PythonReadingException;
+import io.w4t3rcs.python.properties.PythonExecutorProperties;
+import io.w4t3rcs.python.properties.PythonResolverProperties;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+import static io.w4t3rcs.python.properties.PythonExecutorProperties.LocalProperties;
+
+@ExtendWith(MockitoExtension.class)
+class FramedPythonInputProcessHandlerTests {
+    private static final LocalProperties LOCAL_PROPERTIES = new LocalProperties(null, true, 65536, null, null, 16, 1000, 16);
+    @InjectMocks
+    private FramedPythonInputProcessHandler inputProcessHandler;
+    @Mock
+    private PythonExecutorProperties executorProperties;
+    @Mock
+    private PythonResolverProperties resolverProperties;
+
+    @SneakyThrows
+    @ParameterizedTest
+    @MethodSource("provideScripts")
+    void testHandle(String script, String expected) {
+        String resolved = FRAMED_RESULT_RESOLVER.resolve(script, Map.of());
+        Process process = new ProcessBuilder("python", "-c", resolved).start();
+
+        Mockito.when(executorProperties.local()).thenReturn(LOCAL_PROPERTIES);
+        Mockito.when(resolverProperties.result()).thenReturn(RESULT_PROPERTIES);
+
+        Assertions.assertEquals(expected, inputProcessHandler.handle(process));
+        Assertions.assertEquals(0, process.waitFor());
+    }
+
+    @SneakyThrows
+    @Test
+    void testHandleLargeResult() {
+        String resolved = FRAMED_RESULT_RESOLVER.resolve("print('x' * 100000)\nr4java = 'y' * 1000000", Map.of());
+        Process process = new ProcessBuilder("python", "-c", resolved).start();
+
+        Mockito.when(executorProperties.local()).thenReturn(LOCAL_PROPERTIES);
+        Mockito.when(resolverProperties.result()).thenReturn(RESULT_PROPERTIES);
+
+        Assertions.assertEquals(1000002, inputProcessHandler.handle(process).length());
+        Assertions.assertEquals(0, process.waitFor());
+    }
+
+    @SneakyThrows
+    @Test
+    void testHandleWithoutResult() {
+        Process process = new ProcessBuilder("python", "-c", SIMPLE_SCRIPT_0).start();
+
+        Mockito.when(executorProperties.local()).thenReturn(LOCAL_PROPERTIES);
+
+        Assertions.assertNull(inputProcessHandler.handle(process));
+        Assertions.assertEquals(0, process.waitFor());
+    }
+
+    @SneakyThrows
+    @Test
+    void testHandleMalformedFrame() {
+        Process process = new ProcessBuilder("python", "-c", "import sys\nsys.stdout.write('\\x00r4java 100\\n{}')").start();
+
+        Mockito.when(executorProperties.local()).thenReturn(LOCAL_PROPERTIES);
+        Mockito.when(resolverProperties.result()).thenReturn(RESULT_PROPERTIES);
+
+        Assertions.assertThrows(PythonReadingException.class, () -> inputProcessHandler.handle(process));
+    }
+
+    static Stream<Arguments> provideScripts() {
+        return Stream.of(
+                Arguments.of(PRINTED_RESULT_SCRIPT_0, "4"),
+                Arguments.of(PRINTED_RESULT_SCRIPT_2, "\"hello world\""),
+                Arguments.of(PRINTED_RESULT_SCRIPT_3, "{\"x\": 2, \"y\": 7}"),
+                Arguments.of("print('r4java', end='')\nr4java = 'line\\nbreak ' + chr(0)", "\"line\\nbreak \\u0000\"")
+        );
+    }
+}
@@ -0,0 +1,62 @@
+package io.w4t3rcs.python.local;
+
+import io.w4t3rcs.python.exception.ProcessStartException;
+import io.w4t3rcs.python.file.PythonFileHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+
+@ExtendWith(MockitoExtension.class)
+class PooledPythonProcessStarterTests {
+    @InjectMocks
+    private PooledPythonProcessStarter processStarter;
+    @Mock
+    private PythonWorkerPool pythonWorkerPool;
+    @Mock
+    private PythonFileHandler pythonFileHandler;
+    @Mock
+    private PythonWorker pythonWorker;
+
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1, SIMPLE_SCRIPT_2, SIMPLE_SCRIPT_3})
+    void testStart(String script) {
+        Process process = new PythonWorkerProcess(0, new byte[0], new byte[0], 0);
+        Mockito.when(pythonFileHandler.isPythonFile(script)).thenReturn(false);
+        Mockito.when(pythonWorkerPool.borrow()).thenReturn(pythonWorker);
+        Mockito.when(pythonWorker.execute(script)).thenReturn(process);
+
+        Assertions.assertSame(process, processStarter.start(script));
+        Mockito.verify(pythonWorkerPool).release(pythonWorker);
+    }
+
+    @Test
+    void testStartFromFile() {
+        Process process = new PythonWorkerProcess(0, new byte[0], new byte[0], 0);
+        Mockito.when(pythonFileHandler.isPythonFile(FILE_READ_SCRIPT)).thenReturn(true);
+        Mockito.when(pythonFileHandler.readScriptBodyFromFile(FILE_READ_SCRIPT)).thenReturn(SIMPLE_SCRIPT_0);
+        Mockito.when(pythonWorkerPool.borrow()).thenReturn(pythonWorker);
+        Mockito.when(pythonWorker.execute(SIMPLE_SCRIPT_0)).thenReturn(process);
+
+        Assertions.assertSame(process, processStarter.start(FILE_READ_SCRIPT));
+        Mockito.verify(pythonWorkerPool).release(pythonWorker);
+    }
+
+    @Test
+    void testStartInvalidatesBrokenWorker() {
+        Mockito.when(pythonFileHandler.isPythonFile(SIMPLE_SCRIPT_0)).thenReturn(false);
+        Mockito.when(pythonWorkerPool.borrow()).thenReturn(pythonWorker);
+        Mockito.when(pythonWorker.execute(SIMPLE_SCRIPT_0)).thenThrow(IllegalStateException.class);
+
+        Assertions.assertThrows(ProcessStartException.class, () -> processStarter.start(SIMPLE_SCRIPT_0));
+        Mockito.verify(pythonWorkerPool).invalidate(pythonWorker);
+        Mockito.verify(pythonWorkerPool, Mockito.never()).release(pythonWorker);
+    }
+}
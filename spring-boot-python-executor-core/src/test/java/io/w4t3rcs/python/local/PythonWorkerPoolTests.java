@@ -0,0 +1,173 @@
+package io.w4t3rcs.python.local;
+
+import io.w4t3rcs.python.dto.ResolvedScript;
+import io.w4t3rcs.python.exception.ProcessStartException;
+import io.w4t3rcs.python.exception.PythonReadingException;
+import io.w4t3rcs.python.properties.PythonExecutorProperties;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+import static io.w4t3rcs.python.properties.PythonExecutorProperties.LocalProperties;
+import static io.w4t3rcs.python.properties.PythonExecutorProperties.LocalProperties.PoolProperties;
+
+class PythonWorkerPoolTests {
+    private static final int CAPTURE_LIMIT = 64;
+    private static final PoolProperties POOL_PROPERTIES = new PoolProperties(true, 1, 2, Duration.ofMinutes(5), 2, true, Duration.ofMillis(200), Duration.ofSeconds(2));
+    private static final PythonExecutorProperties EXECUTOR_PROPERTIES = new PythonExecutorProperties(PythonExecutorProperties.Type.LOCAL, new LocalProperties("python", false, CAPTURE_LIMIT, null, POOL_PROPERTIES, 16, 1000, 16), null, null, null);
+    private PythonWorkerPool pythonWorkerPool;
+
+    @BeforeEach
+    void init() {
+        pythonWorkerPool = new PythonWorkerPool(EXECUTOR_PROPERTIES, RESOLVER_PROPERTIES);
+        pythonWorkerPool.start();
+    }
+
+    @AfterEach
+    void destroy() {
+        pythonWorkerPool.close();
+    }
+
+    @Test
+    void testPrewarm() {
+        Assertions.assertEquals(POOL_PROPERTIES.minSize(), pythonWorkerPool.size());
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1, SIMPLE_SCRIPT_2, SIMPLE_SCRIPT_3})
+    void testExecute(String script) {
+        Process expected = new ProcessBuilder("python", "-c", script).start();
+        expected.waitFor();
+
+        PythonWorker worker = pythonWorkerPool.borrow();
+        Process process = worker.execute(script);
+        pythonWorkerPool.release(worker);
+        Assertions.assertEquals(expected.exitValue(), process.exitValue());
+        Assertions.assertEquals(readAll(expected.inputReader(StandardCharsets.UTF_8)), readAll(process.inputReader(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testExecuteWithBindings() {
+        String script = "print(globals().get('" + ResolvedScript.BINDINGS_VARIABLE + "'))";
+        PythonWorker worker = pythonWorkerPool.borrow();
+        Process boundProcess = worker.execute(script, "[\"caf\u00e9\"]");
+        Process unboundProcess = worker.execute(script);
+        pythonWorkerPool.release(worker);
+        Assertions.assertEquals("[\"caf\u00e9\"]", readAll(boundProcess.inputReader(StandardCharsets.UTF_8)));
+        Assertions.assertEquals("None", readAll(unboundProcess.inputReader(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testExecuteReadingStdin() {
+        PythonWorker worker = pythonWorkerPool.borrow();
+        Process stdinProcess = worker.execute("import sys\nprint(repr(sys.stdin.read()))");
+        Process nextProcess = worker.execute(SIMPLE_SCRIPT_0);
+        pythonWorkerPool.release(worker);
+        Assertions.assertEquals("''", readAll(stdinProcess.inputReader(StandardCharsets.UTF_8)));
+        Assertions.assertEquals("4", readAll(nextProcess.inputReader(StandardCharsets.UTF_8)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "import os\nos.write(1, b'999 0 0\\n')\nprint(1)",
+            "import sys\nsys.__stdout__.write('999 0 0\\n')\nsys.__stdout__.flush()\nprint(1)",
+            "import subprocess, sys\nsubprocess.run([sys.executable, '-c', 'print(999)'])\nprint(1)",
+    })
+    void testExecuteWritingToDescriptor(String script) {
+        PythonWorker worker = pythonWorkerPool.borrow();
+        Process process = worker.execute(script);
+        Process nextProcess = worker.execute(SIMPLE_SCRIPT_0);
+        pythonWorkerPool.release(worker);
+        Assertions.assertEquals("1", readAll(process.inputReader(StandardCharsets.UTF_8)));
+        Assertions.assertEquals("4", readAll(nextProcess.inputReader(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testExecuteWithCaptureLimit() {
+        String result = "x".repeat(CAPTURE_LIMIT * 4);
+        String script = "import json, sys\n"
+                + "for i in range(1000):\n    print('y' * 1000)\n"
+                + "sys.stderr.write('z' * 1000)\n"
+                + "frame = json.dumps('" + result + "')\n"
+                + "print('" + RESULT_PROPERTIES.appearance() + "' + frame)\n"
+                + "sys.stdout.write('\\n\\x00" + RESULT_PROPERTIES.appearance() + " %d\\n' % len(frame) + frame)";
+        PythonWorker worker = pythonWorkerPool.borrow();
+        Process process = worker.execute(script);
+        pythonWorkerPool.release(worker);
+        String output = readAll(process.inputReader(StandardCharsets.UTF_8));
+        Assertions.assertTrue(output.contains(RESULT_PROPERTIES.appearance() + "\"" + result + "\""));
+        Assertions.assertTrue(output.endsWith("\n\"" + result + "\""));
+        Assertions.assertTrue(output.length() < CAPTURE_LIMIT * 2 + result.length() * 3);
+        Assertions.assertEquals(CAPTURE_LIMIT, readAll(process.errorReader(StandardCharsets.UTF_8)).length());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {BAD_SCRIPT_0, BAD_SCRIPT_2, BAD_SCRIPT_3})
+    void testExecuteBadScript(String script) {
+        PythonWorker worker = pythonWorkerPool.borrow();
+        Process process = worker.execute(script);
+        pythonWorkerPool.release(worker);
+        Assertions.assertNotEquals(0, process.exitValue());
+        Assertions.assertFalse(readAll(process.errorReader(StandardCharsets.UTF_8)).isBlank());
+    }
+
+    @Test
+    void testReuse() {
+        PythonWorker worker = pythonWorkerPool.borrow();
+        worker.execute(SIMPLE_SCRIPT_0);
+        pythonWorkerPool.release(worker);
+        Assertions.assertSame(worker, pythonWorkerPool.borrow());
+    }
+
+    @Test
+    void testRecycle() {
+        PythonWorker worker = pythonWorkerPool.borrow();
+        for (int i = 0; i < POOL_PROPERTIES.maxRequests(); i++) {
+            worker.execute(SIMPLE_SCRIPT_0);
+        }
+        pythonWorkerPool.release(worker);
+        Assertions.assertEquals(0, pythonWorkerPool.size());
+        Assertions.assertNotSame(worker, pythonWorkerPool.borrow());
+    }
+
+    @Test
+    void testExecutionTimeout() {
+        PythonWorker worker = pythonWorkerPool.borrow();
+        long start = System.nanoTime();
+        Assertions.assertThrows(PythonReadingException.class, () -> worker.execute("import time\ntime.sleep(30)"));
+        Assertions.assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(10)) < 0);
+        Assertions.assertFalse(worker.isAlive());
+        pythonWorkerPool.invalidate(worker);
+
+        PythonWorker nextWorker = pythonWorkerPool.borrow();
+        Process process = nextWorker.execute(SIMPLE_SCRIPT_0);
+        pythonWorkerPool.release(nextWorker);
+        Assertions.assertEquals("4", readAll(process.inputReader(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testBorrowTimeout() {
+        for (int i = 0; i < POOL_PROPERTIES.maxSize(); i++) {
+            pythonWorkerPool.borrow();
+        }
+        Assertions.assertThrows(ProcessStartException.class, pythonWorkerPool::borrow);
+    }
+
+    @SneakyThrows
+    private static String readAll(BufferedReader bufferedReader) {
+        try (bufferedReader) {
+            return bufferedReader.lines().collect(Collectors.joining("\n"));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.w4t3rcs.python.processor;
+
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.executor.AsyncPythonExecutor;
+import io.w4t3rcs.python.file.PythonFileHandler;
+import io.w4t3rcs.python.resolver.PythonResolverHolder;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+
+@ExtendWith(MockitoExtension.class)
+class BasicAsyncPythonProcessorTests {
+    @InjectMocks
+    private BasicAsyncPythonProcessor asyncPythonProcessor;
+    @Mock
+    private PythonFileHandler pythonFileHandler;
+    @Mock
+    private AsyncPythonExecutor asyncPythonExecutor;
+    @Mock
+    private PythonResolverHolder pythonResolverHolder;
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {
+            SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1, SIMPLE_SCRIPT_2, SIMPLE_SCRIPT_3,
+            RESULT_SCRIPT_0, RESULT_SCRIPT_1, RESULT_SCRIPT_2, RESULT_SCRIPT_3,
+            SPELYTHON_SCRIPT_0, SPELYTHON_SCRIPT_1,
+            COMPOUND_SCRIPT_0, COMPOUND_SCRIPT_1
+    })
+    void testProcessAsync(String script) {
+        Mockito.when(pythonFileHandler.isPythonFile(script)).thenReturn(false);
+        Mockito.when(pythonResolverHolder.resolveAll(script, EMPTY_ARGUMENTS)).thenReturn(script);
+        Mockito.when(asyncPythonExecutor.executeAsync(script, STRING_CLASS)).thenReturn(CompletableFuture.completedFuture((PythonExecutionResponse) OK_RESPONSE));
+
+        String processed = asyncPythonProcessor.processAsync(script, STRING_CLASS, EMPTY_ARGUMENTS).get().body();
+        Assertions.assertEquals(OK, processed);
+    }
+}
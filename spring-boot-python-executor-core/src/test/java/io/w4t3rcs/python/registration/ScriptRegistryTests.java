@@ -0,0 +1,63 @@
+package io.w4t3rcs.python.registration;
+
+import io.w4t3rcs.python.properties.PythonExecutorProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+
+class ScriptRegistryTests {
+    private static final PythonExecutorProperties EXECUTOR_PROPERTIES = new PythonExecutorProperties(PythonExecutorProperties.Type.REST, null, null, null, new PythonExecutorProperties.RegistrationProperties(true, 2));
+    private final ScriptRegistry scriptRegistry = new ScriptRegistry(EXECUTOR_PROPERTIES);
+
+    @ParameterizedTest
+    @ValueSource(strings = {SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1, SIMPLE_SCRIPT_2, SIMPLE_SCRIPT_3})
+    void testHash(String script) {
+        String hash = scriptRegistry.hash(script);
+        Assertions.assertEquals(64, hash.length());
+        Assertions.assertTrue(hash.matches("[0-9a-f]+"));
+        Assertions.assertEquals(hash, scriptRegistry.hash(script));
+    }
+
+    @Test
+    void testHashIsMemoized() {
+        String hash = scriptRegistry.hash(SIMPLE_SCRIPT_0);
+        Assertions.assertSame(hash, scriptRegistry.hash(new String(SIMPLE_SCRIPT_0.toCharArray())));
+        scriptRegistry.hash(SIMPLE_SCRIPT_1);
+        scriptRegistry.hash(SIMPLE_SCRIPT_2);
+        String recomputedHash = scriptRegistry.hash(SIMPLE_SCRIPT_0);
+        Assertions.assertNotSame(hash, recomputedHash);
+        Assertions.assertEquals(hash, recomputedHash);
+    }
+
+    @Test
+    void testKnownHash() {
+        Assertions.assertEquals("a665a45920422f9d417e4867efdc4fb8a04a1f3fff1fa07e998e86f7f7a27ae3", scriptRegistry.hash("123"));
+    }
+
+    @Test
+    void testRegisterAndUnregister() {
+        String hash = scriptRegistry.hash(SIMPLE_SCRIPT_0);
+        Assertions.assertFalse(scriptRegistry.isRegistered(hash));
+        scriptRegistry.register(hash);
+        Assertions.assertTrue(scriptRegistry.isRegistered(hash));
+        scriptRegistry.unregister(hash);
+        Assertions.assertFalse(scriptRegistry.isRegistered(hash));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        String hash0 = scriptRegistry.hash(SIMPLE_SCRIPT_0);
+        String hash1 = scriptRegistry.hash(SIMPLE_SCRIPT_1);
+        String hash2 = scriptRegistry.hash(SIMPLE_SCRIPT_2);
+        scriptRegistry.register(hash0);
+        scriptRegistry.register(hash1);
+        Assertions.assertTrue(scriptRegistry.isRegistered(hash0));
+        scriptRegistry.register(hash2);
+        Assertions.assertTrue(scriptRegistry.isRegistered(hash0));
+        Assertions.assertFalse(scriptRegistry.isRegistered(hash1));
+        Assertions.assertTrue(scriptRegistry.isRegistered(hash2));
+    }
+}
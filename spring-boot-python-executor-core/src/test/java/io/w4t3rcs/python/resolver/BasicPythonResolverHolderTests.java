@@ -41,6 +41,22 @@ class BasicPythonResolverHolderTests {
         Assertions.assertEquals(OK, basicPythonResolverHolder.resolveAll(script));
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+            SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1, SIMPLE_SCRIPT_2, SIMPLE_SCRIPT_3,
+            RESULT_SCRIPT_0, RESULT_SCRIPT_1, RESULT_SCRIPT_2, RESULT_SCRIPT_3,
+            PRINTED_RESULT_SCRIPT_0, PRINTED_RESULT_SCRIPT_1, PRINTED_RESULT_SCRIPT_2, PRINTED_RESULT_SCRIPT_3,
+    })
+    void testResolveAllFused(String script) {
+        List<PythonResolver> resolvers = List.of(PY4J_RESOLVER, RESTRICTED_PYTHON_RESOLVER, RESULT_RESOLVER, pythonResolver, PRINTED_RESULT_RESOLVER);
+        String sequentiallyResolved = RESULT_RESOLVER.resolve(RESTRICTED_PYTHON_RESOLVER.resolve(PY4J_RESOLVER.resolve(script, EMPTY_ARGUMENTS), EMPTY_ARGUMENTS), EMPTY_ARGUMENTS);
+        Mockito.when(pythonResolver.resolve(sequentiallyResolved, EMPTY_ARGUMENTS)).thenReturn(sequentiallyResolved + "\n");
+        ReflectionTestUtils.setField(basicPythonResolverHolder, "pythonResolvers", resolvers);
+
+        String expected = PRINTED_RESULT_RESOLVER.resolve(sequentiallyResolved + "\n", EMPTY_ARGUMENTS);
+        Assertions.assertEquals(expected, basicPythonResolverHolder.resolveAll(script));
+    }
+
     @Test
     void testGetResolvers() {
         Assertions.assertEquals(List.of(pythonResolver), basicPythonResolverHolder.getResolvers());
@@ -0,0 +1,103 @@
+package io.w4t3rcs.python.resolver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.w4t3rcs.python.dto.ResolvedScript;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.w4t3rcs.python.constant.TestConstants.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompiledPythonResolverHolderTests {
+    @Mock
+    private ApplicationContext applicationContext;
+    @Mock
+    private PythonResolver pythonResolver;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1, SIMPLE_SCRIPT_2, SIMPLE_SCRIPT_3,
+            RESULT_SCRIPT_0, RESULT_SCRIPT_1, RESULT_SCRIPT_2, RESULT_SCRIPT_3,
+            SPELYTHON_SCRIPT_0, SPELYTHON_SCRIPT_1,
+            COMPOUND_SCRIPT_0, COMPOUND_SCRIPT_1,
+    })
+    void testResolveAll(String script) {
+        SpelythonResolver spelythonResolver = new SpelythonResolver(RESOLVER_PROPERTIES, applicationContext, new ObjectMapper());
+        List<PythonResolver> resolvers = List.of(spelythonResolver, PY4J_RESOLVER, RESTRICTED_PYTHON_RESOLVER, RESULT_RESOLVER, PRINTED_RESULT_RESOLVER);
+        PythonResolverHolder basicPythonResolverHolder = new BasicPythonResolverHolder(resolvers);
+        PythonResolverHolder compiledPythonResolverHolder = new CompiledPythonResolverHolder(resolvers, RESOLVER_PROPERTIES);
+
+        for (Map<String, Object> arguments : List.<Map<String, Object>>of(Map.of(A_PYTHON_PARAM, "it's", "b", 2), Map.of(A_PYTHON_PARAM, List.of(1, 2), "b", Map.of("c", 3)))) {
+            Assertions.assertEquals(basicPythonResolverHolder.resolveAll(script, arguments), compiledPythonResolverHolder.resolveAll(script, arguments));
+        }
+        Assertions.assertEquals(1, this.getCompiledScripts(compiledPythonResolverHolder).size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {SPELYTHON_SCRIPT_0, SPELYTHON_SCRIPT_1, COMPOUND_SCRIPT_0, COMPOUND_SCRIPT_1})
+    void testResolveAllWithBindings(String script) {
+        SpelythonResolver spelythonResolver = new SpelythonResolver(SIDE_CHANNEL_RESOLVER_PROPERTIES, applicationContext, new ObjectMapper());
+        List<PythonResolver> resolvers = List.of(spelythonResolver, PY4J_RESOLVER, RESULT_RESOLVER, PRINTED_RESULT_RESOLVER);
+        PythonResolverHolder basicPythonResolverHolder = new BasicPythonResolverHolder(resolvers);
+        PythonResolverHolder compiledPythonResolverHolder = new CompiledPythonResolverHolder(resolvers, SIDE_CHANNEL_RESOLVER_PROPERTIES);
+        Assertions.assertTrue(compiledPythonResolverHolder.supportsBindings());
+
+        ResolvedScript first = compiledPythonResolverHolder.resolveAllWithBindings(script, Map.of(A_PYTHON_PARAM, "it's", "b", 2));
+        ResolvedScript second = compiledPythonResolverHolder.resolveAllWithBindings(script, Map.of(A_PYTHON_PARAM, List.of(1, 2), "b", Map.of("c", 3)));
+        Assertions.assertEquals(basicPythonResolverHolder.resolveAllWithBindings(script, Map.of(A_PYTHON_PARAM, "it's", "b", 2)), first);
+        Assertions.assertEquals(first.script(), second.script());
+        Assertions.assertNotEquals(first.bindings(), second.bindings());
+        Assertions.assertEquals(first.toInlineScript(), compiledPythonResolverHolder.resolveAll(script, Map.of(A_PYTHON_PARAM, "it's", "b", 2)));
+        Assertions.assertEquals(0, this.getCompiledScripts(compiledPythonResolverHolder).get(script).getSlotCount());
+    }
+
+    @Test
+    void testResolveAllCapacity() {
+        PythonResolverHolder compiledPythonResolverHolder = new CompiledPythonResolverHolder(List.of(RESULT_RESOLVER), RESOLVER_PROPERTIES);
+        List<String> scripts = List.of(SIMPLE_SCRIPT_0, SIMPLE_SCRIPT_1, SIMPLE_SCRIPT_2, SIMPLE_SCRIPT_3, RESULT_SCRIPT_0);
+
+        scripts.forEach(compiledPythonResolverHolder::resolveAll);
+        Assertions.assertEquals(1, this.getCompiledScripts(compiledPythonResolverHolder).size());
+        Assertions.assertEquals(RESULT_RESOLVER.resolve(RESULT_SCRIPT_0, EMPTY_ARGUMENTS), compiledPythonResolverHolder.resolveAll(RESULT_SCRIPT_0));
+    }
+
+    @Test
+    void testResolveAllNotCompilable() {
+        PythonResolverHolder compiledPythonResolverHolder = new CompiledPythonResolverHolder(List.of(RESULT_RESOLVER, pythonResolver), RESOLVER_PROPERTIES);
+        String resolved = RESULT_RESOLVER.resolve(RESULT_SCRIPT_0, EMPTY_ARGUMENTS);
+        Mockito.when(pythonResolver.resolve(resolved, EMPTY_ARGUMENTS)).thenReturn(OK);
+
+        Assertions.assertEquals(OK, compiledPythonResolverHolder.resolveAll(RESULT_SCRIPT_0));
+        Assertions.assertTrue(this.getCompiledScripts(compiledPythonResolverHolder).isEmpty());
+    }
+
+    @Test
+    void testResolveAllEmpty() {
+        PythonResolverHolder compiledPythonResolverHolder = new CompiledPythonResolverHolder(List.of(RESULT_RESOLVER), RESOLVER_PROPERTIES);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> compiledPythonResolverHolder.resolveAll(""));
+    }
+
+    @Test
+    void testGetResolvers() {
+        PythonResolverHolder compiledPythonResolverHolder = new CompiledPythonResolverHolder(List.of(pythonResolver), RESOLVER_PROPERTIES);
+
+        Assertions.assertEquals(List.of(pythonResolver), compiledPythonResolverHolder.getResolvers());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, CompiledPythonScript> getCompiledScripts(PythonResolverHolder compiledPythonResolverHolder) {
+        return (Map<String, CompiledPythonScript>) ReflectionTestUtils.getField(compiledPythonResolverHolder, "compiledScripts");
+    }
+}
@@ -1,6 +1,8 @@
 package io.w4t3rcs.python.resolver;
 
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -15,6 +17,51 @@ class ResultResolverTests {
         String resolved = RESULT_RESOLVER.resolve(script, Map.of());
         System.out.println(resolved);
         Assertions.assertTrue(resolved.contains(RESULT_PROPERTIES.appearance()));
-        Assertions.assertTrue(resolved.contains(RESULT_PROPERTIES.appearance() + " = json.loads(json.dumps(test_var))"));
+        Assertions.assertTrue(resolved.contains(RESULT_PROPERTIES.appearance() + " = test_var"));
+        Assertions.assertFalse(resolved.contains("json.dumps"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, AbstractPythonResolver.IN_PLACE_REPLACEMENT_LIMIT, AbstractPythonResolver.IN_PLACE_REPLACEMENT_LIMIT + 1, 100})
+    void testResolveManyFragments(int fragments) {
+        StringBuilder script = new StringBuilder();
+        StringBuilder expectedScript = new StringBuilder();
+        for (int i = 0; i < fragments; i++) {
+            script.append("x").append(i).append(" = ").append(i).append("\no4java{x").append(i).append("}\n");
+            expectedScript.append("x").append(i).append(" = ").append(i).append("\n")
+                    .append(RESULT_PROPERTIES.appearance()).append(" = x").append(i).append("\n\n");
+        }
+        Assertions.assertEquals(expectedScript.toString(), RESULT_RESOLVER.resolve(script.toString(), Map.of()));
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @ValueSource(strings = {RESULT_SCRIPT_0, RESULT_SCRIPT_1, RESULT_SCRIPT_2, RESULT_SCRIPT_3})
+    void testResolveEncodedOnce(String script) {
+        String resolved = PRINTED_RESULT_RESOLVER.resolve(RESULT_RESOLVER.resolve(script, Map.of()), Map.of());
+        String expectedScript = script.replace("o4java{test_var}", "import json\nprint('" + RESULT_PROPERTIES.appearance() + "' + json.dumps(test_var))");
+        Process expected = new ProcessBuilder("python", "-c", expectedScript).start();
+        Process process = new ProcessBuilder("python", "-c", resolved).start();
+        Assertions.assertEquals(new String(expected.getInputStream().readAllBytes()), new String(process.getInputStream().readAllBytes()));
+        Assertions.assertEquals(0, process.waitFor());
+    }
+
+    @SneakyThrows
+    @Test
+    void testResolveMutatedAfterResult() {
+        String script = "test_var = [1]\no4java{test_var}\ntest_var.append(2)\ntest_var = [3]";
+        String resolved = PRINTED_RESULT_RESOLVER.resolve(RESULT_RESOLVER.resolve(script, Map.of()), Map.of());
+        Process process = new ProcessBuilder("python", "-c", resolved).start();
+        Assertions.assertEquals(RESULT_PROPERTIES.appearance() + "[1, 2]", new String(process.getInputStream().readAllBytes()).strip());
+        Assertions.assertEquals(0, process.waitFor());
+    }
+
+    @SneakyThrows
+    @Test
+    void testResolveNotSerializable() {
+        String resolved = PRINTED_RESULT_RESOLVER.resolve(RESULT_RESOLVER.resolve("test_var = object()\no4java{test_var}", Map.of()), Map.of());
+        Process process = new ProcessBuilder("python", "-c", resolved).start();
+        Assertions.assertNotEquals(0, process.waitFor());
+        Assertions.assertTrue(new String(process.getErrorStream().readAllBytes()).contains("not JSON serializable"));
     }
 }
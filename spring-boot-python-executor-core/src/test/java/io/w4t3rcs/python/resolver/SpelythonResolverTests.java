@@ -12,7 +12,10 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static io.w4t3rcs.python.constant.TestConstants.*;
@@ -42,4 +45,39 @@ class SpelythonResolverTests {
         Assertions.assertFalse(resolved.matches(SPELYTHON_PROPERTIES.regex()));
         Assertions.assertTrue(resolved.contains("json.loads('" + expressionValue + "')"));
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {SPELYTHON_SCRIPT_0, SPELYTHON_SCRIPT_1, COMPOUND_SCRIPT_0, COMPOUND_SCRIPT_1})
+    void testResolveCachedExpressions(String script) throws JsonProcessingException {
+        Mockito.when(resolverProperties.spelython()).thenReturn(SPELYTHON_PROPERTIES);
+        Mockito.when(objectMapper.writeValueAsString(Mockito.any())).thenAnswer(invocation -> String.valueOf(invocation.<Object>getArgument(0)));
+
+        String firstResolved = spelythonResolver.resolve(script, Map.of("a", 1, "b", 2));
+        Map<?, ?> parsedExpressions = (Map<?, ?>) ReflectionTestUtils.getField(spelythonResolver, "parsedExpressions");
+        Assertions.assertNotNull(parsedExpressions);
+        int cachedExpressions = parsedExpressions.size();
+        Assertions.assertTrue(cachedExpressions > 0);
+        Assertions.assertEquals(firstResolved, spelythonResolver.resolve(script, Map.of("a", 1, "b", 2)));
+        Assertions.assertEquals(cachedExpressions, parsedExpressions.size());
+        Assertions.assertNotEquals(firstResolved, spelythonResolver.resolve(script, Map.of("a", 3, "b", 4)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {SPELYTHON_SCRIPT_0, SPELYTHON_SCRIPT_1, COMPOUND_SCRIPT_0, COMPOUND_SCRIPT_1})
+    void testResolveWithBindings(String script) throws JsonProcessingException {
+        Mockito.when(resolverProperties.spelython()).thenReturn(SIDE_CHANNEL_SPELYTHON_PROPERTIES);
+        Mockito.when(objectMapper.writeValueAsString(Mockito.any())).thenAnswer(invocation -> String.valueOf(invocation.<Object>getArgument(0)));
+
+        List<String> bindings = new ArrayList<>();
+        String resolved = spelythonResolver.resolve(new StringBuilder(script), Map.of("a", 1, "b", 2), bindings).toString();
+        Assertions.assertTrue(spelythonResolver.bindsArguments());
+        Assertions.assertFalse(resolved.matches(SIDE_CHANNEL_SPELYTHON_PROPERTIES.regex()));
+        Assertions.assertTrue(resolved.contains("spelython_values[0]"));
+        Assertions.assertFalse(bindings.isEmpty());
+        Assertions.assertTrue(bindings.stream().allMatch(value -> value.equals("1") || value.equals("2")));
+
+        List<String> otherBindings = new ArrayList<>();
+        Assertions.assertEquals(resolved, spelythonResolver.resolve(new StringBuilder(script), Map.of("a", 3, "b", 4), otherBindings).toString());
+        Assertions.assertNotEquals(bindings, otherBindings);
+    }
 }
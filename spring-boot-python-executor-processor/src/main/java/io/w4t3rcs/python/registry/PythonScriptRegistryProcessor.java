@@ -0,0 +1,238 @@
+package io.w4t3rcs.python.registry;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor generating a {@code PythonScriptRegistry} per compilation unit that declares methods annotated with
+ * {@code @PythonBefore}, {@code @PythonBefores}, {@code @PythonAfter} or {@code @PythonAfters}.
+ * <p>
+ * The generated class is named after the top-level class of the compilation unit followed by {@value #GENERATED_CLASS_SUFFIX}
+ * and registers, for every annotated method and annotation type, the declared scripts with their active profiles and orders
+ * and the names of the method parameters, honoring {@code @PythonParam}. Parameter names are read from the source,
+ * so they are available even if the code is compiled without the {@code -parameters} flag.
+ * </p>
+ * <p>
+ * The processor refers to the annotations by name and has no dependencies, so it is added to the annotation processor path
+ * of the compiler only. If the annotations are not on the compile classpath, it does nothing.
+ * </p>
+ *
+ * <p>Usage example (Maven):</p>
+ * <pre>{@code
+ * <annotationProcessorPaths>
+ *     <path>
+ *         <groupId>io.github.w4t3rcs</groupId>
+ *         <artifactId>spring-boot-python-executor-processor</artifactId>
+ *         <version>${spring-boot-python-executor.version}</version>
+ *     </path>
+ * </annotationProcessorPaths>
+ * }</pre>
+ *
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public class PythonScriptRegistryProcessor extends AbstractProcessor {
+    /**
+     * Suffix appended to the binary name of a top-level class to get the name of its generated registry.
+     */
+    public static final String GENERATED_CLASS_SUFFIX = "__PythonScripts";
+    private static final String ANNOTATION_PACKAGE = "io.w4t3rcs.python.annotation.";
+    private static final String PYTHON_PARAM = ANNOTATION_PACKAGE + "PythonParam";
+    private static final Map<String, Boolean> SCRIPT_ANNOTATIONS = Map.of(
+            ANNOTATION_PACKAGE + "PythonBefore", false,
+            ANNOTATION_PACKAGE + "PythonBefores", true,
+            ANNOTATION_PACKAGE + "PythonAfter", false,
+            ANNOTATION_PACKAGE + "PythonAfters", true
+    );
+    private static final String REGISTRY_PACKAGE = "io.w4t3rcs.python.aspect.";
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return SCRIPT_ANNOTATIONS.keySet();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * Collects the annotated methods of this round grouped by their top-level class and generates a registry per class.
+     *
+     * @param annotations annotation types requested to be processed
+     * @param roundEnv environment of the current round
+     * @return {@code false}, so other processors can claim the annotations as well
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, List<String>> registrations = new LinkedHashMap<>();
+        for (TypeElement annotation : annotations) {
+            String annotationName = annotation.getQualifiedName().toString();
+            boolean container = SCRIPT_ANNOTATIONS.get(annotationName);
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (!(element instanceof ExecutableElement method)) continue;
+                String registration = this.createRegistration(method, annotationName, container);
+                if (registration != null) {
+                    registrations.computeIfAbsent(getTopLevelType(method), type -> new ArrayList<>()).add(registration);
+                }
+            }
+        }
+        registrations.forEach(this::writeRegistry);
+        return false;
+    }
+
+    private String createRegistration(ExecutableElement method, String annotationName, boolean container) {
+        AnnotationMirror annotation = findAnnotation(method, annotationName);
+        if (annotation == null) return null;
+        List<String> scripts = new ArrayList<>();
+        List<String> activeProfiles = new ArrayList<>();
+        List<String> orders = new ArrayList<>();
+        if (container) {
+            for (Object nestedAnnotation : (List<?>) this.getAttribute(annotation, "value")) {
+                this.addScript((AnnotationMirror) ((AnnotationValue) nestedAnnotation).getValue(), scripts, activeProfiles, orders);
+            }
+        } else {
+            this.addScript(annotation, scripts, activeProfiles, orders);
+        }
+        if (scripts.isEmpty()) {
+            messager.printMessage(Diagnostic.Kind.WARNING, "No Python scripts declared by @" + annotationName, method, annotation);
+            return null;
+        }
+        List<String> parameterNames = new ArrayList<>();
+        for (VariableElement parameter : method.getParameters()) {
+            AnnotationMirror pythonParam = findAnnotation(parameter, PYTHON_PARAM);
+            String parameterName = pythonParam != null ? (String) this.getAttribute(pythonParam, "value") : parameter.getSimpleName().toString();
+            parameterNames.add(elements.getConstantExpression(parameterName));
+        }
+        return "        registrations.put(" + elements.getConstantExpression(annotationName + '#' + this.getMethodSignature(method)) + ",\n"
+                + "                PythonScriptRegistration.of(new String[]{" + String.join(", ", parameterNames) + "},\n"
+                + "                        new String[]{" + String.join(", ", scripts) + "},\n"
+                + "                        new String[][]{" + String.join(", ", activeProfiles) + "},\n"
+                + "                        new int[]{" + String.join(", ", orders) + "}));\n";
+    }
+
+    private void addScript(AnnotationMirror annotation, List<String> scripts, List<String> activeProfiles, List<String> orders) {
+        String value = (String) this.getAttribute(annotation, "value");
+        String script = value.isBlank() ? (String) this.getAttribute(annotation, "script") : value;
+        if (script.isBlank()) return;
+        List<String> profiles = new ArrayList<>();
+        for (Object profile : (List<?>) this.getAttribute(annotation, "activeProfiles")) {
+            profiles.add(elements.getConstantExpression(((AnnotationValue) profile).getValue()));
+        }
+        scripts.add(elements.getConstantExpression(script));
+        activeProfiles.add("{" + String.join(", ", profiles) + "}");
+        orders.add(String.valueOf(this.getAttribute(annotation, "order")));
+    }
+
+    private Object getAttribute(AnnotationMirror annotation, String name) {
+        for (var attribute : elements.getElementValuesWithDefaults(annotation).entrySet()) {
+            if (attribute.getKey().getSimpleName().contentEquals(name)) return attribute.getValue().getValue();
+        }
+        throw new IllegalStateException("Attribute " + name + " is missing in " + annotation);
+    }
+
+    private String getMethodSignature(ExecutableElement method) {
+        StringBuilder signature = new StringBuilder(this.getBinaryName(method.getEnclosingElement().asType()))
+                .append('#').append(method.getSimpleName()).append('(');
+        List<? extends VariableElement> parameters = method.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) signature.append(',');
+            signature.append(this.getBinaryName(types.erasure(parameters.get(i).asType())));
+        }
+        return signature.append(')').toString();
+    }
+
+    private String getBinaryName(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) return this.getBinaryName(types.erasure(((ArrayType) type).getComponentType())) + "[]";
+        if (type.getKind() == TypeKind.DECLARED) return elements.getBinaryName((TypeElement) ((DeclaredType) type).asElement()).toString();
+        return types.erasure(type).toString();
+    }
+
+    private void writeRegistry(TypeElement topLevelType, List<String> registrations) {
+        PackageElement packageElement = elements.getPackageOf(topLevelType);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String simpleName = topLevelType.getSimpleName() + GENERATED_CLASS_SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+        try {
+            JavaFileObject sourceFile = filer.createSourceFile(qualifiedName, topLevelType);
+            try (Writer writer = sourceFile.openWriter()) {
+                if (!packageName.isEmpty()) writer.write("package " + packageName + ";\n\n");
+                writer.write("import " + REGISTRY_PACKAGE + "PythonScriptRegistration;\n");
+                writer.write("import " + REGISTRY_PACKAGE + "PythonScriptRegistry;\n\n");
+                writer.write("import java.util.HashMap;\n");
+                writer.write("import java.util.Map;\n\n");
+                writer.write("@javax.annotation.processing.Generated(\"" + PythonScriptRegistryProcessor.class.getName() + "\")\n");
+                writer.write("public final class " + simpleName + " implements PythonScriptRegistry {\n");
+                writer.write("    private final Map<String, PythonScriptRegistration> registrations = new HashMap<>();\n\n");
+                writer.write("    public " + simpleName + "() {\n");
+                for (String registration : registrations) {
+                    writer.write(registration);
+                }
+                writer.write("    }\n\n");
+                writer.write("    @Override\n");
+                writer.write("    public PythonScriptRegistration getRegistration(String annotationName, String methodSignature) {\n");
+                writer.write("        return registrations.get(annotationName + '#' + methodSignature);\n");
+                writer.write("    }\n");
+                writer.write("}\n");
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Python script registry " + qualifiedName + " cannot be generated: " + e, topLevelType);
+        }
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) return annotation;
+        }
+        return null;
+    }
+
+    private static TypeElement getTopLevelType(Element element) {
+        Element current = element;
+        TypeElement topLevelType = null;
+        while (current != null && !(current instanceof PackageElement)) {
+            if (current instanceof TypeElement type) topLevelType = type;
+            current = current.getEnclosingElement();
+        }
+        return topLevelType;
+    }
+}
@@ -0,0 +1,112 @@
+package io.w4t3rcs.python.registry;
+
+import io.w4t3rcs.python.annotation.PythonAfter;
+import io.w4t3rcs.python.annotation.PythonBefore;
+import io.w4t3rcs.python.annotation.PythonBefores;
+import io.w4t3rcs.python.aspect.PythonScriptRegistration;
+import io.w4t3rcs.python.aspect.PythonScriptRegistryLocator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+class PythonScriptRegistryProcessorTests {
+    private static final String SERVICE_SOURCE = """
+            package com.example;
+
+            import io.w4t3rcs.python.annotation.*;
+            import java.util.List;
+
+            public class Service {
+                @PythonBefore(value = "print(spel{#a})", activeProfiles = "dev")
+                public void single(String a, @PythonParam("custom") int[] b) {
+                }
+
+                @PythonBefores({
+                        @PythonBefore(script = "print(1)", order = 1),
+                        @PythonBefore("print(\\"two\\")\\nprint(3)")
+                })
+                public <T extends Number> void multiple(List<T> values, T value) {
+                }
+
+                public static class Inner {
+                    @PythonAfter("print(o4java{#result})")
+                    public String nested() {
+                        return null;
+                    }
+                }
+            }
+            """;
+    private final PythonScriptRegistryLocator registryLocator = new PythonScriptRegistryLocator();
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testGeneratedRegistry() throws Exception {
+        try (URLClassLoader classLoader = this.compile()) {
+            Class<?> service = classLoader.loadClass("com.example.Service");
+            Method single = service.getMethod("single", String.class, int[].class);
+            Method multiple = service.getMethod("multiple", List.class, Number.class);
+            Method nested = classLoader.loadClass("com.example.Service$Inner").getMethod("nested");
+
+            PythonScriptRegistration singleRegistration = registryLocator.find(single, PythonBefore.class);
+            Assertions.assertNotNull(singleRegistration);
+            Assertions.assertArrayEquals(new String[]{"a", "custom"}, singleRegistration.parameterNames());
+            Assertions.assertEquals(List.of("print(spel{#a})"), List.copyOf(singleRegistration.scripts().keySet()));
+            Assertions.assertArrayEquals(new String[]{"dev"}, singleRegistration.scripts().get("print(spel{#a})"));
+
+            PythonScriptRegistration multipleRegistration = registryLocator.find(multiple, PythonBefores.class);
+            Assertions.assertNotNull(multipleRegistration);
+            Assertions.assertArrayEquals(new String[]{"values", "value"}, multipleRegistration.parameterNames());
+            Assertions.assertEquals(List.of("print(1)", "print(\"two\")\nprint(3)"), List.copyOf(multipleRegistration.scripts().keySet()));
+            Assertions.assertArrayEquals(new String[0], multipleRegistration.scripts().get("print(1)"));
+            Assertions.assertEquals(1, multipleRegistration.orders().get("print(1)"));
+            Assertions.assertEquals(0, multipleRegistration.orders().get("print(\"two\")\nprint(3)"));
+
+            PythonScriptRegistration nestedRegistration = registryLocator.find(nested, PythonAfter.class);
+            Assertions.assertNotNull(nestedRegistration);
+            Assertions.assertEquals(List.of("print(o4java{#result})"), List.copyOf(nestedRegistration.scripts().keySet()));
+            Assertions.assertArrayEquals(new String[0], nestedRegistration.parameterNames());
+
+            Assertions.assertNull(registryLocator.find(single, PythonBefores.class));
+            Assertions.assertNull(registryLocator.find(multiple, PythonBefore.class));
+        }
+    }
+
+    @Test
+    void testNoRegistry() throws NoSuchMethodException {
+        Method method = PythonScriptRegistryProcessorTests.class.getDeclaredMethod("testNoRegistry");
+        Assertions.assertNull(registryLocator.find(method, PythonBefore.class));
+    }
+
+    private URLClassLoader compile() throws IOException {
+        Path sourceFile = directory.resolve("src/com/example/Service.java");
+        Path outputDirectory = directory.resolve("classes");
+        Files.createDirectories(sourceFile.getParent());
+        Files.createDirectories(outputDirectory);
+        Files.writeString(sourceFile, SERVICE_SOURCE);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<String> options = List.of("-classpath", System.getProperty("java.class.path"), "-d", outputDirectory.toString(),
+                    "-s", outputDirectory.toString(), "-implicit:class");
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjects(sourceFile));
+            task.setProcessors(List.of(new PythonScriptRegistryProcessor()));
+            Assertions.assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+        }
+        Assertions.assertTrue(Files.exists(outputDirectory.resolve("com/example/Service" + PythonScriptRegistryProcessor.GENERATED_CLASS_SUFFIX + ".java")));
+        return new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()}, this.getClass().getClassLoader());
+    }
+}
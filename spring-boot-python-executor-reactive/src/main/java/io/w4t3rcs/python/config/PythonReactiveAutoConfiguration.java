@@ -0,0 +1,47 @@
+package io.w4t3rcs.python.config;
+
+import io.w4t3rcs.python.processor.AsyncPythonProcessor;
+import io.w4t3rcs.python.processor.BasicReactivePythonProcessor;
+import io.w4t3rcs.python.processor.ReactivePythonProcessor;
+import io.w4t3rcs.python.properties.PythonReactiveProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Autoconfiguration class for reactive Python processing.
+ * <p>
+ * Declares a {@link ReactivePythonProcessor} bean on top of the {@link AsyncPythonProcessor}
+ * provided by the core autoconfiguration, so the reactive API is served by the non-blocking executors.
+ * </p>
+ * <p>
+ * The configuration reads default properties from {@code python-reactive-default.properties}
+ * located in the classpath.
+ * </p>
+ *
+ * @see ReactivePythonProcessor
+ * @see BasicReactivePythonProcessor
+ * @see AsyncPythonProcessor
+ * @see PythonReactiveProperties
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(PythonReactiveProperties.class)
+@PropertySource("classpath:python-reactive-default.properties")
+public class PythonReactiveAutoConfiguration {
+    /**
+     * Creates a default {@link BasicReactivePythonProcessor} bean.
+     *
+     * @param asyncPythonProcessor non-null {@link AsyncPythonProcessor} instance to execute Python code without blocking.
+     * @param reactiveProperties non-null {@link PythonReactiveProperties} with the concurrency limit.
+     * @return a non-null {@link ReactivePythonProcessor} implementation.
+     */
+    @Bean
+    @ConditionalOnMissingBean(ReactivePythonProcessor.class)
+    public ReactivePythonProcessor basicReactivePythonProcessor(AsyncPythonProcessor asyncPythonProcessor, PythonReactiveProperties reactiveProperties) {
+        return new BasicReactivePythonProcessor(asyncPythonProcessor, reactiveProperties);
+    }
+}
@@ -0,0 +1,49 @@
+package io.w4t3rcs.python.dto;
+
+import io.w4t3rcs.python.processor.ReactivePythonProcessor;
+
+import java.util.Map;
+
+/**
+ * Describes a single Python script processing request submitted to a {@link ReactivePythonProcessor} stream.
+ *
+ * <p><strong>Example usage:</strong></p>
+ * <pre>{@code
+ * Flux<PythonInvocation<Integer>> invocations = Flux.range(0, 100)
+ *         .map(i -> PythonInvocation.of("o4java{spel{#i} * 2}", Integer.class, Map.of("i", i)));
+ * }</pre>
+ *
+ * @param <R> the type of body expected from script execution
+ * @param script non-{@code null} Python script or script file path
+ * @param resultClass the class representing the expected body type (nullable)
+ * @param arguments non-{@code null} map of arguments accessible to resolvers during preprocessing
+ * @see ReactivePythonProcessor
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public record PythonInvocation<R>(String script, Class<? extends R> resultClass, Map<String, Object> arguments) {
+    /**
+     * Creates an invocation without arguments.
+     *
+     * @param <R> the type of body expected from script execution
+     * @param script non-{@code null} Python script or script file path
+     * @param resultClass the class representing the expected body type (nullable)
+     * @return non-{@code null} invocation
+     */
+    public static <R> PythonInvocation<R> of(String script, Class<? extends R> resultClass) {
+        return new PythonInvocation<>(script, resultClass, Map.of());
+    }
+
+    /**
+     * Creates an invocation with arguments.
+     *
+     * @param <R> the type of body expected from script execution
+     * @param script non-{@code null} Python script or script file path
+     * @param resultClass the class representing the expected body type (nullable)
+     * @param arguments non-{@code null} map of arguments accessible to resolvers during preprocessing
+     * @return non-{@code null} invocation
+     */
+    public static <R> PythonInvocation<R> of(String script, Class<? extends R> resultClass, Map<String, Object> arguments) {
+        return new PythonInvocation<>(script, resultClass, arguments);
+    }
+}
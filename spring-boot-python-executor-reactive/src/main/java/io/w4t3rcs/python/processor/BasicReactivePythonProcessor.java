@@ -0,0 +1,66 @@
+package io.w4t3rcs.python.processor;
+
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.dto.PythonInvocation;
+import io.w4t3rcs.python.properties.PythonReactiveProperties;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Default implementation of {@link ReactivePythonProcessor} backed by an {@link AsyncPythonProcessor}.
+ *
+ * <p>Every execution is delegated to the non-blocking executor behind the {@link AsyncPythonProcessor},
+ * so no Reactor thread is blocked while a script is running and no {@code boundedElastic} offloading is needed.
+ * Streams of invocations are processed with at most {@link PythonReactiveProperties#concurrency()} executions
+ * in flight, the upstream is asked for the next invocation only when one of them completes.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * ReactivePythonProcessor processor = new BasicReactivePythonProcessor(asyncPythonProcessor, reactiveProperties);
+ * processor.process("o4java{2 + 2}", Integer.class)
+ *         .subscribe(response -> System.out.println(response.body()));
+ * }</pre>
+ *
+ * @see ReactivePythonProcessor
+ * @see AsyncPythonProcessor
+ * @see PythonReactiveProperties
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class BasicReactivePythonProcessor implements ReactivePythonProcessor {
+    private final AsyncPythonProcessor asyncPythonProcessor;
+    private final PythonReactiveProperties reactiveProperties;
+
+    /**
+     * Creates a lazy execution which is started on subscription and stopped waiting for on cancellation.
+     *
+     * @param script non-{@code null} Python script content or file path
+     * @param resultClass nullable target body type
+     * @param arguments optional arguments for resolvers (can be empty but not {@code null})
+     * @param <R> type of the expected body
+     * @return non-{@code null} lazy execution body converted to {@code resultClass}
+     */
+    @Override
+    public <R> Mono<PythonExecutionResponse<R>> process(String script, Class<? extends R> resultClass, Map<String, Object> arguments) {
+        return Mono.fromFuture(() -> asyncPythonProcessor.processAsync(script, resultClass, arguments));
+    }
+
+    /**
+     * Processes the invocations keeping at most {@link PythonReactiveProperties#concurrency()} executions in flight.
+     *
+     * @param invocations non-{@code null} publisher of invocations to process
+     * @param <R> type of the expected body
+     * @return non-{@code null} lazy stream of execution bodies in invocation order
+     */
+    @Override
+    public <R> Flux<PythonExecutionResponse<R>> process(Publisher<PythonInvocation<R>> invocations) {
+        int concurrency = Math.max(reactiveProperties.concurrency(), 1);
+        return Flux.from(invocations)
+                .flatMapSequential(invocation -> this.process(invocation.script(), invocation.resultClass(), invocation.arguments()), concurrency, 1);
+    }
+}
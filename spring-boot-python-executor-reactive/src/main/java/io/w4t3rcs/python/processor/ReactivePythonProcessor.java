@@ -0,0 +1,87 @@
+package io.w4t3rcs.python.processor;
+
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.dto.PythonInvocation;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Defines the reactive counterpart of {@link PythonProcessor} built on Project Reactor.
+ *
+ * <p>Executions are lazy: nothing is started until the returned {@link Mono} or {@link Flux} is subscribed to.
+ * A stream of {@link PythonInvocation} instances is processed with a bounded number of concurrent executions,
+ * and new invocations are requested from the upstream only when there is capacity for them,
+ * so backpressure is propagated from the subscriber down to the invocation source.</p>
+ *
+ * <p><strong>Example usage:</strong></p>
+ * <pre>{@code
+ * ReactivePythonProcessor processor = ...;
+ * Mono<PythonExecutionResponse<Integer>> single = processor.process("o4java{2 + 2}", Integer.class);
+ * Flux<PythonExecutionResponse<Integer>> many = processor.process(Flux.range(0, 100)
+ *         .map(i -> PythonInvocation.of("o4java{spel{#i} * 2}", Integer.class, Map.of("i", i))));
+ * }</pre>
+ *
+ * @see PythonProcessor
+ * @see AsyncPythonProcessor
+ * @see PythonInvocation
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+public interface ReactivePythonProcessor {
+    /**
+     * Processes and executes a Python script without additional arguments or body mapping.
+     *
+     * @param script non-{@code null} Python script to execute
+     * @return non-{@code null} lazy execution body
+     */
+    default Mono<? extends PythonExecutionResponse<?>> process(String script) {
+        return this.process(script, null, Map.of());
+    }
+
+    /**
+     * Processes and executes a Python script with the given argument map.
+     *
+     * @param script non-{@code null} Python script to execute
+     * @param arguments a map of arguments accessible to resolvers during preprocessing
+     * @return non-{@code null} lazy execution body
+     */
+    default Mono<? extends PythonExecutionResponse<?>> process(String script, Map<String, Object> arguments) {
+        return this.process(script, null, arguments);
+    }
+
+    /**
+     * Processes and executes a Python script, mapping the body to the specified type.
+     *
+     * @param <R> the type of body expected from script execution
+     * @param script non-{@code null} Python script to execute
+     * @param resultClass the class representing the expected body type (nullable)
+     * @return non-{@code null} lazy execution body cast to {@code R}
+     */
+    default <R> Mono<PythonExecutionResponse<R>> process(String script, Class<? extends R> resultClass) {
+        return this.process(script, resultClass, Map.of());
+    }
+
+    /**
+     * Processes and executes a Python script with arguments and optional body mapping.
+     *
+     * @param <R> the type of body expected from script execution
+     * @param script non-{@code null} Python script to execute
+     * @param resultClass the class representing the expected body type (nullable)
+     * @param arguments a map of arguments accessible to resolvers during preprocessing
+     * @return non-{@code null} lazy execution body cast to {@code R}
+     */
+    <R> Mono<PythonExecutionResponse<R>> process(String script, Class<? extends R> resultClass, Map<String, Object> arguments);
+
+    /**
+     * Processes a stream of invocations with a bounded number of concurrent executions.
+     * The bodies are emitted in the order of the corresponding invocations.
+     *
+     * @param <R> the type of body expected from script execution
+     * @param invocations non-{@code null} publisher of invocations to process
+     * @return non-{@code null} lazy stream of execution bodies
+     */
+    <R> Flux<PythonExecutionResponse<R>> process(Publisher<PythonInvocation<R>> invocations);
+}
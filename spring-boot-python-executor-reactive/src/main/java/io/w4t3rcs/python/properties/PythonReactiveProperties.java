@@ -0,0 +1,30 @@
+package io.w4t3rcs.python.properties;
+
+import io.w4t3rcs.python.processor.BasicReactivePythonProcessor;
+import io.w4t3rcs.python.processor.ReactivePythonProcessor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for reactive Python processing.
+ *
+ * <p>Properties are bound from the application configuration using the prefix
+ * {@code spring.python.reactive}.</p>
+ *
+ * <p><b>Example (application.yml):</b></p>
+ * <pre>{@code
+ * spring:
+ *   python:
+ *     reactive:
+ *       concurrency: 8
+ * }</pre>
+ *
+ * @param concurrency maximum number of invocations of a single {@code Flux} processed at the same time,
+ *                    further invocations are requested from the upstream only when running ones complete
+ * @see ReactivePythonProcessor
+ * @see BasicReactivePythonProcessor
+ * @author w4t3rcs
+ * @since 1.0.0
+ */
+@ConfigurationProperties("spring.python.reactive")
+public record PythonReactiveProperties(int concurrency) {
+}
@@ -0,0 +1,30 @@
+package io.w4t3rcs.python;
+
+import io.w4t3rcs.python.config.PythonReactiveAutoConfiguration;
+import io.w4t3rcs.python.processor.AsyncPythonProcessor;
+import io.w4t3rcs.python.processor.BasicReactivePythonProcessor;
+import io.w4t3rcs.python.processor.ReactivePythonProcessor;
+import io.w4t3rcs.python.properties.PythonReactiveProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest
+@ContextConfiguration(classes = {PythonReactiveAutoConfiguration.class})
+class PythonReactiveConfigurationTests {
+    @MockitoBean
+    private AsyncPythonProcessor asyncPythonProcessor;
+    @Autowired
+    private ReactivePythonProcessor reactivePythonProcessor;
+    @Autowired
+    private PythonReactiveProperties reactiveProperties;
+
+    @Test
+    void testMandatoryBeansLoad() {
+        Assertions.assertInstanceOf(BasicReactivePythonProcessor.class, reactivePythonProcessor);
+        Assertions.assertEquals(8, reactiveProperties.concurrency());
+    }
+}
@@ -0,0 +1,80 @@
+package io.w4t3rcs.python.processor;
+
+import io.w4t3rcs.python.dto.PythonExecutionResponse;
+import io.w4t3rcs.python.dto.PythonInvocation;
+import io.w4t3rcs.python.properties.PythonReactiveProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@ExtendWith(MockitoExtension.class)
+class BasicReactivePythonProcessorTests {
+    private static final String SCRIPT = "o4java{'OK'}";
+    private static final String OK = "OK";
+    private static final Class<String> STRING_CLASS = String.class;
+    private static final Map<String, Object> EMPTY_ARGUMENTS = Map.of();
+    @Mock
+    private AsyncPythonProcessor asyncPythonProcessor;
+
+    @Test
+    void testProcess() {
+        BasicReactivePythonProcessor processor = new BasicReactivePythonProcessor(asyncPythonProcessor, new PythonReactiveProperties(1));
+        Mockito.when(asyncPythonProcessor.processAsync(SCRIPT, STRING_CLASS, EMPTY_ARGUMENTS)).thenReturn(CompletableFuture.completedFuture(new PythonExecutionResponse<>(OK)));
+
+        StepVerifier.create(processor.process(SCRIPT, STRING_CLASS))
+                .expectNextMatches(response -> OK.equals(response.body()))
+                .verifyComplete();
+    }
+
+    @Test
+    void testProcessIsLazy() {
+        BasicReactivePythonProcessor processor = new BasicReactivePythonProcessor(asyncPythonProcessor, new PythonReactiveProperties(1));
+
+        processor.process(SCRIPT, STRING_CLASS);
+        Mockito.verifyNoInteractions(asyncPythonProcessor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8})
+    void testProcessFluxWithBoundedConcurrency(int concurrency) {
+        BasicReactivePythonProcessor processor = new BasicReactivePythonProcessor(asyncPythonProcessor, new PythonReactiveProperties(concurrency));
+        List<CompletableFuture<PythonExecutionResponse<String>>> futures = new CopyOnWriteArrayList<>();
+        Mockito.when(asyncPythonProcessor.processAsync(Mockito.eq(SCRIPT), Mockito.eq(STRING_CLASS), Mockito.anyMap())).thenAnswer(invocation -> {
+            CompletableFuture<PythonExecutionResponse<String>> future = new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        });
+        int total = 3 * concurrency;
+        Flux<PythonInvocation<String>> invocations = Flux.range(0, total)
+                .map(i -> PythonInvocation.of(SCRIPT, STRING_CLASS, Map.of("i", i)));
+        List<String> bodies = new CopyOnWriteArrayList<>();
+
+        processor.process(invocations).subscribe(response -> bodies.add(response.body()));
+        Assertions.assertEquals(concurrency, futures.size());
+
+        futures.get(0).complete(new PythonExecutionResponse<>("0"));
+        Assertions.assertEquals(concurrency + 1, futures.size());
+        Assertions.assertEquals(List.of("0"), bodies);
+
+        for (int i = 1; i < total; i++) {
+            futures.get(i).complete(new PythonExecutionResponse<>(String.valueOf(i)));
+            Assertions.assertTrue(futures.size() <= i + 1 + concurrency);
+        }
+        Assertions.assertEquals(total, bodies.size());
+        for (int i = 0; i < total; i++) {
+            Assertions.assertEquals(String.valueOf(i), bodies.get(i));
+        }
+    }
+}